@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures batch execution through CommandBatchService in each {@link BatchOptions.ExecutionMode}.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({"IN_MEMORY", "IN_MEMORY_ATOMIC", "REDIS_READ_ATOMIC", "REDIS_WRITE_ATOMIC"})
+    public BatchOptions.ExecutionMode executionMode;
+
+    @Param({"10", "1000"})
+    public int commands;
+
+    @Param({"false", "true"})
+    public boolean skipResult;
+
+    private RedissonClient redisson;
+    private BatchOptions options;
+
+    @Setup
+    public void setup(StubServerState state) {
+        redisson = state.getRedisson();
+        options = BatchOptions.defaults().executionMode(executionMode);
+        if (skipResult) {
+            options.skipResult();
+        }
+    }
+
+    @Benchmark
+    public BatchResult<?> execute() {
+        RBatch batch = redisson.createBatch(options);
+        for (int i = 0; i < commands; i++) {
+            batch.getBucket("key" + i, StringCodec.INSTANCE).setAsync("value" + i);
+            batch.getBucket("key" + i, StringCodec.INSTANCE).getAsync();
+        }
+        return batch.execute();
+    }
+
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.codec.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding of the same object with main codecs.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    public static class Data implements Serializable {
+
+        private String name;
+        private long id;
+        private double score;
+        private List<String> tags = new ArrayList<>();
+        private Map<String, Integer> counters = new HashMap<>();
+
+        public Data() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, Integer> getCounters() {
+            return counters;
+        }
+
+        public void setCounters(Map<String, Integer> counters) {
+            this.counters = counters;
+        }
+
+    }
+
+    @Param({"Kryo5", "Fst", "JsonJackson", "LZ4", "SnappyV2"})
+    public String codecName;
+
+    private Codec codec;
+    private Data data;
+    private ByteBuf encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (codecName) {
+            case "Kryo5":
+                codec = new Kryo5Codec();
+                break;
+            case "Fst":
+                codec = new FstCodec();
+                break;
+            case "JsonJackson":
+                codec = new JsonJacksonCodec();
+                break;
+            case "LZ4":
+                codec = new LZ4Codec();
+                break;
+            case "SnappyV2":
+                codec = new SnappyCodecV2();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown codec: " + codecName);
+        }
+
+        data = new Data();
+        data.setName("benchmark");
+        data.setId(1234567L);
+        data.setScore(0.75);
+        for (int i = 0; i < 20; i++) {
+            data.getTags().add("tag" + i);
+            data.getCounters().put("counter" + i, i);
+        }
+
+        encoded = codec.getValueEncoder().encode(data);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoded.release();
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(data);
+        int size = buf.readableBytes();
+        buf.release();
+        return size;
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return codec.getValueDecoder().decode(encoded.duplicate(), new State());
+    }
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.CommandDecoder;
+import org.redisson.client.handler.CommandsQueue;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.QueueCommandHolder;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Measures decoding of large multi-bulk reply delivered in TCP sized fragments.
+ * Incremental reply scanning of CommandDecoder keeps fragmented reply decoding
+ * close to decoding of the same reply delivered as a single buffer.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandDecoderBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int entries;
+
+    @Param({"1460", "65536"})
+    public int fragmentSize;
+
+    private List<ByteBuf> fragments;
+    private ByteBuf whole;
+
+    @Setup
+    public void setup() {
+        StringBuilder reply = new StringBuilder("*" + entries*2 + "\r\n");
+        for (int i = 0; i < entries; i++) {
+            String key = "key" + i;
+            String value = "value" + i;
+            reply.append("$").append(key.length()).append("\r\n").append(key).append("\r\n");
+            reply.append("$").append(value.length()).append("\r\n").append(value).append("\r\n");
+        }
+        byte[] bytes = reply.toString().getBytes(StandardCharsets.UTF_8);
+
+        whole = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(bytes));
+        fragments = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += fragmentSize) {
+            fragments.add(Unpooled.unreleasableBuffer(
+                    Unpooled.wrappedBuffer(bytes, i, Math.min(fragmentSize, bytes.length - i))));
+        }
+    }
+
+    private Object decode(List<ByteBuf> buffers) {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandDecoder("redis"));
+        channel.attr(CommandsQueue.COMMANDS_QUEUE).set(new ConcurrentLinkedQueue<>());
+        CommandData<Map<Object, Object>, Map<Object, Object>> data = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[0]);
+        channel.attr(CommandsQueue.COMMANDS_QUEUE).get().add(new QueueCommandHolder(data, channel.newPromise()));
+
+        for (ByteBuf buffer : buffers) {
+            channel.writeInbound(buffer.duplicate());
+        }
+        channel.finishAndReleaseAll();
+        return data.getPromise().getNow();
+    }
+
+    @Benchmark
+    public Object decodeFragmentedHgetall() {
+        return decode(fragments);
+    }
+
+    @Benchmark
+    public Object decodeWholeHgetall() {
+        return decode(Collections.singletonList(whole));
+    }
+
+}
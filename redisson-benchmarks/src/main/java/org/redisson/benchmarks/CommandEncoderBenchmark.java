@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.CommandEncoder;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of commands with different amount and size of arguments.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandEncoderBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int valueSize;
+
+    @Param({"1", "100"})
+    public int arguments;
+
+    private EmbeddedChannel channel;
+    private Object[] params;
+
+    @Setup
+    public void setup() {
+        channel = new EmbeddedChannel(CommandEncoder.INSTANCE);
+
+        byte[] value = new byte[valueSize];
+        Arrays.fill(value, (byte) 'a');
+        params = new Object[arguments * 2];
+        for (int i = 0; i < arguments; i++) {
+            params[i * 2] = "key" + i;
+            params[i * 2 + 1] = value;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int encode() {
+        CommandData<Void, Void> data = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.MSET, params);
+        channel.writeOutbound(data);
+        ByteBuf out = channel.readOutbound();
+        int size = out.readableBytes();
+        out.release();
+        return size;
+    }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.redisson.Redisson;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.NodeSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures connection acquisition from pool and its release back.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private ConnectionManager connectionManager;
+    private NodeSource source;
+
+    @Setup
+    public void setup(StubServerState state) {
+        connectionManager = ((Redisson) state.getRedisson()).getConnectionManager();
+        source = new NodeSource(connectionManager.getEntrySet().iterator().next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RedisConnection acquireConnection() {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RedisConnection acquireConnectionContended() {
+        return acquireAndRelease();
+    }
+
+    private RedisConnection acquireAndRelease() {
+        RedisConnection connection = connectionManager.connectionWriteOp(source, RedisCommands.GET)
+                                                        .syncUninterruptibly().getNow();
+        connectionManager.releaseWrite(source, connection);
+        return connection;
+    }
+
+}
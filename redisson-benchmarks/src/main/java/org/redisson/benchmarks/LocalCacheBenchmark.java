@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.redisson.cache.Cache;
+import org.redisson.cache.LFUCacheMap;
+import org.redisson.cache.LRUCacheMap;
+import org.redisson.cache.TinyLFUCacheMap;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures local cache implementations with skewed key distribution.
+ * Cache is filled before measurement, so reads and writes operate on a full cache.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalCacheBenchmark {
+
+    private static final int KEYS_SIZE = 1 << 20;
+    private static final int KEYS_MASK = KEYS_SIZE - 1;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        int index = new Random().nextInt(KEYS_SIZE);
+
+    }
+
+    @Param({"LRU", "LFU", "TINY_LFU"})
+    public String evictionPolicy;
+
+    @Param({"500000"})
+    public int cacheSize;
+
+    @Param({"0", "60000"})
+    public long timeToLive;
+
+    private Cache<Integer, Integer> cache;
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        switch (evictionPolicy) {
+            case "LRU":
+                cache = new LRUCacheMap<>(cacheSize, timeToLive, 0);
+                break;
+            case "LFU":
+                cache = new LFUCacheMap<>(cacheSize, timeToLive, 0);
+                break;
+            case "TINY_LFU":
+                cache = new TinyLFUCacheMap<>(cacheSize, timeToLive, 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown eviction policy: " + evictionPolicy);
+        }
+
+        // key space is twice larger than cache, lower keys are more frequent
+        Random random = new Random(1);
+        keys = new Integer[KEYS_SIZE];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (int) (Math.pow(random.nextDouble(), 3) * cacheSize * 2);
+        }
+        for (int i = 0; i < cacheSize; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer read(ThreadState state) {
+        return cache.get(keys[state.index++ & KEYS_MASK]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer readContended(ThreadState state) {
+        return cache.get(keys[state.index++ & KEYS_MASK]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer readWriteContended(ThreadState state) {
+        Integer key = keys[state.index++ & KEYS_MASK];
+        if ((state.index & 7) == 0) {
+            return cache.put(key, key);
+        }
+        return cache.get(key);
+    }
+
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.ByteProcessor;
+import io.netty.util.CharsetUtil;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process Redis server stub which understands RESP2 requests
+ * and replies to limited set of commands using in-memory storage.
+ * Allows to measure client side hot paths without network and server noise.
+ * <p>
+ * Supported commands: PING, GET, SET, DEL, EXISTS, INCR, MGET, HSET, HGET, HGETALL,
+ * MULTI, EXEC, DISCARD, CLIENT REPLY. Other commands are answered with <code>+OK</code>.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RespStubServer {
+
+    private static final byte[] CRLF = "\r\n".getBytes(CharsetUtil.US_ASCII);
+
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, byte[]>> hashes = new ConcurrentHashMap<>();
+
+    private EventLoopGroup group;
+    private Channel serverChannel;
+
+    public RespStubServer start() {
+        group = new NioEventLoopGroup(1);
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new RequestDecoder(), new RequestHandler());
+                    }
+                });
+        serverChannel = bootstrap.bind("127.0.0.1", 0).syncUninterruptibly().channel();
+        return this;
+    }
+
+    public int getPort() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    public String getAddress() {
+        return "redis://127.0.0.1:" + getPort();
+    }
+
+    public void stop() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        if (group != null) {
+            group.shutdownGracefully().syncUninterruptibly();
+        }
+    }
+
+    /**
+     * Decodes RESP array of bulk strings into list of byte arrays.
+     */
+    static class RequestDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            in.markReaderIndex();
+            List<byte[]> request = readRequest(in);
+            if (request == null) {
+                in.resetReaderIndex();
+                return;
+            }
+            out.add(request);
+        }
+
+        private List<byte[]> readRequest(ByteBuf in) {
+            long size = readLine(in, '*');
+            if (size < 0) {
+                return null;
+            }
+            List<byte[]> result = new ArrayList<>((int) size);
+            for (int i = 0; i < size; i++) {
+                long len = readLine(in, '$');
+                if (len < 0 || in.readableBytes() < len + 2) {
+                    return null;
+                }
+                byte[] arg = new byte[(int) len];
+                in.readBytes(arg);
+                in.skipBytes(2);
+                result.add(arg);
+            }
+            return result;
+        }
+
+        private long readLine(ByteBuf in, char type) {
+            int lf = in.forEachByte(ByteProcessor.FIND_LF);
+            if (lf == -1) {
+                return -1;
+            }
+            if (in.readByte() != type) {
+                throw new IllegalStateException("Unsupported request format");
+            }
+            long value = Long.parseLong(in.toString(in.readerIndex(), lf - 1 - in.readerIndex(), CharsetUtil.US_ASCII));
+            in.readerIndex(lf + 1);
+            return value;
+        }
+
+    }
+
+    class RequestHandler extends SimpleChannelInboundHandler<List<byte[]>> {
+
+        private List<ByteBuf> transaction;
+        private boolean replyOff;
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, List<byte[]> request) {
+            String command = new String(request.get(0), CharsetUtil.US_ASCII).toUpperCase();
+            ByteBuf out = ctx.alloc().buffer();
+
+            if ("CLIENT".equals(command) && request.size() > 2
+                    && "REPLY".equalsIgnoreCase(new String(request.get(1), CharsetUtil.US_ASCII))) {
+                replyOff = !"ON".equalsIgnoreCase(new String(request.get(2), CharsetUtil.US_ASCII));
+                writeSimple(out, "OK");
+            } else if ("MULTI".equals(command)) {
+                transaction = new ArrayList<>();
+                writeSimple(out, "OK");
+            } else if ("DISCARD".equals(command)) {
+                release(transaction);
+                transaction = null;
+                writeSimple(out, "OK");
+            } else if ("EXEC".equals(command) && transaction == null) {
+                out.writeCharSequence("-ERR EXEC without MULTI\r\n", CharsetUtil.US_ASCII);
+            } else if ("EXEC".equals(command)) {
+                writeArrayHeader(out, transaction.size());
+                for (ByteBuf reply : transaction) {
+                    out.writeBytes(reply);
+                }
+                release(transaction);
+                transaction = null;
+            } else if (transaction != null) {
+                ByteBuf reply = ctx.alloc().buffer();
+                execute(command, request, reply);
+                transaction.add(reply);
+                writeSimple(out, "QUEUED");
+            } else {
+                execute(command, request, out);
+            }
+
+            if (replyOff && !"CLIENT".equals(command)) {
+                out.release();
+                return;
+            }
+            ctx.writeAndFlush(out);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            release(transaction);
+            transaction = null;
+            super.channelInactive(ctx);
+        }
+
+        private void release(List<ByteBuf> replies) {
+            if (replies != null) {
+                replies.forEach(ByteBuf::release);
+            }
+        }
+
+    }
+
+    private void execute(String command, List<byte[]> request, ByteBuf out) {
+        switch (command) {
+            case "PING":
+                writeSimple(out, "PONG");
+                break;
+            case "GET":
+                writeBulk(out, values.get(key(request, 1)));
+                break;
+            case "SET":
+                values.put(key(request, 1), request.get(2));
+                writeSimple(out, "OK");
+                break;
+            case "DEL":
+                long deleted = 0;
+                for (int i = 1; i < request.size(); i++) {
+                    String key = key(request, i);
+                    if (values.remove(key) != null | hashes.remove(key) != null) {
+                        deleted++;
+                    }
+                }
+                writeInteger(out, deleted);
+                break;
+            case "EXISTS":
+                String key = key(request, 1);
+                writeInteger(out, values.containsKey(key) || hashes.containsKey(key) ? 1 : 0);
+                break;
+            case "INCR":
+                byte[] current = values.get(key(request, 1));
+                long value = 1;
+                if (current != null) {
+                    value = Long.parseLong(new String(current, CharsetUtil.US_ASCII)) + 1;
+                }
+                values.put(key(request, 1), Long.toString(value).getBytes(CharsetUtil.US_ASCII));
+                writeInteger(out, value);
+                break;
+            case "MGET":
+                writeArrayHeader(out, request.size() - 1);
+                for (int i = 1; i < request.size(); i++) {
+                    writeBulk(out, values.get(key(request, i)));
+                }
+                break;
+            case "HSET":
+                Map<String, byte[]> hash = hashes.computeIfAbsent(key(request, 1), k -> new ConcurrentHashMap<>());
+                long added = 0;
+                for (int i = 2; i + 1 < request.size(); i += 2) {
+                    if (hash.put(key(request, i), request.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                writeInteger(out, added);
+                break;
+            case "HGET":
+                Map<String, byte[]> map = hashes.get(key(request, 1));
+                writeBulk(out, map != null ? map.get(key(request, 2)) : null);
+                break;
+            case "HGETALL":
+                Map<String, byte[]> entries = hashes.getOrDefault(key(request, 1), new ConcurrentHashMap<>());
+                writeArrayHeader(out, entries.size() * 2);
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    writeBulk(out, entry.getKey().getBytes(CharsetUtil.ISO_8859_1));
+                    writeBulk(out, entry.getValue());
+                }
+                break;
+            default:
+                writeSimple(out, "OK");
+                break;
+        }
+    }
+
+    private String key(List<byte[]> request, int index) {
+        // ISO-8859-1 keeps arbitrary binary keys reversible
+        return new String(request.get(index), CharsetUtil.ISO_8859_1);
+    }
+
+    private void writeSimple(ByteBuf out, String value) {
+        out.writeByte('+');
+        out.writeCharSequence(value, CharsetUtil.US_ASCII);
+        out.writeBytes(CRLF);
+    }
+
+    private void writeInteger(ByteBuf out, long value) {
+        out.writeByte(':');
+        out.writeCharSequence(Long.toString(value), CharsetUtil.US_ASCII);
+        out.writeBytes(CRLF);
+    }
+
+    private void writeArrayHeader(ByteBuf out, int size) {
+        out.writeByte('*');
+        out.writeCharSequence(Integer.toString(size), CharsetUtil.US_ASCII);
+        out.writeBytes(CRLF);
+    }
+
+    private void writeBulk(ByteBuf out, byte[] value) {
+        out.writeByte('$');
+        if (value == null) {
+            out.writeCharSequence("-1", CharsetUtil.US_ASCII);
+            out.writeBytes(CRLF);
+            return;
+        }
+        out.writeCharSequence(Integer.toString(value.length), CharsetUtil.US_ASCII);
+        out.writeBytes(CRLF);
+        out.writeBytes(value);
+        out.writeBytes(CRLF);
+    }
+
+}
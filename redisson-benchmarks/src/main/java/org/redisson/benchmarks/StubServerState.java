@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+/**
+ * Shared benchmark state with {@link RespStubServer} and Redisson instance connected to it.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@State(Scope.Benchmark)
+public class StubServerState {
+
+    private RespStubServer server;
+    private RedissonClient redisson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        server = new RespStubServer().start();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(server.getAddress())
+                .setConnectionMinimumIdleSize(8)
+                .setConnectionPoolSize(64);
+        redisson = Redisson.create(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisson.shutdown();
+        server.stop();
+    }
+
+    public RedissonClient getRedisson() {
+        return redisson;
+    }
+
+}
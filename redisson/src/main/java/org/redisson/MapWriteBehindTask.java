@@ -16,40 +16,64 @@
 package org.redisson;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.redisson.api.MapOptions;
 import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
 import org.redisson.api.RQueue;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * 
+ * Passes map updates accumulated in write behind queue to {@link org.redisson.api.map.MapWriter}.
+ * <p>
+ * Updates are coalesced per key, so only the last update of each key is passed to MapWriter.
+ * Queue is processed by a single instance at a time. Polled updates are kept in processing list
+ * until they have been passed to MapWriter, so other instance finishes them if current one crashed.
+ *
  * @author Nikita Koksharov
  *
  */
 public class MapWriteBehindTask {
 
     private static final Logger log = LoggerFactory.getLogger(MapWriteBehindTask.class);
-    
+
+    private static final Object DELETED = new Object();
+
+    private static final int MAX_BATCH_SIZE = 100000;
+
     private final AtomicBoolean isStarted = new AtomicBoolean();
     private final RQueue<MapWriterTask> writeBehindTasks;
+    private final String processingName;
+    private final RLock lock;
+    private final long lockId = ThreadLocalRandom.current().nextLong();
+    private final Codec codec;
     private final CommandAsyncExecutor commandExecutor;
     private final MapOptions<Object, Object> options;
-    
+
+    private volatile int batchSize;
+
     public MapWriteBehindTask(String name, CommandAsyncExecutor commandExecutor, MapOptions<?, ?> options) {
         super();
         this.commandExecutor = commandExecutor;
         this.options = (MapOptions<Object, Object>) options;
+        this.codec = commandExecutor.getConnectionManager().getCodec();
         String queueName = RedissonObject.suffixName(name, "write-behind-queue");
         this.writeBehindTasks = new RedissonQueue<>(commandExecutor, queueName, null);
+        this.processingName = RedissonObject.suffixName(name, "write-behind-processing");
+        this.lock = new RedissonLock(commandExecutor, RedissonObject.suffixName(name, "write-behind-lock"));
+        this.batchSize = options.getWriteBehindBatchSize();
     }
 
     public void start() {
@@ -60,9 +84,8 @@ public class MapWriteBehindTask {
         enqueueTask();
     }
 
-    private void pollTask(Map<Object, Object> addedMap, List<Object> deletedKeys) {
-        RFuture<MapWriterTask> future = writeBehindTasks.pollAsync();
-        future.onComplete((task, e) -> {
+    private void processTasks() {
+        lock.tryLockAsync(lockId).onComplete((locked, e) -> {
             if (e != null) {
                 log.error(e.getMessage(), e);
 
@@ -70,69 +93,166 @@ public class MapWriteBehindTask {
                 return;
             }
 
+            if (!locked) {
+                // queue is processed by other instance
+                enqueueTask();
+                return;
+            }
+
+            // tasks left in processing list by crashed instance are applied first.
+            // Read from master, so they aren't missed by stale replica
+            RFuture<List<MapWriterTask>> future = commandExecutor.writeAsync(processingName, codec, RedisCommands.LRANGE, processingName, 0, -1);
+            future.onComplete((tasks, ex) -> {
+                if (ex != null) {
+                    log.error(ex.getMessage(), ex);
+
+                    unlock();
+                    return;
+                }
+
+                Map<Object, Object> pendingMap = new LinkedHashMap<>();
+                apply(tasks, pendingMap);
+                pollTasks(pendingMap, tasks.size(), System.currentTimeMillis());
+            });
+        });
+    }
+
+    /**
+     * Polls tasks until <code>batchSize</code> tasks have been polled or write behind delay has elapsed.
+     * Polling isn't limited by amount of distinct keys, so continuously updated key
+     * doesn't postpone write and processing list doesn't grow unbounded.
+     */
+    private void pollTasks(Map<Object, Object> pendingMap, int polled, long startTime) {
+        RFuture<List<MapWriterTask>> future = commandExecutor.evalWriteAsync(writeBehindTasks.getName(), codec, RedisCommands.EVAL_LIST,
+                "local tasks = redis.call('lrange', KEYS[1], 0, tonumber(ARGV[1]) - 1); "
+              + "if #tasks > 0 then "
+                  + "redis.call('ltrim', KEYS[1], #tasks, -1); "
+                  + "for i = 1, #tasks, 5000 do "
+                      + "redis.call('rpush', KEYS[2], unpack(tasks, i, math.min(i + 4999, #tasks))); "
+                  + "end; "
+              + "end; "
+              + "return tasks;",
+                Arrays.<Object>asList(writeBehindTasks.getName(), processingName), Math.max(batchSize - polled, 1));
+        future.onComplete((tasks, e) -> {
+            if (e != null) {
+                log.error(e.getMessage(), e);
+
+                unlock();
+                return;
+            }
+
             commandExecutor.getConnectionManager().getExecutor().execute(() -> {
-                if (task != null) {
-                    if (task instanceof MapWriterTask.Remove) {
-                            for (Object key : task.getKeys()) {
-                                try {
-                                    deletedKeys.add(key);
-                                    if (deletedKeys.size() == options.getWriteBehindBatchSize()) {
-                                        options.getWriter().delete(deletedKeys);
-                                        deletedKeys.clear();
-
-                                    }
-                                } catch (Exception exception) {
-                                    log.error("Unable to delete keys: " + deletedKeys, exception);
-                                }
-                            }
-                    } else {
-                        for (Entry<Object, Object> entry : task.getMap().entrySet()) {
-                            try {
-                                addedMap.put(entry.getKey(), entry.getValue());
-                                if (addedMap.size() == options.getWriteBehindBatchSize()) {
-                                    options.getWriter().write(addedMap);
-                                    addedMap.clear();
-                                }
-                            } catch (Exception exception) {
-                                log.error("Unable to add keys: " + addedMap, exception);
-                            }
-                        }
-                    }
+                apply(tasks, pendingMap);
+
+                int polledTasks = polled + tasks.size();
+                if (!tasks.isEmpty()
+                        && polledTasks < batchSize
+                        && System.currentTimeMillis() - startTime < options.getWriteBehindDelay()
+                        && isStarted.get()) {
+                    pollTasks(pendingMap, polledTasks, startTime);
+                    return;
+                }
 
-                    pollTask(addedMap, deletedKeys);
-                } else {
-                    try {
-                        if (!deletedKeys.isEmpty()) {
-                            options.getWriter().delete(deletedKeys);
-                            deletedKeys.clear();
-                        }
-                    } catch (Exception exception) {
-                        log.error("Unable to delete keys: " + deletedKeys, exception);
+                if (pendingMap.isEmpty()) {
+                    unlock();
+                    return;
+                }
+
+                write(pendingMap, polledTasks);
+                commandExecutor.writeAsync(processingName, RedisCommands.DEL, processingName).onComplete((r, ex) -> {
+                    if (ex != null) {
+                        log.error(ex.getMessage(), ex);
+
+                        unlock();
+                        return;
                     }
-                    try {
-                        if (!addedMap.isEmpty()) {
-                            options.getWriter().write(addedMap);
-                            addedMap.clear();
-                        }
-                    } catch (Exception exception) {
-                        log.error("Unable to add keys: " + addedMap, exception);
+
+                    if (!tasks.isEmpty() && isStarted.get()) {
+                        pollTasks(new LinkedHashMap<>(), 0, System.currentTimeMillis());
+                        return;
                     }
 
-                    enqueueTask();
-                }
+                    unlock();
+                });
             });
         });
     }
 
+    private void apply(List<MapWriterTask> tasks, Map<Object, Object> pendingMap) {
+        for (MapWriterTask task : tasks) {
+            if (task instanceof MapWriterTask.Remove) {
+                for (Object key : task.getKeys()) {
+                    pendingMap.put(key, DELETED);
+                }
+            } else {
+                pendingMap.putAll(task.getMap());
+            }
+        }
+    }
+
+    private void write(Map<Object, Object> pendingMap, int polledTasks) {
+        List<Object> deletedKeys = new ArrayList<>();
+        Map<Object, Object> addedMap = new LinkedHashMap<>();
+        for (Entry<Object, Object> entry : pendingMap.entrySet()) {
+            if (entry.getValue() == DELETED) {
+                deletedKeys.add(entry.getKey());
+            } else {
+                addedMap.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            if (!deletedKeys.isEmpty()) {
+                options.getWriter().delete(deletedKeys);
+            }
+        } catch (Exception exception) {
+            log.error("Unable to delete keys: " + deletedKeys, exception);
+        }
+        try {
+            if (!addedMap.isEmpty()) {
+                options.getWriter().write(addedMap);
+            }
+        } catch (Exception exception) {
+            log.error("Unable to add keys: " + addedMap, exception);
+        }
+
+        if (options.getWriteBehindBatchLatency() > 0 && polledTasks >= batchSize) {
+            adaptBatchSize(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    private void adaptBatchSize(long latency) {
+        int size = batchSize;
+        if (latency > options.getWriteBehindBatchLatency()) {
+            size = Math.max(size / 2, 1);
+        } else if (latency < options.getWriteBehindBatchLatency() / 2) {
+            size = Math.min(size * 2, MAX_BATCH_SIZE);
+        }
+
+        if (size != batchSize) {
+            log.debug("Write behind batch size changed from {} to {}. MapWriter latency: {} ms", batchSize, size, latency);
+            batchSize = size;
+        }
+    }
+
+    private void unlock() {
+        lock.unlockAsync(lockId).onComplete((r, e) -> {
+            if (e != null) {
+                log.error(e.getMessage(), e);
+            }
+
+            enqueueTask();
+        });
+    }
+
     private void enqueueTask() {
         if (!isStarted.get()) {
             return;
         }
 
         commandExecutor.getConnectionManager().newTimeout(t -> {
-            Map<Object, Object> addedMap = new LinkedHashMap<>();
-            List<Object> deletedKeys = new ArrayList<>();
-            pollTask(addedMap, deletedKeys);
+            processTasks();
         }, options.getWriteBehindDelay(), TimeUnit.MILLISECONDS);
     }
 
@@ -15,7 +15,13 @@
  */
 package org.redisson;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.redisson.api.RFuture;
@@ -26,10 +32,15 @@ import org.redisson.connection.ConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.netty.util.Timeout;
-import io.netty.util.TimerTask;
-
 /**
+ * Transfers tasks which start time has come.
+ * <p>
+ * Each worker group keeps own schedule of upcoming start times.
+ * It's filled by slice of scheduler queue returned by each transfer
+ * and by start times published for new queue head.
+ * Only the earliest start time of schedule is armed on the event loop
+ * of connection manager, so transfer is executed with millisecond precision
+ * instead of the tick of common timer.
  * 
  * @author Nikita Koksharov
  *
@@ -38,29 +49,45 @@ public abstract class QueueTransferTask {
     
     private static final Logger log = LoggerFactory.getLogger(QueueTransferTask.class);
 
+    private static final long RETRY_INTERVAL = 5000;
+
+    /**
+     * Amount of upcoming start times returned by transfer.
+     */
+    protected static final int SLICE_SIZE = 100;
+
     public static class TimeoutTask {
         
         private final long startTime;
-        private final Timeout task;
+        private volatile ScheduledFuture<?> task;
         
-        public TimeoutTask(long startTime, Timeout task) {
+        public TimeoutTask(long startTime) {
             super();
             this.startTime = startTime;
-            this.task = task;
         }
         
         public long getStartTime() {
             return startTime;
         }
         
-        public Timeout getTask() {
+        public ScheduledFuture<?> getTask() {
             return task;
         }
         
+        void setTask(ScheduledFuture<?> task) {
+            this.task = task;
+        }
+        
     }
     
     private int usage = 1;
+    // start time mapped to transfer generation it has been added in
+    private final ConcurrentSkipListMap<Long, Long> schedule = new ConcurrentSkipListMap<>();
+    private final AtomicLong generation = new AtomicLong();
     private final AtomicReference<TimeoutTask> lastTimeout = new AtomicReference<TimeoutTask>();
+    private final AtomicBoolean pushInProgress = new AtomicBoolean();
+    private volatile boolean pushRequested;
+    private volatile ScheduledFuture<?> retryTask;
     private final ConnectionManager connectionManager;
     
     public QueueTransferTask(ConnectionManager connectionManager) {
@@ -101,59 +128,144 @@ public abstract class QueueTransferTask {
         RTopic schedulerTopic = getTopic();
         schedulerTopic.removeListener(messageListenerId);
         schedulerTopic.removeListener(statusListenerId);
+
+        schedule.clear();
+        TimeoutTask oldTimeout = lastTimeout.getAndSet(null);
+        if (oldTimeout != null && oldTimeout.getTask() != null) {
+            oldTimeout.getTask().cancel(false);
+        }
+
+        ScheduledFuture<?> retry = retryTask;
+        if (retry != null) {
+            retry.cancel(false);
+        }
     }
 
     private void scheduleTask(final Long startTime) {
-        TimeoutTask oldTimeout = lastTimeout.get();
         if (startTime == null) {
             return;
         }
         
-        if (oldTimeout != null) {
-            oldTimeout.getTask().cancel();
+        if (startTime <= System.currentTimeMillis()) {
+            pushTask();
+            return;
         }
         
-        long delay = startTime - System.currentTimeMillis();
-        if (delay > 10) {
-            Timeout timeout = connectionManager.newTimeout(new TimerTask() {                    
-                @Override
-                public void run(Timeout timeout) throws Exception {
+        schedule.putIfAbsent(startTime, generation.get());
+        armTimeout();
+    }
+
+    private void armTimeout() {
+        while (true) {
+            Map.Entry<Long, Long> first = schedule.firstEntry();
+            if (first == null) {
+                return;
+            }
+            long startTime = first.getKey();
+
+            TimeoutTask oldTimeout = lastTimeout.get();
+            // earlier transfer schedules the next one
+            if (oldTimeout != null && oldTimeout.getStartTime() <= startTime) {
+                return;
+            }
+            
+            TimeoutTask newTimeout = new TimeoutTask(startTime);
+            if (!lastTimeout.compareAndSet(oldTimeout, newTimeout)) {
+                continue;
+            }
+            
+            if (oldTimeout != null && oldTimeout.getTask() != null) {
+                oldTimeout.getTask().cancel(false);
+            }
+            
+            long delay = Math.max(0, startTime - System.currentTimeMillis());
+            try {
+                newTimeout.setTask(connectionManager.getGroup().schedule(() -> {
+                    schedule.headMap(startTime, true).clear();
+                    lastTimeout.compareAndSet(newTimeout, null);
                     pushTask();
-                    
-                    TimeoutTask currentTimeout = lastTimeout.get();
-                    if (currentTimeout.getTask() == timeout) {
-                        lastTimeout.compareAndSet(currentTimeout, null);
-                    }
-                }
-            }, delay, TimeUnit.MILLISECONDS);
-            if (!lastTimeout.compareAndSet(oldTimeout, new TimeoutTask(startTime, timeout))) {
-                timeout.cancel();
+                    // later start times stay armed even if transfer fails
+                    armTimeout();
+                }, delay, TimeUnit.MILLISECONDS));
+            } catch (RuntimeException e) {
+                // event loop is shutting down
+                lastTimeout.compareAndSet(newTimeout, null);
             }
-        } else {
-            pushTask();
+            return;
         }
     }
-    
+
+    /*
+     * Slice returned by transfer contains all start times up to its last one,
+     * so start times known before transfer and missed in slice belong
+     * to removed or already transferred tasks.
+     */
+    private void applySlice(List<Long> startTimes, long transferGeneration) {
+        Map<Long, Long> covered = schedule;
+        if (startTimes.size() >= SLICE_SIZE) {
+            covered = schedule.headMap(startTimes.get(startTimes.size() - 1), true);
+        }
+        covered.entrySet().removeIf(e -> e.getValue() < transferGeneration && !startTimes.contains(e.getKey()));
+
+        for (Long startTime : startTimes) {
+            scheduleTask(startTime);
+        }
+    }
+
     protected abstract RTopic getTopic();
     
-    protected abstract RFuture<Long> pushTaskAsync();
+    /**
+     * Transfers tasks which start time has come.
+     *
+     * @return start times of next {@link #SLICE_SIZE} tasks in scheduler queue
+     */
+    protected abstract RFuture<List<Long>> pushTaskAsync();
     
     private void pushTask() {
-        RFuture<Long> startTimeFuture = pushTaskAsync();
-        startTimeFuture.onComplete((res, e) -> {
+        pushRequested = true;
+        // transfer is already in progress, it's repeated once completed
+        if (!pushInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        pushRequested = false;
+        
+        long transferGeneration = generation.incrementAndGet();
+        RFuture<List<Long>> startTimesFuture = pushTaskAsync();
+        startTimesFuture.onComplete((res, e) -> {
             if (e != null) {
+                // failed transfer stays requested along with transfers requested meanwhile
+                pushRequested = true;
+                pushInProgress.set(false);
                 if (e instanceof RedissonShutdownException) {
                     return;
                 }
                 log.error(e.getMessage(), e);
-                scheduleTask(System.currentTimeMillis() + 5 * 1000L);
+                scheduleRetry();
                 return;
             }
             
+            pushInProgress.set(false);
+            if (pushRequested) {
+                pushTask();
+            }
+            
             if (res != null) {
-                scheduleTask(res);
+                applySlice(res, transferGeneration);
             }
         });
     }
 
+    private void scheduleRetry() {
+        try {
+            retryTask = connectionManager.getGroup().schedule(() -> {
+                // skipped if transfer has succeeded since failure
+                if (pushRequested) {
+                    pushTask();
+                }
+            }, RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // event loop is shutting down
+        }
+    }
+
 }
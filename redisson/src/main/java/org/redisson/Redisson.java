@@ -31,10 +31,12 @@ import org.redisson.redisnode.RedissonSentinelMasterSlaveNodes;
 import org.redisson.redisnode.RedissonSingleNode;
 import org.redisson.remote.ResponseEntry;
 import org.redisson.transaction.RedissonTransaction;
+import org.redisson.transaction.TransactionConflictException;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Main infrastructure class allows to get access
@@ -256,6 +258,11 @@ public class Redisson implements RedissonClient {
                 options, evictionScheduler, this, writeBehindService);
     }
 
+    @Override
+    public RClientSideCaching getClientSideCaching(ClientSideCachingOptions options) {
+        return new RedissonClientSideCaching(commandExecutor, options, this);
+    }
+
     @Override
     public <K, V> RMap<K, V> getMap(String name) {
         return new RedissonMap<K, V>(commandExecutor, name, this, null, null);
@@ -637,6 +644,34 @@ public class Redisson implements RedissonClient {
         return new RedissonTransaction(commandExecutor, options);
     }
 
+    @Override
+    public <R> R executeTransaction(TransactionOptions options, Function<RTransaction, R> action) {
+        int attempt = 0;
+        while (true) {
+            RTransaction transaction = createTransaction(options);
+            R result;
+            try {
+                result = action.apply(transaction);
+            } catch (RuntimeException e) {
+                try {
+                    transaction.rollback();
+                } catch (Exception ex) {
+                    e.addSuppressed(ex);
+                }
+                throw e;
+            }
+
+            try {
+                transaction.commit();
+                return result;
+            } catch (TransactionConflictException e) {
+                if (attempt++ >= options.getConflictRetryAttempts()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
     @Override
     public RBatch createBatch(BatchOptions options) {
         return new RedissonBatch(evictionScheduler, commandExecutor, options);
@@ -761,6 +796,21 @@ public class Redisson implements RedissonClient {
         return new RedissonPriorityDeque<V>(codec, commandExecutor, name, this);
     }
 
+    @Override
+    public <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name) {
+        return new RedissonScoredPriorityQueue<V>(commandExecutor, name, null);
+    }
+
+    @Override
+    public <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, PriorityScoreEncoder<? super V> encoder) {
+        return new RedissonScoredPriorityQueue<V>(commandExecutor, name, encoder);
+    }
+
+    @Override
+    public <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, Codec codec, PriorityScoreEncoder<? super V> encoder) {
+        return new RedissonScoredPriorityQueue<V>(codec, commandExecutor, name, encoder);
+    }
+
     @Override
     public String getId() {
         return connectionManager.getId();
@@ -21,6 +21,13 @@ import org.redisson.api.BatchOptions;
 import org.redisson.api.BatchResult;
 import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
+import org.redisson.client.RedisBusyException;
+import org.redisson.client.RedisClusterDownException;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.RedisLoadingException;
+import org.redisson.client.RedisNodeNotFoundException;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.RedisTryAgainException;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommand;
@@ -36,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +63,6 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
     public static class ExpirationEntry {
 
         private final Map<Long, Integer> threadIds = new LinkedHashMap<>();
-        private volatile Timeout timeout;
 
         public ExpirationEntry() {
             super();
@@ -92,12 +99,129 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
             }
         }
 
+    }
 
-        public void setTimeout(Timeout timeout) {
-            this.timeout = timeout;
+    /**
+     * Renews expiration of all locks held by Redisson instance.
+     * Renewal commands of all locks are sent in a single batch per tick,
+     * which is pipelined per Redis node.
+     */
+    static final class RenewalTask implements TimerTask {
+
+        private final CommandAsyncExecutor executor;
+        private final String id;
+        private final long interval;
+        private final Map<String, RedissonBaseLock> locks = new ConcurrentHashMap<>();
+        private boolean scheduled;
+        private boolean stopped;
+
+        RenewalTask(CommandAsyncExecutor executor, String id, long interval) {
+            this.executor = executor;
+            this.id = id;
+            this.interval = interval;
         }
-        public Timeout getTimeout() {
-            return timeout;
+
+        synchronized boolean add(RedissonBaseLock lock) {
+            if (stopped) {
+                return false;
+            }
+
+            locks.put(lock.getEntryName(), lock);
+            if (!scheduled) {
+                scheduled = true;
+                executor.getConnectionManager().newTimeout(this, interval, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+
+        void remove(String entryName) {
+            locks.remove(entryName);
+        }
+
+        @Override
+        public void run(Timeout timeout) throws Exception {
+            if (executor.getConnectionManager().isShuttingDown()) {
+                stop();
+                return;
+            }
+
+            CommandBatchService executorService = new CommandBatchService(executor);
+            Map<RedissonBaseLock, RFuture<Boolean>> futures = new HashMap<>();
+            for (RedissonBaseLock lock : locks.values()) {
+                ExpirationEntry ent = EXPIRATION_RENEWAL_MAP.get(lock.getEntryName());
+                if (ent == null) {
+                    locks.remove(lock.getEntryName(), lock);
+                    continue;
+                }
+                Long threadId = ent.getFirstThreadId();
+                if (threadId == null) {
+                    continue;
+                }
+
+                futures.put(lock, lock.renewExpirationAsync(executorService, threadId));
+            }
+
+            if (futures.isEmpty()) {
+                reschedule();
+                return;
+            }
+
+            executorService.executeAsync().onComplete((r, ex) -> {
+                if (ex != null) {
+                    log.error("Can't update expiration of locks. It will be retried", ex);
+                }
+
+                for (Map.Entry<RedissonBaseLock, RFuture<Boolean>> entry : futures.entrySet()) {
+                    RedissonBaseLock lock = entry.getKey();
+                    RFuture<Boolean> future = entry.getValue();
+
+                    // lock stays registered if its renewal failed along with the whole batch
+                    if (!future.isDone() || isNodeFailure(future.cause())) {
+                        continue;
+                    }
+
+                    if (!future.isSuccess()) {
+                        log.error("Can't update lock " + lock.getRawName() + " expiration", future.cause());
+                        lock.cancelExpirationRenewal(null);
+                        continue;
+                    }
+
+                    if (!future.getNow()) {
+                        lock.cancelExpirationRenewal(null);
+                    }
+                }
+
+                reschedule();
+            });
+        }
+
+        /*
+         * Connection failures and node states fail renewal of all locks on Redis node,
+         * unlike reply error of renewal script.
+         */
+        private boolean isNodeFailure(Throwable cause) {
+            return cause instanceof RedisConnectionException
+                    || cause instanceof RedisTimeoutException
+                    || cause instanceof RedisNodeNotFoundException
+                    || cause instanceof RedisLoadingException
+                    || cause instanceof RedisTryAgainException
+                    || cause instanceof RedisClusterDownException
+                    || cause instanceof RedisBusyException;
+        }
+
+        private synchronized void reschedule() {
+            if (locks.isEmpty()) {
+                stop();
+                return;
+            }
+
+            executor.getConnectionManager().newTimeout(this, interval, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void stop() {
+            scheduled = false;
+            stopped = true;
+            RENEWAL_TASKS.remove(id, this);
         }
 
     }
@@ -105,6 +229,7 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
     private static final Logger log = LoggerFactory.getLogger(RedissonBaseLock.class);
 
     private static final ConcurrentMap<String, ExpirationEntry> EXPIRATION_RENEWAL_MAP = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, RenewalTask> RENEWAL_TASKS = new ConcurrentHashMap<>();
     protected long internalLockLeaseTime;
 
     final String id;
@@ -129,42 +254,14 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
     }
 
     private void renewExpiration() {
-        ExpirationEntry ee = EXPIRATION_RENEWAL_MAP.get(getEntryName());
-        if (ee == null) {
-            return;
-        }
-        
-        Timeout task = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
-            @Override
-            public void run(Timeout timeout) throws Exception {
-                ExpirationEntry ent = EXPIRATION_RENEWAL_MAP.get(getEntryName());
-                if (ent == null) {
-                    return;
-                }
-                Long threadId = ent.getFirstThreadId();
-                if (threadId == null) {
-                    return;
-                }
-                
-                RFuture<Boolean> future = renewExpirationAsync(threadId);
-                future.onComplete((res, e) -> {
-                    if (e != null) {
-                        log.error("Can't update lock " + getRawName() + " expiration", e);
-                        EXPIRATION_RENEWAL_MAP.remove(getEntryName());
-                        return;
-                    }
-                    
-                    if (res) {
-                        // reschedule itself
-                        renewExpiration();
-                    } else {
-                        cancelExpirationRenewal(null);
-                    }
-                });
+        while (true) {
+            RenewalTask task = RENEWAL_TASKS.computeIfAbsent(id,
+                    k -> new RenewalTask(commandExecutor, id,
+                            commandExecutor.getConnectionManager().getCfg().getLockWatchdogTimeout() / 3));
+            if (task.add(this)) {
+                return;
             }
-        }, internalLockLeaseTime / 3, TimeUnit.MILLISECONDS);
-        
-        ee.setTimeout(task);
+        }
     }
     
     protected void scheduleExpirationRenewal(long threadId) {
@@ -178,8 +275,8 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
         }
     }
 
-    protected RFuture<Boolean> renewExpirationAsync(long threadId) {
-        return evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+    protected RFuture<Boolean> renewExpirationAsync(CommandBatchService executorService, long threadId) {
+        return executorService.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('hexists', KEYS[1], ARGV[2]) == 1) then " +
                         "redis.call('pexpire', KEYS[1], ARGV[1]); " +
                         "return 1; " +
@@ -200,9 +297,9 @@ public abstract class RedissonBaseLock extends RedissonExpirable implements RLoc
         }
 
         if (threadId == null || task.hasNoThreads()) {
-            Timeout timeout = task.getTimeout();
-            if (timeout != null) {
-                timeout.cancel();
+            RenewalTask renewalTask = RENEWAL_TASKS.get(id);
+            if (renewalTask != null) {
+                renewalTask.remove(getEntryName());
             }
             EXPIRATION_RENEWAL_MAP.remove(getEntryName());
         }
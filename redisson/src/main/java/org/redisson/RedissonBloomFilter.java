@@ -43,7 +43,9 @@ import org.redisson.command.CommandBatchService;
 import org.redisson.misc.Hash;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -132,6 +134,75 @@ public class RedissonBloomFilter<T> extends RedissonExpirable implements RBloomF
         }
     }
 
+    @Override
+    public long add(Collection<T> objects) {
+        return executeBulk(objects, true);
+    }
+
+    @Override
+    public long contains(Collection<T> objects) {
+        return executeBulk(objects, false);
+    }
+
+    private long executeBulk(Collection<T> objects, boolean add) {
+        if (objects.isEmpty()) {
+            return 0;
+        }
+
+        List<long[]> hashes = new ArrayList<>(objects.size());
+        for (T object : objects) {
+            hashes.add(hash(object));
+        }
+
+        while (true) {
+            if (size == 0) {
+                readConfig();
+            }
+
+            int hashIterations = this.hashIterations;
+            long size = this.size;
+
+            CommandBatchService executorService = new CommandBatchService(commandExecutor);
+            addConfigCheck(hashIterations, size, executorService);
+            RBitSetAsync bs = createBitSet(executorService);
+            List<RFuture<Boolean>> futures = new ArrayList<>(hashes.size() * hashIterations);
+            for (long[] hash : hashes) {
+                long[] indexes = hash(hash[0], hash[1], hashIterations, size);
+                for (long index : indexes) {
+                    if (add) {
+                        futures.add(bs.setAsync(index));
+                    } else {
+                        futures.add(bs.getAsync(index));
+                    }
+                }
+            }
+            try {
+                executorService.execute();
+            } catch (RedisException e) {
+                if (e.getMessage() == null || !e.getMessage().contains("Bloom filter config has been changed")) {
+                    throw e;
+                }
+                continue;
+            }
+
+            long result = 0;
+            for (int i = 0; i < futures.size(); i += hashIterations) {
+                boolean allSet = true;
+                for (int j = i; j < i + hashIterations; j++) {
+                    if (!futures.get(j).getNow()) {
+                        allSet = false;
+                        break;
+                    }
+                }
+                // element is added if at least one of its bits wasn't set before
+                if (add != allSet) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+
     private long[] hash(long hash1, long hash2, int iterations, long size) {
         long[] indexes = new long[iterations];
         long hash = hash1;
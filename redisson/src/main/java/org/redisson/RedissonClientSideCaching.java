@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.ReferenceCountUtil;
+import org.redisson.api.ClientSideCachingOptions;
+import org.redisson.api.RBucket;
+import org.redisson.api.RClientSideCaching;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.cache.*;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandAsyncService;
+import org.redisson.config.TrackingMode;
+import org.redisson.liveobject.core.RedissonObjectBuilder;
+import org.redisson.misc.Hash;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class RedissonClientSideCaching implements RClientSideCaching {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private static final int STRIPES = 1024;
+
+    private static final Set<String> CACHED_COMMANDS = new HashSet<>(Arrays.asList(
+            "GET", "STRLEN", "EXISTS",
+            "HGET", "HMGET", "HGETALL", "HLEN", "HEXISTS", "HSTRLEN", "HKEYS", "HVALS"));
+
+    private final Map<CacheKey, Object> cache;
+    private final Map<String, Set<CacheKey>> keyIndex = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    private final CommandAsyncExecutor commandExecutor;
+    private final CommandAsyncService cachingExecutor;
+    private final RedissonClient redisson;
+    private final int listenerId;
+
+    public RedissonClientSideCaching(CommandAsyncExecutor commandExecutor, ClientSideCachingOptions options, RedissonClient redisson) {
+        if (commandExecutor.getConnectionManager().getCfg().getTrackingMode() == TrackingMode.NONE) {
+            throw new IllegalStateException("Client side caching requires trackingMode setting");
+        }
+
+        this.commandExecutor = commandExecutor;
+        this.redisson = redisson;
+        this.cache = createCache(options);
+        this.cachingExecutor = new CachingCommandExecutor(commandExecutor);
+        this.listenerId = commandExecutor.getConnectionManager().getClientTrackingService().addListener(this::invalidate);
+    }
+
+    private static Map<CacheKey, Object> createCache(ClientSideCachingOptions options) {
+        switch (options.getEvictionPolicy()) {
+            case LFU:
+                return new LFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            case LRU:
+                return new LRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            case TINY_LFU:
+                return new TinyLFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            case SOFT:
+                return ReferenceCacheMap.soft(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            case WEAK:
+                return ReferenceCacheMap.weak(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            case NONE:
+                return new NoneCacheMap<>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            default:
+                throw new IllegalArgumentException("Invalid eviction policy: " + options.getEvictionPolicy());
+        }
+    }
+
+    private int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    private void invalidate(String key) {
+        if (key == null) {
+            for (int i = 0; i < STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            keyIndex.clear();
+            cache.clear();
+            return;
+        }
+
+        versions.incrementAndGet(stripe(key));
+        Set<CacheKey> keys = keyIndex.remove(key);
+        if (keys != null) {
+            for (CacheKey cacheKey : keys) {
+                cache.remove(cacheKey);
+            }
+        }
+    }
+
+    private CacheKey toCacheKey(String key, Codec codec, RedisCommand<?> command, Object... params) {
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer();
+        try {
+            write(buf, codec.getClass().getName());
+            write(buf, command.getName());
+            write(buf, String.valueOf(command.getSubName()));
+            if (command.getConvertor() != null) {
+                write(buf, command.getConvertor().getClass().getName());
+            }
+            write(buf, key);
+            for (Object param : params) {
+                if (param instanceof ByteBuf) {
+                    ByteBuf b = (ByteBuf) param;
+                    buf.writeInt(b.readableBytes());
+                    buf.writeBytes(b, b.readerIndex(), b.readableBytes());
+                } else {
+                    write(buf, String.valueOf(param));
+                }
+            }
+            return new CacheKey(Hash.hash128toArray(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    private void write(ByteBuf buf, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buf.writeInt(bytes.length);
+        buf.writeBytes(bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R copy(Object value) {
+        if (value instanceof Map) {
+            return (R) new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        if (value instanceof Set) {
+            return (R) new LinkedHashSet<>((Set<?>) value);
+        }
+        if (value instanceof List) {
+            return (R) new ArrayList<>((List<?>) value);
+        }
+        return (R) value;
+    }
+
+    class CachingCommandExecutor extends CommandAsyncService {
+
+        CachingCommandExecutor(CommandAsyncExecutor commandExecutor) {
+            super(commandExecutor.getConnectionManager(), commandExecutor.getObjectBuilder(), RedissonObjectBuilder.ReferenceType.DEFAULT);
+        }
+
+        @Override
+        public <T, R> RFuture<R> readAsync(String key, Codec codec, RedisCommand<T> command, Object... params) {
+            if (!CACHED_COMMANDS.contains(command.getName())) {
+                return super.readAsync(key, codec, command, params);
+            }
+
+            CacheKey cacheKey = toCacheKey(key, codec, command, params);
+            Object value = cache.get(cacheKey);
+            if (value != null) {
+                for (Object param : params) {
+                    ReferenceCountUtil.release(param);
+                }
+                if (value == NULL_VALUE) {
+                    return RedissonPromise.newSucceededFuture(null);
+                }
+                return RedissonPromise.newSucceededFuture(copy(value));
+            }
+
+            int stripe = stripe(key);
+            long version = versions.get(stripe);
+            RPromise<R> result = new RedissonPromise<>();
+            RFuture<R> future = super.readTrackedAsync(key, codec, command, params);
+            future.onComplete((res, e) -> {
+                if (e != null) {
+                    result.tryFailure(e);
+                    return;
+                }
+
+                if (versions.get(stripe) == version) {
+                    keyIndex.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(cacheKey);
+                    if (res == null) {
+                        cache.put(cacheKey, NULL_VALUE);
+                    } else {
+                        cache.put(cacheKey, copy(res));
+                    }
+                    // invalidation might arrive between version check and put
+                    if (versions.get(stripe) != version) {
+                        cache.remove(cacheKey);
+                    }
+                }
+                result.trySuccess(res);
+            });
+            return result;
+        }
+
+        @Override
+        public <T, R> RFuture<R> writeAsync(String key, Codec codec, RedisCommand<T> command, Object... params) {
+            invalidate(key);
+            return super.writeAsync(key, codec, command, params);
+        }
+
+        @Override
+        public <T, R> RFuture<R> evalWriteAsync(String key, Codec codec, RedisCommand<T> evalCommandType, String script, List<Object> keys, Object... params) {
+            invalidate(key);
+            for (Object k : keys) {
+                if (k instanceof String) {
+                    invalidate((String) k);
+                }
+            }
+            return super.evalWriteAsync(key, codec, evalCommandType, script, keys, params);
+        }
+
+    }
+
+    @Override
+    public <V> RBucket<V> getBucket(String name) {
+        return getBucket(name, commandExecutor.getConnectionManager().getCodec());
+    }
+
+    @Override
+    public <V> RBucket<V> getBucket(String name, Codec codec) {
+        return new RedissonBucket<>(codec, cachingExecutor, name);
+    }
+
+    @Override
+    public <K, V> RMap<K, V> getMap(String name) {
+        return getMap(name, commandExecutor.getConnectionManager().getCodec());
+    }
+
+    @Override
+    public <K, V> RMap<K, V> getMap(String name, Codec codec) {
+        return new RedissonMap<>(codec, cachingExecutor, name, redisson, null, null);
+    }
+
+    @Override
+    public void destroy() {
+        commandExecutor.getConnectionManager().getClientTrackingService().removeListener(listenerId);
+        invalidate(null);
+    }
+
+}
@@ -55,8 +55,8 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
         QueueTransferTask task = new QueueTransferTask(commandExecutor.getConnectionManager()) {
             
             @Override
-            protected RFuture<Long> pushTaskAsync() {
-                return commandExecutor.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+            protected RFuture<List<Long>> pushTaskAsync() {
+                return commandExecutor.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
                         "local expiredValues = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
                       + "if #expiredValues > 0 then "
                           + "for i, v in ipairs(expiredValues) do "
@@ -66,14 +66,15 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
                           + "end; "
                           + "redis.call('zrem', KEYS[2], unpack(expiredValues));"
                       + "end; "
-                        // get startTime from scheduler queue head task
-                      + "local v = redis.call('zrange', KEYS[2], 0, 0, 'WITHSCORES'); "
-                      + "if v[1] ~= nil then "
-                         + "return v[2]; "
-                      + "end "
-                      + "return nil;",
+                        // get startTime of values from scheduler queue head
+                      + "local v = redis.call('zrange', KEYS[2], 0, tonumber(ARGV[3]) - 1, 'WITHSCORES'); "
+                      + "local result = {}; "
+                      + "for i = 2, #v, 2 do "
+                          + "table.insert(result, v[i]); "
+                      + "end; "
+                      + "return result;",
                       Arrays.<Object>asList(getRawName(), timeoutSetName, queueName),
-                      System.currentTimeMillis(), 100);
+                      System.currentTimeMillis(), 100, SLICE_SIZE);
             }
             
             @Override
@@ -19,6 +19,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import org.redisson.api.*;
 import org.redisson.api.listener.MessageListener;
+import org.redisson.client.RedisException;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
@@ -45,6 +46,7 @@ import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * 
@@ -247,8 +249,8 @@ public class RedissonExecutorService implements RScheduledExecutorService {
             }
 
             @Override
-            protected RFuture<Long> pushTaskAsync() {
-                return commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+            protected RFuture<List<Long>> pushTaskAsync() {
+                return commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
                         "local expiredTaskIds = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
                       + "local retryInterval = redis.call('get', KEYS[4]);"
                       + "if #expiredTaskIds > 0 then "
@@ -273,7 +275,11 @@ public class RedissonExecutorService implements RScheduledExecutorService {
                                       + "redis.call('publish', KEYS[3], startTime); "
                                   + "end;"
                                     
-                                + "if redis.call('linsert', KEYS[1], 'before', name, name) < 1 then "
+                                // task transferred first time can't be in request queue,
+                                // so O(N) duplicate check is applied to retried task only
+                                + "if scheduledName ~= expiredTaskIds[i] then "
+                                    + "redis.call('rpush', KEYS[1], name); "
+                                + "elseif redis.call('linsert', KEYS[1], 'before', name, name) < 1 then "
                                     + "redis.call('rpush', KEYS[1], name); "
                                 + "else "
                                     + "redis.call('lrem', KEYS[1], -1, name); "
@@ -283,14 +289,15 @@ public class RedissonExecutorService implements RScheduledExecutorService {
                               + "redis.call('rpush', KEYS[1], unpack(expiredTaskIds));"
                           + "end; "
                       + "end; "
-                        // get startTime from scheduler queue head task
-                      + "local v = redis.call('zrange', KEYS[2], 0, 0, 'WITHSCORES'); "
-                      + "if v[1] ~= nil then "
-                         + "return v[2]; "
-                      + "end "
-                      + "return nil;",
+                        // get startTime of tasks from scheduler queue head
+                      + "local v = redis.call('zrange', KEYS[2], 0, tonumber(ARGV[3]) - 1, 'WITHSCORES'); "
+                      + "local result = {}; "
+                      + "for i = 2, #v, 2 do "
+                          + "table.insert(result, v[i]); "
+                      + "end; "
+                      + "return result;",
                       Arrays.<Object>asList(requestQueueName, schedulerQueueName, schedulerChannelName, tasksRetryIntervalName), 
-                      System.currentTimeMillis(), 50);
+                      System.currentTimeMillis(), 50, SLICE_SIZE);
             }
         };
         queueTransferService.schedule(getName(), task);
@@ -621,6 +628,92 @@ public class RedissonExecutorService implements RScheduledExecutorService {
         return new RedissonExecutorBatchFuture(result);
     }
 
+    @Override
+    public <T> Stream<RExecutorFuture<T>> submitAll(Iterable<? extends Callable<T>> tasks, int batchSize, int maxPendingBatches) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize should be greater than zero");
+        }
+        if (maxPendingBatches <= 0) {
+            throw new IllegalArgumentException("maxPendingBatches should be greater than zero");
+        }
+
+        Iterator<? extends Callable<T>> iterator = tasks.iterator();
+        // private lock, so iterator used as a monitor by caller can't block submission
+        Object lock = new Object();
+        RedissonCompletionStream<T> stream = new RedissonCompletionStream<>((long) batchSize * maxPendingBatches);
+        for (int i = 0; i < maxPendingBatches; i++) {
+            submitBatch(iterator, lock, batchSize, stream);
+        }
+        return stream.stream();
+    }
+
+    private <T> void submitBatch(Iterator<? extends Callable<T>> iterator, Object lock, int batchSize, RedissonCompletionStream<T> stream) {
+        TasksBatchService executorRemoteService = createBatchService();
+        RemoteExecutorServiceAsync asyncService = executorRemoteService.get(RemoteExecutorServiceAsync.class, RESULT_OPTIONS);
+        List<RExecutorFuture<T>> result = new ArrayList<>(batchSize);
+        synchronized (lock) {
+            if (stream.isFinished()) {
+                return;
+            }
+
+            RuntimeException failure = null;
+            try {
+                while (result.size() < batchSize && iterator.hasNext()) {
+                    Callable<T> task = iterator.next();
+                    check(task);
+                    RemotePromise<T> promise = (RemotePromise<T>) asyncService.executeCallable(createTaskParameters(task));
+                    result.add(new RedissonExecutorFuture<T>(promise));
+                }
+            } catch (RuntimeException e) {
+                // already prepared tasks are still sent
+                failure = e;
+            }
+
+            for (RExecutorFuture<T> future : result) {
+                stream.add(future);
+            }
+            if (failure != null || !iterator.hasNext()) {
+                stream.finish(failure);
+            }
+        }
+
+        if (result.isEmpty()) {
+            return;
+        }
+
+        executorRemoteService.executeAddAsync().onComplete((res, e) -> {
+            if (e != null) {
+                for (RExecutorFuture<T> executorFuture : result) {
+                    ((RPromise<T>) executorFuture).tryFailure(e);
+                }
+                if (e instanceof RuntimeException) {
+                    stream.finish((RuntimeException) e);
+                } else {
+                    stream.finish(new RedisException("Unable to submit tasks", e));
+                }
+                return;
+            }
+
+            for (Boolean bool : res) {
+                if (!bool) {
+                    RejectedExecutionException ex = new RejectedExecutionException("Task rejected. ExecutorService is in shutdown state");
+                    for (RExecutorFuture<T> executorFuture : result) {
+                        ((RPromise<T>) executorFuture).tryFailure(ex);
+                    }
+                    stream.finish(ex);
+                    return;
+                }
+            }
+
+            // serialization of next batch shouldn't block netty thread
+            stream.whenReady(() -> {
+                connectionManager.getExecutor().execute(() -> {
+                    submitBatch(iterator, lock, batchSize, stream);
+                });
+            });
+        });
+    }
+
     protected TaskParameters createTaskParameters(Callable<?> task) {
         ClassBody classBody = getClassBody(task);
         byte[] state = encode(task);
@@ -15,6 +15,7 @@
  */
 package org.redisson;
 
+import org.redisson.api.KeysScanOptions;
 import org.redisson.api.RFuture;
 import org.redisson.api.RKeys;
 import org.redisson.api.RObject;
@@ -28,6 +29,7 @@ import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.command.CommandBatchService;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.iterator.ParallelKeysScanner;
 import org.redisson.iterator.RedissonBaseIterator;
 import org.redisson.misc.CompositeIterable;
 import org.redisson.misc.RPromise;
@@ -38,8 +40,6 @@ import org.redisson.rx.CommandRxBatchService;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -92,7 +92,12 @@ public class RedissonKeys implements RKeys {
 
     @Override
     public Iterable<String> getKeysByPattern(String pattern, int count) {
-        return getKeysByPattern(RedisCommands.SCAN, pattern, 0, count);
+        return getKeys(KeysScanOptions.defaults().pattern(pattern).chunkSize(count));
+    }
+
+    @Override
+    public Iterable<String> getKeys(KeysScanOptions options) {
+        return () -> new ParallelKeysScanner(this, options).iterator();
     }
 
     public <T> Iterable<T> getKeysByPattern(RedisCommand<?> command, String pattern, int limit, int count) {
@@ -116,7 +121,7 @@ public class RedissonKeys implements RKeys {
 
     @Override
     public Iterable<String> getKeysWithLimit(String pattern, int limit) {
-        return getKeysByPattern(RedisCommands.SCAN, pattern, limit, limit);
+        return getKeys(KeysScanOptions.defaults().pattern(pattern).limit(limit).chunkSize(limit));
     }
 
     @Override
@@ -144,6 +149,36 @@ public class RedissonKeys implements RKeys {
         return scanIteratorAsync(client, entry, RedisCommands.SCAN, startPos, pattern, count);
     }
 
+    public RFuture<ScanResult<Object>> scanIteratorAsync(RedisClient client, MasterSlaveEntry entry, long startPos,
+                                                             String pattern, int count, RType type) {
+        if (type == null) {
+            return scanIteratorAsync(client, entry, startPos, pattern, count);
+        }
+
+        List<Object> params = new ArrayList<>();
+        params.add(startPos);
+        if (pattern != null) {
+            params.add("MATCH");
+            params.add(pattern);
+        }
+        params.add("COUNT");
+        params.add(count);
+        params.add("TYPE");
+        params.add(toRedisType(type));
+        return commandExecutor.readAsync(client, entry, StringCodec.INSTANCE, RedisCommands.SCAN, params.toArray());
+    }
+
+    private String toRedisType(RType type) {
+        switch (type) {
+            case OBJECT:
+                return "string";
+            case MAP:
+                return "hash";
+            default:
+                return type.name().toLowerCase();
+        }
+    }
+
     private <T> Iterator<T> createKeysIterator(MasterSlaveEntry entry, RedisCommand<?> command, String pattern, int count) {
         return new RedissonBaseIterator<T>() {
 
@@ -238,56 +273,79 @@ public class RedissonKeys implements RKeys {
                           + "return n;", Collections.emptyList(), pattern);
         }
         
-        int batchSize = 500;
-        RPromise<Long> result = new RedissonPromise<Long>();
-        AtomicReference<Throwable> failed = new AtomicReference<Throwable>();
         AtomicLong count = new AtomicLong();
-        Collection<MasterSlaveEntry> entries = commandExecutor.getConnectionManager().getEntrySet();
-        AtomicLong executed = new AtomicLong(entries.size());
-        BiConsumer<Long, Throwable> listener = (res, e) -> {
+        ParallelKeysScanner scanner = new ParallelKeysScanner(this, KeysScanOptions.defaults().pattern(pattern).chunkSize(500));
+        RFuture<Void> scanFuture = scanner.scanAsync((entry, keys) -> {
+            RFuture<Long> f = unlinkAsync(keys.toArray(new String[0]));
+            f.onComplete((res, e) -> {
+                if (e == null) {
+                    count.addAndGet(res);
+                }
+            });
+            return f;
+        });
+        return toCountFuture(scanFuture, count, "deleted");
+    }
+
+    private RFuture<Long> toCountFuture(RFuture<Void> scanFuture, AtomicLong count, String operation) {
+        RPromise<Long> result = new RedissonPromise<>();
+        scanFuture.onComplete((r, e) -> {
             if (e == null) {
-                count.addAndGet(res);
+                result.trySuccess(count.get());
+                return;
+            }
+
+            if (count.get() > 0) {
+                RedisException ex = new RedisException(
+                        "" + count.get() + " keys has been " + operation + ". But one or more nodes has an error", e);
+                result.tryFailure(ex);
             } else {
-                failed.set(e);
+                result.tryFailure(e);
             }
+        });
+        return result;
+    }
 
-            checkExecution(result, failed, count, executed);
-        };
+    @Override
+    public long expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit) {
+        return commandExecutor.get(expireByPatternAsync(pattern, timeToLive, timeUnit));
+    }
 
-        for (MasterSlaveEntry entry : entries) {
-            commandExecutor.getConnectionManager().getExecutor().execute(new Runnable() {
-                @Override
-                public void run() {
-                    long count = 0;
-                    try {
-                        Iterator<String> keysIterator = createKeysIterator(entry, RedisCommands.SCAN, pattern, batchSize);
-                        List<String> keys = new ArrayList<String>();
-                        while (keysIterator.hasNext()) {
-                            String key = keysIterator.next();
-                            keys.add(key);
-
-                            if (keys.size() % batchSize == 0) {
-                                count += delete(keys.toArray(new String[keys.size()]));
-                                keys.clear();
-                            }
-                        }
-
-                        if (!keys.isEmpty()) {
-                            count += delete(keys.toArray(new String[keys.size()]));
-                            keys.clear();
-                        }
-
-                        RFuture<Long> future = RedissonPromise.newSucceededFuture(count);
-                        future.onComplete(listener);
-                    } catch (Exception e) {
-                        RFuture<Long> future = RedissonPromise.newFailedFuture(e);
-                        future.onComplete(listener);
-                    }
-                }
-            });
+    @Override
+    public RFuture<Long> expireByPatternAsync(String pattern, long timeToLive, TimeUnit timeUnit) {
+        long ttl = timeUnit.toMillis(timeToLive);
+        if (commandExecutor instanceof CommandBatchService
+                || commandExecutor instanceof CommandReactiveBatchService
+                    || commandExecutor instanceof CommandRxBatchService) {
+            if (getConnectionManager().isClusterMode()) {
+                throw new IllegalStateException("This method doesn't work in batch for Redis cluster mode. For Redis cluster execute it as non-batch method");
+            }
+
+            return commandExecutor.evalWriteAsync((String) null, null, RedisCommands.EVAL_LONG,
+                            "local keys = redis.call('keys', ARGV[1]) "
+                              + "local n = 0 "
+                              + "for i, key in ipairs(keys) do "
+                                  + "n = n + redis.call('pexpire', key, ARGV[2]) "
+                              + "end "
+                          + "return n;", Collections.emptyList(), pattern, ttl);
         }
 
-        return result;
+        AtomicLong count = new AtomicLong();
+        ParallelKeysScanner scanner = new ParallelKeysScanner(this, KeysScanOptions.defaults().pattern(pattern).chunkSize(500));
+        RFuture<Void> scanFuture = scanner.scanAsync((entry, keys) -> {
+            // all keys of chunk belong to the same node, so they are sent in a single pipeline
+            CommandBatchService executorService = new CommandBatchService(commandExecutor);
+            for (String key : keys) {
+                RFuture<Boolean> f = executorService.writeAsync(entry, StringCodec.INSTANCE, RedisCommands.PEXPIRE, key, ttl);
+                f.onComplete((res, e) -> {
+                    if (e == null && res) {
+                        count.incrementAndGet();
+                    }
+                });
+            }
+            return executorService.executeAsync();
+        });
+        return toCountFuture(scanFuture, count, "expired");
     }
 
     @Override
@@ -411,24 +469,6 @@ public class RedissonKeys implements RKeys {
         return commandExecutor.writeAllAsync(RedisCommands.FLUSHALL);
     }
 
-    private void checkExecution(RPromise<Long> result, AtomicReference<Throwable> failed, AtomicLong count,
-            AtomicLong executed) {
-        if (executed.decrementAndGet() == 0) {
-            if (failed.get() != null) {
-                if (count.get() > 0) {
-                    RedisException ex = new RedisException(
-                            "" + count.get() + " keys has been deleted. But one or more nodes has an error",
-                            failed.get());
-                    result.tryFailure(ex);
-                } else {
-                    result.tryFailure(failed.get());
-                }
-            } else {
-                result.trySuccess(count.get());
-            }
-        }
-    }
-
     @Override
     public long remainTimeToLive(String name) {
         return commandExecutor.get(remainTimeToLiveAsync(name));
@@ -545,6 +585,11 @@ public class RedissonKeys implements RKeys {
         return toStream(getKeys(count).iterator());
     }
 
+    @Override
+    public Stream<String> getKeysStream(KeysScanOptions options) {
+        return toStream(getKeys(options).iterator());
+    }
+
     @Override
     public void swapdb(int db1, int db2) {
         commandExecutor.get(swapdbAsync(db1, db2));
@@ -23,6 +23,7 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.BooleanNumberReplayConvertor;
 import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.IntegerReplayConvertor;
@@ -104,6 +105,11 @@ public class RedissonList<V> extends RedissonExpirable implements RList<V> {
         return commandExecutor.readAsync(getRawName(), codec, LRANGE, getRawName(), 0, -1);
     }
 
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, LRANGE, listener, getRawName(), 0, -1);
+    }
+
     @Override
     public <T> T[] toArray(T[] a) {
         List<V> list = readAll();
@@ -33,10 +33,12 @@ import org.redisson.api.mapreduce.RCollectionMapReduce;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.BooleanNumberReplayConvertor;
 import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.IntegerReplayConvertor;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.ReplyElementsFeeder;
 
 /**
  * List based Multimap Cache values holder
@@ -173,6 +175,12 @@ public class RedissonListMultimapValues<V> extends RedissonExpirable implements
         return rangeAsync(0, -1);
     }
 
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        // values are filtered by expiration of multimap entry
+        return ReplyElementsFeeder.feed(readAllAsync(), listener);
+    }
+
     @Override
     public <T> T[] toArray(T[] a) {
         List<V> list = readAll();
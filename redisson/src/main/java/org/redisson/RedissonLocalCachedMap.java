@@ -28,6 +28,7 @@ import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.NumberConvertor;
 import org.redisson.client.protocol.decoder.MapKeyDecoder;
 import org.redisson.client.protocol.decoder.ObjectMapEntryReplayDecoder;
@@ -37,6 +38,7 @@ import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.eviction.EvictionScheduler;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.ReplyElementsFeeder;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -44,6 +46,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 @SuppressWarnings("serial")
 public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements RLocalCachedMap<K, V> {
 
@@ -52,8 +55,8 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
     public static final String DISABLED_ACK_SUFFIX = ":topic";
 
     private static final RedisCommand<Set<Object>> ALL_KEYS = new RedisCommand<Set<Object>>("EVAL", new MapKeyDecoder(new ObjectSetReplayDecoder<Object>()));
-    private static final RedisCommand<Set<Entry<Object, Object>>> ALL_ENTRIES = new RedisCommand<>("EVAL", new ObjectMapEntryReplayDecoder());
-    private static final RedisCommand<Map<Object, Object>> ALL_MAP = new RedisCommand<Map<Object, Object>>("EVAL", new ObjectMapReplayDecoder());
+    private static final RedisCommand<Set<Entry<Object, Object>>> ALL_ENTRIES = new RedisCommand<>("EVAL", new ObjectMapEntryReplayDecoder()).nestedPairsReply();
+    private static final RedisCommand<Map<Object, Object>> ALL_MAP = new RedisCommand<Map<Object, Object>>("EVAL", new ObjectMapReplayDecoder()).nestedPairsReply();
     
     private long cacheUpdateLogTime = TimeUnit.MINUTES.toMillis(10);
     private byte[] instanceId;
@@ -62,6 +65,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
     private SyncStrategy syncStrategy;
     private LocalCachedMapOptions.StoreMode storeMode;
     private boolean storeCacheMiss;
+    private LocalCachedMapInvalidationBatcher invalidationBatcher;
 
     private LocalCacheListener listener;
     private LocalCacheView<K, V> localCacheView;
@@ -99,6 +103,13 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         listener.add(cache);
         localCacheView = new LocalCacheView(cache, this);
 
+        if (options.getSyncStrategy() == SyncStrategy.TRACKING) {
+            if (storeMode == LocalCachedMapOptions.StoreMode.LOCALCACHE) {
+                throw new IllegalArgumentException("TRACKING sync strategy can't be used with LOCALCACHE store mode");
+            }
+            // invalidation messages are sent by Redis server
+            return;
+        }
         if (options.getSyncStrategy() != SyncStrategy.NONE) {
             invalidateEntryOnChange = 1;
         }
@@ -106,6 +117,34 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
             invalidateEntryOnChange = 2;
             evictionScheduler.schedule(listener.getUpdatesLogName(), cacheUpdateLogTime + TimeUnit.MINUTES.toMillis(1));
         }
+        if (options.getReconnectionStrategy() == ReconnectionStrategy.LOAD_VERSIONED) {
+            // updates log is limited by size
+            invalidateEntryOnChange = 2;
+        }
+        if (options.getSyncStrategy() == SyncStrategy.INVALIDATE
+                && options.getInvalidationBatchInterval() > 0) {
+            Function<byte[], byte[]> logEntryIdGenerator = null;
+            if (invalidateEntryOnChange == 2) {
+                logEntryIdGenerator = RedissonLocalCachedMap::generateLogEntryId;
+            }
+            invalidationBatcher = new LocalCachedMapInvalidationBatcher(commandExecutor, listener, getRawName(), instanceId,
+                    options.getInvalidationBatchInterval(), options.getInvalidationBatchSize(), logEntryIdGenerator);
+            // invalidation messages and updates log entries are written by batcher
+            invalidateEntryOnChange = 0;
+        }
+    }
+
+    private <T> RFuture<T> batchInvalidation(RFuture<T> future, byte[]... keyHashes) {
+        if (invalidationBatcher == null) {
+            return future;
+        }
+
+        future.onComplete((res, e) -> {
+            if (e == null) {
+                invalidationBatcher.add(keyHashes);
+            }
+        });
+        return future;
     }
 
     public LocalCacheView<K, V> getLocalCacheView() {
@@ -117,7 +156,9 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
             return;
         }
 
-        if (invalidateEntryOnChange != 0) {
+        if (invalidationBatcher != null) {
+            invalidationBatcher.add(cacheKey.getKeyHash());
+        } else if (invalidateEntryOnChange != 0) {
             Object msg;
             if (syncStrategy == SyncStrategy.UPDATE) {
                 ByteBuf mapValue = encodeMapValue(value);
@@ -328,19 +369,20 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         ByteBuf mapValue = encodeMapValue(value);
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msg = createSyncMessage(mapKey, mapValue, cacheKey);
-        return commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_MAP_VALUE,
+        RFuture<V> future = commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_MAP_VALUE,
                   "local v = redis.call('hget', KEYS[1], ARGV[1]); "
                 + "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]); "
                 + "if ARGV[4] == '1' then "
                     + "redis.call('publish', KEYS[2], ARGV[3]); "
                 + "end;"
                 + "if ARGV[4] == '2' then "
-                    + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                    + "redis.call('publish', KEYS[2], ARGV[3]); "
+                    + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                    + listener.getUpdatesLogPublishScript("ARGV[3]")
                 + "end;"
                 + "return v; ",
                 Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 mapKey, mapValue, msg, invalidateEntryOnChange, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
 
     protected ByteBuf createSyncMessage(ByteBuf mapKey, ByteBuf mapValue, CacheKey cacheKey) {
@@ -365,13 +407,13 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msg = createSyncMessage(encodedKey, encodedValue, cacheKey);
 
-        return commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_BOOLEAN,
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_BOOLEAN,
                   "if ARGV[4] == '1' then "
                     + "redis.call('publish', KEYS[2], ARGV[3]); "
                 + "end;"
                 + "if ARGV[4] == '2' then "
-                    + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                    + "redis.call('publish', KEYS[2], ARGV[3]); "
+                    + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                    + listener.getUpdatesLogPublishScript("ARGV[3]")
                 + "end;"
                 + "if redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) == 0 then "
                   + "return 0; "
@@ -379,10 +421,14 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 + "return 1; ",
                 Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 encodedKey, encodedValue, msg, invalidateEntryOnChange, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
     
     @Override
     public void destroy() {
+        if (invalidationBatcher != null) {
+            invalidationBatcher.flush();
+        }
         cache.clear();
         listener.remove();
     }
@@ -395,8 +441,12 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
 
         if (storeMode == LocalCachedMapOptions.StoreMode.LOCALCACHE) {
             keyEncoded.release();
-            LocalCachedMapInvalidate msg = new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash());
-            listener.getInvalidationTopic().publishAsync(msg);
+            if (invalidationBatcher != null) {
+                invalidationBatcher.add(cacheKey.getKeyHash());
+            } else {
+                LocalCachedMapInvalidate msg = new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash());
+                listener.getInvalidationTopic().publishAsync(msg);
+            }
 
             V val = null;
             if (value != null) {
@@ -408,20 +458,21 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msgEncoded = encode(new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash()));
 
-        return commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_MAP_VALUE,
+        RFuture<V> future = commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_MAP_VALUE,
                 "local v = redis.call('hget', KEYS[1], ARGV[1]); "
                 + "if redis.call('hdel', KEYS[1], ARGV[1]) == 1 then "
                     + "if ARGV[3] == '1' then "
                         + "redis.call('publish', KEYS[2], ARGV[2]); "
                     + "end; "
                     + "if ARGV[3] == '2' then "
-                        + "redis.call('zadd', KEYS[3], ARGV[4], ARGV[5]);"
-                        + "redis.call('publish', KEYS[2], ARGV[2]); "
+                        + listener.getUpdatesLogAddScript("ARGV[4]", "ARGV[5]")
+                        + listener.getUpdatesLogPublishScript("ARGV[2]")
                     + "end;"
                 + "end; "
                 + "return v",
                 Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 keyEncoded, msgEncoded, invalidateEntryOnChange, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
 
     @Override
@@ -477,8 +528,8 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                                 "for j = 2, #ARGV, 3 do "
                                 + "local val = redis.call('hdel', KEYS[1], ARGV[j]);" 
                                 + "if val == 1 then "
-                                    + "redis.call('zadd', KEYS[3], ARGV[1], ARGV[j+2]);"                                
-                                    + "redis.call('publish', KEYS[2], ARGV[j+1]); "
+                                    + listener.getUpdatesLogAddScript("ARGV[1]", "ARGV[j+2]")
+                                    + listener.getUpdatesLogPublishScript("ARGV[j+1]")
                                 + "end;"
                                 + "table.insert(result, val);"
                               + "end;"
@@ -488,12 +539,14 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
             }
     
         List<Object> params = new ArrayList<Object>(keys.length);
-        for (K k : keys) {
-            ByteBuf keyEncoded = encodeMapKey(k);
+        byte[][] hashes = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            ByteBuf keyEncoded = encodeMapKey(keys[i]);
             params.add(keyEncoded);
             
             CacheKey cacheKey = localCacheView.toCacheKey(keyEncoded);
             cache.remove(cacheKey);
+            hashes[i] = cacheKey.getKeyHash();
         }
     
         RFuture<List<Long>> future = commandExecutor.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
@@ -505,7 +558,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                     + "return result;",
                       Arrays.<Object>asList(getRawName()),
                       params.toArray());
-        return future;
+        return batchInvalidation(future, hashes);
     }
     
     @Override
@@ -517,8 +570,12 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 CacheValue val = cache.remove(cacheKey);
                 if (val != null) {
                     count++;
-                    LocalCachedMapInvalidate msg = new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash());
-                    listener.getInvalidationTopic().publishAsync(msg);
+                    if (invalidationBatcher != null) {
+                        invalidationBatcher.add(cacheKey.getKeyHash());
+                    } else {
+                        LocalCachedMapInvalidate msg = new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash());
+                        listener.getInvalidationTopic().publishAsync(msg);
+                    }
                 }
             }
             return RedissonPromise.newSucceededFuture(count);
@@ -569,8 +626,8 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                                 "local counter = 0; " + 
                                 "for j = 2, #ARGV, 3 do " 
                                 + "if redis.call('hdel', KEYS[1], ARGV[j]) == 1 then "
-                                    + "redis.call('zadd', KEYS[3], ARGV[1], ARGV[j+2]);"                                
-                                    + "redis.call('publish', KEYS[2], ARGV[j+1]); "
+                                    + listener.getUpdatesLogAddScript("ARGV[1]", "ARGV[j+2]")
+                                    + listener.getUpdatesLogPublishScript("ARGV[j+1]")
                                     + "counter = counter + 1;"
                                 + "end;"
                               + "end;"
@@ -581,15 +638,18 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
 
         List<Object> params = new ArrayList<Object>(keys.length + 1);
         params.add(getRawName());
-        for (K k : keys) {
-            ByteBuf keyEncoded = encodeMapKey(k);
+        byte[][] hashes = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            ByteBuf keyEncoded = encodeMapKey(keys[i]);
             params.add(keyEncoded);
             
             CacheKey cacheKey = localCacheView.toCacheKey(keyEncoded);
             cache.remove(cacheKey);
+            hashes[i] = cacheKey.getKeyHash();
         }
 
-        return commandExecutor.writeAsync(getRawName(), codec, RedisCommands.HDEL, params.toArray());
+        RFuture<Long> future = commandExecutor.writeAsync(getRawName(), codec, RedisCommands.HDEL, params.toArray());
+        return batchInvalidation(future, hashes);
     }
 
     @Override
@@ -603,13 +663,15 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         cache.clear();
         ByteBuf msgEncoded = encode(new LocalCachedMapClear(listener.generateId(), false));
         return commandExecutor.evalWriteAsync(getRawName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
-                "if redis.call('del', KEYS[1], KEYS[3]) > 0 and ARGV[2] ~= '0' then "
-                + "redis.call('publish', KEYS[2], ARGV[1]); "
+                "local deleted = redis.call('del', KEYS[1]); "
+              + listener.getUpdatesLogDeleteScript()
+              + "if deleted > 0 and ARGV[2] ~= '0' then "
+                + listener.getUpdatesLogPublishScript("ARGV[1]")
                 + "return 1;" 
               + "end; "
               + "return 0;",
               Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
-              msgEncoded, invalidateEntryOnChange);
+              msgEncoded, invalidationBatcher != null ? 1 : invalidateEntryOnChange);
     }
 
     @Override
@@ -742,10 +804,10 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                     + "redis.call('publish', KEYS[2], ARGV[#ARGV]); "
                 + "end;"
                 + "if ARGV[1] == '2' then "
-                    + "for i=tonumber(ARGV[2]) + 2 + 1, #ARGV - 1, 5000 do "
-                        + "redis.call('zadd', KEYS[3], unpack(ARGV, i, math.min(i+4999, #ARGV - 1))); "
+                    + "for i=tonumber(ARGV[2]) + 2 + 1, #ARGV - 1, 2 do "
+                        + listener.getUpdatesLogAddScript("ARGV[i]", "ARGV[i+1]")
                     + "end; "
-                    + "redis.call('publish', KEYS[2], ARGV[#ARGV]); "
+                    + listener.getUpdatesLogPublishScript("ARGV[#ARGV]")
                 + "end;",
                 Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 params.toArray());
@@ -759,7 +821,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
             cacheMap(map);
             result.trySuccess(null);
         });
-        return result;
+        return batchInvalidation(result, hashes);
     }
 
     @Override
@@ -774,12 +836,13 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                    + "redis.call('publish', KEYS[2], ARGV[4]); "
               + "end;"
               + "if ARGV[3] == '2' then "
-                   + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                   + "redis.call('publish', KEYS[2], ARGV[4]); "
+                   + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                   + listener.getUpdatesLogPublishScript("ARGV[4]")
               + "end;"
               + "return result; ",
               Arrays.<Object>asList(getRawName(), listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
               keyState, new BigDecimal(value.toString()).toPlainString(), invalidateEntryOnChange, msg, System.currentTimeMillis(), entryId);
+        batchInvalidation(future, cacheKey.getKeyHash());
 
         future.onComplete((res, e) -> {
             if (res != null) {
@@ -899,6 +962,14 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         return promise;
     }
 
+    @Override
+    public RFuture<Long> readAllMapAsync(ReplyElementsListener listener) {
+        if (storeMode == LocalCachedMapOptions.StoreMode.LOCALCACHE) {
+            return ReplyElementsFeeder.feed(readAllMapAsync(), listener);
+        }
+        return super.readAllMapAsync(listener);
+    }
+
     @Override
     public RFuture<Map<K, V>> readAllMapAsync() {
         Map<K, V> result = new HashMap<K, V>();
@@ -1059,7 +1130,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msg = createSyncMessage(keyState, valueState, cacheKey);
         String name = getRawName(key);
-        return commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_BOOLEAN,
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_BOOLEAN,
                 "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then "
                     + "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]); "
                     
@@ -1067,8 +1138,8 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                         + "redis.call('publish', KEYS[2], ARGV[4]); "
                     + "end;"
                     + "if ARGV[3] == '2' then "
-                        + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                        + "redis.call('publish', KEYS[2], ARGV[4]); "
+                        + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                        + listener.getUpdatesLogPublishScript("ARGV[4]")
                     + "end;"
 
                     + "return 1; "
@@ -1077,6 +1148,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 + "end",
                 Arrays.<Object>asList(name, listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 keyState, valueState, invalidateEntryOnChange, msg, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
     
     @Override
@@ -1087,7 +1159,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msg = createSyncMessage(keyState, valueState, cacheKey);
         String name = getRawName(key);
-        return commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_MAP_VALUE,
+        RFuture<V> future = commandExecutor.evalWriteAsync(name, codec, RedisCommands.EVAL_MAP_VALUE,
                 "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then "
                     + "local v = redis.call('hget', KEYS[1], ARGV[1]); "
                     + "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]); "
@@ -1096,8 +1168,8 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                         + "redis.call('publish', KEYS[2], ARGV[4]); "
                     + "end;"
                     + "if ARGV[3] == '2' then "
-                        + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                        + "redis.call('publish', KEYS[2], ARGV[4]); "
+                        + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                        + listener.getUpdatesLogPublishScript("ARGV[4]")
                     + "end;"
 
                     + "return v; "
@@ -1106,6 +1178,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 + "end",
                 Arrays.<Object>asList(name, listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 keyState, valueState, invalidateEntryOnChange, msg, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
     
     @Override
@@ -1147,15 +1220,15 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         byte[] entryId = generateLogEntryId(cacheKey.getKeyHash());
         ByteBuf msg = createSyncMessage(keyState, newValueState, cacheKey);
         String name = getRawName(key);
-        return commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then "
                     + "redis.call('hset', KEYS[1], ARGV[1], ARGV[3]); "
                     + "if ARGV[4] == '1' then "
                         + "redis.call('publish', KEYS[2], ARGV[5]); "
                     + "end;"
                     + "if ARGV[4] == '2' then "
-                        + "redis.call('zadd', KEYS[3], ARGV[6], ARGV[7]);"
-                        + "redis.call('publish', KEYS[2], ARGV[5]); "
+                        + listener.getUpdatesLogAddScript("ARGV[6]", "ARGV[7]")
+                        + listener.getUpdatesLogPublishScript("ARGV[5]")
                     + "end;"
                     + "return 1; "
                 + "else "
@@ -1163,6 +1236,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 + "end",
                 Arrays.<Object>asList(name, listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
                 keyState, oldValueState, newValueState, invalidateEntryOnChange, msg, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
 
     @Override
@@ -1203,14 +1277,14 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         ByteBuf msg = encode(new LocalCachedMapInvalidate(instanceId, cacheKey.getKeyHash()));
 
         String name = getRawName(key);
-        return commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+        RFuture<Boolean> future = commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then "
                     + "if ARGV[3] == '1' then "
                         + "redis.call('publish', KEYS[2], ARGV[4]); "
                     + "end;"
                     + "if ARGV[3] == '2' then "
-                        + "redis.call('zadd', KEYS[3], ARGV[5], ARGV[6]);"
-                        + "redis.call('publish', KEYS[2], ARGV[4]); "
+                        + listener.getUpdatesLogAddScript("ARGV[5]", "ARGV[6]")
+                        + listener.getUpdatesLogPublishScript("ARGV[4]")
                     + "end;"
                     + "return redis.call('hdel', KEYS[1], ARGV[1]) "
                 + "else "
@@ -1218,6 +1292,7 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
                 + "end",
             Arrays.<Object>asList(name, listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
             keyState, valueState, invalidateEntryOnChange, msg, System.currentTimeMillis(), entryId);
+        return batchInvalidation(future, cacheKey.getKeyHash());
     }
     
     @Override
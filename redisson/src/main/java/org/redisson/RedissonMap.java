@@ -18,6 +18,7 @@ package org.redisson;
 import io.netty.buffer.ByteBuf;
 import org.redisson.api.*;
 import org.redisson.api.MapOptions.WriteMode;
+import org.redisson.api.map.MapLoaderListener;
 import org.redisson.api.mapreduce.RMapReduce;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
@@ -25,6 +26,7 @@ import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.NumberConvertor;
 import org.redisson.client.protocol.decoder.MapValueDecoder;
 import org.redisson.command.CommandAsyncExecutor;
@@ -38,7 +40,9 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -763,9 +767,9 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
                 commandExecutor.getConnectionManager().getExecutor().execute(() -> {
                     try {
                         if (task instanceof MapWriterTask.Add) {
-                            options.getWriter().write(task.getMap());
+                            writeBatches(task.getMap());
                         } else {
-                            options.getWriter().delete(task.getKeys());
+                            deleteBatches(task.getKeys());
                         }
                     } catch (Exception ex) {
                         promise.tryFailure(ex);
@@ -781,6 +785,46 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
         return promise;
     }
 
+    private void writeBatches(Map<K, V> map) {
+        int batchSize = options.getWriterBatchSize();
+        if (batchSize <= 0 || map.size() <= batchSize) {
+            options.getWriter().write(map);
+            return;
+        }
+
+        Map<K, V> batch = new LinkedHashMap<>(batchSize);
+        for (Entry<K, V> entry : map.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                options.getWriter().write(batch);
+                batch = new LinkedHashMap<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            options.getWriter().write(batch);
+        }
+    }
+
+    private void deleteBatches(Collection<K> keys) {
+        int batchSize = options.getWriterBatchSize();
+        if (batchSize <= 0 || keys.size() <= batchSize) {
+            options.getWriter().delete(keys);
+            return;
+        }
+
+        List<K> batch = new ArrayList<>(batchSize);
+        for (K key : keys) {
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                options.getWriter().delete(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            options.getWriter().delete(batch);
+        }
+    }
+
     protected RFuture<Void> putAllOperationAsync(Map<? extends K, ? extends V> map) {
         List<Object> params = new ArrayList<>(map.size()*2 + 1);
         params.add(getRawName());
@@ -901,6 +945,11 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
         return commandExecutor.readAsync(getRawName(), codec, RedisCommands.HGETALL, getRawName());
     }
 
+    @Override
+    public RFuture<Long> readAllMapAsync(ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, RedisCommands.HGETALL, listener, getRawName());
+    }
+
     @Override
     public V putIfExists(K key, V value) {
         return get(putIfExistsAsync(key, value));
@@ -1225,6 +1274,10 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
             checkKey(key);
         }
  
+        if (options.getLoaderBatchSize() > 0) {
+            return loadAllBatchesAsync(keys, replaceExistingValues, parallelism, loadedEntires);
+        }
+
         RPromise<Void> result = new RedissonPromise<>();
         AtomicInteger counter = new AtomicInteger();
         try {
@@ -1253,6 +1306,137 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
         return result;
     }
 
+    private RFuture<Void> loadAllBatchesAsync(Iterable<? extends K> keys, boolean replaceExistingValues, int parallelism, Map<K, V> loadedEntires) {
+        RPromise<Void> result = new RedissonPromise<>();
+        AtomicInteger counter = new AtomicInteger(parallelism);
+        AtomicLong loaded = new AtomicLong();
+        long startTime = System.nanoTime();
+        result.onComplete((r, e) -> {
+            if (e != null) {
+                return;
+            }
+            long duration = Math.max(1, System.nanoTime() - startTime);
+            if (log.isDebugEnabled()) {
+                log.debug("{} entries loaded into map {} in {} ms ({} entries/sec)", loaded.get(), getRawName(),
+                        TimeUnit.NANOSECONDS.toMillis(duration), loaded.get() * TimeUnit.SECONDS.toNanos(1) / duration);
+            }
+            MapLoaderListener listener = options.getLoaderListener();
+            if (listener != null) {
+                try {
+                    listener.onCompleted(getName(), loaded.get(), TimeUnit.NANOSECONDS.toMillis(duration));
+                } catch (Exception ex) {
+                    log.error("Unable to notify loader listener of map " + getRawName(), ex);
+                }
+            }
+        });
+
+        Iterator<? extends K> iter;
+        try {
+            iter = keys.iterator();
+        } catch (Exception e) {
+            log.error("Unable to load keys for map " + getRawName(), e);
+            return RedissonPromise.newFailedFuture(e);
+        }
+        // each worker loads and stores one batch at a time
+        for (int i = 0; i < parallelism; i++) {
+            loadNextBatch(result, counter, loaded, iter, replaceExistingValues, loadedEntires);
+        }
+        return result;
+    }
+
+    private void loadNextBatch(RPromise<Void> result, AtomicInteger counter, AtomicLong loaded, Iterator<? extends K> iter,
+                               boolean replaceExistingValues, Map<K, V> loadedEntires) {
+        if (result.isDone()) {
+            return;
+        }
+
+        Set<K> keys = new LinkedHashSet<>();
+        try {
+            synchronized (iter) {
+                while (keys.size() < options.getLoaderBatchSize() && iter.hasNext()) {
+                    keys.add(iter.next());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Unable to load keys for map " + getRawName(), e);
+            result.tryFailure(e);
+            return;
+        }
+
+        if (keys.isEmpty()) {
+            if (counter.decrementAndGet() == 0) {
+                result.trySuccess(null);
+            }
+            return;
+        }
+
+        if (replaceExistingValues) {
+            loadBatch(result, counter, loaded, iter, keys, replaceExistingValues, loadedEntires);
+            return;
+        }
+
+        getAllOperationAsync(keys).onComplete((existing, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            if (loadedEntires != null) {
+                loadedEntires.putAll(existing);
+            }
+            keys.removeAll(existing.keySet());
+            loadBatch(result, counter, loaded, iter, keys, replaceExistingValues, loadedEntires);
+        });
+    }
+
+    private void loadBatch(RPromise<Void> result, AtomicInteger counter, AtomicLong loaded, Iterator<? extends K> iter,
+                           Set<K> keys, boolean replaceExistingValues, Map<K, V> loadedEntires) {
+        if (keys.isEmpty()) {
+            loadNextBatch(result, counter, loaded, iter, replaceExistingValues, loadedEntires);
+            return;
+        }
+
+        commandExecutor.getConnectionManager().getExecutor().execute(() -> {
+            Map<K, V> entries;
+            try {
+                entries = options.getLoader().loadAll(keys);
+            } catch (Exception e) {
+                log.error("Unable to load values by keys " + keys + " for map " + getRawName(), e);
+                result.tryFailure(e);
+                return;
+            }
+
+            if (entries.isEmpty()) {
+                loadNextBatch(result, counter, loaded, iter, replaceExistingValues, loadedEntires);
+                return;
+            }
+
+            putAllOperationAsync(entries).onComplete((r, e) -> {
+                if (e != null) {
+                    result.tryFailure(e);
+                    return;
+                }
+
+                if (loadedEntires != null) {
+                    loadedEntires.putAll(entries);
+                }
+                long amount = loaded.addAndGet(entries.size());
+                if (log.isDebugEnabled()) {
+                    log.debug("{} entries loaded into map {}", amount, getRawName());
+                }
+                MapLoaderListener listener = options.getLoaderListener();
+                if (listener != null) {
+                    try {
+                        listener.onBatchLoaded(getName(), entries.size(), amount);
+                    } catch (Exception ex) {
+                        log.error("Unable to notify loader listener of map " + getRawName(), ex);
+                    }
+                }
+                loadNextBatch(result, counter, loaded, iter, replaceExistingValues, loadedEntires);
+            });
+        });
+    }
+
     private void checkAndLoadValue(RPromise<Void> result, AtomicInteger counter, Iterator<? extends K> iter,
             K key, Map<K, V> loadedEntires) {
         RPromise<V> valuePromise = new RedissonPromise<>();
@@ -1446,7 +1630,7 @@ public class RedissonMap<K, V> extends RedissonExpirable implements RMap<K, V> {
             } else {
                 commandExecutor.getConnectionManager().getExecutor().execute(() -> {
                     try {
-                        options.getWriter().delete(deletedKeys);
+                        deleteBatches(deletedKeys);
                     } catch (Exception ex) {
                         result.tryFailure(ex);
                         return;
@@ -34,6 +34,7 @@ import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.NumberConvertor;
 import org.redisson.client.protocol.decoder.*;
 import org.redisson.codec.BaseEventCodec;
@@ -43,6 +44,7 @@ import org.redisson.connection.decoder.MapGetAllDecoder;
 import org.redisson.eviction.EvictionScheduler;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.ReplyElementsFeeder;
 
 import io.netty.buffer.ByteBuf;
 
@@ -2636,6 +2638,12 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
         return readAll(RedisCommands.EVAL_MAP);
     }
 
+    @Override
+    public RFuture<Long> readAllMapAsync(ReplyElementsListener listener) {
+        // values are stored along with expiration params and have to be filtered by script
+        return ReplyElementsFeeder.feed(readAllMapAsync(), listener);
+    }
+
     
     @Override
     public RFuture<Collection<V>> readAllValuesAsync() {
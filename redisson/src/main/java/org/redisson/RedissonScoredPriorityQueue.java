@@ -0,0 +1,459 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.redisson.api.PriorityScoreEncoder;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScoredPriorityQueue;
+import org.redisson.client.RedisClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.codec.UniquePrefixCodec;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.iterator.BaseIterator;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Priority queue based on Redis Sorted Set. Element is stored as Sorted Set member
+ * with random prefix, so equal elements could be added more than once.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> element type
+ */
+public class RedissonScoredPriorityQueue<V> extends RedissonExpirable implements RScoredPriorityQueue<V> {
+
+    private static final int MIGRATION_CHUNK_SIZE = 100;
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+
+    private final PriorityScoreEncoder<? super V> encoder;
+    private final Codec prefixedCodec;
+
+    public RedissonScoredPriorityQueue(CommandAsyncExecutor commandExecutor, String name, PriorityScoreEncoder<? super V> encoder) {
+        super(commandExecutor, name);
+        this.encoder = encoder;
+        this.prefixedCodec = new UniquePrefixCodec(codec);
+    }
+
+    public RedissonScoredPriorityQueue(Codec codec, CommandAsyncExecutor commandExecutor, String name, PriorityScoreEncoder<? super V> encoder) {
+        super(codec, commandExecutor, name);
+        this.encoder = encoder;
+        this.prefixedCodec = new UniquePrefixCodec(this.codec);
+    }
+
+    private double score(Object value) {
+        if (encoder != null) {
+            return encoder.encode((V) value);
+        }
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Element should be a Number or PriorityScoreEncoder should be defined");
+        }
+        // score is a double, so integers beyond 2^53 can't keep their ordering
+        if (value instanceof Long || value instanceof AtomicLong) {
+            long l = ((Number) value).longValue();
+            if (l > MAX_EXACT_INTEGER || l < -MAX_EXACT_INTEGER) {
+                throw new IllegalArgumentException("Element " + value + " can't be represented as score without precision loss. "
+                        + "PriorityScoreEncoder should be defined");
+            }
+        }
+        if (value instanceof BigInteger && ((BigInteger) value).abs().bitLength() > 53) {
+            throw new IllegalArgumentException("Element " + value + " can't be represented as score without precision loss. "
+                    + "PriorityScoreEncoder should be defined");
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private String toScore(Object value) {
+        double score = score(value);
+        if (Double.isNaN(score)) {
+            throw new IllegalArgumentException("Score of " + value + " is NaN");
+        }
+        if (Double.isInfinite(score)) {
+            if (score > 0) {
+                return "+inf";
+            }
+            return "-inf";
+        }
+        return BigDecimal.valueOf(score).toPlainString();
+    }
+
+    private ByteBuf encodeMember(Object value) {
+        try {
+            return prefixedCodec.getValueEncoder().encode(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public boolean offer(V e) {
+        return get(offerAsync(e));
+    }
+
+    @Override
+    public RFuture<Boolean> offerAsync(V e) {
+        String score = toScore(e);
+        return commandExecutor.writeAsync(getRawName(), prefixedCodec, RedisCommands.ZADD_BOOL, getRawName(), score, encodeMember(e));
+    }
+
+    @Override
+    public boolean add(V e) {
+        return offer(e);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends V> c) {
+        return get(addAllAsync(c));
+    }
+
+    @Override
+    public RFuture<Boolean> addAllAsync(Collection<? extends V> c) {
+        if (c.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(false);
+        }
+
+        List<Object> params = new ArrayList<>(c.size() * 2 + 1);
+        params.add(getRawName());
+        for (V v : c) {
+            params.add(toScore(v));
+            params.add(encodeMember(v));
+        }
+        return commandExecutor.writeAsync(getRawName(), prefixedCodec, RedisCommands.ZADD_BOOL, params.toArray());
+    }
+
+    @Override
+    public V poll() {
+        return get(pollAsync());
+    }
+
+    @Override
+    public RFuture<V> pollAsync() {
+        return poll(0);
+    }
+
+    @Override
+    public V pollLast() {
+        return get(pollLastAsync());
+    }
+
+    @Override
+    public RFuture<V> pollLastAsync() {
+        return poll(-1);
+    }
+
+    private RFuture<V> poll(int index) {
+        return commandExecutor.evalWriteAsync(getRawName(), prefixedCodec, RedisCommands.EVAL_OBJECT,
+                "local v = redis.call('zrange', KEYS[1], ARGV[1], ARGV[1]); "
+              + "if v[1] ~= nil then "
+                  + "redis.call('zrem', KEYS[1], v[1]); "
+                  + "return v[1]; "
+              + "end; "
+              + "return nil;",
+                Collections.singletonList(getRawName()), index);
+    }
+
+    @Override
+    public V peek() {
+        return get(peekAsync());
+    }
+
+    @Override
+    public RFuture<V> peekAsync() {
+        return commandExecutor.readAsync(getRawName(), prefixedCodec, RedisCommands.ZRANGE_SINGLE, getRawName(), 0, 0);
+    }
+
+    @Override
+    public V peekLast() {
+        return get(peekLastAsync());
+    }
+
+    @Override
+    public RFuture<V> peekLastAsync() {
+        return commandExecutor.readAsync(getRawName(), prefixedCodec, RedisCommands.ZRANGE_SINGLE, getRawName(), -1, -1);
+    }
+
+    @Override
+    public V remove() {
+        V value = poll();
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+
+    @Override
+    public V element() {
+        V value = peek();
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return get(containsAsync(o));
+    }
+
+    @Override
+    public RFuture<Boolean> containsAsync(Object o) {
+        // only members with the same score are compared
+        return commandExecutor.evalReadAsync(getRawName(), codec, RedisCommands.EVAL_BOOLEAN,
+                "local members = redis.call('zrangebyscore', KEYS[1], ARGV[1], ARGV[1]); "
+              + "for i, m in ipairs(members) do "
+                  + "if string.sub(m, tonumber(ARGV[3])) == ARGV[2] then "
+                      + "return 1; "
+                  + "end; "
+              + "end; "
+              + "return 0;",
+                Collections.singletonList(getRawName()), toScore(o), encode(o), UniquePrefixCodec.PREFIX_LENGTH + 1);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return get(removeAsync(o));
+    }
+
+    @Override
+    public RFuture<Boolean> removeAsync(Object o) {
+        return commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_BOOLEAN,
+                "local members = redis.call('zrangebyscore', KEYS[1], ARGV[1], ARGV[1]); "
+              + "for i, m in ipairs(members) do "
+                  + "if string.sub(m, tonumber(ARGV[3])) == ARGV[2] then "
+                      + "redis.call('zrem', KEYS[1], m); "
+                      + "return 1; "
+                  + "end; "
+              + "end; "
+              + "return 0;",
+                Collections.singletonList(getRawName()), toScore(o), encode(o), UniquePrefixCodec.PREFIX_LENGTH + 1);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = false;
+        for (Object o : c) {
+            while (remove(o)) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = false;
+        for (Iterator<V> iterator = iterator(); iterator.hasNext();) {
+            V value = iterator.next();
+            if (!c.contains(value)) {
+                iterator.remove();
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        delete();
+    }
+
+    @Override
+    public int size() {
+        return get(sizeAsync());
+    }
+
+    @Override
+    public RFuture<Integer> sizeAsync() {
+        return commandExecutor.readAsync(getRawName(), codec, RedisCommands.ZCARD_INT, getRawName());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public List<V> readAll() {
+        return get(readAllAsync());
+    }
+
+    @Override
+    public RFuture<List<V>> readAllAsync() {
+        return commandExecutor.readAsync(getRawName(), prefixedCodec, RedisCommands.ZRANGE, getRawName(), 0, -1);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return readAll().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return readAll().toArray(a);
+    }
+
+    private ScanResult<Object> scanIterator(RedisClient client, long startPos) {
+        // members are scanned as raw bytes, so iterator removes exactly the returned member
+        RFuture<ScanResult<Object>> f = commandExecutor.readAsync(client, getRawName(), ByteArrayCodec.INSTANCE,
+                                                    RedisCommands.ZSCAN, getRawName(), startPos, "COUNT", 10);
+        return get(f);
+    }
+
+    private V decodeMember(byte[] member) {
+        ByteBuf buf = Unpooled.wrappedBuffer(member);
+        try {
+            return (V) prefixedCodec.getValueDecoder().decode(buf, new State());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new BaseIterator<V, Object>() {
+
+            @Override
+            protected ScanResult<Object> iterator(RedisClient client, long nextIterPos) {
+                return scanIterator(client, nextIterPos);
+            }
+
+            @Override
+            protected V getValue(Object entry) {
+                return decodeMember((byte[]) entry);
+            }
+
+            @Override
+            protected void remove(Object value) {
+                get(commandExecutor.writeAsync(getRawName(), ByteArrayCodec.INSTANCE, RedisCommands.ZREM, getRawName(), value));
+            }
+
+        };
+    }
+
+    @Override
+    public int migrateFrom(String priorityQueueName) {
+        return get(migrateFromAsync(priorityQueueName));
+    }
+
+    @Override
+    public RFuture<Integer> migrateFromAsync(String priorityQueueName) {
+        RPromise<Integer> result = new RedissonPromise<>();
+        migrateChunk(priorityQueueName, 0, result);
+        return result;
+    }
+
+    private void migrateChunk(String priorityQueueName, int moved, RPromise<Integer> result) {
+        // read from master, so chunk isn't compared with stale data
+        RFuture<List<Object>> valuesFuture = commandExecutor.writeAsync(priorityQueueName, ByteArrayCodec.INSTANCE,
+                                                    RedisCommands.LRANGE, priorityQueueName, 0, MIGRATION_CHUNK_SIZE - 1);
+        valuesFuture.onComplete((values, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            if (values.isEmpty()) {
+                result.trySuccess(moved);
+                return;
+            }
+
+            List<Object> params = new ArrayList<>(values.size() * 3 + 1);
+            params.add(values.size());
+            try {
+                for (Object value : values) {
+                    byte[] bytes = (byte[]) value;
+                    ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+                    Object decoded;
+                    try {
+                        decoded = codec.getValueDecoder().decode(buf, new State());
+                    } finally {
+                        buf.release();
+                    }
+
+                    byte[] prefix = new byte[UniquePrefixCodec.PREFIX_LENGTH];
+                    ThreadLocalRandom.current().nextBytes(prefix);
+                    params.add(toScore(decoded));
+                    params.add(prefix);
+                    params.add(bytes);
+                }
+            } catch (Exception ex) {
+                result.tryFailure(ex);
+                return;
+            }
+
+            RFuture<Boolean> moveFuture = commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_BOOLEAN,
+                    "local n = tonumber(ARGV[1]); "
+                  + "local values = redis.call('lrange', KEYS[1], 0, n - 1); "
+                  + "if #values ~= n then "
+                      + "return 0; "
+                  + "end; "
+                  + "for i = 1, n do "
+                      + "if values[i] ~= ARGV[i*3 + 1] then "
+                          + "return 0; "
+                      + "end; "
+                  + "end; "
+                  + "redis.call('ltrim', KEYS[1], n, -1); "
+                  + "for i = 1, n do "
+                      + "redis.call('zadd', KEYS[2], ARGV[i*3 - 1], ARGV[i*3] .. values[i]); "
+                  + "end; "
+                  + "return 1;",
+                    Arrays.asList(priorityQueueName, getRawName()), params.toArray());
+            moveFuture.onComplete((res, ex) -> {
+                if (ex != null) {
+                    result.tryFailure(ex);
+                    return;
+                }
+
+                if (res) {
+                    migrateChunk(priorityQueueName, moved + values.size(), result);
+                } else {
+                    // source queue has been changed concurrently
+                    migrateChunk(priorityQueueName, moved, result);
+                }
+            });
+        });
+    }
+
+    @Override
+    public String toString() {
+        return readAll().toString();
+    }
+
+}
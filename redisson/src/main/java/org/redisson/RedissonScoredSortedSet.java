@@ -22,6 +22,7 @@ import org.redisson.client.RedisClient;
 import org.redisson.client.codec.*;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.ScoredEntry;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.iterator.RedissonBaseIterator;
@@ -658,6 +659,11 @@ public class RedissonScoredSortedSet<V> extends RedissonExpirable implements RSc
         return commandExecutor.readAsync(getRawName(), codec, RedisCommands.ZRANGE, getRawName(), startIndex, endIndex);
     }
 
+    @Override
+    public RFuture<Long> valueRangeAsync(int startIndex, int endIndex, ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, RedisCommands.ZRANGE, listener, getRawName(), startIndex, endIndex);
+    }
+
     @Override
     public Collection<V> valueRangeReversed(int startIndex, int endIndex) {
         return get(valueRangeReversedAsync(startIndex, endIndex));
@@ -678,6 +684,11 @@ public class RedissonScoredSortedSet<V> extends RedissonExpirable implements RSc
         return commandExecutor.readAsync(getRawName(), codec, RedisCommands.ZRANGE_ENTRY, getRawName(), startIndex, endIndex, "WITHSCORES");
     }
 
+    @Override
+    public RFuture<Long> entryRangeAsync(int startIndex, int endIndex, ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, RedisCommands.ZRANGE_ENTRY, listener, getRawName(), startIndex, endIndex, "WITHSCORES");
+    }
+
     @Override
     public Collection<ScoredEntry<V>> entryRangeReversed(int startIndex, int endIndex) {
         return get(entryRangeReversedAsync(startIndex, endIndex));
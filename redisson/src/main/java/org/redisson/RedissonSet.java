@@ -20,6 +20,7 @@ import org.redisson.api.mapreduce.RCollectionMapReduce;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.iterator.RedissonBaseIterator;
 import org.redisson.mapreduce.RedissonCollectionMapReduce;
@@ -122,6 +123,11 @@ public class RedissonSet<V> extends RedissonExpirable implements RSet<V>, ScanIt
         return commandExecutor.readAsync(getRawName(), codec, RedisCommands.SMEMBERS, getRawName());
     }
 
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, RedisCommands.SMEMBERS, listener, getRawName());
+    }
+
     @Override
     public Set<V> readAll() {
         return get(readAllAsync());
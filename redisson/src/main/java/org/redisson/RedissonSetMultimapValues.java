@@ -38,9 +38,11 @@ import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.decoder.*;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.iterator.RedissonBaseIterator;
+import org.redisson.misc.ReplyElementsFeeder;
 
 /**
  * Set based Multimap Cache values holder
@@ -269,6 +271,12 @@ public class RedissonSetMultimapValues<V> extends RedissonExpirable implements R
               System.currentTimeMillis(), encodeMapKey(key));
     }
 
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        // values are filtered by expiration of multimap entry
+        return ReplyElementsFeeder.feed(readAllAsync(), listener);
+    }
+
     @Override
     public Set<V> readAll() {
         return get(readAllAsync());
@@ -36,6 +36,7 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.RedisStrictCommand;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.IntegerReplayConvertor;
 import org.redisson.command.CommandAsyncExecutor;
@@ -79,6 +80,11 @@ public class RedissonSubList<V> extends RedissonList<V> implements RList<V> {
         return commandExecutor.readAsync(getRawName(), codec, LRANGE, getRawName(), fromIndex, toIndex.get()-1);
     }
 
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        return commandExecutor.readStreamingAsync(getRawName(), codec, LRANGE, listener, getRawName(), fromIndex, toIndex.get()-1);
+    }
+
     @Override
     public RFuture<Boolean> addAsync(V e) {
         return addAllAsync(toIndex.get() - fromIndex, Collections.singleton(e));
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for {@link RClientSideCaching} object.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class ClientSideCachingOptions {
+
+    public enum EvictionPolicy {
+
+        /**
+         * Cache without eviction.
+         */
+        NONE,
+
+        /**
+         * Least Recently Used cache.
+         */
+        LRU,
+
+        /**
+         * Least Frequently Used cache.
+         */
+        LFU,
+
+        /**
+         * Window TinyLFU cache. Evicts by combination of recency and frequency of access.
+         */
+        TINY_LFU,
+
+        /**
+         * Cache with Soft Reference used for values.
+         * All references will be collected by GC
+         */
+        SOFT,
+
+        /**
+         * Cache with Weak Reference used for values.
+         * All references will be collected by GC
+         */
+        WEAK
+
+    }
+
+    private int cacheSize;
+    private EvictionPolicy evictionPolicy;
+    private long timeToLiveInMillis;
+    private long maxIdleInMillis;
+
+    private ClientSideCachingOptions() {
+    }
+
+    /**
+     * Creates a new instance of ClientSideCachingOptions with default options.
+     * <p>
+     * This is equivalent to:
+     * <pre>
+     *     new ClientSideCachingOptions()
+     *      .cacheSize(0).evictionPolicy(EvictionPolicy.NONE)
+     *      .maxIdle(0).timeToLive(0);
+     * </pre>
+     *
+     * @return ClientSideCachingOptions instance
+     */
+    public static ClientSideCachingOptions defaults() {
+        return new ClientSideCachingOptions()
+                    .cacheSize(0).evictionPolicy(EvictionPolicy.NONE)
+                    .maxIdle(0).timeToLive(0);
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    public long getMaxIdleInMillis() {
+        return maxIdleInMillis;
+    }
+
+    /**
+     * Defines local cache size.
+     * <p>
+     * If size is <code>0</code> then local cache is unbounded.
+     *
+     * @param cacheSize - size of cache
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions cacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        return this;
+    }
+
+    /**
+     * Defines local cache eviction policy.
+     *
+     * @param evictionPolicy - eviction policy
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions evictionPolicy(EvictionPolicy evictionPolicy) {
+        if (evictionPolicy == null) {
+            throw new NullPointerException("evictionPolicy can't be null");
+        }
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
+    /**
+     * Defines time to live in milliseconds of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     *
+     * @param timeToLiveInMillis - time to live in milliseconds
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions timeToLive(long timeToLiveInMillis) {
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        return this;
+    }
+
+    /**
+     * Defines time to live of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     *
+     * @param timeToLive - time to live
+     * @param timeUnit - time unit
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions timeToLive(long timeToLive, TimeUnit timeUnit) {
+        return timeToLive(timeUnit.toMillis(timeToLive));
+    }
+
+    /**
+     * Defines max idle time in milliseconds of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     *
+     * @param maxIdleInMillis - max idle time in milliseconds
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions maxIdle(long maxIdleInMillis) {
+        this.maxIdleInMillis = maxIdleInMillis;
+        return this;
+    }
+
+    /**
+     * Defines max idle time of each entry in local cache.
+     * If value equals to <code>0</code> then timeout is not applied
+     *
+     * @param maxIdle - max idle time
+     * @param timeUnit - time unit
+     * @return ClientSideCachingOptions instance
+     */
+    public ClientSideCachingOptions maxIdle(long maxIdle, TimeUnit timeUnit) {
+        return maxIdle(timeUnit.toMillis(maxIdle));
+    }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Configuration for keys scanning.
+ * <p>
+ * Keys of each master node are traversed by own SCAN cursor and all nodes are scanned in parallel.
+ * SCAN command is sent to slave node if it's allowed by <code>readMode</code> setting.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class KeysScanOptions {
+
+    private String pattern;
+    private int chunkSize = 10;
+    private int limit;
+    private RType type;
+
+    private KeysScanOptions() {
+    }
+
+    public static KeysScanOptions defaults() {
+        return new KeysScanOptions();
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Defines glob-style pattern which keys should match.
+     * <p>
+     *  Supported glob-style patterns:
+     *  <p>
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    <p>
+     *    h*llo subscribes to hllo and heeeello
+     *    <p>
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     * <p>
+     * Default is <code>null</code> which means all keys.
+     *
+     * @param pattern - match pattern
+     * @return self instance
+     */
+    public KeysScanOptions pattern(String pattern) {
+        this.pattern = pattern;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Defines amount of keys loaded per SCAN request.
+     * Next chunk of node is requested only after previous one has been consumed.
+     * <p>
+     * Default is <code>10</code>
+     *
+     * @param chunkSize - keys loaded per request to Redis
+     * @return self instance
+     */
+    public KeysScanOptions chunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Defines total amount of keys returned by all nodes.
+     * <p>
+     * Default is <code>0</code> which means no limit.
+     *
+     * @param limit - keys limit
+     * @return self instance
+     */
+    public KeysScanOptions limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public RType getType() {
+        return type;
+    }
+
+    /**
+     * Defines type of objects returned by scan.
+     * Filtering is applied on Redis side using <code>TYPE</code> option of SCAN command.
+     * <p>
+     * Requires <b>Redis 6.0.0 and higher.</b>
+     * <p>
+     * Default is <code>null</code> which means objects of any type.
+     *
+     * @param type - object type
+     * @return self instance
+     */
+    public KeysScanOptions type(RType type) {
+        this.type = type;
+        return this;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.redisson.api;
 import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.map.MapLoader;
+import org.redisson.api.map.MapLoaderListener;
 import org.redisson.api.map.MapWriter;
 
 /**
@@ -53,7 +54,16 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
          * if LocalCachedMap instance has been disconnected less than 10 minutes 
          * or whole local cache will be cleaned otherwise.
          */
-        LOAD
+        LOAD,
+
+        /**
+         * Store invalidated entry hash in updates log along with monotonically increasing version.
+         * Updates log is limited by <code>updatesLogSize</code> entries.
+         * Cache keys for entry hashes stored after the last version seen by LocalCachedMap instance
+         * will be removed after reconnection.
+         * Whole local cache will be cleaned only if required part of updates log has been already truncated.
+         */
+        LOAD_VERSIONED
         
     }
     
@@ -72,7 +82,18 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         /**
          * Update local cache entry across all LocalCachedMap instances on map entry change. Broadcasts full map entry state (Key and Value objects) to all instances.
          */
-        UPDATE
+        UPDATE,
+
+        /**
+         * Clear local cache on map change using invalidation messages sent by Redis server
+         * through server-assisted client side caching. Map changes don't publish any messages.
+         * <p>
+         * Invalidation is tracked per Redis key, so change of any map entry clears whole local cache.
+         * <p>
+         * Requires <code>protocol</code> setting set to <code>RESP3</code> and
+         * <code>trackingMode</code> setting set to <code>DEFAULT</code> or <code>BCAST</code>.
+         */
+        TRACKING
         
     }
     
@@ -93,6 +114,12 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
          */
         LFU, 
         
+        /**
+         * Window TinyLFU local cache. Evicts by combination of recency and frequency of access.
+         * Reads don't block each other, expired entries are removed in O(1).
+         */
+        TINY_LFU,
+
         /**
          * Local cache with Soft Reference used for values.
          * All references will be collected by GC
@@ -128,6 +155,20 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
 
     }
 
+    public enum CacheStorage {
+
+        /**
+         * Store decoded entries in heap.
+         */
+        HEAP,
+
+        /**
+         * Store entries encoded by codec in direct memory and decode them on read.
+         */
+        OFF_HEAP
+
+    }
+
     private ReconnectionStrategy reconnectionStrategy;
     private SyncStrategy syncStrategy;
     private EvictionPolicy evictionPolicy;
@@ -137,6 +178,11 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
     private CacheProvider cacheProvider;
     private StoreMode storeMode;
     private boolean storeCacheMiss;
+    private CacheStorage cacheStorage;
+    private int decodedCacheSize;
+    private long invalidationBatchInterval;
+    private int invalidationBatchSize;
+    private int updatesLogSize;
     
     protected LocalCachedMapOptions() {
     }
@@ -151,6 +197,11 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         this.cacheProvider = copy.cacheProvider;
         this.storeMode = copy.storeMode;
         this.storeCacheMiss = copy.storeCacheMiss;
+        this.cacheStorage = copy.cacheStorage;
+        this.decodedCacheSize = copy.decodedCacheSize;
+        this.invalidationBatchInterval = copy.invalidationBatchInterval;
+        this.invalidationBatchSize = copy.invalidationBatchSize;
+        this.updatesLogSize = copy.updatesLogSize;
     }
     
     /**
@@ -164,7 +215,11 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
      *      .reconnectionStrategy(ReconnectionStrategy.NONE)
      *      .cacheProvider(CacheProvider.REDISSON)
      *      .syncStrategy(SyncStrategy.INVALIDATE)
-     *      .storeCacheMiss(false);
+     *      .storeCacheMiss(false)
+     *      .cacheStorage(CacheStorage.HEAP)
+     *      .invalidationBatchInterval(0)
+     *      .invalidationBatchSize(1000)
+     *      .updatesLogSize(100000);
      * </pre>
      * 
      * @param <K> key type
@@ -181,7 +236,11 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
                     .cacheProvider(CacheProvider.REDISSON)
                     .storeMode(StoreMode.LOCALCACHE_REDIS)
                     .syncStrategy(SyncStrategy.INVALIDATE)
-                    .storeCacheMiss(false);
+                    .storeCacheMiss(false)
+                    .cacheStorage(CacheStorage.HEAP)
+                    .invalidationBatchInterval(0)
+                    .invalidationBatchSize(1000)
+                    .updatesLogSize(100000);
     }
 
     public CacheProvider getCacheProvider() {
@@ -247,6 +306,7 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
      * @param evictionPolicy
      *         <p><code>LRU</code> - uses local cache with LRU (least recently used) eviction policy.
      *         <p><code>LFU</code> - uses local cache with LFU (least frequently used) eviction policy.
+     *         <p><code>TINY_LFU</code> - uses local cache with Window TinyLFU eviction policy. Suitable for large caches with concurrent reads.
      *         <p><code>SOFT</code> - uses local cache with soft references. The garbage collector will evict items from the local cache when the JVM is running out of memory.
      *         <p><code>WEAK</code> - uses local cache with weak references. The garbage collector will evict items from the local cache when it became weakly reachable.
      *         <p><code>NONE</code> - doesn't use eviction policy, but timeToLive and maxIdleTime params are still working.
@@ -353,6 +413,117 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         return this;
     }
 
+    public CacheStorage getCacheStorage() {
+        return cacheStorage;
+    }
+
+    /**
+     * Defines storage of local cache entries.
+     *
+     * @param cacheStorage
+     *         <p><code>HEAP</code> - stores decoded entries in heap.
+     *         <p><code>OFF_HEAP</code> - stores entries encoded by codec in direct memory. Entries are decoded on each read,
+     *                                    which reduces heap size and GC pauses of large local caches.
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> cacheStorage(CacheStorage cacheStorage) {
+        if (cacheStorage == null) {
+            throw new NullPointerException("cacheStorage can't be null");
+        }
+        this.cacheStorage = cacheStorage;
+        return this;
+    }
+
+    public int getDecodedCacheSize() {
+        return decodedCacheSize;
+    }
+
+    /**
+     * Defines size of heap cache for decoded objects of frequently read entries.
+     * Used only if <code>cacheStorage</code> is <code>OFF_HEAP</code>.
+     * <p>
+     * Default is <code>0</code> which means that entries are decoded on each read.
+     *
+     * @param decodedCacheSize - size of decoded objects cache
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> decodedCacheSize(int decodedCacheSize) {
+        this.decodedCacheSize = decodedCacheSize;
+        return this;
+    }
+
+    public long getInvalidationBatchInterval() {
+        return invalidationBatchInterval;
+    }
+
+    /**
+     * Defines interval in milliseconds during which hashes of changed entries
+     * are accumulated and then published to other instances as a single invalidation message.
+     * Entry changed multiple times during interval is published once.
+     * Used only if <code>syncStrategy</code> is <code>INVALIDATE</code>.
+     * <p>
+     * Default is <code>0</code> which means that invalidation message is published on each change.
+     *
+     * @param invalidationBatchInterval - batch interval in milliseconds
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> invalidationBatchInterval(long invalidationBatchInterval) {
+        this.invalidationBatchInterval = invalidationBatchInterval;
+        return this;
+    }
+
+    /**
+     * Defines interval during which hashes of changed entries
+     * are accumulated and then published to other instances as a single invalidation message.
+     *
+     * @param invalidationBatchInterval - batch interval
+     * @param timeUnit - time unit
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> invalidationBatchInterval(long invalidationBatchInterval, TimeUnit timeUnit) {
+        return invalidationBatchInterval(timeUnit.toMillis(invalidationBatchInterval));
+    }
+
+    public int getInvalidationBatchSize() {
+        return invalidationBatchSize;
+    }
+
+    /**
+     * Defines amount of accumulated entry hashes which causes invalidation message publication
+     * before <code>invalidationBatchInterval</code> passed.
+     * <p>
+     * Default is <code>1000</code>
+     *
+     * @param invalidationBatchSize - max amount of entry hashes in a single message
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> invalidationBatchSize(int invalidationBatchSize) {
+        this.invalidationBatchSize = invalidationBatchSize;
+        return this;
+    }
+
+    public int getUpdatesLogSize() {
+        return updatesLogSize;
+    }
+
+    /**
+     * Defines max amount of entries kept in updates log.
+     * Used only if <code>reconnectionStrategy</code> is <code>LOAD_VERSIONED</code>.
+     * <p>
+     * Default is <code>100000</code>
+     *
+     * @param updatesLogSize - max amount of updates log entries
+     * @return LocalCachedMapOptions instance
+     */
+    public LocalCachedMapOptions<K, V> updatesLogSize(int updatesLogSize) {
+        if (updatesLogSize <= 0) {
+            throw new IllegalArgumentException("updatesLogSize should be greater than zero");
+        }
+
+        this.updatesLogSize = updatesLogSize;
+        return this;
+    }
+
     @Override
     public LocalCachedMapOptions<K, V> writeBehindBatchSize(int writeBehindBatchSize) {
         return (LocalCachedMapOptions<K, V>) super.writeBehindBatchSize(writeBehindBatchSize);
@@ -362,6 +533,11 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
     public LocalCachedMapOptions<K, V> writeBehindDelay(int writeBehindDelay) {
         return (LocalCachedMapOptions<K, V>) super.writeBehindDelay(writeBehindDelay);
     }
+
+    @Override
+    public LocalCachedMapOptions<K, V> writeBehindBatchLatency(int writeBehindBatchLatency) {
+        return (LocalCachedMapOptions<K, V>) super.writeBehindBatchLatency(writeBehindBatchLatency);
+    }
     
     @Override
     public LocalCachedMapOptions<K, V> writer(MapWriter<K, V> writer) {
@@ -378,4 +554,19 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
         return (LocalCachedMapOptions<K, V>) super.loader(loader);
     }
 
+    @Override
+    public LocalCachedMapOptions<K, V> writerBatchSize(int writerBatchSize) {
+        return (LocalCachedMapOptions<K, V>) super.writerBatchSize(writerBatchSize);
+    }
+
+    @Override
+    public LocalCachedMapOptions<K, V> loaderBatchSize(int loaderBatchSize) {
+        return (LocalCachedMapOptions<K, V>) super.loaderBatchSize(loaderBatchSize);
+    }
+
+    @Override
+    public LocalCachedMapOptions<K, V> loaderListener(MapLoaderListener loaderListener) {
+        return (LocalCachedMapOptions<K, V>) super.loaderListener(loaderListener);
+    }
+
 }
@@ -16,6 +16,7 @@
 package org.redisson.api;
 
 import org.redisson.api.map.MapLoader;
+import org.redisson.api.map.MapLoaderListener;
 import org.redisson.api.map.MapWriter;
 
 /**
@@ -50,6 +51,10 @@ public class MapOptions<K, V> {
     private WriteMode writeMode = WriteMode.WRITE_THROUGH;
     private int writeBehindBatchSize = 50;
     private int writeBehindDelay = 1000;
+    private int writeBehindBatchLatency;
+    private int writerBatchSize;
+    private int loaderBatchSize;
+    private MapLoaderListener loaderListener;
     
     protected MapOptions() {
     }
@@ -93,6 +98,7 @@ public class MapOptions<K, V> {
     /**
      * Sets write behind tasks batch size. 
      * During MapWriter methods execution all updates accumulated into a batch of specified size.
+     * Updates of the same key are coalesced within a batch and only the last one is passed to MapWriter.
      * <p>
      * Default is <code>50</code>
      * 
@@ -122,6 +128,24 @@ public class MapOptions<K, V> {
     public int getWriteBehindDelay() {
         return writeBehindDelay;
     }
+
+    /**
+     * Sets desired MapWriter methods execution time in write behind mode.
+     * Batch size is doubled if MapWriter handles full batch faster than half of specified time
+     * and halved if it takes longer than specified time. <code>writeBehindBatchSize</code> is used as initial batch size.
+     * <p>
+     * Default is <code>0</code> which means that batch size is fixed.
+     *
+     * @param writeBehindBatchLatency - time in milliseconds
+     * @return MapOptions instance
+     */
+    public MapOptions<K, V> writeBehindBatchLatency(int writeBehindBatchLatency) {
+        this.writeBehindBatchLatency = writeBehindBatchLatency;
+        return this;
+    }
+    public int getWriteBehindBatchLatency() {
+        return writeBehindBatchLatency;
+    }
     
     /**
      * Sets write mode. 
@@ -153,4 +177,56 @@ public class MapOptions<K, V> {
         return loader;
     }
 
+    /**
+     * Sets max amount of entries passed to a single MapWriter method invocation in write through mode.
+     * Bigger updates, like <code>putAll</code> with large map, are split into batches of specified size.
+     * <p>
+     * Default is <code>0</code> which means that all updates passed at once.
+     *
+     * @param writerBatchSize - size of batch
+     * @return MapOptions instance
+     */
+    public MapOptions<K, V> writerBatchSize(int writerBatchSize) {
+        this.writerBatchSize = writerBatchSize;
+        return this;
+    }
+    public int getWriterBatchSize() {
+        return writerBatchSize;
+    }
+
+    /**
+     * Sets amount of keys loaded by a single {@link MapLoader#loadAll(java.util.Collection)} invocation
+     * during {@link org.redisson.api.RMap#loadAll} execution.
+     * Loaded entries are stored into map with a single write operation per batch.
+     * Amount of batches loaded simultaneously is limited by <code>parallelism</code> parameter,
+     * so amount of loaded entries kept in memory doesn't exceed <code>parallelism * loaderBatchSize</code>.
+     * <p>
+     * Default is <code>0</code> which means that each key is loaded by {@link MapLoader#load(Object)} invocation.
+     *
+     * @param loaderBatchSize - size of batch
+     * @return MapOptions instance
+     */
+    public MapOptions<K, V> loaderBatchSize(int loaderBatchSize) {
+        this.loaderBatchSize = loaderBatchSize;
+        return this;
+    }
+    public int getLoaderBatchSize() {
+        return loaderBatchSize;
+    }
+
+    /**
+     * Sets listener notified about progress of {@link org.redisson.api.RMap#loadAll} execution.
+     * Used if <code>loaderBatchSize</code> is defined.
+     *
+     * @param loaderListener - listener
+     * @return MapOptions instance
+     */
+    public MapOptions<K, V> loaderListener(MapLoaderListener loaderListener) {
+        this.loaderListener = loaderListener;
+        return this;
+    }
+    public MapLoaderListener getLoaderListener() {
+        return loaderListener;
+    }
+
 }
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Encodes element of {@link RScoredPriorityQueue} into score which defines its priority.
+ * Element with lower score is polled first.
+ * <p>
+ * Encoding should be consistent with required element ordering,
+ * i.e. <code>compare(a, b) &lt; 0</code> implies <code>encode(a) &lt;= encode(b)</code>.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> element type
+ */
+@FunctionalInterface
+public interface PriorityScoreEncoder<V> {
+
+    /**
+     * Returns score of element.
+     *
+     * @param value - element
+     * @return score
+     */
+    double encode(V value);
+
+}
@@ -15,6 +15,8 @@
  */
 package org.redisson.api;
 
+import java.util.Collection;
+
 /**
  * Distributed implementation of Bloom filter based on Highway 128-bit hash.
  *
@@ -33,6 +35,16 @@ public interface RBloomFilter<T> extends RExpirable {
      */
     boolean add(T object);
 
+    /**
+     * Adds elements.
+     * All bits of all elements are set using a single batch.
+     *
+     * @param objects - elements to add
+     * @return amount of added elements.
+     *         Element isn't counted if it's already present
+     */
+    long add(Collection<T> objects);
+
     /**
      * Check for element present
      * 
@@ -42,6 +54,15 @@ public interface RBloomFilter<T> extends RExpirable {
      */
     boolean contains(T object);
 
+    /**
+     * Checks for elements presence.
+     * All bits of all elements are read using a single batch.
+     *
+     * @param objects - elements
+     * @return amount of present elements
+     */
+    long contains(Collection<T> objects);
+
     /**
      * Initializes Bloom filter params (size and hashIterations)
      * calculated from <code>expectedInsertions</code> and <code>falseProbability</code>
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import org.redisson.client.codec.Codec;
+
+/**
+ * Server-assisted client side caching. Read operations of objects
+ * created through this interface are cached locally and invalidated
+ * by messages sent by Redis server.
+ * <p>
+ * Requires RESP3 protocol and trackingMode setting defined in {@link org.redisson.config.Config}.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface RClientSideCaching extends RDestroyable {
+
+    /**
+     * Returns object holder instance by name.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Bucket object
+     */
+    <V> RBucket<V> getBucket(String name);
+
+    /**
+     * Returns object holder instance by name
+     * using provided codec for object.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for values
+     * @return Bucket object
+     */
+    <V> RBucket<V> getBucket(String name, Codec codec);
+
+    /**
+     * Returns map instance by name.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Map object
+     */
+    <K, V> RMap<K, V> getMap(String name);
+
+    /**
+     * Returns map instance by name
+     * using provided codec for both map keys and values.
+     *
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for keys and values
+     * @return Map object
+     */
+    <K, V> RMap<K, V> getMap(String name, Codec codec);
+
+}
@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Distributed implementation of {@link java.util.concurrent.ExecutorService}
@@ -70,7 +71,28 @@ public interface RExecutorService extends ExecutorService, RExecutorServiceAsync
      * @return Future object
      */
     RExecutorBatchFuture submit(Callable<?>...tasks);
-    
+
+    /**
+     * Submits tasks for execution asynchronously.
+     * Tasks are taken from <code>tasks</code> and stored to executor request queue
+     * in batches of <code>batchSize</code> tasks. Each batch is stored in a single round trip
+     * and up to <code>maxPendingBatches</code> batches are stored concurrently.
+     * Next tasks are taken only once pending batch has been stored and amount of tasks
+     * which haven't been consumed from returned stream is below <code>batchSize * maxPendingBatches</code>.
+     * <p>
+     * Returns stream of futures ordered by task completion.
+     * Each future is already completed when it's emitted by stream.
+     * Stream blocks until next task is completed and ends once all submitted tasks are completed.
+     * Stream throws {@link org.redisson.client.RedisException} if waiting thread is interrupted.
+     *
+     * @param tasks - tasks to execute
+     * @param batchSize - amount of tasks stored in a single round trip
+     * @param maxPendingBatches - max amount of batches stored concurrently
+     * @param <T> the type of the task's result
+     * @return stream of completed futures
+     */
+    <T> Stream<RExecutorFuture<T>> submitAll(Iterable<? extends Callable<T>> tasks, int batchSize, int maxPendingBatches);
+
     /**
      * Synchronously submits a Runnable task for execution asynchronously
      * and returns a RExecutorFuture representing that task. The Future's {@code get} method will
@@ -228,6 +228,15 @@ public interface RKeys extends RKeysAsync {
      */
     Iterable<String> getKeys(int count);
 
+    /**
+     * Get keys using iterator with defined <code>options</code>.
+     * Keys of all nodes are traversed by SCAN operation in parallel.
+     *
+     * @param options - scan options
+     * @return Iterable object
+     */
+    Iterable<String> getKeys(KeysScanOptions options);
+
     /**
      * Get all keys by pattern using Stream. 
      * Keys traversed with SCAN operation. Each SCAN operation loads 
@@ -281,6 +290,15 @@ public interface RKeys extends RKeysAsync {
      * @return Iterable object
      */
     Stream<String> getKeysStream(int count);
+
+    /**
+     * Get keys using Stream with defined <code>options</code>.
+     * Keys of all nodes are traversed by SCAN operation in parallel.
+     *
+     * @param options - scan options
+     * @return Stream object
+     */
+    Stream<String> getKeysStream(KeysScanOptions options);
     
     /**
      * Get random key
@@ -304,6 +322,24 @@ public interface RKeys extends RKeysAsync {
      */
     long deleteByPattern(String pattern);
 
+    /**
+     * Set a timeout for objects matched by a key pattern.
+     * <p>
+     * Keys of all nodes are traversed by SCAN operation in parallel
+     * and PEXPIRE commands are sent to each node in pipeline.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param timeToLive - timeout before object will be deleted
+     * @param timeUnit - timeout time unit
+     * @return number of expired keys
+     */
+    long expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit);
+
     /**
      * Delete multiple objects
      *
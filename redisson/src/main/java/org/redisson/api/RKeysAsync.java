@@ -172,6 +172,24 @@ public interface RKeysAsync {
      */
     RFuture<Long> deleteByPatternAsync(String pattern);
 
+    /**
+     * Set a timeout for objects matched by a key pattern.
+     * <p>
+     * Keys of all nodes are traversed by SCAN operation in parallel
+     * and PEXPIRE commands are sent to each node in pipeline.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param timeToLive - timeout before object will be deleted
+     * @param timeUnit - timeout time unit
+     * @return number of expired keys
+     */
+    RFuture<Long> expireByPatternAsync(String pattern, long timeToLive, TimeUnit timeUnit);
+
     /**
      * Delete multiple objects
      *
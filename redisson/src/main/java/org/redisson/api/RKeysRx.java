@@ -196,6 +196,16 @@ public interface RKeysRx {
      * @return keys
      */
     Flowable<String> getKeysByPattern(String pattern, int count);
+
+    /**
+     * Get keys with defined <code>options</code>.
+     * Keys of all nodes are traversed by SCAN operation in parallel.
+     * Next chunk of node is requested only after previous one has been consumed.
+     *
+     * @param options - scan options
+     * @return keys
+     */
+    Flowable<String> getKeys(KeysScanOptions options);
     
     /**
      * Get hash slot identifier for key.
@@ -232,6 +242,24 @@ public interface RKeysRx {
      */
     Single<Long> deleteByPattern(String pattern);
 
+    /**
+     * Set a timeout for objects matched by a key pattern.
+     * <p>
+     * Keys of all nodes are traversed by SCAN operation in parallel
+     * and PEXPIRE commands are sent to each node in pipeline.
+     * <p>
+     *  Supported glob-style patterns:
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    h*llo subscribes to hllo and heeeello
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param timeToLive - timeout before object will be deleted
+     * @param timeUnit - timeout time unit
+     * @return number of expired keys
+     */
+    Single<Long> expireByPattern(String pattern, long timeToLive, TimeUnit timeUnit);
+
     /**
      * Delete multiple objects by name.
      *
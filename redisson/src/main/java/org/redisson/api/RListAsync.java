@@ -19,6 +19,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.RandomAccess;
 
+import org.redisson.client.protocol.ReplyElementsListener;
+
 /**
  * Async list functions
  *
@@ -128,6 +130,15 @@ public interface RListAsync<V> extends RCollectionAsync<V>, RSortableAsync<List<
      */
     RFuture<List<V>> readAllAsync();
 
+    /**
+     * Read all elements without loading the whole list into memory.
+     * Elements are passed to <code>listener</code> as they are received.
+     *
+     * @param listener - listener of elements
+     * @return amount of elements
+     */
+    RFuture<Long> readAllAsync(ReplyElementsListener listener);
+
     /**
      * Trim list and remains elements only in specified range
      * <code>fromIndex</code>, inclusive, and <code>toIndex</code>, inclusive.
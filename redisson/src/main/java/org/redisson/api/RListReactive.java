@@ -145,6 +145,16 @@ public interface RListReactive<V> extends RCollectionReactive<V>, RSortableReact
      */
     Mono<List<V>> readAll();
 
+    /**
+     * Read all elements as a stream.
+     * Elements are emitted as they are received from Redis,
+     * so the list isn't loaded into memory at once.
+     * Reading is paused if subscriber doesn't keep up with it.
+     *
+     * @return stream of values
+     */
+    Flux<V> readAllStream();
+
     /**
      * Trim list and remains elements only in specified range
      * <code>fromIndex</code>, inclusive, and <code>toIndex</code>, inclusive.
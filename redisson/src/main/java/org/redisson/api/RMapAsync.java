@@ -17,6 +17,7 @@ package org.redisson.api;
 
 import org.redisson.api.map.MapLoader;
 import org.redisson.api.map.MapWriter;
+import org.redisson.client.protocol.ReplyElementsListener;
 
 import java.util.Collection;
 import java.util.Map;
@@ -315,6 +316,15 @@ public interface RMapAsync<K, V> extends RExpirableAsync {
      */
     RFuture<Map<K, V>> readAllMapAsync();
 
+    /**
+     * Read all map entries without loading the whole map into memory.
+     * Keys and values are passed to <code>listener</code> in turn as they are received.
+     *
+     * @param listener - listener of keys and values
+     * @return amount of keys and values
+     */
+    RFuture<Long> readAllMapAsync(ReplyElementsListener listener);
+
     /**
      * Returns the value mapped by defined <code>key</code> or {@code null} if value is absent.
      * <p>
@@ -251,6 +251,16 @@ public interface RMapReactive<K, V> extends RExpirableReactive {
      */
     Mono<Map<K, V>> readAllMap();
 
+    /**
+     * Read all map entries as a stream.
+     * Entries are emitted as they are received from Redis,
+     * so the map isn't loaded into memory at once.
+     * Reading is paused if subscriber doesn't keep up with it.
+     *
+     * @return stream of entries
+     */
+    Flux<Entry<K, V>> readAllMapStream();
+
     /**
      * Returns the value mapped by defined <code>key</code> or {@code null} if value is absent.
      * <p>
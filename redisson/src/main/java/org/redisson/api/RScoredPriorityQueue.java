@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Priority queue based on Redis Sorted Set.
+ * <p>
+ * Element priority is defined by score returned by {@link PriorityScoreEncoder}
+ * or by element value itself if it's a {@link Number}. Score is a double,
+ * so integer elements beyond 2^53 are rejected and other element types require an encoder.
+ * Element with the lowest score is polled first. Order of elements with the same score isn't defined.
+ * <p>
+ * Unlike {@link RPriorityQueue} each operation is executed as single atomic command
+ * with O(log(N)) complexity and doesn't require lock.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> element type
+ */
+public interface RScoredPriorityQueue<V> extends Queue<V>, RExpirable, RScoredPriorityQueueAsync<V> {
+
+    /**
+     * Retrieves and removes element with the highest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    V pollLast();
+
+    /**
+     * Retrieves, but doesn't remove element with the highest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    V peekLast();
+
+    /**
+     * Returns all elements ordered by score.
+     *
+     * @return elements
+     */
+    List<V> readAll();
+
+    /**
+     * Moves all elements of list based {@link RPriorityQueue} or {@link RPriorityDeque}
+     * with defined name into this queue. Elements are moved by chunks, each chunk is moved atomically.
+     * So it's safe to call this method while source queue is still in use.
+     * <p>
+     * Source queue should use the same codec. In Redis Cluster
+     * both names should share the same hash tag, like <code>{queue}:old</code> and <code>{queue}:new</code>.
+     *
+     * @param priorityQueueName - name of source queue
+     * @return amount of moved elements
+     */
+    int migrateFrom(String priorityQueueName);
+
+}
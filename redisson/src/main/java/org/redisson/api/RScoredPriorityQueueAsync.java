@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Async interface for priority queue based on Redis Sorted Set.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> element type
+ */
+public interface RScoredPriorityQueueAsync<V> extends RExpirableAsync {
+
+    /**
+     * Inserts element into this queue.
+     *
+     * @param e - element
+     * @return <code>true</code> if element was added
+     */
+    RFuture<Boolean> offerAsync(V e);
+
+    /**
+     * Inserts all elements into this queue.
+     *
+     * @param c - elements
+     * @return <code>true</code> if at least one element was added
+     */
+    RFuture<Boolean> addAllAsync(Collection<? extends V> c);
+
+    /**
+     * Retrieves and removes element with the lowest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    RFuture<V> pollAsync();
+
+    /**
+     * Retrieves and removes element with the highest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    RFuture<V> pollLastAsync();
+
+    /**
+     * Retrieves, but doesn't remove element with the lowest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    RFuture<V> peekAsync();
+
+    /**
+     * Retrieves, but doesn't remove element with the highest score.
+     *
+     * @return element or <code>null</code> if this queue is empty
+     */
+    RFuture<V> peekLastAsync();
+
+    /**
+     * Returns <code>true</code> if this queue contains defined element.
+     *
+     * @param o - element
+     * @return <code>true</code> if this queue contains element
+     */
+    RFuture<Boolean> containsAsync(Object o);
+
+    /**
+     * Removes single occurrence of element.
+     *
+     * @param o - element
+     * @return <code>true</code> if element was removed
+     */
+    RFuture<Boolean> removeAsync(Object o);
+
+    /**
+     * Returns amount of elements in this queue.
+     *
+     * @return size
+     */
+    RFuture<Integer> sizeAsync();
+
+    /**
+     * Returns all elements ordered by score.
+     *
+     * @return elements
+     */
+    RFuture<List<V>> readAllAsync();
+
+    /**
+     * Moves all elements of list based {@link RPriorityQueue} or {@link RPriorityDeque}
+     * with defined name into this queue. Elements are moved by chunks, each chunk is moved atomically.
+     * So it's safe to call this method while source queue is still in use.
+     * <p>
+     * Source queue should use the same codec. In Redis Cluster
+     * both names should share the same hash tag, like <code>{queue}:old</code> and <code>{queue}:new</code>.
+     *
+     * @param priorityQueueName - name of source queue
+     * @return amount of moved elements
+     */
+    RFuture<Integer> migrateFromAsync(String priorityQueueName);
+
+}
@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RScoredSortedSet.Aggregate;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.client.protocol.ScoredEntry;
 
 /**
@@ -538,6 +539,17 @@ public interface RScoredSortedSetAsync<V> extends RExpirableAsync, RSortableAsyn
      */
     RFuture<Collection<V>> valueRangeAsync(int startIndex, int endIndex);
 
+    /**
+     * Returns values by rank range without loading the whole range into memory.
+     * Values are passed to <code>listener</code> as they are received.
+     *
+     * @param startIndex - start index
+     * @param endIndex - end index
+     * @param listener - listener of values
+     * @return amount of values
+     */
+    RFuture<Long> valueRangeAsync(int startIndex, int endIndex, ReplyElementsListener listener);
+
     /**
      * Returns values by rank range in reverse order. Indexes are zero based. 
      * <code>-1</code> means the highest score, <code>-2</code> means the second highest score.
@@ -557,6 +569,17 @@ public interface RScoredSortedSetAsync<V> extends RExpirableAsync, RSortableAsyn
      * @return entries
      */
     RFuture<Collection<ScoredEntry<V>>> entryRangeAsync(int startIndex, int endIndex);
+
+    /**
+     * Returns entries by rank range without loading the whole range into memory.
+     * Values and scores are passed to <code>listener</code> in turn as they are received.
+     *
+     * @param startIndex - start index
+     * @param endIndex - end index
+     * @param listener - listener of values and scores
+     * @return amount of values and scores
+     */
+    RFuture<Long> entryRangeAsync(int startIndex, int endIndex, ReplyElementsListener listener);
     
     /**
      * Returns entries (value and its score) by rank range in reverse order. Indexes are zero based. 
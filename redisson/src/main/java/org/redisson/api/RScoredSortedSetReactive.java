@@ -463,6 +463,18 @@ public interface RScoredSortedSetReactive<V> extends RExpirableReactive, RSortab
      */
     Mono<Collection<V>> valueRange(int startIndex, int endIndex);
 
+    /**
+     * Returns values by rank range as a stream. Indexes are zero based.
+     * <code>-1</code> means the highest score, <code>-2</code> means the second highest score.
+     * Values are emitted as they are received from Redis.
+     * Reading is paused if subscriber doesn't keep up with it.
+     *
+     * @param startIndex - start index
+     * @param endIndex - end index
+     * @return stream of values
+     */
+    Flux<V> valueRangeStream(int startIndex, int endIndex);
+
     /**
      * Returns entries (value and its score) by rank range. Indexes are zero based. 
      * <code>-1</code> means the highest score, <code>-2</code> means the second highest score.
@@ -473,6 +485,18 @@ public interface RScoredSortedSetReactive<V> extends RExpirableReactive, RSortab
      */
     Mono<Collection<ScoredEntry<V>>> entryRange(int startIndex, int endIndex);
 
+    /**
+     * Returns entries (value and its score) by rank range as a stream. Indexes are zero based.
+     * <code>-1</code> means the highest score, <code>-2</code> means the second highest score.
+     * Entries are emitted as they are received from Redis.
+     * Reading is paused if subscriber doesn't keep up with it.
+     *
+     * @param startIndex - start index
+     * @param endIndex - end index
+     * @return stream of entries
+     */
+    Flux<ScoredEntry<V>> entryRangeStream(int startIndex, int endIndex);
+
     /**
      * Returns all values between <code>startScore</code> and <code>endScore</code>.
      * 
@@ -17,6 +17,8 @@ package org.redisson.api;
 
 import java.util.Set;
 
+import org.redisson.client.protocol.ReplyElementsListener;
+
 /**
  * Async set functions
  *
@@ -76,6 +78,15 @@ public interface RSetAsync<V> extends RCollectionAsync<V>, RSortableAsync<Set<V>
      */
     RFuture<Set<V>> readAllAsync();
 
+    /**
+     * Read all elements without loading the whole set into memory.
+     * Elements are passed to <code>listener</code> as they are received.
+     *
+     * @param listener - listener of elements
+     * @return amount of elements
+     */
+    RFuture<Long> readAllAsync(ReplyElementsListener listener);
+
     /**
      * Union sets specified by name and write to current set.
      * If current set already exists, it is overwritten.
@@ -144,6 +144,16 @@ public interface RSetReactive<V> extends RCollectionReactive<V>, RSortableReacti
      * @return values
      */
     Mono<Set<V>> readAll();
+
+    /**
+     * Read all elements as a stream.
+     * Elements are emitted as they are received from Redis,
+     * so the set isn't loaded into memory at once.
+     * Reading is paused if subscriber doesn't keep up with it.
+     *
+     * @return stream of values
+     */
+    Flux<V> readAllStream();
     
     /**
      * Union sets specified by name and write to current set.
@@ -21,6 +21,7 @@ import org.redisson.client.codec.Codec;
 import org.redisson.config.Config;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Main Redisson interface for access
@@ -349,6 +350,15 @@ public interface RedissonClient {
      * @return LocalCachedMap object
      */
     <K, V> RLocalCachedMap<K, V> getLocalCachedMap(String name, Codec codec, LocalCachedMapOptions<K, V> options);
+
+    /**
+     * Returns server-assisted client side caching instance.
+     * Requires RESP3 protocol and trackingMode setting defined in {@link org.redisson.config.Config}.
+     *
+     * @param options - client side caching options
+     * @return ClientSideCaching object
+     */
+    RClientSideCaching getClientSideCaching(ClientSideCachingOptions options);
     
     /**
      * Returns map instance by name.
@@ -848,6 +858,47 @@ public interface RedissonClient {
      */
     <V> RPriorityDeque<V> getPriorityDeque(String name, Codec codec);
     
+    /**
+     * Returns priority queue instance by name.
+     * Elements are stored in Redis Sorted Set and should be {@link Number}s,
+     * which define their priority.
+     * <p>
+     * Score is stored as double, so <code>Long</code> and <code>BigInteger</code> elements
+     * beyond 2^53 are rejected. Other element types, like <code>String</code>,
+     * require {@link PriorityScoreEncoder}.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @return Queue object
+     */
+    <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name);
+
+    /**
+     * Returns priority queue instance by name.
+     * Elements are stored in Redis Sorted Set, element priority
+     * is defined by score returned by <code>encoder</code>.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param encoder - element score encoder
+     * @return Queue object
+     */
+    <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, PriorityScoreEncoder<? super V> encoder);
+
+    /**
+     * Returns priority queue instance by name
+     * using provided codec for queue objects.
+     * Elements are stored in Redis Sorted Set, element priority
+     * is defined by score returned by <code>encoder</code>.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for message
+     * @param encoder - element score encoder
+     * @return Queue object
+     */
+    <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, Codec codec, PriorityScoreEncoder<? super V> encoder);
+    
     /**
      * Returns unbounded blocking queue instance by name.
      * 
@@ -1100,6 +1151,21 @@ public interface RedissonClient {
      */
     RTransaction createTransaction(TransactionOptions options);
 
+    /**
+     * Executes <code>action</code> in transaction and commits it.
+     * <p>
+     * If transaction is executed in optimistic mode and commit fails due to conflict
+     * then <code>action</code> is executed again in new transaction.
+     * Amount of attempts is defined by {@link TransactionOptions#conflictRetryAttempts(int)} setting.
+     * Transaction is rolled back if <code>action</code> throws exception.
+     * 
+     * @param <R> result type
+     * @param options - transaction configuration
+     * @param action - transaction logic
+     * @return result of <code>action</code>
+     */
+    <R> R executeTransaction(TransactionOptions options, Function<RTransaction, R> action);
+
     /**
      * Creates batch object which could be executed later 
      * with collected group of commands in pipeline mode.
@@ -33,6 +33,9 @@ public final class TransactionOptions {
     
     private long timeout = 5000;
 
+    private boolean optimistic;
+    private int conflictRetryAttempts = 3;
+
     private TransactionOptions() {
     }
     
@@ -134,6 +137,49 @@ public final class TransactionOptions {
         this.timeout = timeoutUnit.toMillis(timeout);
         return this;
     }
- 
+
+    public boolean isOptimistic() {
+        return optimistic;
+    }
+
+    /**
+     * Defines whether transaction uses optimistic concurrency control.
+     * <p>
+     * In optimistic mode transactional objects don't acquire lock per touched key
+     * during operation execution. Digest of each touched value is recorded instead.
+     * All locks are acquired at once during commit without waiting and
+     * recorded digests are compared with the current ones.
+     * Commit fails with {@link org.redisson.transaction.TransactionConflictException}
+     * if any lock is held by another transaction or any value has been changed.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param optimistic - <code>true</code> to use optimistic concurrency control
+     * @return self instance
+     */
+    public TransactionOptions optimistic(boolean optimistic) {
+        this.optimistic = optimistic;
+        return this;
+    }
+
+    public int getConflictRetryAttempts() {
+        return conflictRetryAttempts;
+    }
+
+    /**
+     * Defines attempts amount to execute transaction again
+     * if it has failed due to conflict in optimistic mode.
+     * Used by {@link RedissonClient#executeTransaction(TransactionOptions, java.util.function.Function)} method.
+     * <p>
+     * Default is <code>3 attempts</code>
+     *
+     * @param conflictRetryAttempts value
+     * @return self instance
+     */
+    public TransactionOptions conflictRetryAttempts(int conflictRetryAttempts) {
+        this.conflictRetryAttempts = conflictRetryAttempts;
+        return this;
+    }
+
     
 }
@@ -17,6 +17,10 @@ package org.redisson.api.map;
 
 import org.redisson.api.RMap;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Map loader used for read-through operations or during {@link RMap#loadAll} execution.
  * 
@@ -34,6 +38,26 @@ public interface MapLoader<K, V> {
      * @return value or <code>null</code> if value doesn't exists
      */
     V load(K key);
+
+    /**
+     * Loads map values by keys.
+     * Used during {@link RMap#loadAll} execution if <code>loaderBatchSize</code> is defined.
+     * <p>
+     * Default implementation invokes {@link #load(Object)} method for each key.
+     *
+     * @param keys - map keys
+     * @return map with loaded entries. Keys without value should be absent.
+     */
+    default Map<K, V> loadAll(Collection<K> keys) {
+        Map<K, V> result = new HashMap<>(keys.size());
+        for (K key : keys) {
+            V value = load(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
     
     /**
      * Loads all keys.
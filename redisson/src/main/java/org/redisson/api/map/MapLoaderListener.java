@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.map;
+
+import org.redisson.api.RMap;
+
+/**
+ * Listener of {@link RMap#loadAll} progress.
+ * Used if <code>loaderBatchSize</code> is defined.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface MapLoaderListener {
+
+    /**
+     * Invoked after a batch of loaded entries has been stored into map.
+     *
+     * @param name - map name
+     * @param batchSize - amount of entries stored by this batch
+     * @param loadedEntries - total amount of entries loaded so far
+     */
+    default void onBatchLoaded(String name, int batchSize, long loadedEntries) {
+    }
+
+    /**
+     * Invoked after all entries have been loaded.
+     *
+     * @param name - map name
+     * @param loadedEntries - total amount of loaded entries
+     * @param durationMillis - loading duration in milliseconds
+     */
+    default void onCompleted(String name, long loadedEntries, long durationMillis) {
+    }
+
+}
@@ -109,5 +109,17 @@ public interface RMapReduce<KIn, VIn, KOut, VOut> extends RMapReduceExecutor<VIn
      * @return self instance
      */
     RMapReduce<KIn, VIn, KOut, VOut> reducer(RReducer<KOut, VOut> reducer);
+
+    /**
+     * Setup Combiner object. Combiner is applied to values emitted by Mapper
+     * before they are sent to Redis. Should produce the same result
+     * when applied to partially reduced values, like sum or max function.
+     * <p>
+     * Usually the same object as Reducer is used.
+     * 
+     * @param combiner used during MapReduce
+     * @return self instance
+     */
+    RMapReduce<KIn, VIn, KOut, VOut> combiner(RReducer<KOut, VOut> combiner);
     
 }
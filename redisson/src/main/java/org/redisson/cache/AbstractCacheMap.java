@@ -20,6 +20,7 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 
@@ -34,6 +35,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
     final ConcurrentMap<K, CachedValue<K, V>> map = new ConcurrentHashMap<>();
     private final long timeToLiveInMillis;
     private final long maxIdleInMillis;
+    private volatile Consumer<V> removalListener;
 
 
     public AbstractCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
@@ -53,6 +55,27 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         
     }
 
+    /**
+     * Sets listener invoked with value of each entry removed from this map,
+     * including replaced, expired and evicted entries.
+     *
+     * @param removalListener - listener
+     */
+    public void setRemovalListener(Consumer<V> removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    protected void notifyRemoval(CachedValue<K, V> value) {
+        Consumer<V> listener = removalListener;
+        if (listener == null) {
+            return;
+        }
+        V v = value.getValue();
+        if (v != null) {
+            listener.accept(v);
+        }
+    }
+
     
     /*
      * (non-Javadoc)
@@ -89,6 +112,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         if (isValueExpired(entry)) {
             if (map.remove(key, entry)) {
                 onValueRemove(entry);
+                notifyRemoval(entry);
                 return false;
             }
             return containsKey(key);
@@ -124,6 +148,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
                 if (isValueExpired(cachedValue)) {
                     if (map.remove(cachedValue.getKey(), cachedValue)) {
                         onValueRemove(cachedValue);
+                        notifyRemoval(cachedValue);
                     }
                 } else {
                     readValue(cachedValue);
@@ -151,6 +176,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         if (isValueExpired(entry)) {
             if (map.remove(key, entry)) {
                 onValueRemove(entry);
+                notifyRemoval(entry);
                 return null;
             }
             return get(key);
@@ -183,6 +209,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         CachedValue<K, V> prevCachedValue = map.put(key, entry);
         if (prevCachedValue != null) {
             onValueRemove(prevCachedValue);
+            notifyRemoval(prevCachedValue);
             if (!isValueExpired(prevCachedValue)) {
                 return (V) prevCachedValue.getValue();
             }
@@ -207,7 +234,8 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         for (CachedValue<K, V> value : map.values()) {
             if (isValueExpired(value)) {
                 if (map.remove(value.getKey(), value)) {
-                    onValueRemove(value);                    
+                    onValueRemove(value);
+                    notifyRemoval(value);
                     removed = true;
                 }
             }
@@ -236,6 +264,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         CachedValue<K, V> entry = map.remove(key);
         if (entry != null) {
             onValueRemove(entry);
+            notifyRemoval(entry);
             if (!isValueExpired(entry)) {
                 return (V) entry.getValue();
             }
@@ -261,7 +290,15 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
      */
     @Override
     public void clear() {
-        map.clear();
+        if (removalListener == null) {
+            map.clear();
+            return;
+        }
+        for (CachedValue<K, V> value : map.values()) {
+            if (map.remove(value.getKey(), value)) {
+                notifyRemoval(value);
+            }
+        }
     }
 
     /*
@@ -498,6 +535,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         }
         if (e != null) {
             onValueRemove(e);
+            notifyRemoval(e);
             return true;
         }
         return false;
@@ -518,6 +556,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         }
         if (e != null) {
             onValueRemove(e);
+            notifyRemoval(e);
             return true;
         }
         return false;
@@ -537,6 +576,7 @@ public abstract class AbstractCacheMap<K, V> implements Cache<K, V> {
         }
         if (e != null) {
             onValueRemove(e);
+            notifyRemoval(e);
             return e.getValue();
         }
         return null;
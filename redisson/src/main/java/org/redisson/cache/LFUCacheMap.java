@@ -135,7 +135,9 @@ public class LFUCacheMap<K, V> extends AbstractCacheMap<K, V> {
         if (entry == null) {
             return;
         }
-        map.remove(entry.getValue().getKey(), entry.getValue());
+        if (map.remove(entry.getValue().getKey(), entry.getValue())) {
+            notifyRemoval((CachedValue) entry.getValue());
+        }
         
         if (entry.getValue().accessCount == 0) {
             return;
@@ -89,7 +89,9 @@ public class LRUCacheMap<K, V> extends AbstractCacheMap<K, V> {
             }
 
             if (removedValue != null) {
-                map.remove(removedValue.getKey(), removedValue);
+                if (map.remove(removedValue.getKey(), removedValue)) {
+                    notifyRemoval(removedValue);
+                }
                 return;
             }
         }
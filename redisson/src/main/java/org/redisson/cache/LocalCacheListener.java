@@ -19,6 +19,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
 import org.redisson.*;
 import org.redisson.api.*;
 import org.redisson.api.LocalCachedMapOptions.EvictionPolicy;
@@ -28,7 +29,12 @@ import org.redisson.api.listener.BaseStatusListener;
 import org.redisson.api.listener.MessageListener;
 import org.redisson.client.codec.ByteArrayCodec;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.config.TrackingMode;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.InvalidationListener;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.slf4j.Logger;
@@ -40,6 +46,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 
@@ -66,9 +74,13 @@ public abstract class LocalCacheListener {
     
     private long cacheUpdateLogTime;
     private volatile long lastInvalidate;
+    private final AtomicLong lastVersion = new AtomicLong(-1);
+    private volatile byte[] lastEpoch;
+    private volatile boolean subscribed;
     private RTopic invalidationTopic;
     private int syncListenerId;
     private int reconnectionListenerId;
+    private InvalidationListener trackingListener;
     
     public LocalCacheListener(String name, CommandAsyncExecutor commandExecutor,
             RObject object, Codec codec, LocalCachedMapOptions<?, ?> options, long cacheUpdateLogTime) {
@@ -94,8 +106,27 @@ public abstract class LocalCacheListener {
     }
     
     public ConcurrentMap<CacheKey, CacheValue> createCache(LocalCachedMapOptions<?, ?> options) {
+        if (options.getCacheStorage() == LocalCachedMapOptions.CacheStorage.OFF_HEAP) {
+            if (options.getEvictionPolicy() == EvictionPolicy.SOFT
+                    || options.getEvictionPolicy() == EvictionPolicy.WEAK) {
+                // entries collected by garbage collector aren't reported
+                return new OffHeapCacheMap(createHeapCache(options, null), codec, options.getDecodedCacheSize());
+            }
+            return new OffHeapCacheMap(listener -> createHeapCache(options, listener), codec, options.getDecodedCacheSize());
+        }
+        return createHeapCache(options, null);
+    }
+
+    private ConcurrentMap<CacheKey, CacheValue> createHeapCache(LocalCachedMapOptions<?, ?> options, Consumer<CacheValue> removalListener) {
         if (options.getCacheProvider() == LocalCachedMapOptions.CacheProvider.CAFFEINE) {
             Caffeine<Object, Object> caffeineBuilder = Caffeine.newBuilder();
+            if (removalListener != null) {
+                caffeineBuilder.removalListener((key, value, cause) -> {
+                    if (value != null) {
+                        removalListener.accept((CacheValue) value);
+                    }
+                });
+            }
             if (options.getTimeToLiveInMillis() > 0) {
                 caffeineBuilder.expireAfterWrite(options.getTimeToLiveInMillis(), TimeUnit.MILLISECONDS);
             }
@@ -115,13 +146,24 @@ public abstract class LocalCacheListener {
         }
 
         if (options.getEvictionPolicy() == EvictionPolicy.NONE) {
-            return new NoneCacheMap<>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            NoneCacheMap<CacheKey, CacheValue> cache = new NoneCacheMap<>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            cache.setRemovalListener(removalListener);
+            return cache;
         }
         if (options.getEvictionPolicy() == EvictionPolicy.LRU) {
-            return new LRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            LRUCacheMap<CacheKey, CacheValue> cache = new LRUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            cache.setRemovalListener(removalListener);
+            return cache;
         }
         if (options.getEvictionPolicy() == EvictionPolicy.LFU) {
-            return new LFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            LFUCacheMap<CacheKey, CacheValue> cache = new LFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            cache.setRemovalListener(removalListener);
+            return cache;
+        }
+        if (options.getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
+            TinyLFUCacheMap<CacheKey, CacheValue> cache = new TinyLFUCacheMap<>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+            cache.setRemovalListener(removalListener);
+            return cache;
         }
         if (options.getEvictionPolicy() == EvictionPolicy.SOFT) {
             return ReferenceCacheMap.soft(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
@@ -154,14 +196,28 @@ public abstract class LocalCacheListener {
 
                         loadAfterReconnection();
                     }
+                    if (options.getReconnectionStrategy() == ReconnectionStrategy.LOAD_VERSIONED) {
+                        loadVersionedAfterReconnection();
+                    }
                 }
             });
         }
         
+        if (options.getSyncStrategy() == SyncStrategy.TRACKING) {
+            addTrackingListener();
+            return;
+        }
+
         if (options.getSyncStrategy() != SyncStrategy.NONE) {
             syncListenerId = invalidationTopic.addListener(Object.class, new MessageListener<Object>() {
                 @Override
                 public void onMessage(CharSequence channel, Object msg) {
+                    if (msg instanceof LocalCachedMapVersioned) {
+                        LocalCachedMapVersioned versionedMsg = (LocalCachedMapVersioned) msg;
+                        lastVersion.accumulateAndGet(versionedMsg.getVersion(), Math::max);
+                        msg = versionedMsg.getMessage();
+                    }
+
                     if (msg instanceof LocalCachedMapDisable) {
                         LocalCachedMapDisable m = (LocalCachedMapDisable) msg;
                         String requestId = m.getRequestId();
@@ -246,6 +302,31 @@ public abstract class LocalCacheListener {
         }
     }
     
+    private void addTrackingListener() {
+        ConnectionManager connectionManager = commandExecutor.getConnectionManager();
+        if (connectionManager.getCfg().getTrackingMode() == TrackingMode.NONE) {
+            throw new IllegalStateException("TRACKING sync strategy requires trackingMode setting");
+        }
+
+        trackingListener = key -> {
+            cache.clear();
+            trackKey();
+        };
+        connectionManager.getClientTrackingService().addListener(name, trackingListener);
+        trackKey();
+    }
+
+    private void trackKey() {
+        // Redis tracks keys read by connection and removes them from tracking after invalidation,
+        // so map key should be read again to receive further invalidation messages
+        RFuture<Boolean> future = commandExecutor.readTrackedAsync(name, StringCodec.INSTANCE, RedisCommands.EXISTS, name);
+        future.onComplete((r, e) -> {
+            if (e != null) {
+                log.error("Unable to enable tracking for " + name, e);
+            }
+        });
+    }
+
     public RFuture<Void> clearLocalCacheAsync() {
         RPromise<Void> result = new RedissonPromise<Void>();
         byte[] id = generateId();
@@ -304,6 +385,10 @@ public abstract class LocalCacheListener {
     }
     
     public void remove() {
+        if (trackingListener != null) {
+            commandExecutor.getConnectionManager().getClientTrackingService().removeListener(name, trackingListener);
+        }
+
         List<Integer> ids = new ArrayList<Integer>(2);
         if (syncListenerId != 0) {
             ids.add(syncListenerId);
@@ -335,8 +420,10 @@ public abstract class LocalCacheListener {
                 return;
             }
             
+            // batched invalidation logs entries with time of the first change within batch
+            long startTime = lastInvalidate - options.getInvalidationBatchInterval();
             RScoredSortedSet<byte[]> logs = new RedissonScoredSortedSet<byte[]>(ByteArrayCodec.INSTANCE, commandExecutor, getUpdatesLogName(), null);
-            logs.valueRangeAsync(lastInvalidate, true, Double.POSITIVE_INFINITY, true)
+            logs.valueRangeAsync(startTime, true, Double.POSITIVE_INFINITY, true)
             .onComplete((r, ex) -> {
                 if (ex != null) {
                     log.error("Can't load update log", ex);
@@ -352,6 +439,170 @@ public abstract class LocalCacheListener {
         });
     }
 
+    public boolean isVersionedUpdatesLog() {
+        return options.getReconnectionStrategy() == ReconnectionStrategy.LOAD_VERSIONED;
+    }
+
+    /**
+     * Returns Lua script which adds entry to updates log stored in <code>KEYS[3]</code>.
+     * Entry score is defined by <code>scoreArg</code> or by next version
+     * if updates log is versioned.
+     * <p>
+     * Versioned updates log holds epoch entry with zero score. It's created
+     * along with updates log, so recreated log is detected even if its
+     * versions have reached the version known by instance.
+     *
+     * @param scoreArg - script argument with entry score
+     * @param entryIdArg - script argument with entry id
+     * @return Lua script
+     */
+    public String getUpdatesLogAddScript(String scoreArg, String entryIdArg) {
+        if (!isVersionedUpdatesLog()) {
+            return "redis.call('zadd', KEYS[3], " + scoreArg + ", " + entryIdArg + "); ";
+        }
+
+        return "do "
+                + "local last = redis.call('zrevrange', KEYS[3], 0, 0, 'withscores'); "
+                + "local version = 1; "
+                + "if #last > 0 then "
+                    + "version = tonumber(last[2]) + 1; "
+                + "end; "
+                + "if redis.call('zcount', KEYS[3], 0, 0) == 0 then "
+                    + "redis.call('zadd', KEYS[3], 0, 'epoch:' .. " + entryIdArg + "); "
+                + "end; "
+                + "redis.call('zadd', KEYS[3], version, " + entryIdArg + "); "
+                // epoch entry has the lowest rank
+                + "redis.call('zremrangebyrank', KEYS[3], 1, " + (-options.getUpdatesLogSize() - 1) + "); "
+             + "end; ";
+    }
+
+    /**
+     * Returns Lua script which publishes message to invalidation topic stored in <code>KEYS[2]</code>.
+     * Message is prefixed by the last version of updates log stored in <code>KEYS[3]</code>
+     * if updates log is versioned.
+     *
+     * @param msgArg - script argument with encoded message
+     * @return Lua script
+     */
+    public String getUpdatesLogPublishScript(String msgArg) {
+        if (!isVersionedUpdatesLog()) {
+            return "redis.call('publish', KEYS[2], " + msgArg + "); ";
+        }
+
+        return "do "
+                + "local last = redis.call('zrevrange', KEYS[3], 0, 0, 'withscores'); "
+                + "redis.call('publish', KEYS[2], string.char(6) .. last[2] .. ':' .. " + msgArg + "); "
+             + "end; ";
+    }
+
+    /**
+     * Returns Lua script which removes updates log stored in <code>KEYS[3]</code>
+     * after map deletion. Versioned updates log is replaced by a single empty entry
+     * with the next version, so instances which missed deletion clear their local cache.
+     * Epoch of updates log is kept.
+     * Local variable <code>deleted</code> holds amount of deleted keys.
+     *
+     * @return Lua script
+     */
+    public String getUpdatesLogDeleteScript() {
+        if (!isVersionedUpdatesLog()) {
+            return "deleted = deleted + redis.call('del', KEYS[3]); ";
+        }
+
+        return "if deleted > 0 then "
+                + "local last = redis.call('zrevrange', KEYS[3], 0, 0, 'withscores'); "
+                + "local version = 1; "
+                + "if #last > 0 then "
+                    + "version = tonumber(last[2]) + 1; "
+                + "end; "
+                + "local epoch = redis.call('zrangebyscore', KEYS[3], 0, 0); "
+                + "redis.call('del', KEYS[3]); "
+                + "if #epoch > 0 then "
+                    + "redis.call('zadd', KEYS[3], 0, epoch[1]); "
+                + "end; "
+                + "redis.call('zadd', KEYS[3], version, ''); "
+             + "end; ";
+    }
+
+    private void loadVersionedAfterReconnection() {
+        long version = lastVersion.get();
+        if (version < 0 && subscribed) {
+            // version hasn't been loaded after previous subscription
+            cache.clear();
+        }
+        subscribed = true;
+
+        RFuture<List<byte[]>> future = commandExecutor.evalReadAsync(name, ByteArrayCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                "local result = {tostring(redis.call('exists', KEYS[1]))}; "
+              + "local last = redis.call('zrevrange', KEYS[2], 0, 0, 'withscores'); "
+              + "local first = redis.call('zrangebyscore', KEYS[2], '(0', '+inf', 'withscores', 'limit', 0, 1); "
+              + "if #first == 0 then "
+                  + "table.insert(result, '0'); "
+                  + "table.insert(result, '0'); "
+                  + "table.insert(result, ''); "
+                  + "return result; "
+              + "end; "
+              + "local epoch = redis.call('zrangebyscore', KEYS[2], 0, 0); "
+              + "table.insert(result, last[2]); "
+              + "table.insert(result, first[2]); "
+              + "table.insert(result, epoch[1] or ''); "
+              + "if tonumber(ARGV[1]) >= 0 then "
+                  + "local entries = redis.call('zrangebyscore', KEYS[2], '(' .. ARGV[1], '+inf'); "
+                  + "for i, v in ipairs(entries) do "
+                      + "table.insert(result, v); "
+                  + "end; "
+              + "end; "
+              + "return result; ",
+                Arrays.<Object>asList(name, getUpdatesLogName()), version);
+        future.onComplete((r, e) -> {
+            if (e != null) {
+                log.error("Can't load update log", e);
+                return;
+            }
+
+            long lastLogVersion = parseVersion(r.get(1));
+            long firstLogVersion = parseVersion(r.get(2));
+            byte[] epoch = r.get(3);
+            byte[] knownEpoch = lastEpoch;
+            // epoch is unknown if updates log didn't exist during previous load
+            boolean recreated = knownEpoch != null && knownEpoch.length > 0
+                                    && !Arrays.equals(knownEpoch, epoch);
+            lastEpoch = epoch;
+            if (recreated) {
+                cache.clear();
+                lastVersion.set(lastLogVersion);
+                return;
+            }
+
+            if (version >= 0) {
+                if (parseVersion(r.get(0)) == 0
+                        // updates log has been recreated
+                        || lastLogVersion < version
+                        // updates log has been truncated
+                        || (lastLogVersion > version && firstLogVersion > version + 1)) {
+                    cache.clear();
+                } else {
+                    for (byte[] entry : r.subList(4, r.size())) {
+                        // empty entry is stored on map deletion
+                        if (entry.length == 0) {
+                            cache.clear();
+                            break;
+                        }
+
+                        byte[] keyHash = Arrays.copyOf(entry, 16);
+                        CacheKey key = new CacheKey(keyHash);
+                        cache.remove(key);
+                    }
+                }
+            }
+            lastVersion.accumulateAndGet(lastLogVersion, Math::max);
+        });
+    }
+
+    private long parseVersion(byte[] value) {
+        return (long) Double.parseDouble(new String(value, CharsetUtil.US_ASCII));
+    }
+
     private RSemaphore getClearSemaphore(byte[] requestId) {
         String id = ByteBufUtil.hexDump(requestId);
         RSemaphore semaphore = new RedissonSemaphore(commandExecutor, name + ":clear:" + id);
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import io.netty.util.Timeout;
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.RedissonPromise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Accumulates hashes of changed map entries and publishes them as a single
+ * {@link LocalCachedMapInvalidate} message once batch interval passed or batch size reached.
+ * Hashes of the same entry changed multiple times within a batch are published once.
+ * <p>
+ * If updates log is used then its entries are written along with publication.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LocalCachedMapInvalidationBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCachedMapInvalidationBatcher.class);
+
+    private final CommandAsyncExecutor commandExecutor;
+    private final LocalCacheListener listener;
+    private final String name;
+    private final byte[] instanceId;
+    private final long interval;
+    private final int size;
+    private final Function<byte[], byte[]> logEntryIdGenerator;
+
+    // key hash mapped to time of the first change within the batch
+    private Map<CacheKey, Long> keys = new LinkedHashMap<>();
+    private Timeout timeout;
+
+    public LocalCachedMapInvalidationBatcher(CommandAsyncExecutor commandExecutor, LocalCacheListener listener,
+                                             String name, byte[] instanceId, long interval, int size,
+                                             Function<byte[], byte[]> logEntryIdGenerator) {
+        this.commandExecutor = commandExecutor;
+        this.listener = listener;
+        this.name = name;
+        this.instanceId = instanceId;
+        this.interval = interval;
+        this.size = size;
+        this.logEntryIdGenerator = logEntryIdGenerator;
+    }
+
+    public void add(byte[]... keyHashes) {
+        long time = System.currentTimeMillis();
+        Map<CacheKey, Long> batch = new LinkedHashMap<>(keyHashes.length);
+        for (byte[] keyHash : keyHashes) {
+            batch.put(new CacheKey(keyHash), time);
+        }
+        add(batch);
+    }
+
+    private void add(Map<CacheKey, Long> batch) {
+        boolean flush;
+        synchronized (this) {
+            for (Map.Entry<CacheKey, Long> entry : batch.entrySet()) {
+                keys.merge(entry.getKey(), entry.getValue(), Math::min);
+            }
+            flush = size > 0 && keys.size() >= size;
+            if (!flush && timeout == null) {
+                timeout = commandExecutor.getConnectionManager().newTimeout(t -> flush(), interval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (flush) {
+            flush();
+        }
+    }
+
+    public RFuture<Void> flush() {
+        Map<CacheKey, Long> batch;
+        synchronized (this) {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+            if (keys.isEmpty()) {
+                return RedissonPromise.newSucceededFuture(null);
+            }
+            batch = keys;
+            keys = new LinkedHashMap<>();
+        }
+
+        byte[][] hashes = new byte[batch.size()][];
+        int i = 0;
+        for (CacheKey key : batch.keySet()) {
+            hashes[i++] = key.getKeyHash();
+        }
+        LocalCachedMapInvalidate msg = new LocalCachedMapInvalidate(instanceId, hashes);
+
+        RFuture<Void> future;
+        if (logEntryIdGenerator == null) {
+            RFuture<Long> publishFuture = listener.getInvalidationTopic().publishAsync(msg);
+            RedissonPromise<Void> result = new RedissonPromise<>();
+            publishFuture.onComplete((r, e) -> {
+                if (e != null) {
+                    result.tryFailure(e);
+                    return;
+                }
+                result.trySuccess(null);
+            });
+            future = result;
+        } else {
+            List<Object> params = new ArrayList<>(batch.size() * 2 + 1);
+            params.add(commandExecutor.encode(LocalCachedMessageCodec.INSTANCE, msg));
+            for (Map.Entry<CacheKey, Long> entry : batch.entrySet()) {
+                params.add(entry.getValue());
+                params.add(logEntryIdGenerator.apply(entry.getKey().getKeyHash()));
+            }
+
+            future = commandExecutor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_VOID,
+                    "for i = 2, #ARGV, 2 do "
+                        + listener.getUpdatesLogAddScript("ARGV[i]", "ARGV[i+1]")
+                    + "end; "
+                    + listener.getUpdatesLogPublishScript("ARGV[1]"),
+                    Arrays.<Object>asList(name, listener.getInvalidationTopicName(), listener.getUpdatesLogName()),
+                    params.toArray());
+        }
+
+        future.onComplete((r, e) -> {
+            if (e != null) {
+                log.error("Unable to publish invalidation message for " + name + ". It will be retried", e);
+                add(batch);
+            }
+        });
+        return future;
+    }
+
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.io.Serializable;
+
+/**
+ * Wraps message published along with versioned updates log entry.
+ * Version is the updates log version assigned to the last change described by message.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+@SuppressWarnings("serial")
+public class LocalCachedMapVersioned implements Serializable {
+
+    private long version;
+    private Object message;
+
+    public LocalCachedMapVersioned() {
+    }
+
+    public LocalCachedMapVersioned(long version, Object message) {
+        this.version = version;
+        this.message = message;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Object getMessage() {
+        return message;
+    }
+
+}
@@ -109,6 +109,15 @@ public class LocalCachedMessageCodec extends BaseCodec {
                 return new LocalCachedMapEnable(requestId.toString(), hashes);
             }
 
+            if (type == 0x6) {
+                // version is written by Lua script as ascii number followed by ':'
+                int len = buf.bytesBefore((byte) ':');
+                CharSequence version = buf.readCharSequence(len, CharsetUtil.US_ASCII);
+                buf.skipBytes(1);
+                Object message = decode(buf, state);
+                return new LocalCachedMapVersioned((long) Double.parseDouble(version.toString()), message);
+            }
+
             throw new IllegalArgumentException("Can't parse packet");
         }
     };
@@ -187,6 +196,19 @@ public class LocalCachedMessageCodec extends BaseCodec {
                 return result;
             }
 
+            if (in instanceof LocalCachedMapVersioned) {
+                LocalCachedMapVersioned li = (LocalCachedMapVersioned) in;
+                ByteBuf message = encode(li.getMessage());
+                ByteBuf result = ByteBufAllocator.DEFAULT.buffer();
+                result.writeByte(0x6);
+
+                result.writeCharSequence(Long.toString(li.getVersion()), CharsetUtil.US_ASCII);
+                result.writeByte(':');
+                result.writeBytes(message);
+                message.release();
+                return result;
+            }
+
             throw new IllegalArgumentException("Can't encode packet " + in);
         }
     };
@@ -0,0 +1,424 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Local cache which keeps entries encoded by codec in direct memory.
+ * <p>
+ * Eviction and expiration are handled by index map. Its values hold direct buffers with encoded entry.
+ * Pooled buffers are used if index map reports removed entries and are released explicitly
+ * once entry was replaced, removed, expired or evicted. Otherwise buffers are released by garbage collector.
+ * Entries are decoded lazily on read.
+ * Optional decoded cache keeps decoded objects of most frequently read entries on heap.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class OffHeapCacheMap extends AbstractMap<CacheKey, CacheValue> implements Cache<CacheKey, CacheValue> {
+
+    static final class EncodedValue {
+
+        final ByteBuf buffer;
+        // one reference is held by index map, others by readers
+        final AtomicInteger references = new AtomicInteger(1);
+        final AtomicInteger owned = new AtomicInteger(1);
+
+        EncodedValue(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean retain() {
+            while (true) {
+                int value = references.get();
+                if (value == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(value, value + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                buffer.release();
+            }
+        }
+
+        void releaseOwner() {
+            // index map may report the same entry more than once
+            if (owned.compareAndSet(1, 0)) {
+                release();
+            }
+        }
+
+    }
+
+    static final class DecodedValue {
+
+        final EncodedValue source;
+        final CacheValue value;
+
+        DecodedValue(EncodedValue source, CacheValue value) {
+            this.source = source;
+            this.value = value;
+        }
+
+    }
+
+    private final ConcurrentMap<CacheKey, CacheValue> index;
+    private final Codec codec;
+    private final Cache<CacheKey, DecodedValue> decodedCache;
+    private final boolean pooled;
+    private final Queue<EncodedValue> removedValues = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates map which keeps entries in buffers released by garbage collector.
+     *
+     * @param index - index map
+     * @param codec - codec
+     * @param decodedCacheSize - size of decoded cache
+     */
+    public OffHeapCacheMap(ConcurrentMap<CacheKey, CacheValue> index, Codec codec, int decodedCacheSize) {
+        this(listener -> index, codec, decodedCacheSize, false);
+    }
+
+    /**
+     * Creates map which keeps entries in pooled buffers. Index map factory accepts listener
+     * which should be invoked with value of each entry removed from index map.
+     *
+     * @param indexFactory - index map factory
+     * @param codec - codec
+     * @param decodedCacheSize - size of decoded cache
+     */
+    public OffHeapCacheMap(Function<Consumer<CacheValue>, ConcurrentMap<CacheKey, CacheValue>> indexFactory,
+                           Codec codec, int decodedCacheSize) {
+        this(indexFactory, codec, decodedCacheSize, true);
+    }
+
+    private OffHeapCacheMap(Function<Consumer<CacheValue>, ConcurrentMap<CacheKey, CacheValue>> indexFactory,
+                            Codec codec, int decodedCacheSize, boolean pooled) {
+        this.codec = codec;
+        this.pooled = pooled;
+        this.index = indexFactory.apply(this::onRemoved);
+        if (decodedCacheSize > 0) {
+            decodedCache = new TinyLFUCacheMap<>(decodedCacheSize, 0, 0);
+        } else {
+            decodedCache = null;
+        }
+    }
+
+    private CacheValue encode(CacheValue value) {
+        ByteBuf keyBuf = null;
+        ByteBuf valueBuf = null;
+        try {
+            if (value.getKey() != null) {
+                keyBuf = codec.getMapKeyEncoder().encode(value.getKey());
+            }
+            // null value is stored if cache miss is cached
+            if (value.getValue() != null) {
+                valueBuf = codec.getMapValueEncoder().encode(value.getValue());
+            }
+
+            ByteBuf buffer = allocate(8 + size(keyBuf) + size(valueBuf));
+            write(buffer, keyBuf);
+            write(buffer, valueBuf);
+            return new CacheValue(null, new EncodedValue(buffer));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        } finally {
+            if (keyBuf != null) {
+                keyBuf.release();
+            }
+            if (valueBuf != null) {
+                valueBuf.release();
+            }
+        }
+    }
+
+    private ByteBuf allocate(int size) {
+        if (pooled) {
+            return ByteBufAllocator.DEFAULT.directBuffer(size, size);
+        }
+        // wrapped buffer is released by garbage collector
+        return Unpooled.wrappedBuffer(ByteBuffer.allocateDirect(size)).clear();
+    }
+
+    private void onRemoved(CacheValue value) {
+        if (value.getValue() instanceof EncodedValue) {
+            // released after decoding of previous value by the current operation
+            removedValues.add((EncodedValue) value.getValue());
+        }
+    }
+
+    private void release(CacheValue encodedValue) {
+        // value hasn't been stored in index map
+        ((EncodedValue) encodedValue.getValue()).releaseOwner();
+    }
+
+    private void releaseRemoved() {
+        while (true) {
+            EncodedValue value = removedValues.poll();
+            if (value == null) {
+                return;
+            }
+            value.releaseOwner();
+        }
+    }
+
+    private int size(ByteBuf buf) {
+        if (buf == null) {
+            return 0;
+        }
+        return buf.readableBytes();
+    }
+
+    private void write(ByteBuf buffer, ByteBuf buf) {
+        if (buf == null) {
+            buffer.writeInt(-1);
+            return;
+        }
+        buffer.writeInt(buf.readableBytes());
+        buffer.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+    }
+
+    private Object read(ByteBuf buf, Decoder<Object> decoder) throws IOException {
+        int size = buf.readInt();
+        if (size < 0) {
+            return null;
+        }
+        return decoder.decode(buf.readSlice(size), null);
+    }
+
+    private CacheValue decode(Object cacheKey, CacheValue encodedValue, boolean cacheDecoded) {
+        if (encodedValue == null) {
+            return null;
+        }
+
+        EncodedValue source = (EncodedValue) encodedValue.getValue();
+        if (decodedCache != null) {
+            DecodedValue decodedValue = decodedCache.get(cacheKey);
+            // decoded value is valid only for the same encoded entry
+            if (decodedValue != null && decodedValue.source == source) {
+                return decodedValue.value;
+            }
+        }
+
+        if (!source.retain()) {
+            // entry has been removed and released concurrently
+            return null;
+        }
+        ByteBuf buf = source.buffer.duplicate();
+        try {
+            Object key = read(buf, codec.getMapKeyDecoder());
+            Object value = read(buf, codec.getMapValueDecoder());
+            CacheValue result = new CacheValue(key, value);
+            if (cacheDecoded && decodedCache != null) {
+                decodedCache.put((CacheKey) cacheKey, new DecodedValue(source, result));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            source.release();
+        }
+    }
+
+    private void removeDecoded(Object cacheKey) {
+        if (decodedCache != null) {
+            decodedCache.remove(cacheKey);
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Map.Entry<CacheKey, CacheValue> entry : index.entrySet()) {
+            if (Objects.equals(decode(entry.getKey(), entry.getValue(), false), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CacheValue get(Object key) {
+        return decode(key, index.get(key), true);
+    }
+
+    @Override
+    public CacheValue put(CacheKey key, CacheValue value) {
+        CacheValue prevValue = index.put(key, encode(value));
+        CacheValue result = decode(key, prevValue, false);
+        removeDecoded(key);
+        releaseRemoved();
+        return result;
+    }
+
+    @Override
+    public CacheValue putIfAbsent(CacheKey key, CacheValue value) {
+        CacheValue encodedValue = encode(value);
+        CacheValue prevValue = index.putIfAbsent(key, encodedValue);
+        if (prevValue != null) {
+            release(encodedValue);
+        }
+        CacheValue result = decode(key, prevValue, true);
+        releaseRemoved();
+        return result;
+    }
+
+    @Override
+    public CacheValue remove(Object key) {
+        CacheValue prevValue = index.remove(key);
+        CacheValue result = decode(key, prevValue, false);
+        removeDecoded(key);
+        releaseRemoved();
+        return result;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        CacheValue encodedValue = index.get(key);
+        if (encodedValue == null
+                || !Objects.equals(decode(key, encodedValue, false), value)) {
+            return false;
+        }
+        boolean removed = index.remove(key, encodedValue);
+        if (removed) {
+            removeDecoded(key);
+        }
+        releaseRemoved();
+        return removed;
+    }
+
+    @Override
+    public CacheValue replace(CacheKey key, CacheValue value) {
+        CacheValue encodedValue = encode(value);
+        CacheValue prevValue = index.replace(key, encodedValue);
+        if (prevValue == null) {
+            release(encodedValue);
+        }
+        CacheValue result = decode(key, prevValue, false);
+        removeDecoded(key);
+        releaseRemoved();
+        return result;
+    }
+
+    @Override
+    public boolean replace(CacheKey key, CacheValue oldValue, CacheValue newValue) {
+        CacheValue encodedValue = index.get(key);
+        if (encodedValue == null
+                || !Objects.equals(decode(key, encodedValue, false), oldValue)) {
+            return false;
+        }
+        CacheValue newEncodedValue = encode(newValue);
+        boolean replaced = index.replace(key, encodedValue, newEncodedValue);
+        if (replaced) {
+            removeDecoded(key);
+        } else {
+            release(newEncodedValue);
+        }
+        releaseRemoved();
+        return replaced;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        if (decodedCache != null) {
+            decodedCache.clear();
+        }
+        releaseRemoved();
+    }
+
+    @Override
+    public Set<Map.Entry<CacheKey, CacheValue>> entrySet() {
+        return new AbstractSet<Map.Entry<CacheKey, CacheValue>>() {
+
+            @Override
+            public Iterator<Map.Entry<CacheKey, CacheValue>> iterator() {
+                Iterator<Map.Entry<CacheKey, CacheValue>> iterator = index.entrySet().iterator();
+                return new Iterator<Map.Entry<CacheKey, CacheValue>>() {
+
+                    private CacheKey current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<CacheKey, CacheValue> next() {
+                        Map.Entry<CacheKey, CacheValue> entry = iterator.next();
+                        current = entry.getKey();
+                        return new SimpleImmutableEntry<>(entry.getKey(), decode(entry.getKey(), entry.getValue(), false));
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        OffHeapCacheMap.this.remove(current);
+                        current = null;
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return OffHeapCacheMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                OffHeapCacheMap.this.clear();
+            }
+
+        };
+    }
+
+}
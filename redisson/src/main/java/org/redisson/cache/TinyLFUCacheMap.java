@@ -0,0 +1,914 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Window TinyLFU cache.
+ * <p>
+ * Reads are recorded into striped lossy ring buffers and writes into a write buffer.
+ * Both are applied to eviction policy in batches by the thread which acquires eviction lock,
+ * so reads don't block each other and don't allocate objects.
+ * <p>
+ * New entries are placed in admission window (1% of cache size) in LRU order.
+ * Main space is divided into probation and protected (80%) segments in SLRU order.
+ * Entry evicted from admission window is admitted to main space only if its frequency,
+ * estimated by 4-bit Count-Min sketch, is higher than frequency of probation segment victim.
+ * <p>
+ * Expired entries are removed using hierarchical timer wheel.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class TinyLFUCacheMap<K, V> extends AbstractMap<K, V> implements Cache<K, V> {
+
+    static final class Node<K, V> {
+
+        final K key;
+        final V value;
+        final long writeTime;
+        volatile long accessTime;
+
+        // fields below are guarded by eviction lock
+        int queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+        Node<K, V> timerPrev;
+        Node<K, V> timerNext;
+
+        Node(K key, V value, long time) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = time;
+            this.accessTime = time;
+        }
+
+    }
+
+    static final class AccessOrderQueue<K, V> {
+
+        Node<K, V> head;
+        Node<K, V> tail;
+
+        void add(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToTail(Node<K, V> node) {
+            if (tail != node) {
+                remove(node);
+                add(node);
+            }
+        }
+
+    }
+
+    /**
+     * Count-Min sketch with 4-bit counters. Each long holds 16 counters.
+     * Counters are halved once number of increments reaches sample size.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+                                             0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long maximumSize) {
+            int size = (int) Math.min(Math.max(maximumSize, 16), 1 << 24);
+            int length = Integer.highestOneBit(size - 1) << 1;
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = 10 * size;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int offset = counterOffset(hash, i);
+                int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = counterOffset(hash, i);
+                long mask = 0xfL << offset;
+                if ((table[index] & mask) != mask) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = additions >>> 1;
+        }
+
+        private int counterOffset(int hash, int i) {
+            return ((i << 2) + ((hash >>> (i << 3)) & 3)) << 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+
+    }
+
+    /**
+     * Hierarchical timer wheel with ~1 second, ~1 minute, ~1 hour, ~1.5 day and ~6 days buckets.
+     * Entries are rescheduled instead of removed if their expiration time was extended by access.
+     */
+    final class TimerWheel {
+
+        private final int[] buckets = {64, 64, 32, 4, 1};
+        private final int[] shifts = {10, 16, 22, 27, 29};
+        private final long[] spans = {1L << 10, 1L << 16, 1L << 22, 1L << 27, 1L << 29, 1L << 29};
+
+        private final Node<K, V>[][] wheel;
+        private long time;
+
+        @SuppressWarnings("unchecked")
+        TimerWheel(long time) {
+            this.time = time;
+            wheel = new Node[buckets.length][];
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Node[buckets[i]];
+                for (int j = 0; j < wheel[i].length; j++) {
+                    Node<K, V> sentinel = new Node<>(null, null, 0);
+                    sentinel.timerPrev = sentinel;
+                    sentinel.timerNext = sentinel;
+                    wheel[i][j] = sentinel;
+                }
+            }
+        }
+
+        void schedule(Node<K, V> node) {
+            Node<K, V> sentinel = findBucket(expirationTime(node));
+            node.timerNext = sentinel;
+            node.timerPrev = sentinel.timerPrev;
+            sentinel.timerPrev.timerNext = node;
+            sentinel.timerPrev = node;
+        }
+
+        void deschedule(Node<K, V> node) {
+            if (node.timerNext != null) {
+                node.timerNext.timerPrev = node.timerPrev;
+                node.timerPrev.timerNext = node.timerNext;
+                node.timerNext = null;
+                node.timerPrev = null;
+            }
+        }
+
+        void advance(long currentTime) {
+            long previousTime = time;
+            if (currentTime <= previousTime) {
+                return;
+            }
+            time = currentTime;
+            for (int i = 0; i < shifts.length; i++) {
+                long previousTicks = previousTime >>> shifts[i];
+                long currentTicks = currentTime >>> shifts[i];
+                if (currentTicks == previousTicks) {
+                    break;
+                }
+                expire(i, previousTicks, currentTicks);
+            }
+        }
+
+        private void expire(int index, long previousTicks, long currentTicks) {
+            Node<K, V>[] timerWheel = wheel[index];
+            int mask = timerWheel.length - 1;
+            int steps = (int) Math.min(1 + currentTicks - previousTicks, timerWheel.length);
+            int start = (int) (previousTicks & mask);
+            for (int i = start; i < start + steps; i++) {
+                Node<K, V> sentinel = timerWheel[i & mask];
+                Node<K, V> node = sentinel.timerNext;
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+
+                while (node != sentinel) {
+                    Node<K, V> next = node.timerNext;
+                    node.timerPrev = null;
+                    node.timerNext = null;
+                    if (expirationTime(node) > time) {
+                        schedule(node);
+                    } else {
+                        evict(node);
+                    }
+                    node = next;
+                }
+            }
+        }
+
+        private Node<K, V> findBucket(long expirationTime) {
+            long duration = expirationTime - time;
+            int last = wheel.length - 1;
+            for (int i = 0; i < last; i++) {
+                if (duration < spans[i + 1]) {
+                    long ticks = expirationTime >>> shifts[i];
+                    return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+                }
+            }
+            return wheel[last][0];
+        }
+
+    }
+
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    // counters of different stripes are placed in different cache lines
+    private static final int COUNTER_PADDING = 8;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+
+    private final long timeToLiveInMillis;
+    private final long maxIdleInMillis;
+
+    private final int stripeMask;
+    private final AtomicReferenceArray<Node<K, V>> readBuffer;
+    private final AtomicLongArray readBufferWrites;
+    private final AtomicLongArray readBufferReads;
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private volatile Consumer<V> removalListener;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // fields below are guarded by eviction lock
+    private final long maximumSize;
+    private final long maximumWindowSize;
+    private final long maximumProtectedSize;
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<>();
+    private final FrequencySketch sketch;
+    private final TimerWheel timerWheel;
+    private long windowSize;
+    private long protectedSize;
+    private long policySize;
+
+    public TinyLFUCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size can't be " + size);
+        }
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        this.maxIdleInMillis = maxIdleInMillis;
+
+        if (size == 0) {
+            maximumSize = Long.MAX_VALUE;
+            maximumWindowSize = Long.MAX_VALUE;
+            maximumProtectedSize = 0;
+            sketch = null;
+        } else {
+            maximumSize = size;
+            maximumWindowSize = Math.max(1, size / 100);
+            maximumProtectedSize = (long) ((size - maximumWindowSize) * 0.8);
+            sketch = new FrequencySketch(size);
+        }
+
+        if (expires()) {
+            timerWheel = new TimerWheel(System.currentTimeMillis());
+        } else {
+            timerWheel = null;
+        }
+
+        int stripes = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 64) * 2 - 1);
+        stripeMask = stripes - 1;
+        readBuffer = new AtomicReferenceArray<>(stripes * READ_BUFFER_SIZE);
+        readBufferWrites = new AtomicLongArray(stripes * COUNTER_PADDING);
+        readBufferReads = new AtomicLongArray(stripes * COUNTER_PADDING);
+    }
+
+    private boolean expires() {
+        return timeToLiveInMillis != 0 || maxIdleInMillis != 0;
+    }
+
+    private boolean evicts() {
+        return sketch != null;
+    }
+
+    long expirationTime(Node<K, V> node) {
+        long time = Long.MAX_VALUE;
+        if (timeToLiveInMillis != 0) {
+            time = node.writeTime + timeToLiveInMillis;
+        }
+        if (maxIdleInMillis != 0) {
+            time = Math.min(time, node.accessTime + maxIdleInMillis);
+        }
+        return time;
+    }
+
+    private long currentTime() {
+        if (expires()) {
+            return System.currentTimeMillis();
+        }
+        return 0;
+    }
+
+    private boolean isExpired(Node<K, V> node, long currentTime) {
+        if (expires() && expirationTime(node) <= currentTime) {
+            return true;
+        }
+        return node.value instanceof ExpirableValue
+                    && ((ExpirableValue) node.value).isExpired();
+    }
+
+    private Node<K, V> getNode(Object key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        long currentTime = currentTime();
+        if (isExpired(node, currentTime)) {
+            if (map.remove(key, node)) {
+                afterWrite(() -> onRemove(node));
+            }
+            return null;
+        }
+        if (maxIdleInMillis != 0) {
+            node.accessTime = currentTime;
+        }
+        afterRead(node);
+        return node;
+    }
+
+    /**
+     * Sets listener invoked with value of each entry removed from this map,
+     * including replaced, expired and evicted entries.
+     *
+     * @param removalListener - listener
+     */
+    public void setRemovalListener(Consumer<V> removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = map.get(key);
+        return node != null && !isExpired(node, currentTime());
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        long currentTime = currentTime();
+        for (Node<K, V> node : map.values()) {
+            if (node.value.equals(value) && !isExpired(node, currentTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = getNode(key);
+        if (node == null) {
+            return null;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        long currentTime = currentTime();
+        Node<K, V> node = new Node<>(key, value, currentTime);
+        Node<K, V> prevNode = map.put(key, node);
+        if (prevNode == null) {
+            afterWrite(() -> onAdd(node));
+            return null;
+        }
+
+        afterWrite(() -> {
+            onRemove(prevNode);
+            onAdd(node);
+        });
+        if (isExpired(prevNode, currentTime)) {
+            return null;
+        }
+        return prevNode.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        long currentTime = currentTime();
+        Node<K, V> node = new Node<>(key, value, currentTime);
+        while (true) {
+            Node<K, V> prevNode = map.putIfAbsent(key, node);
+            if (prevNode == null) {
+                afterWrite(() -> onAdd(node));
+                return null;
+            }
+            if (!isExpired(prevNode, currentTime)) {
+                afterRead(prevNode);
+                return prevNode.value;
+            }
+            if (map.replace(key, prevNode, node)) {
+                afterWrite(() -> {
+                    onRemove(prevNode);
+                    onAdd(node);
+                });
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = map.remove(key);
+        if (node == null) {
+            return null;
+        }
+        afterWrite(() -> onRemove(node));
+        if (isExpired(node, currentTime())) {
+            return null;
+        }
+        return node.value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = map.get(key);
+        if (node == null
+                || !node.value.equals(value)
+                    || isExpired(node, currentTime())) {
+            return false;
+        }
+        if (map.remove(key, node)) {
+            afterWrite(() -> onRemove(node));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        long currentTime = currentTime();
+        Node<K, V> node = new Node<>(key, value, currentTime);
+        while (true) {
+            Node<K, V> prevNode = map.get(key);
+            if (prevNode == null || isExpired(prevNode, currentTime)) {
+                return null;
+            }
+            if (map.replace(key, prevNode, node)) {
+                afterWrite(() -> {
+                    onRemove(prevNode);
+                    onAdd(node);
+                });
+                return prevNode.value;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        long currentTime = currentTime();
+        Node<K, V> prevNode = map.get(key);
+        if (prevNode == null
+                || !prevNode.value.equals(oldValue)
+                    || isExpired(prevNode, currentTime)) {
+            return false;
+        }
+        Node<K, V> node = new Node<>(key, newValue, currentTime);
+        if (map.replace(key, prevNode, node)) {
+            afterWrite(() -> {
+                onRemove(prevNode);
+                onAdd(node);
+            });
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainBuffers();
+            for (Node<K, V> node : map.values()) {
+                if (map.remove(node.key, node)) {
+                    onRemove(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeExpiredEntries() {
+        if (!expires()) {
+            return;
+        }
+
+        long currentTime = currentTime();
+        for (Node<K, V> node : map.values()) {
+            if (isExpired(node, currentTime)
+                    && map.remove(node.key, node)) {
+                afterWrite(() -> onRemove(node));
+            }
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        removeExpiredEntries();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        removeExpiredEntries();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        removeExpiredEntries();
+        return new AbstractSet<Map.Entry<K, V>>() {
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> iterator = map.values().iterator();
+                long currentTime = currentTime();
+                return new Iterator<Map.Entry<K, V>>() {
+
+                    private Node<K, V> next;
+                    private Node<K, V> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next == null && iterator.hasNext()) {
+                            Node<K, V> node = iterator.next();
+                            if (!isExpired(node, currentTime)) {
+                                next = node;
+                            }
+                        }
+                        return next != null;
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        current = next;
+                        next = null;
+                        return new SimpleImmutableEntry<>(current.key, current.value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        TinyLFUCacheMap.this.remove(current.key, current.value);
+                        current = null;
+                    }
+
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                V value = get(e.getKey());
+                return value != null && value.equals(e.getValue());
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                return TinyLFUCacheMap.this.remove(e.getKey(), e.getValue());
+            }
+
+            @Override
+            public int size() {
+                return TinyLFUCacheMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                TinyLFUCacheMap.this.clear();
+            }
+
+        };
+    }
+
+    private void afterRead(Node<K, V> node) {
+        if (!evicts()) {
+            return;
+        }
+
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        int counterIndex = stripe * COUNTER_PADDING;
+        long writes = readBufferWrites.get(counterIndex);
+        long reads = readBufferReads.get(counterIndex);
+        if (writes - reads >= READ_BUFFER_SIZE) {
+            tryMaintenance();
+            return;
+        }
+        // read is dropped under contention, frequency sketch tolerates it
+        if (readBufferWrites.compareAndSet(counterIndex, writes, writes + 1)) {
+            int index = stripe * READ_BUFFER_SIZE + (int) (writes & READ_BUFFER_MASK);
+            readBuffer.lazySet(index, node);
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        tryMaintenance();
+    }
+
+    private void tryMaintenance() {
+        while (evictionLock.tryLock()) {
+            try {
+                drainBuffers();
+                if (expires()) {
+                    timerWheel.advance(System.currentTimeMillis());
+                }
+                evictFromMain();
+            } finally {
+                evictionLock.unlock();
+            }
+
+            // tasks added during maintenance by threads which failed to acquire the lock
+            if (writeBuffer.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int counterIndex = stripe * COUNTER_PADDING;
+            long reads = readBufferReads.get(counterIndex);
+            long writes = readBufferWrites.get(counterIndex);
+            for (; reads != writes; reads++) {
+                int index = stripe * READ_BUFFER_SIZE + (int) (reads & READ_BUFFER_MASK);
+                Node<K, V> node = readBuffer.get(index);
+                if (node == null) {
+                    // slot is reserved but not published yet
+                    break;
+                }
+                readBuffer.lazySet(index, null);
+                onAccess(node);
+            }
+            readBufferReads.lazySet(counterIndex, reads);
+        }
+
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (map.get(node.key) != node) {
+            // already removed or replaced
+            return;
+        }
+
+        if (evicts()) {
+            policySize++;
+            sketch.increment(node.key);
+            node.queue = WINDOW;
+            window.add(node);
+            windowSize++;
+        }
+        if (expires()) {
+            timerWheel.schedule(node);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (!evicts() || node.queue == 0) {
+            return;
+        }
+
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            window.moveToTail(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedQueue.add(node);
+            protectedSize++;
+
+            while (protectedSize > maximumProtectedSize) {
+                Node<K, V> demoted = protectedQueue.head;
+                protectedQueue.remove(demoted);
+                protectedSize--;
+                demoted.queue = PROBATION;
+                probation.add(demoted);
+            }
+        } else {
+            protectedQueue.moveToTail(node);
+        }
+    }
+
+    private void onRemove(Node<K, V> node) {
+        Consumer<V> listener = removalListener;
+        if (listener != null) {
+            listener.accept(node.value);
+        }
+        unlink(node);
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (expires()) {
+            timerWheel.deschedule(node);
+        }
+        if (node.queue == 0) {
+            return;
+        }
+
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowSize--;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedQueue.remove(node);
+            protectedSize--;
+        }
+        node.queue = 0;
+        policySize--;
+    }
+
+    private void evict(Node<K, V> node) {
+        if (map.remove(node.key, node)) {
+            onRemove(node);
+        } else {
+            // node has been already removed or replaced,
+            // removal listener is notified by pending task
+            unlink(node);
+        }
+    }
+
+    private void evictFromMain() {
+        if (!evicts()) {
+            return;
+        }
+
+        // move admission window overflow to the tail of probation segment
+        Node<K, V> candidate = null;
+        while (windowSize > maximumWindowSize) {
+            Node<K, V> node = window.head;
+            window.remove(node);
+            windowSize--;
+            node.queue = PROBATION;
+            probation.add(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        while (policySize > maximumSize) {
+            Node<K, V> victim = probation.head;
+            if (victim == null) {
+                victim = protectedQueue.head;
+            }
+            if (victim == null) {
+                victim = window.head;
+            }
+
+            if (candidate == null || candidate == victim) {
+                if (candidate != null) {
+                    candidate = candidate.next;
+                }
+                evict(victim);
+                continue;
+            }
+
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                Node<K, V> next = candidate.next;
+                evict(candidate);
+                candidate = next;
+            }
+        }
+    }
+
+}
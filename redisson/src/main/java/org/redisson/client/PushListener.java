@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client;
+
+import java.util.List;
+
+/**
+ * Listener of RESP3 out-of-band push messages
+ * received by non-pubsub connections.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface PushListener {
+
+    /**
+     * Invoked on push message arrival.
+     * Called by netty thread, so it shouldn't block.
+     *
+     * @param connection - connection which received the message
+     * @param type - message type. For example <code>invalidate</code>
+     * @param data - message payload
+     */
+    void onMessage(RedisConnection connection, String type, List<Object> data);
+
+    /**
+     * Invoked when connection state has been lost,
+     * so all server-side state bound to it, like tracked keys, has been dropped.
+     *
+     * @param connection - closed connection
+     */
+    void onDisconnect(RedisConnection connection);
+
+}
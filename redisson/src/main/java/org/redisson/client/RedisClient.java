@@ -77,6 +77,7 @@ public final class RedisClient {
     private boolean hasOwnGroup;
     private boolean hasOwnResolver;
     private volatile boolean shutdown;
+    private final ResponseTimeStats responseTimeStats = new ResponseTimeStats();
 
     public static RedisClient create(RedisClientConfig config) {
         return new RedisClient(config);
@@ -153,6 +154,10 @@ public final class RedisClient {
         return config;
     }
 
+    public ResponseTimeStats getResponseTimeStats() {
+        return responseTimeStats;
+    }
+
     public Timer getTimer() {
         return timer;
     }
@@ -17,9 +17,14 @@ package org.redisson.client;
 
 import java.net.InetSocketAddress;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import org.redisson.config.Protocol;
 import org.redisson.config.SslProvider;
+import org.redisson.config.TrackingMode;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.RedisURI;
 
 import io.netty.channel.EventLoopGroup;
@@ -55,6 +60,7 @@ public class RedisClientConfig {
     private int pingConnectionInterval;
     private boolean keepAlive;
     private boolean tcpNoDelay;
+    private int flushConsolidationLimit;
     
     private String sslHostname;
     private boolean sslEnableEndpointIdentification = true;
@@ -65,6 +71,11 @@ public class RedisClientConfig {
     private String sslKeystorePassword;
     private String[] sslProtocols;
     private NettyHook nettyHook = new DefaultNettyHook();
+    private Protocol protocol = Protocol.RESP2;
+    private TrackingMode trackingMode = TrackingMode.NONE;
+    private List<String> trackingPrefixes = Collections.emptyList();
+    private PushListener pushListener;
+    private MetricsRecorder metricsRecorder;
 
     public RedisClientConfig() {
     }
@@ -89,6 +100,7 @@ public class RedisClientConfig {
         this.pingConnectionInterval = config.pingConnectionInterval;
         this.keepAlive = config.keepAlive;
         this.tcpNoDelay = config.tcpNoDelay;
+        this.flushConsolidationLimit = config.flushConsolidationLimit;
         this.sslEnableEndpointIdentification = config.sslEnableEndpointIdentification;
         this.sslProvider = config.sslProvider;
         this.sslTruststore = config.sslTruststore;
@@ -97,6 +109,11 @@ public class RedisClientConfig {
         this.sslKeystorePassword = config.sslKeystorePassword;
         this.resolverGroup = config.resolverGroup;
         this.sslHostname = config.sslHostname;
+        this.protocol = config.protocol;
+        this.trackingMode = config.trackingMode;
+        this.trackingPrefixes = config.trackingPrefixes;
+        this.pushListener = config.pushListener;
+        this.metricsRecorder = config.metricsRecorder;
     }
 
     public NettyHook getNettyHook() {
@@ -298,6 +315,14 @@ public class RedisClientConfig {
         return this;
     }
 
+    public int getFlushConsolidationLimit() {
+        return flushConsolidationLimit;
+    }
+    public RedisClientConfig setFlushConsolidationLimit(int flushConsolidationLimit) {
+        this.flushConsolidationLimit = flushConsolidationLimit;
+        return this;
+    }
+
     public AddressResolverGroup<InetSocketAddress> getResolverGroup() {
         return resolverGroup;
     }
@@ -321,4 +346,44 @@ public class RedisClientConfig {
         this.sslProtocols = sslProtocols;
         return this;
     }
+
+    public Protocol getProtocol() {
+        return protocol;
+    }
+    public RedisClientConfig setProtocol(Protocol protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
+    public TrackingMode getTrackingMode() {
+        return trackingMode;
+    }
+    public RedisClientConfig setTrackingMode(TrackingMode trackingMode) {
+        this.trackingMode = trackingMode;
+        return this;
+    }
+
+    public List<String> getTrackingPrefixes() {
+        return trackingPrefixes;
+    }
+    public RedisClientConfig setTrackingPrefixes(List<String> trackingPrefixes) {
+        this.trackingPrefixes = trackingPrefixes;
+        return this;
+    }
+
+    public PushListener getPushListener() {
+        return pushListener;
+    }
+    public RedisClientConfig setPushListener(PushListener pushListener) {
+        this.pushListener = pushListener;
+        return this;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+    public RedisClientConfig setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
 }
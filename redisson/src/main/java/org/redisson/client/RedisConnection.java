@@ -58,6 +58,7 @@ public class RedisConnection implements RedisCommands {
     private Runnable disconnectedListener;
 
     private volatile boolean pooled;
+    private volatile boolean shared;
     private AtomicInteger usage = new AtomicInteger();
 
     public <C> RedisConnection(RedisClient redisClient, Channel channel, RPromise<C> connectionPromise) {
@@ -98,6 +99,14 @@ public class RedisConnection implements RedisCommands {
         this.pooled = pooled;
     }
 
+    public boolean isShared() {
+        return shared;
+    }
+
+    public void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
     public boolean isQueued() {
         return queued;
     }
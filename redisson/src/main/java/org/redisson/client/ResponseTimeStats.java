@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Response time statistics of Redis node.
+ * <p>
+ * Response times are stored in histogram with logarithmic buckets,
+ * each power of two is split into 4 buckets. Counters are halved periodically,
+ * so recent samples outweigh old ones.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ResponseTimeStats {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+    private static final int UPDATE_INTERVAL = 64;
+    private static final int MIN_SAMPLES = 100;
+    private static final int MAX_SAMPLES = 4096;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicInteger timeouts = new AtomicInteger();
+    private volatile long percentile95 = -1;
+
+    static int bucket(long nanos) {
+        long value = Math.max(nanos, SUB_BUCKETS);
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exp - 2)) & (SUB_BUCKETS - 1);
+        return exp * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        int exp = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << (exp - 2);
+    }
+
+    public void record(long nanos) {
+        buckets.incrementAndGet(bucket(nanos));
+        if (samples.incrementAndGet() % UPDATE_INTERVAL == 0) {
+            update();
+        }
+    }
+
+    private synchronized void update() {
+        long total = total();
+        if (total >= MAX_SAMPLES) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.getAndUpdate(i, v -> v >> 1);
+            }
+            total = total();
+        }
+
+        if (total < MIN_SAMPLES) {
+            percentile95 = -1;
+            return;
+        }
+
+        long threshold = (long) Math.ceil(total * 0.95);
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets.get(i);
+            if (count >= threshold) {
+                percentile95 = upperBound(i);
+                return;
+            }
+        }
+    }
+
+    private long total() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns 95th percentile of response time.
+     *
+     * @return response time in nanoseconds or <code>-1</code> if there isn't enough samples
+     */
+    public long getPercentile95() {
+        return percentile95;
+    }
+
+    /**
+     * Increments amount of consecutive response timeouts.
+     *
+     * @return amount of consecutive response timeouts
+     */
+    public int incTimeouts() {
+        return timeouts.incrementAndGet();
+    }
+
+    public void resetTimeouts() {
+        if (timeouts.get() != 0) {
+            timeouts.set(0);
+        }
+    }
+
+}
@@ -17,6 +17,7 @@ package org.redisson.client.handler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +28,8 @@ import org.redisson.client.RedisClientConfig;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisLoadingException;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.config.Protocol;
+import org.redisson.config.TrackingMode;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 
@@ -64,7 +67,22 @@ public abstract class BaseConnectionHandler<C extends RedisConnection> extends C
         List<RFuture<Object>> futures = new ArrayList<RFuture<Object>>();
 
         RedisClientConfig config = redisClient.getConfig();
-        if (config.getPassword() != null) {
+        boolean resp3 = isResp3(config);
+        if (resp3) {
+            List<Object> args = new ArrayList<>();
+            args.add(3);
+            if (config.getPassword() != null) {
+                args.add("AUTH");
+                args.add(Optional.ofNullable(config.getUsername()).orElse("default"));
+                args.add(config.getPassword());
+            }
+            if (config.getClientName() != null) {
+                args.add("SETNAME");
+                args.add(config.getClientName());
+            }
+            RFuture<Object> future = connection.async(RedisCommands.HELLO, args.toArray());
+            futures.add(future);
+        } else if (config.getPassword() != null) {
             RFuture<Object> future;
             if (config.getUsername() != null) {
                 future = connection.async(RedisCommands.AUTH, config.getUsername(), config.getPassword());
@@ -77,10 +95,23 @@ public abstract class BaseConnectionHandler<C extends RedisConnection> extends C
             RFuture<Object> future = connection.async(RedisCommands.SELECT, config.getDatabase());
             futures.add(future);
         }
-        if (config.getClientName() != null) {
+        if (!resp3 && config.getClientName() != null) {
             RFuture<Object> future = connection.async(RedisCommands.CLIENT_SETNAME, config.getClientName());
             futures.add(future);
         }
+        if (resp3 && config.getTrackingMode() != TrackingMode.NONE) {
+            List<Object> args = new ArrayList<>();
+            args.add("ON");
+            if (config.getTrackingMode() == TrackingMode.BCAST) {
+                args.add("BCAST");
+                for (String prefix : config.getTrackingPrefixes()) {
+                    args.add("PREFIX");
+                    args.add(prefix);
+                }
+            }
+            RFuture<Object> future = connection.async(RedisCommands.CLIENT_TRACKING, args.toArray());
+            futures.add(future);
+        }
         if (config.isReadOnly()) {
             RFuture<Object> future = connection.async(RedisCommands.READONLY);
             futures.add(future);
@@ -120,5 +151,18 @@ public abstract class BaseConnectionHandler<C extends RedisConnection> extends C
             });
         }
     }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        RedisClientConfig config = redisClient.getConfig();
+        if (isResp3(config) && config.getPushListener() != null) {
+            config.getPushListener().onDisconnect(connection);
+        }
+        super.channelInactive(ctx);
+    }
+
+    boolean isResp3(RedisClientConfig config) {
+        return config.getProtocol() == Protocol.RESP3;
+    }
     
 }
@@ -19,6 +19,7 @@ import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.CommandsData;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
@@ -42,6 +43,25 @@ public class CommandBatchEncoder extends MessageToByteEncoder<CommandsData> {
             }
         }
 
+        if (msg instanceof CommandsData) {
+            CommandEncoder encoder = ctx.pipeline().get(CommandEncoder.class);
+            CommandsData commands = (CommandsData) msg;
+            if (commands.getCommands().stream().anyMatch(encoder::isZeroCopy)) {
+                CompositeByteBuf out = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+                try {
+                    for (CommandData<?, ?> commandData : commands.getCommands()) {
+                        encoder.encode(ctx, commandData, out);
+                    }
+                } catch (Exception e) {
+                    out.release();
+                    promise.tryFailure(e);
+                    throw e;
+                }
+                ctx.write(out, promise);
+                return;
+            }
+        }
+
         super.write(ctx, msg, promise);
     }
     
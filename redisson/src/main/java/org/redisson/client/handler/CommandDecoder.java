@@ -34,7 +34,7 @@ package org.redisson.client.handler;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.util.CharsetUtil;
 import org.redisson.client.*;
 import org.redisson.client.codec.StringCodec;
@@ -47,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.*;
 
 /**
@@ -55,20 +56,36 @@ import java.util.*;
  * @author Nikita Koksharov
  *
  */
-public class CommandDecoder extends ReplayingDecoder<State> {
+public class CommandDecoder extends ByteToMessageDecoder {
     
     final Logger log = LoggerFactory.getLogger(getClass());
 
     private static final char CR = '\r';
     private static final char LF = '\n';
     private static final char ZERO = '0';
-    
+
     final String scheme;
 
+    private final ReplyScanner scanner = new ReplyScanner();
+    private State state;
+
+    // progress of streamed reply, remaining elements amount is negative until its header is read
+    private long streamRemaining = -1;
+    private long streamIndex;
+    private StreamingCommandData<Object> pausedCommand;
+
     public CommandDecoder(String scheme) {
         this.scheme = scheme;
     }
 
+    protected State state() {
+        return state;
+    }
+
+    protected void state(State state) {
+        this.state = state;
+    }
+
     protected QueueCommand getCommand(ChannelHandlerContext ctx) {
         Queue<QueueCommandHolder> queue = ctx.channel().attr(CommandsQueue.COMMANDS_QUEUE).get();
         QueueCommandHolder holder = queue.peek();
@@ -80,12 +97,185 @@ public class CommandDecoder extends ReplayingDecoder<State> {
 
     @Override
     protected final void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
-        QueueCommand data = getCommand(ctx);
+        QueueCommand command = getCommand(ctx);
+        if (command instanceof StreamingCommandData
+                && decodeStream(ctx.channel(), in, (StreamingCommandData<Object>) command)) {
+            return;
+        }
+
+        while (true) {
+            int length = scanner.scan(in);
+            if (length == 0) {
+                return;
+            }
+
+            if (state() == null) {
+                state(new State());
+            }
+            State oldState = state();
+
+            // frame contains only complete replies, so decoding never waits for data
+            ByteBuf frame = in.slice(in.readerIndex(), length);
+            try {
+                decodeFrame(ctx, frame);
+            } finally {
+                in.skipBytes(frame.readerIndex());
+                scanner.consumed(frame.readerIndex());
+            }
 
-        if (state() == null) {
+            if (frame.readerIndex() > 0 || oldState == state()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (pausedCommand != null) {
+            // super method requests data if auto read is disabled
+            discardSomeReadBytes();
+            ctx.fireChannelReadComplete();
+            return;
+        }
+        super.channelReadComplete(ctx);
+    }
+
+    /**
+     * Decodes multi-bulk reply of streaming command element by element.
+     * Each element is passed to listener once it has been received completely,
+     * so reply is never materialized.
+     *
+     * @param channel - channel
+     * @param in - buffer
+     * @param data - streaming command
+     * @return <code>false</code> if reply isn't multi-bulk and should be decoded as regular reply
+     * @throws Exception - if reply is malformed
+     */
+    private boolean decodeStream(Channel channel, ByteBuf in, StreamingCommandData<Object> data) throws Exception {
+        if (streamRemaining < 0) {
+            if (!in.isReadable()) {
+                return true;
+            }
+            byte code = in.getByte(in.readerIndex());
+            if (code != '*' && code != '~' && code != '%') {
+                // errors, nulls and push messages
+                return false;
+            }
+            if (in.indexOf(in.readerIndex(), in.writerIndex(), (byte) LF) == -1) {
+                return true;
+            }
+
+            in.skipBytes(1);
+            long size = readLong(in);
+            if (code == '%') {
+                size *= 2;
+            }
+            // scanner could examine beginning of reply, but elements are scanned as separate replies
+            scanner.reset();
             state(new State());
+            state().incLevel();
+            streamIndex = 0;
+            streamRemaining = Math.max(size, 0);
         }
-        
+
+        if (streamRemaining > 0) {
+            int length = scanner.scan(in);
+            if (length == 0) {
+                return true;
+            }
+
+            ByteBuf frame = in.slice(in.readerIndex(), length);
+            try {
+                while (streamRemaining > 0 && frame.isReadable()) {
+                    List<Object> elements = decodeStreamElement(channel, frame, data);
+                    streamRemaining--;
+                    for (Object element : elements) {
+                        streamIndex++;
+                        if (!data.getPromise().isDone()
+                                && !data.getListener().onElement(element)) {
+                            pause(channel, data);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Unable to decode data. channel: " + channel + ", reply: " + LogHelper.toString(frame) + ", command: " + LogHelper.toString(data), e);
+                in.skipBytes(frame.readerIndex());
+                data.tryFailure(e);
+                completeStream(channel);
+                throw e;
+            }
+            in.skipBytes(frame.readerIndex());
+            scanner.consumed(frame.readerIndex());
+
+            if (streamRemaining > 0) {
+                return true;
+            }
+        }
+
+        data.getPromise().trySuccess(streamIndex);
+        completeStream(channel);
+        return true;
+    }
+
+    private List<Object> decodeStreamElement(Channel channel, ByteBuf in, StreamingCommandData<Object> data) throws IOException {
+        CommandData<Object, Object> cmd = (CommandData<Object, Object>) (Object) data;
+        if (in.getByte(in.readerIndex()) == '$') {
+            in.skipBytes(1);
+            ByteBuf buf = readBytes(in);
+            if (buf == null) {
+                return Collections.singletonList(null);
+            }
+            // decoder depends on element position, e.g. map key or value
+            MultiDecoder<Object> multiDecoder = data.getCommand().getReplayMultiDecoder();
+            Decoder<Object> decoder = multiDecoder.getDecoder(data.getCodec(), (int) streamIndex, state());
+            return Collections.singletonList(decoder.decode(buf, state()));
+        }
+
+        // nested RESP3 pair is inlined into parts
+        List<Object> parts = new ArrayList<>(2);
+        decode(in, cmd, parts, channel, false, null);
+        if (parts.isEmpty()) {
+            return Collections.singletonList(null);
+        }
+        return parts;
+    }
+
+    private void pause(Channel channel, StreamingCommandData<Object> data) {
+        if (pausedCommand != null) {
+            return;
+        }
+
+        pausedCommand = data;
+        channel.config().setAutoRead(false);
+        data.getListener().onPause(() -> {
+            channel.eventLoop().execute(() -> {
+                if (pausedCommand == data) {
+                    pausedCommand = null;
+                    channel.config().setAutoRead(true);
+                }
+            });
+        });
+    }
+
+    private void completeStream(Channel channel) {
+        streamRemaining = -1;
+        // scanner could examine replies following streamed reply
+        scanner.reset();
+        if (pausedCommand != null) {
+            // connection is used by other commands
+            pausedCommand = null;
+            channel.config().setAutoRead(true);
+        }
+        sendNext(channel);
+    }
+
+    private void decodeFrame(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+        if (decodePush(ctx.channel(), in)) {
+            return;
+        }
+
+        QueueCommand data = getCommand(ctx);
+
         if (data == null) {
             while (in.writerIndex() > in.readerIndex()) {
                 int endIndex = skipCommand(in);
@@ -142,21 +332,82 @@ public class CommandDecoder extends ReplayingDecoder<State> {
     
     protected void skipDecode(ByteBuf in) throws IOException{
         int code = in.readByte();
-        if (code == '+') {
-            skipString(in);
-        } else if (code == '-') {
-            skipString(in);
-        } else if (code == ':') {
+        if (code == '+' || code == '-' || code == ':'
+                || code == '_' || code == ',' || code == '#' || code == '(') {
             skipString(in);
-        } else if (code == '$') {
+        } else if (code == '$' || code == '=' || code == '!') {
             skipBytes(in);
-        } else if (code == '*') {
+        } else if (code == '*' || code == '~' || code == '>') {
             long size = readLong(in);
             for (int i = 0; i < size; i++) {
                 skipDecode(in);
             }
+        } else if (code == '%') {
+            long size = readLong(in);
+            for (int i = 0; i < size * 2; i++) {
+                skipDecode(in);
+            }
+        } else if (code == '|') {
+            long size = readLong(in);
+            for (int i = 0; i < size * 2; i++) {
+                skipDecode(in);
+            }
+            skipDecode(in);
         }
     }
+
+    /**
+     * Handles RESP3 push message if it's located at current reader index.
+     * Push messages aren't replies, so they don't affect commands queue.
+     *
+     * @param channel - channel
+     * @param in - buffer
+     * @return <code>true</code> if push message has been handled
+     * @throws IOException - if message is malformed
+     */
+    protected boolean decodePush(Channel channel, ByteBuf in) throws IOException {
+        if (in.getByte(in.readerIndex()) != '>') {
+            return false;
+        }
+
+        in.skipBytes(1);
+        List<Object> message = (List<Object>) decodePushPart(in, '*');
+        if (!message.isEmpty()) {
+            RedisConnection connection = RedisConnection.getFrom(channel);
+            PushListener listener = connection.getRedisClient().getConfig().getPushListener();
+            if (listener != null) {
+                String type = message.get(0).toString();
+                listener.onMessage(connection, type, message.subList(1, message.size()));
+            }
+        }
+        return true;
+    }
+
+    private Object decodePushPart(ByteBuf in, int code) throws IOException {
+        if (code == '*' || code == '~' || code == '>') {
+            long size = readLong(in);
+            List<Object> result = new ArrayList<>(Math.max((int) size, 0));
+            for (int i = 0; i < size; i++) {
+                result.add(decodePushPart(in, in.readByte()));
+            }
+            return result;
+        }
+        if (code == '$' || code == '=') {
+            ByteBuf buf = readBytes(in);
+            if (buf == null) {
+                return null;
+            }
+            return buf.toString(CharsetUtil.UTF_8);
+        }
+        if (code == ':') {
+            return readLong(in);
+        }
+        if (code == '_') {
+            readString(in);
+            return null;
+        }
+        return readString(in);
+    }
     
     private void skipBytes(ByteBuf is) throws IOException {
         long l = readLong(is);
@@ -228,7 +479,10 @@ public class CommandDecoder extends ReplayingDecoder<State> {
                 break;
             }
 
-            checkpoint();
+            if (decodePush(channel, in)) {
+                continue;
+            }
+
             state().setBatchIndex(i);
             
             int endIndex = skipCommand(in);
@@ -282,7 +536,6 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             }
 
             if (i == 0 && commandBatch.isSkipResult() && commandBatch.isSyncSlaves()) {
-                checkpoint();
                 state().setBatchIndex(commandBatch.getCommands().size() - 1);
                 return;
             }
@@ -303,7 +556,6 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             
             sendNext(channel);
         } else {
-            checkpoint();
             state().setBatchIndex(i);
         }
     }
@@ -366,8 +618,17 @@ public class CommandDecoder extends ReplayingDecoder<State> {
                 result = decoder.decode(buf, state());
             }
             handleResult(data, parts, result, false);
-        } else if (code == '*') {
+        } else if (code == '*' || code == '~' || code == '>') {
             long size = readLong(in);
+            if (parts != null && commandsData == null && data != null && data.getCommand().isNestedPairsReply()) {
+                // RESP3 pair is inlined into parts of enclosing reply,
+                // so MultiDecoder implementations get the same flat list as for RESP2 reply
+                for (int i = 0; i < size; i++) {
+                    decode(in, data, parts, channel, skipConvertor, null);
+                }
+                return;
+            }
+
             List<Object> respParts = new ArrayList<Object>(Math.max((int) size, 0));
             
             state().incLevel();
@@ -376,12 +637,92 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             
             state().decLevel();
             
+        } else if (code == '%') {
+            long size = readLong(in);
+            if (data != null && data.getCommand().isMapOfPairsReply()) {
+                // RESP3 map is decoded as list of key and value pairs like RESP2 reply
+                List<Object> respParts = new ArrayList<Object>(Math.max((int) size, 0));
+
+                state().incLevel();
+
+                for (int i = 0; i < size; i++) {
+                    state().incLevel();
+                    decodeList(in, data, respParts, channel, 2, new ArrayList<>(2), skipConvertor, null);
+                    state().decLevel();
+                }
+                // all elements are decoded, so only MultiDecoder is applied
+                decodeList(in, data, parts, channel, size, respParts, skipConvertor, null);
+
+                state().decLevel();
+                return;
+            }
+
+            // RESP3 map is decoded as flat list of keys and values
+            // to keep MultiDecoder implementations compatible with RESP2 replies
+            size *= 2;
+            List<Object> respParts = new ArrayList<Object>(Math.max((int) size, 0));
+
+            state().incLevel();
+
+            decodeList(in, data, parts, channel, size, respParts, skipConvertor, commandsData);
+
+            state().decLevel();
+        } else if (code == '_') {
+            readString(in);
+            handleResult(data, parts, null, false);
+        } else if (code == ',') {
+            String result = readString(in);
+            handleResult(data, parts, parseDouble(result), false);
+        } else if (code == '#') {
+            String result = readString(in);
+            handleResult(data, parts, "t".equals(result), false);
+        } else if (code == '(') {
+            String result = readString(in);
+            handleResult(data, parts, new BigInteger(result), false);
+        } else if (code == '=') {
+            ByteBuf buf = readBytes(in);
+            Object result = null;
+            if (buf != null) {
+                // skip format prefix, like "txt:"
+                buf.skipBytes(4);
+                Decoder<Object> decoder = selectDecoder(data, parts);
+                result = decoder.decode(buf, state());
+            }
+            handleResult(data, parts, result, false);
+        } else if (code == '!') {
+            ByteBuf buf = readBytes(in);
+            String error = buf.toString(CharsetUtil.UTF_8);
+            if (data != null) {
+                data.tryFailure(new RedisException(error + ". channel: " + channel + " command: " + LogHelper.toString(data)));
+            } else {
+                log.error("Error message from Redis: {} channel: {}", error, channel);
+            }
+        } else if (code == '|') {
+            // attributes aren't used
+            long size = readLong(in);
+            for (int i = 0; i < size * 2; i++) {
+                skipDecode(in);
+            }
+            decode(in, data, parts, channel, skipConvertor, commandsData);
         } else {
             String dataStr = in.toString(0, in.writerIndex(), CharsetUtil.UTF_8);
             throw new IllegalStateException("Can't decode replay: " + dataStr);
         }
     }
 
+    private Double parseDouble(String value) {
+        if ("inf".equals(value)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if ("-inf".equals(value)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if ("nan".equals(value)) {
+            return Double.NaN;
+        }
+        return Double.valueOf(value);
+    }
+
     private String readString(ByteBuf in) {
         int len = in.bytesBefore((byte) '\r');
         String result = in.toString(in.readerIndex(), len, CharsetUtil.UTF_8);
@@ -34,6 +34,7 @@ package org.redisson.client.handler;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
@@ -57,6 +58,12 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
 
     public static final CommandEncoder INSTANCE = new CommandEncoder();
     
+    /**
+     * Arguments of this size or bigger are added to output as is,
+     * without copying into the output buffer.
+     */
+    static final int ZERO_COPY_THRESHOLD = 16 * 1024;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private static final char ARGS_PREFIX = '*';
@@ -72,6 +79,18 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
         }
 
         try {
+            if (msg instanceof CommandData && isZeroCopy((CommandData<?, ?>) msg)) {
+                CompositeByteBuf out = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+                try {
+                    encode(ctx, (CommandData<?, ?>) msg, out);
+                } catch (Exception e) {
+                    out.release();
+                    throw e;
+                }
+                ctx.write(out, promise);
+                return;
+            }
+
             super.write(ctx, msg, promise);
         } catch (Exception e) {
             promise.tryFailure(e);
@@ -79,21 +98,28 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
         }
     }
     
+    /**
+     * Checks if command contains arguments which should be sent without copying.
+     *
+     * @param msg - command
+     * @return <code>true</code> if command should be encoded into {@link CompositeByteBuf}
+     */
+    boolean isZeroCopy(CommandData<?, ?> msg) {
+        for (Object param : msg.getParams()) {
+            if (param instanceof ByteBuf && ((ByteBuf) param).readableBytes() >= ZERO_COPY_THRESHOLD) {
+                return true;
+            }
+            if (param instanceof byte[] && ((byte[]) param).length >= ZERO_COPY_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, CommandData<?, ?> msg, ByteBuf out) throws Exception {
         try {
-            out.writeByte(ARGS_PREFIX);
-            int len = 1 + msg.getParams().length;
-            if (msg.getCommand().getSubName() != null) {
-                len++;
-            }
-            out.writeCharSequence(Long.toString(len), CharsetUtil.US_ASCII);
-            out.writeBytes(CRLF);
-            
-            writeArgument(out, msg.getCommand().getName().getBytes(CharsetUtil.UTF_8));
-            if (msg.getCommand().getSubName() != null) {
-                writeArgument(out, msg.getCommand().getSubName().getBytes(CharsetUtil.UTF_8));
-            }
+            writeHeader(out, msg);
 
             for (Object param : msg.getParams()) {
                 ByteBuf buf = encode(param);
@@ -103,19 +129,86 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
                 }
             }
             
-            if (log.isTraceEnabled()) {
-                String info = out.toString(CharsetUtil.UTF_8);
-                if (RedisCommands.AUTH.equals(msg.getCommand())) {
-                    info = info.substring(0, info.indexOf(RedisCommands.AUTH.getName()) + RedisCommands.AUTH.getName().length()) + "(password masked)";
+            trace(ctx, msg, out);
+        } catch (Exception e) {
+            msg.tryFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes command into composite buffer. Small arguments and protocol headers
+     * are written into intermediate buffers, big arguments are added as components.
+     * Parameter buffers are retained, because they are released
+     * after command completion and could be used for command retry.
+     *
+     * @param ctx - channel context
+     * @param msg - command
+     * @param out - output buffer
+     * @throws Exception - if command can't be encoded
+     */
+    void encode(ChannelHandlerContext ctx, CommandData<?, ?> msg, CompositeByteBuf out) throws Exception {
+        ByteBuf current = ctx.alloc().buffer();
+        try {
+            writeHeader(current, msg);
+
+            for (Object param : msg.getParams()) {
+                ByteBuf buf = encode(param);
+                if (buf.readableBytes() < ZERO_COPY_THRESHOLD) {
+                    writeArgument(current, buf);
+                    if (!(param instanceof ByteBuf)) {
+                        buf.release();
+                    }
+                    continue;
+                }
+
+                writeArgumentHeader(current, buf.readableBytes());
+                out.addComponent(true, current);
+                current = null;
+                if (param instanceof ByteBuf) {
+                    out.addComponent(true, buf.retainedSlice());
+                } else {
+                    out.addComponent(true, buf);
                 }
-                log.trace("channel: {} message: {}", ctx.channel(), info);
+                current = ctx.alloc().buffer();
+                current.writeBytes(CRLF);
             }
+
+            out.addComponent(true, current);
+            current = null;
+
+            trace(ctx, msg, out);
         } catch (Exception e) {
+            if (current != null) {
+                current.release();
+            }
             msg.tryFailure(e);
             throw e;
         }
     }
 
+    private void writeHeader(ByteBuf out, CommandData<?, ?> msg) {
+        out.writeByte(ARGS_PREFIX);
+        int len = 1 + msg.getParams().length;
+        if (msg.getCommand().getSubName() != null) {
+            len++;
+        }
+        out.writeCharSequence(Long.toString(len), CharsetUtil.US_ASCII);
+        out.writeBytes(CRLF);
+
+        out.writeBytes(msg.getCommand().getEncodedName());
+    }
+
+    private void trace(ChannelHandlerContext ctx, CommandData<?, ?> msg, ByteBuf out) {
+        if (log.isTraceEnabled()) {
+            String info = out.toString(CharsetUtil.UTF_8);
+            if (RedisCommands.AUTH.equals(msg.getCommand())) {
+                info = info.substring(0, info.indexOf(RedisCommands.AUTH.getName()) + RedisCommands.AUTH.getName().length()) + "(password masked)";
+            }
+            log.trace("channel: {} message: {}", ctx.channel(), info);
+        }
+    }
+
     private ByteBuf encode(Object in) {
         if (in instanceof byte[]) {
             return Unpooled.wrappedBuffer((byte[]) in);
@@ -133,18 +226,14 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
         return buf;
     }
     
-    private void writeArgument(ByteBuf out, byte[] arg) {
+    private void writeArgumentHeader(ByteBuf out, int length) {
         out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.length), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
-        out.writeBytes(arg);
+        out.writeCharSequence(Long.toString(length), CharsetUtil.US_ASCII);
         out.writeBytes(CRLF);
     }
-    
+
     private void writeArgument(ByteBuf out, ByteBuf arg) {
-        out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.readableBytes()), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
+        writeArgumentHeader(out, arg.readableBytes());
         out.writeBytes(arg, arg.readerIndex(), arg.readableBytes());
         out.writeBytes(CRLF);
     }
@@ -117,8 +117,6 @@ public class CommandPubSubDecoder extends CommandDecoder {
         }
 
         if (result instanceof Message) {
-            checkpoint();
-
             RedisPubSubConnection pubSubConnection = RedisPubSubConnection.getFrom(channel);
             ChannelName channelName = ((Message) result).getChannel();
             if (result instanceof PubSubStatusMessage) {
@@ -21,7 +21,9 @@ import io.netty.channel.ChannelPromise;
 import io.netty.util.AttributeKey;
 import org.redisson.client.WriteRedisConnectionException;
 import org.redisson.client.protocol.*;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.LogHelper;
+import org.redisson.misc.RedisURI;
 
 import java.net.SocketAddress;
 import java.util.Iterator;
@@ -39,6 +41,18 @@ public class CommandsQueue extends ChannelDuplexHandler {
 
     public static final AttributeKey<Queue<QueueCommandHolder>> COMMANDS_QUEUE = AttributeKey.valueOf("COMMANDS_QUEUE");
 
+    private final MetricsRecorder metrics;
+    private final RedisURI node;
+
+    public CommandsQueue() {
+        this(null, null);
+    }
+
+    public CommandsQueue(MetricsRecorder metrics, RedisURI node) {
+        this.metrics = metrics;
+        this.node = node;
+    }
+
     @Override
     public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress, ChannelPromise promise) throws Exception {
         super.connect(ctx, remoteAddress, localAddress, promise);
@@ -76,6 +90,14 @@ public class CommandsQueue extends ChannelDuplexHandler {
         if (msg instanceof QueueCommand) {
             QueueCommand data = (QueueCommand) msg;
             QueueCommandHolder holder = new QueueCommandHolder(data, promise);
+            if (metrics != null) {
+                long startTime = System.nanoTime();
+                promise.addListener(f -> {
+                    if (f.isSuccess()) {
+                        metrics.commandWritten(node, System.nanoTime() - startTime);
+                    }
+                });
+            }
 
             Queue<QueueCommandHolder> queue = ctx.channel().attr(COMMANDS_QUEUE).get();
 
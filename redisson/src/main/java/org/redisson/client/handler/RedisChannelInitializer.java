@@ -38,6 +38,7 @@ import org.redisson.config.SslProvider;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.group.ChannelGroup;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
@@ -77,6 +78,10 @@ public class RedisChannelInitializer extends ChannelInitializer<Channel> {
     @Override
     protected void initChannel(Channel ch) throws Exception {
         initSsl(config, ch);
+
+        if (config.getFlushConsolidationLimit() > 0) {
+            ch.pipeline().addLast(new FlushConsolidationHandler(config.getFlushConsolidationLimit(), true));
+        }
         
         if (type == Type.PLAIN) {
             ch.pipeline().addLast(new RedisConnectionHandler(redisClient));
@@ -90,7 +95,7 @@ public class RedisChannelInitializer extends ChannelInitializer<Channel> {
             CommandBatchEncoder.INSTANCE);
 
         if (type == Type.PLAIN) {
-            ch.pipeline().addLast(new CommandsQueue());
+            ch.pipeline().addLast(new CommandsQueue(config.getMetricsRecorder(), config.getAddress()));
         } else {
             ch.pipeline().addLast(new CommandsQueuePubSub());
         }
@@ -16,6 +16,7 @@
 package org.redisson.client.handler;
 
 import org.redisson.client.RedisClient;
+import org.redisson.client.RedisClientConfig;
 import org.redisson.client.RedisPubSubConnection;
 
 import io.netty.channel.ChannelHandlerContext;
@@ -36,4 +37,10 @@ public class RedisPubSubConnectionHandler extends BaseConnectionHandler<RedisPub
         return new RedisPubSubConnection(redisClient, ctx.channel(), connectionPromise);
     }
 
+    @Override
+    boolean isResp3(RedisClientConfig config) {
+        // PubSub messages are handled by CommandPubSubDecoder in RESP2 format
+        return false;
+    }
+
 }
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ByteProcessor;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Incremental scanner of Redis replies.
+ * Finds boundaries of complete replies without decoding them.
+ * Scanning resumes from the element it stopped on,
+ * so each byte of a fragmented reply is examined only once.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+final class ReplyScanner {
+
+    private long[] remaining = new long[8];
+    private int depth;
+
+    // offsets are relative to reader index of buffer
+    private int offset;
+    private int completeOffset;
+
+    /**
+     * Scans new data of buffer.
+     *
+     * @param in - buffer
+     * @return amount of bytes from reader index which contain complete replies
+     * @throws IOException - if reply is malformed
+     */
+    int scan(ByteBuf in) throws IOException {
+        int base = in.readerIndex();
+        int limit = in.readableBytes();
+        while (offset < limit) {
+            int pos = base + offset;
+            int lf = in.forEachByte(pos, limit - offset, ByteProcessor.FIND_LF);
+            if (lf == -1) {
+                break;
+            }
+
+            byte code = in.getByte(pos);
+            int next = lf + 1;
+            switch (code) {
+                case '$':
+                case '=':
+                case '!':
+                    long size = readLong(in, pos + 1, lf - 1);
+                    if (size >= 0) {
+                        if (next + size + 2 > base + limit) {
+                            return completeOffset;
+                        }
+                        next += size + 2;
+                    }
+                    offset = next - base;
+                    completeElement();
+                    break;
+                case '*':
+                case '~':
+                case '>':
+                case '%':
+                case '|':
+                    long count = readLong(in, pos + 1, lf - 1);
+                    if (code == '%') {
+                        count *= 2;
+                    } else if (code == '|') {
+                        // attribute is followed by reply it belongs to
+                        count = count * 2 + 1;
+                    }
+                    offset = next - base;
+                    if (count > 0) {
+                        push(count);
+                    } else {
+                        completeElement();
+                    }
+                    break;
+                default:
+                    offset = next - base;
+                    completeElement();
+                    break;
+            }
+        }
+        return completeOffset;
+    }
+
+    /**
+     * Notifies scanner that bytes have been read from buffer.
+     *
+     * @param bytes - amount of read bytes
+     */
+    void consumed(int bytes) {
+        offset -= bytes;
+        completeOffset -= bytes;
+    }
+
+    /**
+     * Discards scanning progress.
+     * Scanning restarts from reader index of buffer.
+     */
+    void reset() {
+        depth = 0;
+        offset = 0;
+        completeOffset = 0;
+    }
+
+    private void push(long count) {
+        if (depth == remaining.length) {
+            remaining = Arrays.copyOf(remaining, depth * 2);
+        }
+        remaining[depth++] = count;
+    }
+
+    private void completeElement() {
+        while (depth > 0) {
+            if (--remaining[depth - 1] > 0) {
+                return;
+            }
+            depth--;
+        }
+        completeOffset = offset;
+    }
+
+    private long readLong(ByteBuf in, int from, int to) throws IOException {
+        long value = 0;
+        int sign = 1;
+        int i = from;
+        if (in.getByte(i) == '-') {
+            sign = -1;
+            i++;
+        }
+        for (; i < to; i++) {
+            int digit = in.getByte(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IOException("Invalid character in integer");
+            }
+            value = value * 10 + digit;
+        }
+        return value * sign;
+    }
+
+}
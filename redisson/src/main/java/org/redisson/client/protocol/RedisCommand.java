@@ -15,6 +15,8 @@
  */
 package org.redisson.client.protocol;
 
+import java.nio.charset.StandardCharsets;
+
 import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.EmptyConvertor;
 import org.redisson.client.protocol.decoder.MultiDecoder;
@@ -29,9 +31,13 @@ public class RedisCommand<R> {
 
     private final String name;
     private final String subName;
+    private final byte[] encodedName;
 
     private final MultiDecoder<R> replayMultiDecoder;
     Convertor<R> convertor = new EmptyConvertor<R>();
+    private boolean streamed;
+    private boolean nestedPairsReply;
+    private boolean mapOfPairsReply;
 
     /**
      * Copy command and change name
@@ -42,15 +48,21 @@ public class RedisCommand<R> {
     public RedisCommand(RedisCommand<R> command, String name) {
         this.name = name;
         this.subName = command.subName;
+        this.encodedName = encode(name, subName);
         this.replayMultiDecoder = command.replayMultiDecoder;
         this.convertor = command.convertor;
+        this.nestedPairsReply = command.nestedPairsReply;
+        this.mapOfPairsReply = command.mapOfPairsReply;
     }
     
     public RedisCommand(RedisCommand<R> command, String name, Convertor<R> convertor) {
         this.name = name;
         this.subName = command.subName;
+        this.encodedName = encode(name, subName);
         this.replayMultiDecoder = command.replayMultiDecoder;
         this.convertor = convertor;
+        this.nestedPairsReply = command.nestedPairsReply;
+        this.mapOfPairsReply = command.mapOfPairsReply;
     }
 
     public RedisCommand(String name) {
@@ -84,6 +96,7 @@ public class RedisCommand<R> {
         super();
         this.name = name;
         this.subName = subName;
+        this.encodedName = encode(name, subName);
         if (replayMultiDecoder != null) {
             this.replayMultiDecoder = replayMultiDecoder;
         } else {
@@ -91,6 +104,29 @@ public class RedisCommand<R> {
         }
     }
 
+    private static byte[] encode(String name, String subName) {
+        StringBuilder result = new StringBuilder();
+        for (String part : new String[] {name, subName}) {
+            if (part == null) {
+                continue;
+            }
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            result.append('$').append(bytes.length).append("\r\n")
+                    .append(new String(bytes, StandardCharsets.ISO_8859_1)).append("\r\n");
+        }
+        return result.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns command name and sub name encoded as Redis protocol bulk strings.
+     * Returned array is shared and shouldn't be modified.
+     *
+     * @return encoded name bytes
+     */
+    public byte[] getEncodedName() {
+        return encodedName;
+    }
+
     public String getSubName() {
         return subName;
     }
@@ -107,6 +143,54 @@ public class RedisCommand<R> {
         return convertor;
     }
 
+    /**
+     * Returns copy of this command which reply is streamed to listener.
+     * Streamed command always gets dedicated connection,
+     * since reading of its reply could be paused by slow consumer.
+     *
+     * @return streamed command
+     */
+    public RedisCommand<R> toStreamed() {
+        RedisCommand<R> command = new RedisCommand<>(this, name);
+        command.streamed = true;
+        return command;
+    }
+
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * Marks command which RESP3 reply contains member and score or field and value pairs as nested arrays.
+     * Nested arrays are inlined during decoding,
+     * so MultiDecoder gets the same flat list as for RESP2 reply.
+     *
+     * @return this command
+     */
+    public RedisCommand<R> nestedPairsReply() {
+        this.nestedPairsReply = true;
+        return this;
+    }
+
+    public boolean isNestedPairsReply() {
+        return nestedPairsReply;
+    }
+
+    /**
+     * Marks command which RESP3 reply is a map and RESP2 reply is an array of key and value pairs.
+     * Map is decoded as list of key and value pairs like RESP2 reply.
+     *
+     * @return this command
+     */
+    public RedisCommand<R> mapOfPairsReply() {
+        this.mapOfPairsReply = true;
+        return this;
+    }
+
+    public boolean isMapOfPairsReply() {
+        return mapOfPairsReply;
+    }
+
     public String toString() {
         StringBuilder str = new StringBuilder();
         str.append("(").append(name);
@@ -55,4 +55,10 @@ public class RedisStrictCommand<T> extends RedisCommand<T> {
         this.convertor = convertor;
     }
 
+    @Override
+    public RedisStrictCommand<T> nestedPairsReply() {
+        super.nestedPairsReply();
+        return this;
+    }
+
 }
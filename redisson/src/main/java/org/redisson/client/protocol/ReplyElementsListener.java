@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.protocol;
+
+/**
+ * Listener of elements of streamed multi-bulk reply.
+ * Methods are invoked by connection event loop in order of elements in reply.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface ReplyElementsListener {
+
+    /**
+     * Invoked for each decoded element of reply.
+     * <p>
+     * Returning <code>false</code> pauses reading from connection.
+     * Elements already received from connection are still passed to listener.
+     *
+     * @param element - decoded element
+     * @return <code>true</code> if listener is able to accept more elements
+     */
+    boolean onElement(Object element);
+
+    /**
+     * Invoked once reading from connection has been paused.
+     * Listener should run <code>resume</code> callback when it's able to accept elements again.
+     *
+     * @param resume - callback which resumes reading from connection
+     */
+    void onPause(Runnable resume);
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.client.protocol;
+
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.LogHelper;
+import org.redisson.misc.RPromise;
+
+/**
+ * Command which multi-bulk reply isn't materialized.
+ * Its elements are passed to {@link ReplyElementsListener} as they are decoded
+ * and promise is completed with amount of elements once reply has been read.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <T> input type
+ */
+public class StreamingCommandData<T> extends CommandData<T, Long> {
+
+    private final ReplyElementsListener listener;
+
+    public StreamingCommandData(RPromise<Long> promise, Codec codec, RedisCommand<T> command, Object[] params,
+                                ReplyElementsListener listener) {
+        super(promise, codec, command, params);
+        this.listener = listener;
+    }
+
+    public ReplyElementsListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingCommandData [promise=" + getPromise() + ", command=" + getCommand() + ", params="
+                + LogHelper.toString(getParams()) + ", codec=" + getCodec() + "]";
+    }
+
+}
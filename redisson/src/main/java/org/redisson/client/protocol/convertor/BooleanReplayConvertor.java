@@ -27,7 +27,7 @@ public class BooleanReplayConvertor implements Convertor<Boolean> {
         if (obj == null) {
             return null;
         }
-        return Long.valueOf(1).equals(obj) || "OK".equals(obj);
+        return Long.valueOf(1).equals(obj) || "OK".equals(obj) || Boolean.TRUE.equals(obj);
     }
 
 
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Prepends random 8-bytes prefix to each value encoded by inner <code>Codec</code>,
+ * so equal values could be stored in Redis Set or Sorted Set more than once.
+ * Prefix is skipped during decoding.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class UniquePrefixCodec extends BaseCodec {
+
+    public static final int PREFIX_LENGTH = 8;
+
+    private final Codec innerCodec;
+
+    public UniquePrefixCodec(Codec innerCodec) {
+        this.innerCodec = innerCodec;
+    }
+
+    public UniquePrefixCodec(ClassLoader classLoader, UniquePrefixCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec));
+    }
+
+    private final Decoder<Object> decoder = new Decoder<Object>() {
+
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            buf.skipBytes(PREFIX_LENGTH);
+            return innerCodec.getValueDecoder().decode(buf, state);
+        }
+    };
+
+    private final Encoder encoder = new Encoder() {
+
+        @Override
+        public ByteBuf encode(Object in) throws IOException {
+            ByteBuf encoded = innerCodec.getValueEncoder().encode(in);
+            try {
+                ByteBuf out = ByteBufAllocator.DEFAULT.buffer(PREFIX_LENGTH + encoded.readableBytes());
+                out.writeLong(ThreadLocalRandom.current().nextLong());
+                out.writeBytes(encoded);
+                return out;
+            } finally {
+                encoded.release();
+            }
+        }
+    };
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return innerCodec.getClassLoader();
+    }
+
+}
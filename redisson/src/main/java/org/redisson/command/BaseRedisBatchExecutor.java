@@ -73,6 +73,11 @@ public class BaseRedisBatchExecutor<V, R> extends RedisExecutor<V, R> {
         }
     }
 
+    @Override
+    protected boolean isHedgeAllowed() {
+        return false;
+    }
+
     protected final MasterSlaveEntry getEntry(NodeSource source) {
         if (source.getSlot() != null) {
             MasterSlaveEntry entry = connectionManager.getEntry(source.getSlot());
@@ -22,6 +22,7 @@ import org.redisson.client.RedisClient;
 import org.redisson.client.RedisException;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.liveobject.core.RedissonObjectBuilder;
@@ -88,6 +89,34 @@ public interface CommandAsyncExecutor {
     
     <T, R> RFuture<R> readAsync(String key, Codec codec, RedisCommand<T> command, Object... params);
 
+    /**
+     * Executes read command without materialization of its multi-bulk reply.
+     * Reply elements are passed to <code>listener</code> as they are decoded.
+     *
+     * @param key - key
+     * @param codec - codec
+     * @param command - command
+     * @param listener - listener of reply elements
+     * @param params - command params
+     * @param <T> type of command
+     * @return amount of reply elements
+     */
+    <T> RFuture<Long> readStreamingAsync(String key, Codec codec, RedisCommand<T> command, ReplyElementsListener listener, Object... params);
+
+    /**
+     * Executes read command and registers <code>key</code> as tracked
+     * by used connection in {@link org.redisson.connection.ClientTrackingService}.
+     *
+     * @param key - key
+     * @param codec - codec
+     * @param command - command
+     * @param params - command params
+     * @param <T> type of command
+     * @param <R> type of result
+     * @return result
+     */
+    <T, R> RFuture<R> readTrackedAsync(String key, Codec codec, RedisCommand<T> command, Object... params);
+
     <T, R> RFuture<R> writeAsync(String key, Codec codec, RedisCommand<T> command, Object... params);
 
     <T, R> RFuture<Collection<R>> readAllAsync(RedisCommand<T> command, Object... params);
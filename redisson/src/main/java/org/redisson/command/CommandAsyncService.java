@@ -24,6 +24,7 @@ import org.redisson.SlotCallback;
 import org.redisson.api.RFuture;
 import org.redisson.cache.LRUCacheMap;
 import org.redisson.client.RedisClient;
+import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisException;
 import org.redisson.client.RedisRedirectException;
 import org.redisson.client.RedisTimeoutException;
@@ -31,6 +32,7 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
@@ -342,6 +344,40 @@ public class CommandAsyncService implements CommandAsyncExecutor {
         return mainPromise;
     }
     
+    @Override
+    public <T> RFuture<Long> readStreamingAsync(String key, Codec codec, RedisCommand<T> command,
+                                                ReplyElementsListener listener, Object... params) {
+        RPromise<Long> mainPromise = createPromise();
+        NodeSource source = getNodeSource(key);
+        RedisStreamingExecutor<T> executor = new RedisStreamingExecutor<>(source, codec, command, params, mainPromise,
+                                                    listener, connectionManager, objectBuilder, referenceType);
+        executor.execute();
+        return mainPromise;
+    }
+
+    @Override
+    public <T, R> RFuture<R> readTrackedAsync(String key, Codec codec, RedisCommand<T> command, Object... params) {
+        RPromise<R> mainPromise = createPromise();
+        NodeSource source = getNodeSource(key);
+        RedisExecutor<T, R> executor = new RedisExecutor<T, R>(true, source, codec, command, params, mainPromise,
+                                                    false, connectionManager, objectBuilder, referenceType) {
+            @Override
+            protected boolean isHedgeAllowed() {
+                // key should be tracked by connection which sent the reply
+                return false;
+            }
+
+            @Override
+            protected void handleSuccess(RPromise<R> promise, RFuture<RedisConnection> connectionFuture, R res)
+                    throws ReflectiveOperationException {
+                connectionManager.getClientTrackingService().keyRead(connectionFuture.getNow(), key);
+                super.handleSuccess(promise, connectionFuture, res);
+            }
+        };
+        executor.execute();
+        return mainPromise;
+    }
+
     @Override
     public <T, R> RFuture<R> readAsync(byte[] key, Codec codec, RedisCommand<T> command, Object... params) {
         RPromise<R> mainPromise = createPromise();
@@ -29,6 +29,7 @@ import org.redisson.client.protocol.BatchCommandData;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.NodeSource;
@@ -37,6 +38,7 @@ import org.redisson.misc.AsyncCountDownLatch;
 import org.redisson.misc.CountableListener;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.ReplyElementsFeeder;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -160,6 +162,13 @@ public class CommandBatchService extends CommandAsyncService {
         }
         
     }
+
+    @Override
+    public <T> RFuture<Long> readStreamingAsync(String key, Codec codec, RedisCommand<T> command,
+                                                ReplyElementsListener listener, Object... params) {
+        // reply is available only after batch execution
+        return ReplyElementsFeeder.feed(readAsync(key, codec, command, params), listener);
+    }
         
     @Override
     public <R> RPromise<R> createPromise() {
@@ -72,6 +72,11 @@ public class RedisCommonBatchExecutor extends RedisExecutor<Object, Void> {
         }
     }
 
+    @Override
+    protected boolean isHedgeAllowed() {
+        return false;
+    }
+
     @Override
     protected void onException() {
         entry.clearErrors();
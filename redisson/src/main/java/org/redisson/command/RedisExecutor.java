@@ -34,11 +34,15 @@ import org.redisson.client.protocol.CommandsData;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.NodeSource;
 import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.connection.balancer.LoadBalancer;
 import org.redisson.liveobject.core.RedissonObjectBuilder;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.LogHelper;
 import org.redisson.misc.RPromise;
+import org.redisson.misc.RedisURI;
 import org.redisson.misc.RedissonPromise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +51,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
 /**
@@ -69,6 +74,12 @@ public class RedisExecutor<V, R> {
     final RedissonObjectBuilder objectBuilder;
     final ConnectionManager connectionManager;
     final RedissonObjectBuilder.ReferenceType referenceType;
+    final MetricsRecorder metrics;
+    final LoadBalancer loadBalancer;
+    final boolean hedgedReads;
+    // guarded by this
+    private boolean paramsFreed;
+    final int failedSlaveTimeoutsThreshold;
 
     RFuture<RedisConnection> connectionFuture;
     NodeSource source;
@@ -78,6 +89,8 @@ public class RedisExecutor<V, R> {
     volatile BiConsumer<R, Throwable> mainPromiseListener;
     volatile ChannelFuture writeFuture;
     volatile RedisException exception;
+    volatile RedisURI node;
+    long startTime;
     
     int attempts;
     long retryInterval;
@@ -102,6 +115,16 @@ public class RedisExecutor<V, R> {
         this.retryInterval = connectionManager.getConfig().getRetryInterval();
         this.responseTimeout = connectionManager.getConfig().getTimeout();
         this.referenceType = referenceType;
+        this.metrics = connectionManager.getCfg().getMetricsRecorder();
+        if (readOnlyMode) {
+            this.loadBalancer = connectionManager.getConfig().getLoadBalancer();
+            this.hedgedReads = connectionManager.getConfig().isHedgedReads();
+            this.failedSlaveTimeoutsThreshold = connectionManager.getConfig().getFailedSlaveTimeoutsThreshold();
+        } else {
+            this.loadBalancer = null;
+            this.hedgedReads = false;
+            this.failedSlaveTimeoutsThreshold = 0;
+        }
     }
 
     public void execute() {
@@ -117,7 +140,14 @@ public class RedisExecutor<V, R> {
         }
 
         codec = getCodec(codec);
-        
+
+        if (metrics != null && startTime == 0) {
+            startTime = System.nanoTime();
+            mainPromise.onComplete((r, e) -> {
+                metrics.commandCompleted(node, getCommandName(), System.nanoTime() - startTime, e);
+            });
+        }
+
         RFuture<RedisConnection> connectionFuture = getConnection();
 
         RPromise<R> attemptPromise = new RedissonPromise<>();
@@ -153,12 +183,37 @@ public class RedisExecutor<V, R> {
                 return;
             }
 
-            sendCommand(attemptPromise, connection);
+            if (metrics != null) {
+                node = connection.getRedisClient().getConfig().getAddress();
+            }
+
+            boolean hedged = isHedgeAllowed();
+            RPromise<R> replyPromise = attemptPromise;
+            if (hedged) {
+                // reply of the first node is forwarded to attemptPromise, hedged reply could win the race
+                replyPromise = new RedissonPromise<>();
+                replyPromise.onComplete((r, ex) -> {
+                    if (ex != null) {
+                        attemptPromise.tryFailure(ex);
+                    } else {
+                        attemptPromise.trySuccess(r);
+                    }
+                });
+            }
+
+            if (loadBalancer != null) {
+                trackResponse(attemptPromise, replyPromise, connection.getRedisClient());
+            }
+
+            sendCommand(replyPromise, connection);
 
             writeFuture.addListener(new ChannelFutureListener() {
                 @Override
                 public void operationComplete(ChannelFuture future) throws Exception {
                     checkWriteFuture(writeFuture, attemptPromise, connection);
+                    if (hedged && future.isSuccess()) {
+                        scheduleHedgedRead(attemptPromise, connection.getRedisClient());
+                    }
                 }
             });
         });
@@ -170,6 +225,173 @@ public class RedisExecutor<V, R> {
         });
     }
 
+    private void trackResponse(RPromise<R> attemptPromise, RPromise<R> replyPromise, RedisClient client) {
+        long commandStartTime = trackLatency(attemptPromise, replyPromise, client);
+
+        if (!hedgedReads && failedSlaveTimeoutsThreshold <= 0) {
+            return;
+        }
+
+        replyPromise.onComplete((r, e) -> {
+            if (e != null) {
+                return;
+            }
+
+            ResponseTimeStats stats = client.getResponseTimeStats();
+            if (hedgedReads) {
+                stats.record(System.nanoTime() - commandStartTime);
+            }
+            stats.resetTimeouts();
+        });
+    }
+
+    private long trackLatency(RPromise<R> attemptPromise, RPromise<R> replyPromise, RedisClient client) {
+        long commandStartTime = System.nanoTime();
+        loadBalancer.commandStarted(client);
+        if (replyPromise == attemptPromise) {
+            attemptPromise.onComplete((r, e) -> {
+                loadBalancer.commandCompleted(client, System.nanoTime() - commandStartTime);
+            });
+            return commandStartTime;
+        }
+
+        // attemptPromise could be completed by reply of another node,
+        // so node latency is measured by its own reply or by failed attempt
+        AtomicBoolean completed = new AtomicBoolean();
+        replyPromise.onComplete((r, e) -> {
+            if (completed.compareAndSet(false, true)) {
+                loadBalancer.commandCompleted(client, System.nanoTime() - commandStartTime);
+            }
+        });
+        attemptPromise.onComplete((r, e) -> {
+            if (e != null && completed.compareAndSet(false, true)) {
+                loadBalancer.commandCompleted(client, System.nanoTime() - commandStartTime);
+            }
+        });
+        return commandStartTime;
+    }
+
+    protected boolean isHedgeAllowed() {
+        return hedgedReads
+                && command != null
+                && source.getRedirect() == null
+                && source.getRedisClient() == null
+                && source.getAddr() == null
+                && !RedisCommands.BLOCKING_COMMAND_NAMES.contains(command.getName())
+                && !RedisCommands.BLOCKING_COMMANDS.contains(command)
+                && !RedisCommands.SCAN_COMMANDS.contains(command.getName());
+    }
+
+    private void scheduleHedgedRead(RPromise<R> attemptPromise, RedisClient client) {
+        long delay = client.getResponseTimeStats().getPercentile95();
+        if (delay <= 0 || delay >= TimeUnit.MILLISECONDS.toNanos(responseTimeout)
+                || attemptPromise.isDone()) {
+            return;
+        }
+
+        // parameters of the first request are released once attemptPromise is completed
+        Object[] hedgeParams = retainParams();
+        if (hedgeParams == null) {
+            return;
+        }
+
+        Timeout hedgeTimeout = connectionManager.newTimeout(t -> {
+            sendHedgedRead(attemptPromise, client, hedgeParams);
+        }, delay, TimeUnit.NANOSECONDS);
+        attemptPromise.onComplete((r, e) -> {
+            if (hedgeTimeout.cancel()) {
+                free(hedgeParams);
+            }
+        });
+    }
+
+    private Object[] retainParams() {
+        synchronized (this) {
+            if (paramsFreed) {
+                return null;
+            }
+
+            Object[] result = new Object[params.length];
+            for (int i = 0; i < params.length; i++) {
+                if (params[i] instanceof ByteBuf) {
+                    result[i] = ((ByteBuf) params[i]).retainedDuplicate();
+                } else {
+                    result[i] = params[i];
+                }
+            }
+            return result;
+        }
+    }
+
+    private void sendHedgedRead(RPromise<R> attemptPromise, RedisClient client, Object[] hedgeParams) {
+        if (attemptPromise.isDone()) {
+            free(hedgeParams);
+            return;
+        }
+
+        MasterSlaveEntry entry = connectionManager.getEntry(client);
+        if (entry == null) {
+            free(hedgeParams);
+            return;
+        }
+
+        RFuture<RedisConnection> hedgeConnectionFuture = entry.hedgedConnectionReadOp(command, client);
+        hedgeConnectionFuture.onComplete((connection, e) -> {
+            if (e != null) {
+                free(hedgeParams);
+                log.debug("Unable to send hedged read for command {} ignored", command, e);
+                return;
+            }
+
+            if (attemptPromise.isDone()) {
+                free(hedgeParams);
+                entry.releaseRead(connection);
+                return;
+            }
+
+            RedisClient hedgeClient = connection.getRedisClient();
+            RPromise<R> hedgePromise = new RedissonPromise<>();
+            long hedgeStartTime;
+            if (loadBalancer != null) {
+                hedgeStartTime = trackLatency(attemptPromise, hedgePromise, hedgeClient);
+            } else {
+                hedgeStartTime = System.nanoTime();
+            }
+
+            hedgePromise.onComplete((r, ex) -> {
+                if (ex == null) {
+                    hedgeClient.getResponseTimeStats().record(System.nanoTime() - hedgeStartTime);
+                    if (attemptPromise.trySuccess(r)) {
+                        log.debug("hedged read of command {} completed by {}", command, hedgeClient.getAddr());
+                    }
+                }
+            });
+            attemptPromise.onComplete((r, ex) -> {
+                entry.releaseRead(connection);
+            });
+
+            ChannelFuture future = connection.send(new CommandData<>(hedgePromise, codec, command, hedgeParams));
+            future.addListener((ChannelFutureListener) f -> free(hedgeParams));
+        });
+    }
+
+    private void checkTimeouts(RedisConnection connection) {
+        if (failedSlaveTimeoutsThreshold <= 0) {
+            return;
+        }
+
+        RedisClient client = connection.getRedisClient();
+        if (client.getResponseTimeStats().incTimeouts() < failedSlaveTimeoutsThreshold) {
+            return;
+        }
+
+        MasterSlaveEntry entry = connectionManager.getEntry(client);
+        if (entry != null && entry.slaveTimedOut(client)) {
+            client.getResponseTimeStats().resetTimeouts();
+            log.warn("slave {} has been disconnected after {} response timeouts in a row", client.getAddr(), failedSlaveTimeoutsThreshold);
+        }
+    }
+
     private void scheduleRetryTimeout(RFuture<RedisConnection> connectionFuture, RPromise<R> attemptPromise) {
         TimerTask retryTimerTask = new TimerTask() {
 
@@ -250,6 +472,7 @@ public class RedisExecutor<V, R> {
                 
                 mainPromiseListener = null;
 
+                recordRetry();
                 execute();
             }
 
@@ -259,6 +482,9 @@ public class RedisExecutor<V, R> {
     }
     
     protected void free() {
+        synchronized (this) {
+            paramsFreed = true;
+        }
         free(params);
     }
     
@@ -317,6 +543,10 @@ public class RedisExecutor<V, R> {
 
         long timeoutAmount = timeoutTime;
         TimerTask timeoutResponseTask = timeout -> {
+            if (!attemptPromise.isDone()) {
+                checkTimeouts(connection);
+            }
+
             if (isResendAllowed(attempt, attempts)) {
                 if (!attemptPromise.cancel(false)) {
                     return;
@@ -330,6 +560,7 @@ public class RedisExecutor<V, R> {
                     }
 
                     mainPromiseListener = null;
+                    recordRetry();
                     execute();
                 }, retryInterval, TimeUnit.MILLISECONDS);
                 return;
@@ -414,6 +645,7 @@ public class RedisExecutor<V, R> {
                 }
 
                 onException();
+                recordRedirect(Redirect.MOVED);
                 
                 source = new NodeSource(ex.getSlot(), connectionManager.applyNatMap(ex.getUrl()), Redirect.MOVED);
                 execute();
@@ -424,6 +656,7 @@ public class RedisExecutor<V, R> {
                 RedisAskException ex = (RedisAskException) attemptFuture.cause();
                 
                 onException();
+                recordRedirect(Redirect.ASK);
                 
                 source = new NodeSource(ex.getSlot(), connectionManager.applyNatMap(ex.getUrl()), Redirect.ASK);
                 execute();
@@ -438,6 +671,7 @@ public class RedisExecutor<V, R> {
                     onException();
                     connectionManager.newTimeout(timeout -> {
                         attempt++;
+                        recordRetry();
                         execute();
                     }, retryInterval, TimeUnit.MILLISECONDS);
                     return;
@@ -469,6 +703,25 @@ public class RedisExecutor<V, R> {
     protected void onException() {
     }
 
+    private String getCommandName() {
+        if (command == null) {
+            return "BATCH";
+        }
+        return command.getName();
+    }
+
+    private void recordRetry() {
+        if (metrics != null) {
+            metrics.commandRetried(node, getCommandName());
+        }
+    }
+
+    private void recordRedirect(Redirect redirect) {
+        if (metrics != null) {
+            metrics.commandRedirected(node, getCommandName(), redirect);
+        }
+    }
+
     protected void handleError(RFuture<RedisConnection> connectionFuture, Throwable cause) {
         mainPromise.tryFailure(cause);
     }
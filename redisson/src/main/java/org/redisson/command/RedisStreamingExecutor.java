@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.command;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.Timeout;
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.*;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.NodeSource;
+import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.liveobject.core.RedissonObjectBuilder;
+import org.redisson.misc.LogHelper;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+/**
+ * Executes command which reply elements are passed to listener as they are decoded.
+ * <p>
+ * Response timeout is applied until first element has been received.
+ * Command isn't retried after that since elements have been already passed to listener.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> type of value
+ */
+public class RedisStreamingExecutor<V> extends RedisExecutor<V, Long> {
+
+    private final ReplyElementsListener listener;
+    private volatile boolean started;
+
+    @SuppressWarnings("ParameterNumber")
+    public RedisStreamingExecutor(NodeSource source, Codec codec, RedisCommand<V> command, Object[] params,
+                                  RPromise<Long> mainPromise, ReplyElementsListener listener,
+                                  ConnectionManager connectionManager, RedissonObjectBuilder objectBuilder,
+                                  RedissonObjectBuilder.ReferenceType referenceType) {
+        super(true, source, codec, command, params, mainPromise, false, connectionManager, objectBuilder, referenceType);
+        this.listener = listener;
+    }
+
+    @Override
+    protected boolean isResendAllowed(int attempt, int attempts) {
+        return !started && super.isResendAllowed(attempt, attempts);
+    }
+
+    @Override
+    protected boolean isHedgeAllowed() {
+        return false;
+    }
+
+    @Override
+    protected RFuture<RedisConnection> getConnection() {
+        // auto read of connection is turned off while consumer is slow,
+        // so reply is never read over connection shared with other commands
+        RedisCommand<V> streamedCommand = command.toStreamed();
+        if (readOnlyMode) {
+            connectionFuture = connectionManager.connectionReadOp(source, streamedCommand);
+        } else {
+            connectionFuture = connectionManager.connectionWriteOp(source, streamedCommand);
+        }
+        return connectionFuture;
+    }
+
+    @Override
+    protected void sendCommand(RPromise<Long> attemptPromise, RedisConnection connection) {
+        if (source.getRedirect() == Redirect.ASK) {
+            connection.send(new CommandData<>(new RedissonPromise<Void>(), codec, RedisCommands.ASKING, new Object[]{}));
+        }
+
+        // reply could be read for a long time, so response timeout isn't able to detect connection loss
+        ChannelFutureListener closeListener = f -> {
+            attemptPromise.tryFailure(new RedisConnectionException("Connection closed while reading reply of command: "
+                    + LogHelper.toString(command, params)));
+        };
+        connection.getChannel().closeFuture().addListener(closeListener);
+        attemptPromise.onComplete((r, e) -> {
+            connection.getChannel().closeFuture().removeListener(closeListener);
+        });
+
+        ReplyElementsListener attemptListener = new ReplyElementsListener() {
+            @Override
+            public boolean onElement(Object element) {
+                if (!started) {
+                    started = true;
+                    Timeout t = timeout;
+                    if (t != null) {
+                        t.cancel();
+                    }
+                }
+                return listener.onElement(element);
+            }
+
+            @Override
+            public void onPause(Runnable resume) {
+                listener.onPause(resume);
+            }
+        };
+
+        writeFuture = connection.send(new StreamingCommandData<>(attemptPromise, codec, command, params, attemptListener));
+    }
+
+}
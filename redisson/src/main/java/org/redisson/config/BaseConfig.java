@@ -95,6 +95,10 @@ public class BaseConfig<T extends BaseConfig<T>> {
     
     private boolean tcpNoDelay = true;
 
+    private int flushConsolidationLimit;
+
+    private int sharedConnectionsPerNode;
+
     private NameMapper nameMapper = NameMapper.direct();
 
     
@@ -121,6 +125,8 @@ public class BaseConfig<T extends BaseConfig<T>> {
         setPingConnectionInterval(config.getPingConnectionInterval());
         setKeepAlive(config.isKeepAlive());
         setTcpNoDelay(config.isTcpNoDelay());
+        setFlushConsolidationLimit(config.getFlushConsolidationLimit());
+        setSharedConnectionsPerNode(config.getSharedConnectionsPerNode());
         setNameMapper(config.getNameMapper());
     }
 
@@ -457,6 +463,53 @@ public class BaseConfig<T extends BaseConfig<T>> {
         return (T) this;
     }
 
+    public int getFlushConsolidationLimit() {
+        return flushConsolidationLimit;
+    }
+
+    /**
+     * Enables implicit pipelining of commands.
+     * <p>
+     * Commands written to the same connection during one event loop iteration
+     * are flushed to the socket together instead of one flush per command.
+     * Commands written while replies are read are flushed once reading completes.
+     * Flush is forced once amount of pending commands reaches this limit.
+     * <p>
+     * <code>0</code> value means each command is flushed immediately.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param flushConsolidationLimit - max amount of commands per flush
+     * @return config
+     */
+    public T setFlushConsolidationLimit(int flushConsolidationLimit) {
+        this.flushConsolidationLimit = flushConsolidationLimit;
+        return (T) this;
+    }
+
+    public int getSharedConnectionsPerNode() {
+        return sharedConnectionsPerNode;
+    }
+
+    /**
+     * Enables multiplexed connection mode.
+     * <p>
+     * Regular commands are spread over this fixed amount of connections per Redis node,
+     * each connection is shared by all callers and responses are matched in FIFO order.
+     * Blocking, Pub/Sub, SCAN and transaction commands still use dedicated connections from pool.
+     * <p>
+     * <code>0</code> value means each command borrows connection from pool.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param sharedConnectionsPerNode - amount of shared connections per Redis node
+     * @return config
+     */
+    public T setSharedConnectionsPerNode(int sharedConnectionsPerNode) {
+        this.sharedConnectionsPerNode = sharedConnectionsPerNode;
+        return (T) this;
+    }
+
 
     public NameMapper getNameMapper() {
         return nameMapper;
@@ -44,6 +44,10 @@ public class BaseMasterSlaveServersConfig<T extends BaseMasterSlaveServersConfig
     private int failedSlaveReconnectionInterval = 3000;
     
     private int failedSlaveCheckInterval = 180000;
+
+    private int failedSlaveTimeoutsThreshold;
+
+    private boolean hedgedReads;
     
     /**
      * Redis 'master' node minimum idle connection amount for <b>each</b> slave node
@@ -88,6 +92,8 @@ public class BaseMasterSlaveServersConfig<T extends BaseMasterSlaveServersConfig
         setDnsMonitoringInterval(config.getDnsMonitoringInterval());
         setFailedSlaveCheckInterval(config.getFailedSlaveCheckInterval());
         setFailedSlaveReconnectionInterval(config.getFailedSlaveReconnectionInterval());
+        setFailedSlaveTimeoutsThreshold(config.getFailedSlaveTimeoutsThreshold());
+        setHedgedReads(config.isHedgedReads());
     }
 
     /**
@@ -149,6 +155,49 @@ public class BaseMasterSlaveServersConfig<T extends BaseMasterSlaveServersConfig
         return failedSlaveCheckInterval;
     }
 
+    /**
+     * Redis Slave node is excluded from the internal list of available nodes
+     * when amount of consecutive response timeouts of read operations
+     * reaches <code>failedSlaveTimeoutsThreshold</code> value.
+     * Node is added back once it responds to PING command
+     * sent every <code>failedSlaveReconnectionInterval</code>.
+     * <p>
+     * <code>0</code> value means response timeouts aren't counted.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param failedSlaveTimeoutsThreshold - amount of consecutive response timeouts
+     * @return config
+     */
+    public T setFailedSlaveTimeoutsThreshold(int failedSlaveTimeoutsThreshold) {
+        this.failedSlaveTimeoutsThreshold = failedSlaveTimeoutsThreshold;
+        return (T) this;
+    }
+    public int getFailedSlaveTimeoutsThreshold() {
+        return failedSlaveTimeoutsThreshold;
+    }
+
+    /**
+     * Enables hedged read operations. Read operation is sent to another node
+     * if node hasn't responded within 95th percentile of its response time.
+     * The first received response is used.
+     * <p>
+     * Applied only to read operations which aren't bound to specific node,
+     * blocking and SCAN operations aren't hedged.
+     * <p>
+     * Default is <code>false</code>
+     *
+     * @param hedgedReads - <code>true</code> to enable hedged reads
+     * @return config
+     */
+    public T setHedgedReads(boolean hedgedReads) {
+        this.hedgedReads = hedgedReads;
+        return (T) this;
+    }
+    public boolean isHedgedReads() {
+        return hedgedReads;
+    }
+
     /**
      * Redis 'master' server connection pool size.
      * <p>
@@ -178,6 +227,7 @@ public class BaseMasterSlaveServersConfig<T extends BaseMasterSlaveServersConfig
      * @see org.redisson.connection.balancer.RandomLoadBalancer
      * @see org.redisson.connection.balancer.RoundRobinLoadBalancer
      * @see org.redisson.connection.balancer.WeightedRoundRobinBalancer
+     * @see org.redisson.connection.balancer.LatencyAwareLoadBalancer
      */
     public T setLoadBalancer(LoadBalancer loadBalancer) {
         this.loadBalancer = loadBalancer;
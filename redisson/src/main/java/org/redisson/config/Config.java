@@ -21,6 +21,7 @@ import org.redisson.client.NettyHook;
 import org.redisson.client.codec.Codec;
 import org.redisson.codec.MarshallingCodec;
 import org.redisson.connection.*;
+import org.redisson.metrics.MetricsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +30,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -82,6 +85,8 @@ public class Config {
 
     private int cleanUpKeysAmount = 100;
 
+    private boolean coordinatedCleanUp;
+
     private NettyHook nettyHook = new DefaultNettyHook();
 
     private ConnectionListener connectionListener;
@@ -90,6 +95,14 @@ public class Config {
 
     private AddressResolverGroupFactory addressResolverGroupFactory = new DnsAddressResolverGroupFactory();
 
+    private Protocol protocol = Protocol.RESP2;
+
+    private TrackingMode trackingMode = TrackingMode.NONE;
+
+    private List<String> trackingPrefixes = Collections.emptyList();
+
+    private MetricsRecorder metricsRecorder;
+
     public Config() {
     }
 
@@ -107,6 +120,7 @@ public class Config {
         setMinCleanUpDelay(oldConf.getMinCleanUpDelay());
         setMaxCleanUpDelay(oldConf.getMaxCleanUpDelay());
         setCleanUpKeysAmount(oldConf.getCleanUpKeysAmount());
+        setCoordinatedCleanUp(oldConf.isCoordinatedCleanUp());
         setUseScriptCache(oldConf.isUseScriptCache());
         setKeepPubSubOrder(oldConf.isKeepPubSubOrder());
         setLockWatchdogTimeout(oldConf.getLockWatchdogTimeout());
@@ -118,6 +132,10 @@ public class Config {
         setTransportMode(oldConf.getTransportMode());
         setAddressResolverGroupFactory(oldConf.getAddressResolverGroupFactory());
         setReliableTopicWatchdogTimeout(oldConf.getReliableTopicWatchdogTimeout());
+        setProtocol(oldConf.getProtocol());
+        setTrackingMode(oldConf.getTrackingMode());
+        setMetricsRecorder(oldConf.getMetricsRecorder());
+        setTrackingPrefixes(oldConf.getTrackingPrefixes());
 
         if (oldConf.getSingleServerConfig() != null) {
             setSingleServerConfig(new SingleServerConfig(oldConf.getSingleServerConfig()));
@@ -759,6 +777,30 @@ public class Config {
         return this;
     }
 
+    public boolean isCoordinatedCleanUp() {
+        return coordinatedCleanUp;
+    }
+
+    /**
+     * Defines whether clean up process of expired entries is coordinated
+     * between all Redisson instances.
+     * <p>
+     * If <code>true</code> then time of next clean up of each object is stored in shared registry in Redis.
+     * Object is cleaned up by a single Redisson instance at time of its nearest entry expiration
+     * instead of periodic polling by each instance.
+     * <p>
+     * Applied to JCache, RSetCache, RMapCache, RListMultimapCache, RSetMultimapCache objects.
+     * <p>
+     * Default is <code>false</code>.
+     *
+     * @param coordinatedCleanUp - <code>true</code> to coordinate clean up
+     * @return config
+     */
+    public Config setCoordinatedCleanUp(boolean coordinatedCleanUp) {
+        this.coordinatedCleanUp = coordinatedCleanUp;
+        return this;
+    }
+
     public boolean isUseThreadClassLoader() {
         return useThreadClassLoader;
     }
@@ -814,4 +856,81 @@ public class Config {
         this.connectionListener = connectionListener;
         return this;
     }
+
+    public Protocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Defines Redis protocol version used by connections.
+     * RESP3 is negotiated through HELLO command during connection init.
+     * <p>
+     * Default is <code>RESP2</code>
+     *
+     * @param protocol - protocol version
+     * @return config
+     */
+    public Config setProtocol(Protocol protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
+    public TrackingMode getTrackingMode() {
+        return trackingMode;
+    }
+
+    /**
+     * Defines server-assisted client side caching mode enabled
+     * through CLIENT TRACKING command on each connection.
+     * Invalidation messages are delivered as RESP3 push messages,
+     * so <code>protocol</code> setting should be set to <code>RESP3</code>.
+     * <p>
+     * Default is <code>NONE</code>
+     *
+     * @see #setProtocol(Protocol)
+     * @param trackingMode - tracking mode
+     * @return config
+     */
+    public Config setTrackingMode(TrackingMode trackingMode) {
+        this.trackingMode = trackingMode;
+        return this;
+    }
+
+    public List<String> getTrackingPrefixes() {
+        return trackingPrefixes;
+    }
+
+    /**
+     * Defines key prefixes used by <code>BCAST</code> tracking mode.
+     * Invalidation messages are sent only for keys matching these prefixes.
+     * <p>
+     * Default is empty list which means all keys
+     *
+     * @param trackingPrefixes - key prefixes
+     * @return config
+     */
+    public Config setTrackingPrefixes(List<String> trackingPrefixes) {
+        this.trackingPrefixes = trackingPrefixes;
+        return this;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Defines metrics implementation which records
+     * connection pools usage, command latency, retries and redirects.
+     * <p>
+     * Default is <code>null</code> which means metrics are disabled
+     *
+     * @see org.redisson.metrics.MicrometerMetricsRecorder
+     * @param metricsRecorder - metrics implementation
+     * @return config
+     */
+    public Config setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
 }
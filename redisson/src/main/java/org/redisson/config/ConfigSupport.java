@@ -32,6 +32,7 @@ import org.redisson.api.NameMapper;
 import org.redisson.api.NatMapper;
 import org.redisson.api.RedissonNodeInitializer;
 import org.redisson.client.NettyHook;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.client.codec.Codec;
 import org.redisson.cluster.ClusterConnectionManager;
 import org.redisson.codec.ReferenceCodecProvider;
@@ -234,6 +235,7 @@ public class ConfigSupport {
         mapper.addMixIn(NatMapper.class, ClassMixIn.class);
         mapper.addMixIn(NameMapper.class, ClassMixIn.class);
         mapper.addMixIn(NettyHook.class, ClassMixIn.class);
+        mapper.addMixIn(MetricsRecorder.class, ClassMixIn.class);
 
         FilterProvider filterProvider = new SimpleFilterProvider()
                 .addFilter("classFilter", SimpleBeanPropertyFilter.filterOutAllExcept());
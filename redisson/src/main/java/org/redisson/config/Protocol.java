@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.config;
+
+/**
+ * Redis protocol version used by client connections.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public enum Protocol {
+
+    /**
+     * RESP2 protocol. Supported by all Redis versions.
+     */
+    RESP2,
+
+    /**
+     * RESP3 protocol negotiated through HELLO command.
+     * Required for server-assisted client side caching.
+     * <p>
+     * Requires Redis 6.0+
+     */
+    RESP3
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.config;
+
+/**
+ * Mode of server-assisted client side caching
+ * enabled through <code>CLIENT TRACKING</code> command.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public enum TrackingMode {
+
+    /**
+     * Tracking is disabled.
+     */
+    NONE,
+
+    /**
+     * Redis server remembers keys read by each connection
+     * and sends invalidation message only for those keys.
+     */
+    DEFAULT,
+
+    /**
+     * Redis server sends invalidation message for every modified key
+     * matching defined prefixes regardless of reads.
+     * Each connection receives all messages, so prefixes should be defined to limit the traffic.
+     */
+    BCAST
+
+}
@@ -23,6 +23,9 @@ import org.redisson.client.RedisPubSubConnection;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.config.ReadMode;
+import org.redisson.metrics.MetricsRecorder;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
 import org.redisson.pubsub.AsyncSemaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,7 +36,9 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * 
@@ -53,6 +58,9 @@ public class ClientConnectionsEntry {
     private final AsyncSemaphore freeConnectionsCounter;
     private volatile Iterator<RedisConnection> iter;
 
+    private final AtomicReferenceArray<RFuture<RedisConnection>> sharedConnections;
+    private final AtomicInteger sharedIndex = new AtomicInteger();
+
     public enum FreezeReason {MANAGER, RECONNECT, SYSTEM}
 
     private volatile FreezeReason freezeReason;
@@ -85,6 +93,23 @@ public class ClientConnectionsEntry {
             });
 
         iter = freeConnections.iterator();
+
+        int sharedSize = connectionManager.getConfig().getSharedConnectionsPerNode();
+        if (sharedSize > 0) {
+            sharedConnections = new AtomicReferenceArray<>(sharedSize);
+        } else {
+            sharedConnections = null;
+        }
+
+        MetricsRecorder metrics = connectionManager.getCfg().getMetricsRecorder();
+        if (metrics != null) {
+            metrics.registerConnectionPool(client.getConfig().getAddress(), nodeType, false, poolMaxSize,
+                                            freeConnectionsCounter::getCounter, freeConnectionsCounter::queueSize);
+            if (subscribePoolMaxSize > 0) {
+                metrics.registerConnectionPool(client.getConfig().getAddress(), nodeType, true, subscribePoolMaxSize,
+                                            freeSubscribeConnectionsCounter::getCounter, freeSubscribeConnectionsCounter::queueSize);
+            }
+        }
     }
     
     public boolean isMasterForRead() {
@@ -126,6 +151,11 @@ public class ClientConnectionsEntry {
 
     public RFuture<Void> shutdownAsync() {
         connectionManager.getConnectionWatcher().remove(this);
+        MetricsRecorder metrics = connectionManager.getCfg().getMetricsRecorder();
+        if (metrics != null) {
+            metrics.unregisterConnectionPool(client.getConfig().getAddress(), false);
+            metrics.unregisterConnectionPool(client.getConfig().getAddress(), true);
+        }
         return client.shutdownAsync();
     }
 
@@ -151,6 +181,12 @@ public class ClientConnectionsEntry {
     public void reset() {
         freeConnectionsCounter.removeListeners();
         freeSubscribeConnectionsCounter.removeListeners();
+        if (sharedConnections != null) {
+            // closed along with other connections of entry
+            for (int i = 0; i < sharedConnections.length(); i++) {
+                sharedConnections.set(i, null);
+            }
+        }
     }
 
     public int getFreeAmount() {
@@ -159,6 +195,7 @@ public class ClientConnectionsEntry {
 
     private boolean isPolled(RedisCommand<?> command) {
         return command == null
+                || command.isStreamed()
                 || RedisCommands.FLUSHDB.getName().equals(command.getName())
                 || RedisCommands.FLUSHALL.getName().equals(command.getName())
                 || RedisCommands.BLOCKING_COMMAND_NAMES.contains(command.getName())
@@ -167,6 +204,51 @@ public class ClientConnectionsEntry {
                 || RedisCommands.SCAN_COMMANDS.contains(command.getName());
     }
 
+    /**
+     * Returns <code>true</code> if command should be executed
+     * over connection shared with other commands.
+     * Blocking, Pub/Sub, SCAN, streamed and transaction commands
+     * always get a dedicated connection from pool.
+     *
+     * @param command - Redis command
+     * @return <code>true</code> if command uses shared connection
+     */
+    public boolean isShared(RedisCommand<?> command) {
+        return sharedConnections != null && !isPolled(command);
+    }
+
+    public RFuture<RedisConnection> getSharedConnection() {
+        int index = (sharedIndex.getAndIncrement() & Integer.MAX_VALUE) % sharedConnections.length();
+        while (true) {
+            RFuture<RedisConnection> future = sharedConnections.get(index);
+            if (future != null
+                    && (!future.isDone()
+                            || (future.isSuccess() && !future.getNow().isClosed()))) {
+                return future;
+            }
+
+            RPromise<RedisConnection> promise = new RedissonPromise<>();
+            if (!sharedConnections.compareAndSet(index, future, promise)) {
+                continue;
+            }
+            if (future != null && future.isSuccess()) {
+                allConnections.remove(future.getNow());
+            }
+
+            // connection is registered in allConnections, so it's closed on node shutdown or freeze
+            connect().onComplete((c, e) -> {
+                if (e != null) {
+                    promise.tryFailure(e);
+                    return;
+                }
+
+                c.setShared(true);
+                promise.trySuccess(c);
+            });
+            return promise;
+        }
+    }
+
     public void acquireConnection(Runnable runnable, RedisCommand<?> command) {
         if (isPolled(command)) {
             freeConnectionsCounter.acquire(runnable);
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import org.redisson.client.PushListener;
+import org.redisson.client.RedisConnection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches invalidation push messages received
+ * by connections with enabled CLIENT TRACKING.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ClientTrackingService implements PushListener {
+
+    private static final String INVALIDATE_TYPE = "invalidate";
+
+    private final AtomicInteger listenerIds = new AtomicInteger();
+    private final Map<Integer, InvalidationListener> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Set<InvalidationListener>> keyListeners = new ConcurrentHashMap<>();
+    private final Map<RedisConnection, Set<String>> trackedKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Adds listener notified about invalidation of any key.
+     *
+     * @param listener - listener
+     * @return listener id
+     */
+    public int addListener(InvalidationListener listener) {
+        int id = listenerIds.incrementAndGet();
+        listeners.put(id, listener);
+        return id;
+    }
+
+    public void removeListener(int listenerId) {
+        listeners.remove(listenerId);
+    }
+
+    /**
+     * Adds listener notified about invalidation of defined <code>key</code>
+     * or all keys.
+     *
+     * @param key - key
+     * @param listener - listener
+     */
+    public void addListener(String key, InvalidationListener listener) {
+        keyListeners.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(listener);
+    }
+
+    public void removeListener(String key, InvalidationListener listener) {
+        keyListeners.computeIfPresent(key, (k, v) -> {
+            v.remove(listener);
+            if (v.isEmpty()) {
+                return null;
+            }
+            return v;
+        });
+    }
+
+    /**
+     * Registers <code>key</code> as tracked by <code>connection</code>.
+     * Should be invoked once key has been read through connection,
+     * so its cached value is invalidated if connection is lost.
+     *
+     * @param connection - connection used to read key
+     * @param key - key
+     */
+    public void keyRead(RedisConnection connection, String key) {
+        trackedKeys.computeIfAbsent(connection, c -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    @Override
+    public void onMessage(RedisConnection connection, String type, List<Object> data) {
+        if (!INVALIDATE_TYPE.equals(type) || data.isEmpty()) {
+            return;
+        }
+
+        Object keys = data.get(0);
+        if (keys == null) {
+            // FLUSHDB or FLUSHALL has been executed
+            trackedKeys.remove(connection);
+            fireInvalidateAll();
+            return;
+        }
+
+        Set<String> connectionKeys = trackedKeys.get(connection);
+        for (Object key : (List<Object>) keys) {
+            String name = key.toString();
+            // Redis stops tracking of invalidated key until it's read again
+            if (connectionKeys != null) {
+                connectionKeys.remove(name);
+            }
+            fireInvalidate(name);
+        }
+    }
+
+    @Override
+    public void onDisconnect(RedisConnection connection) {
+        // keys tracked by closed connection won't be invalidated anymore
+        Set<String> keys = trackedKeys.remove(connection);
+        if (keys == null) {
+            return;
+        }
+
+        for (String key : keys) {
+            fireInvalidate(key);
+        }
+    }
+
+    private void fireInvalidate(String key) {
+        for (InvalidationListener listener : listeners.values()) {
+            listener.onInvalidate(key);
+        }
+        Set<InvalidationListener> set = keyListeners.get(key);
+        if (set != null) {
+            for (InvalidationListener listener : set) {
+                listener.onInvalidate(key);
+            }
+        }
+    }
+
+    private void fireInvalidateAll() {
+        for (InvalidationListener listener : listeners.values()) {
+            listener.onInvalidate(null);
+        }
+        for (Set<InvalidationListener> set : keyListeners.values()) {
+            for (InvalidationListener listener : set) {
+                listener.onInvalidate(null);
+            }
+        }
+    }
+
+}
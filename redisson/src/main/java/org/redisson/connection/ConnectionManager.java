@@ -63,6 +63,8 @@ public interface ConnectionManager {
 
     ConnectionEventsHub getConnectionEventsHub();
 
+    ClientTrackingService getClientTrackingService();
+
     boolean isShutdown();
 
     boolean isShuttingDown();
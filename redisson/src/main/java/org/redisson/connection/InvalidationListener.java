@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+/**
+ * Listener of key invalidation messages sent by Redis
+ * in server-assisted client side caching mode.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface InvalidationListener {
+
+    /**
+     * Invoked when key has been modified, expired or evicted.
+     *
+     * @param key - invalidated key or <code>null</code> if all keys
+     *              should be treated as invalidated
+     */
+    void onInvalidate(String key);
+
+}
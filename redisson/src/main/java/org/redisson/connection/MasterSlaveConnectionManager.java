@@ -122,6 +122,8 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
     private IdleConnectionWatcher connectionWatcher;
 
     private final ConnectionEventsHub connectionEventsHub = new ConnectionEventsHub();
+
+    private final ClientTrackingService clientTrackingService = new ClientTrackingService();
     
     private final ExecutorService executor; 
     
@@ -198,6 +200,11 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
             executor = cfg.getExecutor();
         }
 
+        if (cfg.getTrackingMode() != TrackingMode.NONE
+                && cfg.getProtocol() != Protocol.RESP3) {
+            throw new IllegalArgumentException("trackingMode setting requires RESP3 protocol");
+        }
+
         this.cfg = cfg;
         this.codec = cfg.getCodec();
 
@@ -394,6 +401,8 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
         c.setFailedSlaveCheckInterval(cfg.getFailedSlaveCheckInterval());
         c.setFailedSlaveReconnectionInterval(cfg.getFailedSlaveReconnectionInterval());
+        c.setFailedSlaveTimeoutsThreshold(cfg.getFailedSlaveTimeoutsThreshold());
+        c.setHedgedReads(cfg.isHedgedReads());
         c.setMasterConnectionMinimumIdleSize(cfg.getMasterConnectionMinimumIdleSize());
         c.setSlaveConnectionMinimumIdleSize(cfg.getSlaveConnectionMinimumIdleSize());
         c.setSubscriptionConnectionMinimumIdleSize(cfg.getSubscriptionConnectionMinimumIdleSize());
@@ -402,6 +411,8 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         c.setDnsMonitoringInterval(cfg.getDnsMonitoringInterval());
         c.setKeepAlive(cfg.isKeepAlive());
         c.setTcpNoDelay(cfg.isTcpNoDelay());
+        c.setFlushConsolidationLimit(cfg.getFlushConsolidationLimit());
+        c.setSharedConnectionsPerNode(cfg.getSharedConnectionsPerNode());
         c.setNameMapper(cfg.getNameMapper());
 
         return c;
@@ -455,12 +466,18 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
               .setPingConnectionInterval(config.getPingConnectionInterval())
               .setKeepAlive(config.isKeepAlive())
               .setTcpNoDelay(config.isTcpNoDelay())
+              .setFlushConsolidationLimit(config.getFlushConsolidationLimit())
               .setUsername(config.getUsername())
               .setPassword(config.getPassword())
+              .setMetricsRecorder(cfg.getMetricsRecorder())
               .setNettyHook(cfg.getNettyHook());
         
         if (type != NodeType.SENTINEL) {
             redisConfig.setDatabase(config.getDatabase());
+            redisConfig.setProtocol(cfg.getProtocol())
+                        .setTrackingMode(cfg.getTrackingMode())
+                        .setTrackingPrefixes(cfg.getTrackingPrefixes())
+                        .setPushListener(clientTrackingService);
         }
         
         return redisConfig;
@@ -664,6 +681,11 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return shutdownPromise;
     }
 
+    @Override
+    public ClientTrackingService getClientTrackingService() {
+        return clientTrackingService;
+    }
+
     @Override
     public ConnectionEventsHub getConnectionEventsHub() {
         return connectionEventsHub;
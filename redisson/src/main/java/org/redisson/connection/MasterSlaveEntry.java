@@ -20,6 +20,7 @@ import org.redisson.api.NodeType;
 import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisConnection;
+import org.redisson.client.RedisConnectionException;
 import org.redisson.client.RedisPubSubConnection;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.RedisCommand;
@@ -357,6 +358,10 @@ public class MasterSlaveEntry {
         return masterEntry.getClient();
     }
 
+    public ClientConnectionsEntry getMasterEntry() {
+        return masterEntry;
+    }
+
     public boolean slaveUp(ClientConnectionsEntry entry, FreezeReason freezeReason) {
         if (!slaveBalancer.unfreeze(entry, freezeReason)) {
             return false;
@@ -499,6 +504,35 @@ public class MasterSlaveEntry {
         return slaveBalancer.nextConnection(command);
     }
 
+    /**
+     * Returns connection for hedged read operation sent to another node.
+     *
+     * @param command - Redis command
+     * @param client - client of the node used by original read operation
+     * @return connection
+     */
+    public RFuture<RedisConnection> hedgedConnectionReadOp(RedisCommand<?> command, RedisClient client) {
+        if (config.getReadMode() == ReadMode.MASTER) {
+            return RedissonPromise.newFailedFuture(new RedisConnectionException("Slaves aren't used for read operations"));
+        }
+        return slaveBalancer.nextConnection(command, client.getAddr());
+    }
+
+    /**
+     * Disconnects slave node which doesn't respond in time.
+     * Node is connected back once it responds to PING command.
+     *
+     * @param client - slave node client
+     * @return <code>true</code> if node has been disconnected
+     */
+    public boolean slaveTimedOut(RedisClient client) {
+        ClientConnectionsEntry entry = slaveBalancer.getEntry(client);
+        if (entry == null || entry.getNodeType() != NodeType.SLAVE) {
+            return false;
+        }
+        return slaveBalancer.disconnectSlave(entry);
+    }
+
     public RFuture<RedisConnection> connectionReadOp(RedisCommand<?> command, RedisURI addr) {
         return slaveBalancer.getConnection(command, addr);
     }
@@ -531,7 +565,9 @@ public class MasterSlaveEntry {
     }
 
     public void releaseRead(RedisConnection connection) {
-        if (config.getReadMode() == ReadMode.MASTER) {
+        // connection was acquired from master pool if no slave satisfies load balancer requirements
+        if (config.getReadMode() == ReadMode.MASTER
+                || connection.getRedisClient() == masterEntry.getClient()) {
             releaseWrite(connection);
             return;
         }
@@ -63,6 +63,8 @@ public class SingleConnectionManager extends MasterSlaveConnectionManager {
         newconfig.setSubscriptionMode(SubscriptionMode.MASTER);
         newconfig.setKeepAlive(cfg.isKeepAlive());
         newconfig.setTcpNoDelay(cfg.isTcpNoDelay());
+        newconfig.setFlushConsolidationLimit(cfg.getFlushConsolidationLimit());
+        newconfig.setSharedConnectionsPerNode(cfg.getSharedConnectionsPerNode());
         newconfig.setNameMapper(cfg.getNameMapper());
         
         return newconfig;
@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection.balancer;
+
+import org.redisson.api.NodeType;
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisConnection;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.connection.ClientConnectionsEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load balancer which routes read operation to the fastest node.
+ * <p>
+ * Node response time is tracked as exponentially weighted moving average
+ * along with amount of commands in flight. Node with the lowest
+ * <code>responseTime * (inFlight + 1)</code> score is selected.
+ * Response time of idle node decays over time, so it's eventually probed again.
+ * <p>
+ * Slave node is eligible for reads only if its replication state satisfies
+ * defined <code>maxStaleness</code> and <code>maxReplicationOffsetLag</code> limits.
+ * Replication state is requested with <code>INFO REPLICATION</code> command
+ * every <code>replicationCheckInterval</code>.
+ * Read operation is routed to master node if none of slave nodes is eligible.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class LatencyAwareLoadBalancer implements LoadBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+
+    static class NodeStats {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        // in nanoseconds
+        double responseTime;
+        long updateTime;
+
+        final AtomicBoolean replicationCheck = new AtomicBoolean();
+        volatile long replicationCheckTime;
+        volatile RFuture<RedisConnection> connectionFuture;
+
+        volatile boolean linkUp;
+        volatile long lastIOTime = -1;
+        volatile long replicationOffset = -1;
+
+        synchronized void update(long durationNanos, long now, long decayTime) {
+            if (updateTime == 0) {
+                responseTime = durationNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - updateTime) / decayTime);
+                responseTime = responseTime * weight + durationNanos * (1 - weight);
+                // reacts on latency spikes immediately
+                if (durationNanos > responseTime) {
+                    responseTime = durationNanos;
+                }
+            }
+            updateTime = now;
+        }
+
+        synchronized double getResponseTime(long now, long decayTime) {
+            if (updateTime == 0) {
+                return 0;
+            }
+            return responseTime * Math.exp(-(double) (now - updateTime) / decayTime);
+        }
+
+    }
+
+    private final Map<RedisClient, NodeStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger index = new AtomicInteger();
+
+    private long decayTime = 10000;
+    private long maxStaleness;
+    private long maxReplicationOffsetLag;
+    private long replicationCheckInterval = 1000;
+
+    /**
+     * Defines time during which weight of response time sample decreases by <code>e</code> times.
+     * <p>
+     * Default is <code>10000</code> milliseconds
+     *
+     * @param decayTime - time in milliseconds
+     */
+    public void setDecayTime(long decayTime) {
+        if (decayTime <= 0) {
+            throw new IllegalArgumentException("decayTime should be greater than zero");
+        }
+        this.decayTime = decayTime;
+    }
+
+    public long getDecayTime() {
+        return decayTime;
+    }
+
+    /**
+     * Defines max time passed since slave node has received data from master node.
+     * Calculated using <code>master_last_io_seconds_ago</code> value, so it has seconds resolution
+     * and should be greater than <code>repl-ping-replica-period</code> setting of Redis.
+     * <p>
+     * <code>0</code> value means staleness isn't checked.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param maxStaleness - time in milliseconds
+     */
+    public void setMaxStaleness(long maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public long getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Defines max amount of bytes slave node replication offset
+     * can be behind the most up-to-date slave node of the same master.
+     * <p>
+     * <code>0</code> value means replication offset isn't checked.
+     * <p>
+     * Default is <code>0</code>
+     *
+     * @param maxReplicationOffsetLag - amount of bytes
+     */
+    public void setMaxReplicationOffsetLag(long maxReplicationOffsetLag) {
+        this.maxReplicationOffsetLag = maxReplicationOffsetLag;
+    }
+
+    public long getMaxReplicationOffsetLag() {
+        return maxReplicationOffsetLag;
+    }
+
+    /**
+     * Defines interval of slave node replication state check.
+     * <p>
+     * Default is <code>1000</code> milliseconds
+     *
+     * @param replicationCheckInterval - time in milliseconds
+     */
+    public void setReplicationCheckInterval(long replicationCheckInterval) {
+        this.replicationCheckInterval = replicationCheckInterval;
+    }
+
+    public long getReplicationCheckInterval() {
+        return replicationCheckInterval;
+    }
+
+    private boolean isReplicationChecked() {
+        return maxStaleness > 0 || maxReplicationOffsetLag > 0;
+    }
+
+    private NodeStats getStats(RedisClient client) {
+        return stats.computeIfAbsent(client, c -> new NodeStats());
+    }
+
+    @Override
+    public void commandStarted(RedisClient client) {
+        getStats(client).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void commandCompleted(RedisClient client, long durationNanos) {
+        NodeStats s = getStats(client);
+        s.inFlight.decrementAndGet();
+        s.update(durationNanos, System.nanoTime(), decayTime * 1000000);
+    }
+
+    @Override
+    public ClientConnectionsEntry getEntry(List<ClientConnectionsEntry> clientsCopy) {
+        long maxOffset = -1;
+        if (isReplicationChecked()) {
+            checkReplication(clientsCopy);
+            for (ClientConnectionsEntry entry : clientsCopy) {
+                NodeStats s = getStats(entry.getClient());
+                if (entry.getNodeType() == NodeType.SLAVE && s.linkUp) {
+                    maxOffset = Math.max(maxOffset, s.replicationOffset);
+                }
+            }
+        }
+
+        long now = System.nanoTime();
+        int size = clientsCopy.size();
+        int start = (index.getAndIncrement() & Integer.MAX_VALUE) % size;
+        ClientConnectionsEntry result = null;
+        double minScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ClientConnectionsEntry entry = clientsCopy.get((start + i) % size);
+            NodeStats s = getStats(entry.getClient());
+            if (entry.getNodeType() == NodeType.SLAVE && !isEligible(s, maxOffset)) {
+                continue;
+            }
+
+            double score = s.getResponseTime(now, decayTime * 1000000) * (s.inFlight.get() + 1);
+            if (score < minScore) {
+                minScore = score;
+                result = entry;
+            }
+        }
+
+        // null value means that read operation is routed to master node
+        return result;
+    }
+
+    private boolean isEligible(NodeStats s, long maxOffset) {
+        if (!isReplicationChecked()) {
+            return true;
+        }
+        if (!s.linkUp) {
+            return false;
+        }
+        if (maxStaleness > 0
+                && (s.lastIOTime < 0 || s.lastIOTime * 1000 > maxStaleness)) {
+            return false;
+        }
+        return maxReplicationOffsetLag <= 0
+                || maxOffset - s.replicationOffset <= maxReplicationOffsetLag;
+    }
+
+    private void checkReplication(List<ClientConnectionsEntry> clientsCopy) {
+        long now = System.currentTimeMillis();
+        for (ClientConnectionsEntry entry : clientsCopy) {
+            if (entry.getNodeType() != NodeType.SLAVE) {
+                continue;
+            }
+
+            NodeStats s = getStats(entry.getClient());
+            if (now - s.replicationCheckTime < replicationCheckInterval
+                    || !s.replicationCheck.compareAndSet(false, true)) {
+                continue;
+            }
+
+            s.replicationCheckTime = now;
+            stats.keySet().removeIf(RedisClient::isShutdown);
+
+            RFuture<RedisConnection> connectionFuture = s.connectionFuture;
+            if (connectionFuture == null
+                    || (connectionFuture.isDone()
+                            && (!connectionFuture.isSuccess() || connectionFuture.getNow().isClosed()))) {
+                connectionFuture = entry.getClient().connectAsync();
+                s.connectionFuture = connectionFuture;
+            }
+
+            connectionFuture.onComplete((connection, e) -> {
+                if (e != null) {
+                    s.linkUp = false;
+                    s.replicationCheck.set(false);
+                    return;
+                }
+
+                RFuture<Map<String, String>> future = connection.async(RedisCommands.INFO_REPLICATION);
+                future.onComplete((info, ex) -> {
+                    s.replicationCheck.set(false);
+                    if (ex != null) {
+                        log.error("Unable to check replication state of " + entry.getClient().getAddr(), ex);
+                        s.linkUp = false;
+                        return;
+                    }
+
+                    s.linkUp = "up".equals(info.get("master_link_status"));
+                    s.lastIOTime = parse(info.get("master_last_io_seconds_ago"));
+                    s.replicationOffset = parse(info.get("slave_repl_offset"));
+                });
+            });
+        }
+    }
+
+    private long parse(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return Long.parseLong(value);
+    }
+
+}
@@ -17,6 +17,7 @@ package org.redisson.connection.balancer;
 
 import java.util.List;
 
+import org.redisson.client.RedisClient;
 import org.redisson.connection.ClientConnectionsEntry;
 
 /**
@@ -26,6 +27,31 @@ import org.redisson.connection.ClientConnectionsEntry;
  */
 public interface LoadBalancer {
 
+    /**
+     * Returns entry used for read operation.
+     * <p>
+     * Read operation is routed to master node if <code>null</code> is returned.
+     *
+     * @param clientsCopy - available entries
+     * @return entry
+     */
     ClientConnectionsEntry getEntry(List<ClientConnectionsEntry> clientsCopy);
 
+    /**
+     * Invoked when read command has been sent to node.
+     *
+     * @param client - node client
+     */
+    default void commandStarted(RedisClient client) {
+    }
+
+    /**
+     * Invoked when read command sent to node has been completed or failed.
+     *
+     * @param client - node client
+     * @param durationNanos - command execution time in nanoseconds
+     */
+    default void commandCompleted(RedisClient client, long durationNanos) {
+    }
+
 }
@@ -277,6 +277,14 @@ public class LoadBalancerManager {
         return slaveConnectionPool.get(command);
     }
 
+    public RFuture<RedisConnection> nextConnection(RedisCommand<?> command, InetSocketAddress excludedAddr) {
+        return slaveConnectionPool.get(command, excludedAddr);
+    }
+
+    public boolean disconnectSlave(ClientConnectionsEntry entry) {
+        return slaveConnectionPool.disconnectSlave(entry);
+    }
+
     public void returnPubSubConnection(RedisPubSubConnection connection) {
         ClientConnectionsEntry entry = getEntry(connection.getRedisClient());
         pubSubConnectionPool.returnConnection(entry, connection);
@@ -26,6 +26,7 @@ import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ClientConnectionsEntry.FreezeReason;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.slf4j.Logger;
@@ -181,10 +182,29 @@ abstract class ConnectionPool<T extends RedisConnection> {
 
     protected abstract int getMinimumIdleSize(ClientConnectionsEntry entry);
 
+    protected boolean isSubscription() {
+        return false;
+    }
+
     public RFuture<T> get(RedisCommand<?> command) {
+        return get(command, (InetSocketAddress) null);
+    }
+
+    /**
+     * Returns connection to any available node except node with defined address.
+     *
+     * @param command - Redis command
+     * @param excludedAddr - address of excluded node
+     * @return connection
+     */
+    public RFuture<T> get(RedisCommand<?> command, InetSocketAddress excludedAddr) {
         List<ClientConnectionsEntry> entriesCopy = new LinkedList<ClientConnectionsEntry>(entries);
         for (Iterator<ClientConnectionsEntry> iterator = entriesCopy.iterator(); iterator.hasNext();) {
             ClientConnectionsEntry entry = iterator.next();
+            if (excludedAddr != null && excludedAddr.equals(entry.getClient().getAddr())) {
+                iterator.remove();
+                continue;
+            }
             if (!((!entry.isFreezed() || entry.isMasterForRead()) 
                     && tryAcquireConnection(entry))) {
                 iterator.remove();
@@ -192,6 +212,9 @@ abstract class ConnectionPool<T extends RedisConnection> {
         }
         if (!entriesCopy.isEmpty()) {
             ClientConnectionsEntry entry = config.getLoadBalancer().getEntry(entriesCopy);
+            if (entry == null) {
+                return getFallbackConnection(command, entriesCopy);
+            }
             return acquireConnection(command, entry);
         }
         
@@ -217,6 +240,17 @@ abstract class ConnectionPool<T extends RedisConnection> {
         return RedissonPromise.newFailedFuture(exception);
     }
 
+    /**
+     * Invoked if load balancer hasn't selected any of available entries.
+     *
+     * @param command - Redis command
+     * @param entries - available entries
+     * @return connection
+     */
+    protected RFuture<T> getFallbackConnection(RedisCommand<?> command, List<ClientConnectionsEntry> entries) {
+        return acquireConnection(command, entries.get(0));
+    }
+
     public RFuture<T> get(RedisCommand<?> command, ClientConnectionsEntry entry) {
             return acquireConnection(command, entry);
         }
@@ -226,14 +260,30 @@ abstract class ConnectionPool<T extends RedisConnection> {
     }
     
     protected final RFuture<T> acquireConnection(RedisCommand<?> command, ClientConnectionsEntry entry) {
+        if (!isSubscription() && entry.isShared(command)) {
+            if (entry.isFreezed() && !entry.isMasterForRead()) {
+                RedisConnectionException exception = new RedisConnectionException(
+                        "Unable to use shared connection. Node " + entry.getClient().getAddr() + " is disconnected");
+                return RedissonPromise.newFailedFuture(exception);
+            }
+            return (RFuture<T>) entry.getSharedConnection();
+        }
+
         RPromise<T> result = new RedissonPromise<T>();
 
+            MetricsRecorder metrics = connectionManager.getCfg().getMetricsRecorder();
+            long startTime = metrics != null ? System.nanoTime() : 0;
+
             AcquireCallback<T> callback = new AcquireCallback<T>() {
                 boolean executed;
                 
                 @Override
                 public void run() {
                     executed = true;
+                    if (metrics != null) {
+                        metrics.connectionAcquired(entry.getClient().getConfig().getAddress(),
+                                                    isSubscription(), System.nanoTime() - startTime);
+                    }
                     connectTo(entry, result, command);
                 }
                 
@@ -347,6 +397,21 @@ abstract class ConnectionPool<T extends RedisConnection> {
         promise.tryFailure(cause);
     }
 
+    /**
+     * Excludes slave node from the list of available nodes.
+     * Node is added back once it responds to PING command.
+     *
+     * @param entry - slave node entry
+     * @return <code>true</code> if node has been excluded
+     */
+    public boolean disconnectSlave(ClientConnectionsEntry entry) {
+        if (masterSlaveEntry.slaveDown(entry, FreezeReason.RECONNECT)) {
+            scheduleCheck(entry);
+            return true;
+        }
+        return false;
+    }
+
     private void checkForReconnect(ClientConnectionsEntry entry, Throwable cause) {
         if (masterSlaveEntry.slaveDown(entry, FreezeReason.RECONNECT)) {
             log.error("slave " + entry.getClient().getAddr() + " has been disconnected after " 
@@ -414,6 +479,9 @@ abstract class ConnectionPool<T extends RedisConnection> {
             connection.closeAsync();
             return;
         }
+        if (connection.isShared()) {
+            return;
+        }
         if (entry.isFreezed() && entry.getFreezeReason() != FreezeReason.SYSTEM) {
             connection.closeAsync();
             entry.getAllConnections().remove(connection);
@@ -50,6 +50,11 @@ public class PubSubConnectionPool extends ConnectionPool<RedisPubSubConnection>
         return config.getSubscriptionConnectionMinimumIdleSize();
     }
 
+    @Override
+    protected boolean isSubscription() {
+        return true;
+    }
+
     @Override
     protected RFuture<RedisPubSubConnection> connect(ClientConnectionsEntry entry) {
         return entry.connectPubSub();
@@ -15,12 +15,16 @@
  */
 package org.redisson.connection.pool;
 
+import org.redisson.api.RFuture;
 import org.redisson.client.RedisConnection;
+import org.redisson.client.protocol.RedisCommand;
 import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 
+import java.util.List;
+
 /**
  * Connection pool for slave node
  * 
@@ -38,4 +42,10 @@ public class SlaveConnectionPool extends ConnectionPool<RedisConnection> {
         return config.getSlaveConnectionMinimumIdleSize();
     }
 
+    @Override
+    protected RFuture<RedisConnection> getFallbackConnection(RedisCommand<?> command, List<ClientConnectionsEntry> entries) {
+        // none of slaves satisfies load balancer requirements
+        return masterSlaveEntry.connectionWriteOp(command);
+    }
+
 }
@@ -25,6 +25,10 @@ import org.redisson.command.CommandAsyncExecutor;
  * Deletes expired entries in time interval between 5 seconds to 2 hours.
  * It analyzes deleted amount of expired keys
  * and 'tune' next execution delay depending on it.
+ * <p>
+ * If {@link org.redisson.config.Config#isCoordinatedCleanUp()} is enabled
+ * clean up moments are shared between all Redisson instances through registry in Redis.
+ * Each object is cleaned up by single instance at time of its nearest entry expiration.
  *
  * @author Nikita Koksharov
  *
@@ -81,7 +85,7 @@ public class EvictionScheduler {
     public void remove(String name) {
         EvictionTask task = tasks.remove(name);
         if (task != null) {
-            task.getScheduledFuture().cancel(false);
+            task.cancel();
         }
     }
     
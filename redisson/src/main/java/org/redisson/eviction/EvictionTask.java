@@ -15,12 +15,18 @@
  */
 package org.redisson.eviction;
 
+import io.netty.util.Timeout;
 import io.netty.util.concurrent.ScheduledFuture;
 import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.concurrent.TimeUnit;
@@ -32,18 +38,29 @@ import java.util.concurrent.TimeUnit;
  */
 abstract class EvictionTask implements Runnable {
 
+    /**
+     * Sorted set shared by all Redisson instances.
+     * Member is object name and score is time of its next clean up.
+     */
+    static final String REGISTRY_NAME = "redisson__eviction__registry";
+
+    static final long LEASE_TIME = TimeUnit.SECONDS.toMillis(30);
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     
     final Deque<Integer> sizeHistory = new LinkedList<Integer>();
     final int minDelay;
     final int maxDelay;
     final int keysLimit;
+    final boolean coordinated;
     
     int delay = 5;
 
     final CommandAsyncExecutor executor;
 
     ScheduledFuture<?> scheduledFuture;
+    volatile Timeout timeout;
+    volatile boolean cancelled;
     
     EvictionTask(CommandAsyncExecutor executor) {
         super();
@@ -51,19 +68,60 @@ abstract class EvictionTask implements Runnable {
         this.minDelay = executor.getConnectionManager().getCfg().getMinCleanUpDelay();
         this.maxDelay = executor.getConnectionManager().getCfg().getMaxCleanUpDelay();
         this.keysLimit = executor.getConnectionManager().getCfg().getCleanUpKeysAmount();
+        this.coordinated = executor.getConnectionManager().getCfg().isCoordinatedCleanUp();
     }
 
     public void schedule() {
+        if (coordinated) {
+            scheduleCoordinated(TimeUnit.SECONDS.toMillis(delay));
+            return;
+        }
+
         scheduledFuture = executor.getConnectionManager().getGroup().schedule(this, delay, TimeUnit.SECONDS);
     }
 
-    public ScheduledFuture<?> getScheduledFuture() {
-        return scheduledFuture;
+    /**
+     * Stops clean up by this instance only.
+     * Entry in registry is kept for other instances
+     * and removed once object has been deleted.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+        }
+        if (timeout != null) {
+            timeout.cancel();
+        }
     }
 
     abstract RFuture<Integer> execute();
+
+    /**
+     * Returns time of the earliest entry expiration
+     * or <code>-1</code> if there are no entries.
+     *
+     * @return time in milliseconds
+     */
+    abstract RFuture<Long> nextExpirationTime();
     
     abstract String getName();
+
+    RFuture<Long> firstScoreAsync(String... timeoutSetNames) {
+        return executor.evalReadAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local result = -1; "
+              + "for i, key in ipairs(KEYS) do "
+                  + "local v = redis.call('zrange', key, 0, 0, 'withscores'); "
+                  + "if v[2] ~= nil then "
+                      + "local score = tonumber(v[2]); "
+                      + "if result == -1 or score < result then "
+                          + "result = score; "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "return result;",
+              Arrays.<Object>asList((Object[]) timeoutSetNames));
+    }
     
     @Override
     public void run() {
@@ -114,4 +172,124 @@ abstract class EvictionTask implements Runnable {
         });
     }
 
+    private void scheduleCoordinated(long delayMillis) {
+        if (cancelled) {
+            return;
+        }
+
+        long maxDelayMillis = TimeUnit.SECONDS.toMillis(maxDelay);
+        timeout = executor.getConnectionManager().newTimeout(t -> runCoordinated(),
+                                Math.max(0, Math.min(delayMillis, maxDelayMillis)), TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * Object is cleaned up only by the instance which managed to claim it in registry.
+     * Other instances get time of next clean up and sleep till that moment.
+     */
+    private void runCoordinated() {
+        if (cancelled || executor.getConnectionManager().isShuttingDown()) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        long leaseTime = currentTime + LEASE_TIME;
+        RFuture<Long> claimFuture = executor.evalWriteAsync(REGISTRY_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local due = redis.call('zscore', KEYS[1], ARGV[1]); "
+              + "if due ~= false and tonumber(due) > tonumber(ARGV[2]) then "
+                  + "return tonumber(due); "
+              + "end; "
+              + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]); "
+              + "return -1;",
+              Collections.<Object>singletonList(REGISTRY_NAME), getName(), currentTime, leaseTime);
+        claimFuture.onComplete((due, e) -> {
+            if (e != null) {
+                scheduleCoordinated(TimeUnit.SECONDS.toMillis(minDelay));
+                return;
+            }
+
+            if (due != -1) {
+                scheduleCoordinated(due - System.currentTimeMillis());
+                return;
+            }
+
+            execute().onComplete((size, ex) -> {
+                if (ex != null) {
+                    scheduleCoordinated(TimeUnit.SECONDS.toMillis(minDelay));
+                    return;
+                }
+
+                log.debug("{} elements evicted. Object name: {}", size, getName());
+
+                if (size >= keysLimit) {
+                    register(leaseTime, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(minDelay));
+                    return;
+                }
+
+                nextExpirationTime().onComplete((time, exc) -> {
+                    long now = System.currentTimeMillis();
+                    long nextTime = now + TimeUnit.SECONDS.toMillis(maxDelay);
+                    if (exc == null && time != -1) {
+                        nextTime = Math.min(nextTime, Math.max(time, now + TimeUnit.SECONDS.toMillis(minDelay)));
+                    }
+                    if (exc == null && time == -1) {
+                        unregisterIfDeleted(leaseTime, nextTime);
+                        return;
+                    }
+                    register(leaseTime, nextTime);
+                });
+            });
+        });
+    }
+
+    /*
+     * Object without expiring entries is removed from registry if it doesn't exist anymore.
+     * Removal is skipped if lease has been taken over by other instance in the meantime.
+     */
+    private void unregisterIfDeleted(long leaseTime, long nextTime) {
+        RFuture<Long> existsFuture = executor.writeAsync(getName(), StringCodec.INSTANCE, RedisCommands.EXISTS_LONG, getName());
+        existsFuture.onComplete((exists, e) -> {
+            if (e != null || exists > 0) {
+                register(leaseTime, nextTime);
+                return;
+            }
+
+            RFuture<Boolean> future = executor.evalWriteAsync(REGISTRY_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                    "local due = redis.call('zscore', KEYS[1], ARGV[1]); "
+                  + "if due ~= false and tonumber(due) == tonumber(ARGV[2]) then "
+                      + "redis.call('zrem', KEYS[1], ARGV[1]); "
+                      + "return 1; "
+                  + "end; "
+                  + "return 0;",
+                  Collections.<Object>singletonList(REGISTRY_NAME), getName(), leaseTime);
+            future.onComplete((r, ex) -> {
+                if (ex != null) {
+                    log.error("Unable to remove " + getName() + " from eviction registry", ex);
+                }
+                scheduleCoordinated(nextTime - System.currentTimeMillis());
+            });
+        });
+    }
+
+    /*
+     * Lease taken by this instance is replaced with next clean up time.
+     * Earlier time registered by other instance in the meantime is kept.
+     */
+    private void register(long leaseTime, long nextTime) {
+        RFuture<Long> future = executor.evalWriteAsync(REGISTRY_NAME, StringCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local due = redis.call('zscore', KEYS[1], ARGV[1]); "
+              + "if due ~= false and tonumber(due) ~= tonumber(ARGV[2]) and tonumber(due) < tonumber(ARGV[3]) then "
+                  + "return tonumber(due); "
+              + "end; "
+              + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]); "
+              + "return tonumber(ARGV[3]);",
+              Collections.<Object>singletonList(REGISTRY_NAME), getName(), leaseTime, nextTime);
+        future.onComplete((due, e) -> {
+            if (e != null) {
+                scheduleCoordinated(nextTime - System.currentTimeMillis());
+                return;
+            }
+            scheduleCoordinated(due - System.currentTimeMillis());
+        });
+    }
+
 }
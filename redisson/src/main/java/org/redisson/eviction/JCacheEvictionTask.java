@@ -45,6 +45,11 @@ public class JCacheEvictionTask extends EvictionTask {
         return name;
     }
     
+    @Override
+    RFuture<Long> nextExpirationTime() {
+        return firstScoreAsync(timeoutSetName);
+    }
+
     @Override
     RFuture<Integer> execute() {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
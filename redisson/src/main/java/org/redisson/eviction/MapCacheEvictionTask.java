@@ -53,6 +53,11 @@ public class MapCacheEvictionTask extends EvictionTask {
         return name;
     }
     
+    @Override
+    RFuture<Long> nextExpirationTime() {
+        return firstScoreAsync(timeoutSetName, maxIdleSetName);
+    }
+
     @Override
     RFuture<Integer> execute() {
         int latchExpireTime = Math.min(delay, 30);
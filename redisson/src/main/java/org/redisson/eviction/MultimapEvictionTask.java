@@ -43,6 +43,11 @@ public class MultimapEvictionTask extends EvictionTask {
         return name;
     }
     
+    @Override
+    RFuture<Long> nextExpirationTime() {
+        return firstScoreAsync(timeoutSetName);
+    }
+
     RFuture<Integer> execute() {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
                 "local expiredKeys = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
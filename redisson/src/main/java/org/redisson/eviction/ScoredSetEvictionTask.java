@@ -19,6 +19,8 @@ import org.redisson.api.RFuture;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
 
 /**
  * 
@@ -41,6 +43,24 @@ public class ScoredSetEvictionTask extends EvictionTask {
         return name;
     }
     
+    @Override
+    RFuture<Long> nextExpirationTime() {
+        RPromise<Long> result = new RedissonPromise<>();
+        firstScoreAsync(name).onComplete((time, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            if (time == -1) {
+                result.trySuccess(time);
+            } else {
+                result.trySuccess(time + shiftInMilliseconds);
+            }
+        });
+        return result;
+    }
+
     @Override
     RFuture<Integer> execute() {
         return executor.writeAsync(name, LongCodec.INSTANCE, RedisCommands.ZREMRANGEBYSCORE, name, 0, System.currentTimeMillis() - shiftInMilliseconds);
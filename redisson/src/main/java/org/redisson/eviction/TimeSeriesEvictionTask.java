@@ -38,6 +38,11 @@ public class TimeSeriesEvictionTask extends EvictionTask {
         this.timeoutSetName = timeoutSetName;
     }
 
+    @Override
+    RFuture<Long> nextExpirationTime() {
+        return firstScoreAsync(timeoutSetName);
+    }
+
     @Override
     RFuture<Integer> execute() {
         return executor.evalWriteAsync(name, LongCodec.INSTANCE, RedisCommands.EVAL_INTEGER,
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.executor;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.redisson.api.RExecutorFuture;
+import org.redisson.client.RedisException;
+
+/**
+ * Stream of task futures ordered by completion.
+ * <p>
+ * Amount of submitted tasks which haven't been consumed from stream yet
+ * is limited by <code>capacity</code>. Submission exceeding it is suspended
+ * until stream consumer catches up, so completed futures don't pile up in memory.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <T> the type of the task's result
+ */
+public class RedissonCompletionStream<T> {
+
+    // wakes up consumer waiting for completed future once submission has been finished
+    private static final Object FINISHED = new Object();
+
+    private final BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+    private final Queue<Runnable> suspended = new ArrayDeque<>();
+    private final long capacity;
+    private long submitted;
+    private long consumed;
+    private volatile boolean finished;
+    private volatile RuntimeException failure;
+
+    public RedissonCompletionStream(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds submitted task future. Future is emitted by stream once completed.
+     * 
+     * @param future - task future
+     */
+    public synchronized void add(RExecutorFuture<T> future) {
+        submitted++;
+        future.onComplete((res, e) -> {
+            completed.add(future);
+        });
+    }
+
+    /**
+     * Runs <code>submission</code> of next tasks immediately if amount
+     * of tasks which haven't been consumed is below capacity.
+     * Otherwise it's suspended until stream consumer catches up.
+     *
+     * @param submission - submission of next tasks
+     */
+    public void whenReady(Runnable submission) {
+        synchronized (this) {
+            if (submitted - consumed >= capacity) {
+                suspended.add(submission);
+                return;
+            }
+        }
+        submission.run();
+    }
+
+    /**
+     * Marks that all tasks have been submitted.
+     * 
+     * @param cause - submission failure or <code>null</code>
+     */
+    public synchronized void finish(RuntimeException cause) {
+        if (finished) {
+            return;
+        }
+        failure = cause;
+        finished = true;
+        suspended.clear();
+        completed.add(FINISHED);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private synchronized boolean isConsumed() {
+        return consumed == submitted;
+    }
+
+    private void onConsumed() {
+        Runnable submission;
+        synchronized (this) {
+            consumed++;
+            if (submitted - consumed >= capacity) {
+                return;
+            }
+            submission = suspended.poll();
+        }
+        if (submission != null) {
+            submission.run();
+        }
+    }
+
+    public Stream<RExecutorFuture<T>> stream() {
+        Spliterator<RExecutorFuture<T>> spliterator = new Spliterators.AbstractSpliterator<RExecutorFuture<T>>(Long.MAX_VALUE,
+                                                                Spliterator.NONNULL | Spliterator.ORDERED) {
+            
+            @Override
+            public boolean tryAdvance(Consumer<? super RExecutorFuture<T>> action) {
+                while (true) {
+                    if (finished && isConsumed()) {
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        return false;
+                    }
+
+                    Object value;
+                    try {
+                        value = completed.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RedisException("Interrupted while waiting for task completion", e);
+                    }
+                    if (value == FINISHED) {
+                        continue;
+                    }
+
+                    onConsumed();
+                    action.accept((RExecutorFuture<T>) value);
+                    return true;
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+}
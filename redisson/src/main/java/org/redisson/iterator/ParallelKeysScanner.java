@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.iterator;
+
+import org.redisson.RedissonKeys;
+import org.redisson.ScanResult;
+import org.redisson.api.KeysScanOptions;
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisException;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Scans keys of all master nodes in parallel. Each node is traversed by own SCAN cursor,
+ * SCAN command is sent to slave node if it's allowed by <code>readMode</code> setting.
+ * <p>
+ * Chunk of keys is passed to handler and next chunk of the same node is requested
+ * only once future returned by handler is completed. Thus amount of keys held in memory
+ * is limited by one chunk per node.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class ParallelKeysScanner {
+
+    private static final Object END = new Object();
+
+    private final RedissonKeys keys;
+    private final KeysScanOptions options;
+    private final AtomicLong remaining;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    public ParallelKeysScanner(RedissonKeys keys, KeysScanOptions options) {
+        this.keys = keys;
+        this.options = options;
+        if (options.getLimit() > 0) {
+            remaining = new AtomicLong(options.getLimit());
+        } else {
+            remaining = null;
+        }
+    }
+
+    /**
+     * Stops scanning. Chunks already passed to handler aren't affected.
+     */
+    public void stop() {
+        stopped.set(true);
+    }
+
+    public boolean isStopped() {
+        return stopped.get();
+    }
+
+    /**
+     * Starts scanning of all nodes.
+     *
+     * @param handler - handler of keys chunk scanned from node
+     * @return future completed once all nodes have been scanned
+     */
+    public RFuture<Void> scanAsync(BiFunction<MasterSlaveEntry, List<String>, RFuture<?>> handler) {
+        Collection<MasterSlaveEntry> entries = keys.getConnectionManager().getEntrySet();
+        RPromise<Void> result = new RedissonPromise<>();
+        AtomicInteger executed = new AtomicInteger(entries.size());
+        AtomicReference<Throwable> failed = new AtomicReference<>();
+        for (MasterSlaveEntry entry : entries) {
+            RPromise<Void> nodePromise = new RedissonPromise<>();
+            nodePromise.onComplete((r, e) -> {
+                if (e != null) {
+                    failed.compareAndSet(null, e);
+                }
+                if (executed.decrementAndGet() == 0) {
+                    if (failed.get() != null) {
+                        result.tryFailure(failed.get());
+                    } else {
+                        result.trySuccess(null);
+                    }
+                }
+            });
+            scan(entry, null, 0, handler, nodePromise);
+        }
+        return result;
+    }
+
+    private void scan(MasterSlaveEntry entry, RedisClient client, long startPos,
+                      BiFunction<MasterSlaveEntry, List<String>, RFuture<?>> handler, RPromise<Void> nodePromise) {
+        if (stopped.get()) {
+            nodePromise.trySuccess(null);
+            return;
+        }
+
+        RFuture<ScanResult<Object>> f = keys.scanIteratorAsync(client, entry, startPos,
+                                                    options.getPattern(), options.getChunkSize(), options.getType());
+        f.onComplete((res, e) -> {
+            if (e != null) {
+                nodePromise.tryFailure(e);
+                return;
+            }
+
+            List<String> chunk = limit((List<String>) (Object) res.getValues());
+            boolean last = res.getPos() == 0 || stopped.get();
+            if (chunk.isEmpty()) {
+                if (last) {
+                    nodePromise.trySuccess(null);
+                } else {
+                    scan(entry, res.getRedisClient(), res.getPos(), handler, nodePromise);
+                }
+                return;
+            }
+
+            RFuture<?> handlerFuture;
+            try {
+                handlerFuture = handler.apply(entry, chunk);
+            } catch (Exception ex) {
+                nodePromise.tryFailure(ex);
+                return;
+            }
+            handlerFuture.onComplete((r, ex) -> {
+                if (ex != null) {
+                    nodePromise.tryFailure(ex);
+                    return;
+                }
+
+                if (last) {
+                    nodePromise.trySuccess(null);
+                } else {
+                    scan(entry, res.getRedisClient(), res.getPos(), handler, nodePromise);
+                }
+            });
+        });
+    }
+
+    private List<String> limit(List<String> chunk) {
+        if (remaining == null) {
+            return chunk;
+        }
+
+        while (true) {
+            long value = remaining.get();
+            if (value == 0) {
+                stopped.set(true);
+                return Collections.emptyList();
+            }
+            long size = Math.min(value, chunk.size());
+            if (remaining.compareAndSet(value, value - size)) {
+                if (value - size == 0) {
+                    stopped.set(true);
+                }
+                return chunk.subList(0, (int) size);
+            }
+        }
+    }
+
+    /**
+     * Returns blocking iterator over scanned keys.
+     * Next chunk of node is requested once previous chunk of this node is taken by iterator.
+     *
+     * @return iterator
+     */
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+            private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+            private RFuture<Void> scanFuture;
+            private Iterator<String> current = Collections.emptyIterator();
+            private String lastKey;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (current.hasNext()) {
+                    return true;
+                }
+                if (finished) {
+                    return false;
+                }
+
+                if (scanFuture == null) {
+                    scanFuture = scanAsync((entry, chunk) -> {
+                        RPromise<Void> taken = new RedissonPromise<>();
+                        queue.add(new AbstractMap.SimpleEntry<>(chunk, taken));
+                        return taken;
+                    });
+                    scanFuture.onComplete((r, e) -> queue.add(END));
+                }
+
+                while (!current.hasNext()) {
+                    Object value;
+                    try {
+                        value = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        stop();
+                        throw new RedisException(e);
+                    }
+
+                    if (value == END) {
+                        finished = true;
+                        keys.getCommandExecutor().get(scanFuture);
+                        return false;
+                    }
+
+                    Map.Entry<List<String>, RPromise<Void>> chunk = (Map.Entry<List<String>, RPromise<Void>>) value;
+                    // requests next chunk of node while current one is consumed
+                    chunk.getValue().trySuccess(null);
+                    current = chunk.getKey().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastKey = current.next();
+                return lastKey;
+            }
+
+            @Override
+            public void remove() {
+                if (lastKey == null) {
+                    throw new IllegalStateException();
+                }
+                keys.delete(lastKey);
+                lastKey = null;
+            }
+
+        };
+    }
+
+}
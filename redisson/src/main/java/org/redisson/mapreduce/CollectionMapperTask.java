@@ -22,7 +22,6 @@ import org.redisson.api.RSet;
 import org.redisson.api.RSetCache;
 import org.redisson.api.RSortedSet;
 import org.redisson.api.mapreduce.RCollectionMapper;
-import org.redisson.api.mapreduce.RCollector;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Injector;
 
@@ -58,6 +57,10 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
         }
         
         Injector.inject(mapper, redisson);
+        if (combiner != null) {
+            Injector.inject(combiner, redisson);
+        }
+        Collector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout, combiner);
 
         for (String objectName : objectNames) {
             Iterable<VIn> collection = null;
@@ -77,8 +80,6 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
                 throw new IllegalStateException("Unable to work with " + objectClass);
             }
             
-            RCollector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout);
-            
             for (VIn value : collection) {
                 if (Thread.currentThread().isInterrupted()) {
                     return;
@@ -87,6 +88,7 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
                 mapper.map(value, collector);
             }
         }
+        collector.flush();
     }
 
 }
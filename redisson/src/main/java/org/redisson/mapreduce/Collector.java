@@ -16,18 +16,29 @@
 package org.redisson.mapreduce;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RListMultimap;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMultimapAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.mapreduce.RCollector;
+import org.redisson.api.mapreduce.RReducer;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Hash;
 
 import io.netty.buffer.ByteBuf;
 
 /**
+ * Collector buffers emitted values per partition and sends them to Redis in batches.
+ * Buffered values are reduced by combiner, if it's defined.
  * 
  * @author Nikita Koksharov
  *
@@ -36,41 +47,121 @@ import io.netty.buffer.ByteBuf;
  */
 public class Collector<K, V> implements RCollector<K, V> {
 
+    public static final int BUFFER_SIZE = 1000;
+
     private RedissonClient client;
     private String name;
     private int parts;
     private Codec codec;
     private long timeout;
     private BitSet expirationsBitSet = new BitSet();
+    private RReducer<K, V> combiner;
+    private final List<Map<K, List<V>>> buffers;
+    private final int[] bufferSizes;
+    private RFuture<?> lastFlush;
     
     public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout) {
+        this(codec, client, name, parts, timeout, null);
+    }
+
+    public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout, RReducer<K, V> combiner) {
         super();
         this.client = client;
         this.name = name;
         this.parts = parts;
         this.codec = codec;
         this.timeout = timeout;
+        this.combiner = combiner;
         expirationsBitSet = new BitSet(parts);
+        buffers = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            buffers.add(new LinkedHashMap<>());
+        }
+        bufferSizes = new int[parts];
     }
 
     @Override
     public void emit(K key, V value) {
+        int part;
         try {
             ByteBuf encodedKey = codec.getValueEncoder().encode(key);
             long hash = Hash.hash64(encodedKey);
             encodedKey.release();
-            int part = (int) Math.abs(hash % parts);
-            String partName = name + ":" + part;
-            
-            RListMultimap<K, V> multimap = client.getListMultimap(partName, codec);
-            multimap.put(key, value);
-            if (timeout > 0 && !expirationsBitSet.get(part)) {
-                multimap.expire(timeout, TimeUnit.MILLISECONDS);
-                expirationsBitSet.set(part);
-            }
+            part = (int) Math.abs(hash % parts);
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
+
+        buffers.get(part).computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        bufferSizes[part]++;
+        if (bufferSizes[part] < BUFFER_SIZE) {
+            return;
+        }
+
+        if (combiner != null) {
+            combine(part);
+            // flush only if combined values occupy significant part of buffer
+            if (bufferSizes[part] < BUFFER_SIZE / 2) {
+                return;
+            }
+        }
+        flush(part);
+    }
+
+    private void combine(int part) {
+        Map<K, List<V>> buffer = buffers.get(part);
+        for (Entry<K, List<V>> entry : buffer.entrySet()) {
+            List<V> values = entry.getValue();
+            if (values.size() > 1) {
+                V value = combiner.reduce(entry.getKey(), values.iterator());
+                entry.setValue(new ArrayList<>(Collections.singletonList(value)));
+            }
+        }
+        bufferSizes[part] = buffer.size();
+    }
+
+    private void flush(int part) {
+        Map<K, List<V>> buffer = buffers.get(part);
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        if (combiner != null) {
+            combine(part);
+        }
+
+        RBatch batch = client.createBatch();
+        RMultimapAsync<K, V> multimap = batch.getListMultimap(name + ":" + part, codec);
+        for (Entry<K, List<V>> entry : buffer.entrySet()) {
+            multimap.putAllAsync(entry.getKey(), entry.getValue());
+        }
+        if (timeout > 0 && !expirationsBitSet.get(part)) {
+            multimap.expireAsync(timeout, TimeUnit.MILLISECONDS);
+            expirationsBitSet.set(part);
+        }
+        buffer.clear();
+        bufferSizes[part] = 0;
+
+        // only one batch is in flight, so emitting continues while previous batch is sent
+        awaitLastFlush();
+        lastFlush = batch.executeAsync();
+    }
+
+    private void awaitLastFlush() {
+        if (lastFlush != null) {
+            lastFlush.syncUninterruptibly();
+            lastFlush = null;
+        }
+    }
+
+    /**
+     * Sends all buffered values to Redis and waits for completion.
+     */
+    public void flush() {
+        for (int i = 0; i < parts; i++) {
+            flush(i);
+        }
+        awaitLastFlush();
     }
 
 }
@@ -53,6 +53,7 @@ abstract class MapReduceExecutor<M, VIn, KOut, VOut> implements RMapReduceExecut
 
 
     RReducer<KOut, VOut> reducer;
+    RReducer<KOut, VOut> combiner;
     M mapper;
     long timeout;
     
@@ -19,7 +19,6 @@ import java.util.Map.Entry;
 
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
-import org.redisson.api.mapreduce.RCollector;
 import org.redisson.api.mapreduce.RMapper;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Injector;
@@ -57,7 +56,10 @@ public class MapperTask<KIn, VIn, KOut, VOut> extends BaseMapperTask<KOut, VOut>
         }
         
         Injector.inject(mapper, redisson);
-        RCollector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout);
+        if (combiner != null) {
+            Injector.inject(combiner, redisson);
+        }
+        Collector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout, combiner);
 
         for (String objectName : objectNames) {
             RMap<KIn, VIn> map = null;
@@ -75,6 +77,7 @@ public class MapperTask<KIn, VIn, KOut, VOut> extends BaseMapperTask<KOut, VOut>
                 mapper.map(entry.getKey(), entry.getValue(), collector);
             }
         }
+        collector.flush();
     }
 
 }
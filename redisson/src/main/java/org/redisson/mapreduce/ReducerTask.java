@@ -16,11 +16,18 @@
 package org.redisson.mapreduce;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RListMultimap;
 import org.redisson.api.RMap;
+import org.redisson.api.RMultimapAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.annotation.RInject;
 import org.redisson.api.mapreduce.RReducer;
@@ -38,6 +45,8 @@ public class ReducerTask<KOut, VOut> implements Runnable, Serializable {
 
     private static final long serialVersionUID = 3556632668150314703L;
 
+    private static final int CHUNK_SIZE = 100;
+
     @RInject
     private RedissonClient redisson;
     
@@ -71,13 +80,21 @@ public class ReducerTask<KOut, VOut> implements Runnable, Serializable {
         
         RMap<KOut, VOut> map = redisson.getMap(resultMapName);
         RListMultimap<KOut, VOut> multimap = redisson.getListMultimap(name, codec);
+        // keys are loaded using HSCAN and values are loaded by chunks,
+        // so partition isn't loaded into memory entirely
+        List<KOut> keys = new ArrayList<>(CHUNK_SIZE);
         for (KOut key : multimap.keySet()) {
             if (Thread.currentThread().isInterrupted()) {
                 break;
             }
-            List<VOut> values = multimap.get(key);
-            VOut out = reducer.reduce(key, values.iterator());
-            map.put(key, out);
+            keys.add(key);
+            if (keys.size() == CHUNK_SIZE) {
+                reduce(keys, map);
+                keys.clear();
+            }
+        }
+        if (!keys.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            reduce(keys, map);
         }
         if (timeout > 0) {
             map.expire(timeout, TimeUnit.MILLISECONDS);
@@ -85,4 +102,21 @@ public class ReducerTask<KOut, VOut> implements Runnable, Serializable {
         multimap.delete();
     }
 
+    private void reduce(List<KOut> keys, RMap<KOut, VOut> map) {
+        RBatch batch = redisson.createBatch();
+        RMultimapAsync<KOut, VOut> multimap = batch.getListMultimap(name, codec);
+        List<RFuture<Collection<VOut>>> futures = new ArrayList<>(keys.size());
+        for (KOut key : keys) {
+            futures.add(multimap.getAllAsync(key));
+        }
+        batch.execute();
+
+        Map<KOut, VOut> result = new LinkedHashMap<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Collection<VOut> values = futures.get(i).getNow();
+            result.put(keys.get(i), reducer.reduce(keys.get(i), values.iterator()));
+        }
+        map.putAll(result);
+    }
+
 }
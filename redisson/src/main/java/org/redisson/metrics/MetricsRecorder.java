@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import org.redisson.api.NodeType;
+import org.redisson.client.protocol.pubsub.PubSubType;
+import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.misc.RedisURI;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics SPI. Implementation is defined through {@link org.redisson.config.Config#setMetricsRecorder(MetricsRecorder)}.
+ * <p>
+ * Methods are invoked from Netty threads and shouldn't block.
+ * Node address might be <code>null</code> if connection hasn't been acquired.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Invoked on connection pool creation.
+     *
+     * @param node - node address
+     * @param nodeType - node type
+     * @param subscription - <code>true</code> for subscription connection pool
+     * @param maxSize - max size of pool
+     * @param freeAmount - amount of free connections
+     * @param pendingAmount - amount of requests awaiting for connection
+     */
+    void registerConnectionPool(RedisURI node, NodeType nodeType, boolean subscription,
+                                int maxSize, IntSupplier freeAmount, IntSupplier pendingAmount);
+
+    /**
+     * Invoked on connection pool shutdown.
+     *
+     * @param node - node address
+     * @param subscription - <code>true</code> for subscription connection pool
+     */
+    void unregisterConnectionPool(RedisURI node, boolean subscription);
+
+    /**
+     * Invoked when connection acquired from pool.
+     *
+     * @param node - node address
+     * @param subscription - <code>true</code> for subscription connection
+     * @param waitNanos - time spent waiting for connection in nanoseconds
+     */
+    void connectionAcquired(RedisURI node, boolean subscription, long waitNanos);
+
+    /**
+     * Invoked when command has been written into connection.
+     * Includes time spent in channel outbound buffer,
+     * e.g. while flush is deferred or socket isn't writable.
+     *
+     * @param node - node address
+     * @param waitNanos - time spent in write queue in nanoseconds
+     */
+    void commandWritten(RedisURI node, long waitNanos);
+
+    /**
+     * Invoked on command completion including all retry attempts.
+     *
+     * @param node - node address used by last attempt
+     * @param command - command name
+     * @param durationNanos - command execution time in nanoseconds
+     * @param cause - error or <code>null</code> if command completed successfully
+     */
+    void commandCompleted(RedisURI node, String command, long durationNanos, Throwable cause);
+
+    /**
+     * Invoked on command retry attempt.
+     *
+     * @param node - node address used by failed attempt
+     * @param command - command name
+     */
+    void commandRetried(RedisURI node, String command);
+
+    /**
+     * Invoked on MOVED or ASK redirect received in reply to command.
+     *
+     * @param node - node address which sent redirect
+     * @param command - command name
+     * @param redirect - redirect type
+     */
+    void commandRedirected(RedisURI node, String command, Redirect redirect);
+
+    /**
+     * Invoked when channel or pattern subscription has been sent.
+     *
+     * @param node - node address
+     * @param type - subscription type
+     */
+    void subscribed(RedisURI node, PubSubType type);
+
+    /**
+     * Invoked when channel or pattern unsubscription has been sent.
+     *
+     * @param node - node address
+     * @param type - unsubscription type
+     */
+    void unsubscribed(RedisURI node, PubSubType type);
+
+}
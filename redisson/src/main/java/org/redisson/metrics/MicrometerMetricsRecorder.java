@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import io.micrometer.core.instrument.*;
+import org.redisson.api.NodeType;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.protocol.pubsub.PubSubType;
+import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.misc.RedisURI;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Micrometer based metrics implementation.
+ * Metrics are exposed by any Micrometer registry, including JMX registry.
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li><code>redisson.command</code> - timer of commands tagged by node, command and result</li>
+ * <li><code>redisson.command.retries</code> - counter of command retry attempts</li>
+ * <li><code>redisson.command.redirects</code> - counter of MOVED/ASK redirects</li>
+ * <li><code>redisson.command.write</code> - timer of time spent in connection write queue</li>
+ * <li><code>redisson.pool.acquire</code> - timer of connection acquisition</li>
+ * <li><code>redisson.pool.free</code>, <code>redisson.pool.pending</code>, <code>redisson.pool.max</code> - connection pool gauges</li>
+ * <li><code>redisson.pubsub.subscriptions</code> - counter of subscribe and unsubscribe operations</li>
+ * </ul>
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    private static final String UNKNOWN_NODE = "unknown";
+
+    private final MeterRegistry registry;
+    private final String prefix;
+
+    private final Map<List<String>, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<List<Object>, PoolGauges> poolGauges = new ConcurrentHashMap<>();
+
+    static class PoolGauges {
+
+        final int maxSize;
+        final IntSupplier freeAmount;
+        final IntSupplier pendingAmount;
+        final List<Meter> meters = new CopyOnWriteArrayList<>();
+
+        PoolGauges(int maxSize, IntSupplier freeAmount, IntSupplier pendingAmount) {
+            this.maxSize = maxSize;
+            this.freeAmount = freeAmount;
+            this.pendingAmount = pendingAmount;
+        }
+
+    }
+
+    /**
+     * Creates instance bound to Micrometer global registry.
+     */
+    public MicrometerMetricsRecorder() {
+        this(Metrics.globalRegistry);
+    }
+
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        this(registry, "redisson");
+    }
+
+    public MicrometerMetricsRecorder(MeterRegistry registry, String prefix) {
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    private String node(RedisURI node) {
+        if (node == null) {
+            return UNKNOWN_NODE;
+        }
+        return node.getHost() + ":" + node.getPort();
+    }
+
+    @Override
+    public void registerConnectionPool(RedisURI node, NodeType nodeType, boolean subscription,
+                                       int maxSize, IntSupplier freeAmount, IntSupplier pendingAmount) {
+        unregisterConnectionPool(node, subscription);
+
+        Tags tags = Tags.of("node", node(node),
+                            "type", String.valueOf(nodeType),
+                            "pool", subscription ? "pubsub" : "command");
+        // gauges keep weak reference to state object, so it's stored in poolGauges map
+        PoolGauges pool = new PoolGauges(maxSize, freeAmount, pendingAmount);
+        pool.meters.add(Gauge.builder(prefix + ".pool.free", pool, p -> p.freeAmount.getAsInt())
+                        .description("Amount of free connections")
+                        .tags(tags)
+                        .register(registry));
+        pool.meters.add(Gauge.builder(prefix + ".pool.pending", pool, p -> p.pendingAmount.getAsInt())
+                        .description("Amount of requests awaiting for free connection")
+                        .tags(tags)
+                        .register(registry));
+        pool.meters.add(Gauge.builder(prefix + ".pool.max", pool, p -> p.maxSize)
+                        .description("Max size of connection pool")
+                        .tags(tags)
+                        .register(registry));
+        poolGauges.put(Arrays.asList(node(node), subscription), pool);
+    }
+
+    @Override
+    public void unregisterConnectionPool(RedisURI node, boolean subscription) {
+        PoolGauges pool = poolGauges.remove(Arrays.asList(node(node), subscription));
+        if (pool != null) {
+            pool.meters.forEach(registry::remove);
+        }
+    }
+
+    @Override
+    public void connectionAcquired(RedisURI node, boolean subscription, long waitNanos) {
+        String name = node(node);
+        String pool = subscription ? "pubsub" : "command";
+        timer(prefix + ".pool.acquire", name, pool).record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commandWritten(RedisURI node, long waitNanos) {
+        timer(prefix + ".command.write", node(node), null).record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commandCompleted(RedisURI node, String command, long durationNanos, Throwable cause) {
+        String result = "success";
+        if (cause instanceof RedisTimeoutException) {
+            result = "timeout";
+        } else if (cause != null) {
+            result = "error";
+        }
+
+        String name = node(node);
+        String res = result;
+        Timer timer = commandTimers.computeIfAbsent(Arrays.asList(name, command, result), k ->
+                Timer.builder(prefix + ".command")
+                        .description("Command execution time including retry attempts")
+                        .tags("node", name, "command", command, "result", res)
+                        .publishPercentileHistogram()
+                        .register(registry));
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commandRetried(RedisURI node, String command) {
+        counter(prefix + ".command.retries", node(node), "command", command).increment();
+    }
+
+    @Override
+    public void commandRedirected(RedisURI node, String command, Redirect redirect) {
+        counter(prefix + ".command.redirects", node(node), "redirect", redirect.name()).increment();
+    }
+
+    @Override
+    public void subscribed(RedisURI node, PubSubType type) {
+        counter(prefix + ".pubsub.subscriptions", node(node), "type", type.name().toLowerCase()).increment();
+    }
+
+    @Override
+    public void unsubscribed(RedisURI node, PubSubType type) {
+        counter(prefix + ".pubsub.subscriptions", node(node), "type", type.name().toLowerCase()).increment();
+    }
+
+    private Timer timer(String name, String node, String pool) {
+        return timers.computeIfAbsent(Arrays.asList(name, node, pool), k -> {
+            Timer.Builder builder = Timer.builder(name).tag("node", node);
+            if (pool != null) {
+                builder.tag("pool", pool);
+            }
+            return builder.register(registry);
+        });
+    }
+
+    private Counter counter(String name, String node, String tagName, String tagValue) {
+        return counters.computeIfAbsent(Arrays.asList(name, node, tagName, tagValue), k ->
+                Counter.builder(name)
+                        .tags("node", node, tagName, tagValue)
+                        .register(registry));
+    }
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.misc;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.protocol.ReplyElementsListener;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Passes elements of already materialized reply to {@link ReplyElementsListener}.
+ * Used by objects which aren't able to stream raw reply of Redis command.
+ * <p>
+ * Collection elements are passed in iteration order. Map keys and values are passed in turn,
+ * as well as values and scores of {@link ScoredEntry} elements.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public final class ReplyElementsFeeder {
+
+    private final Iterator<?> iterator;
+    private final ReplyElementsListener listener;
+    private final RPromise<Long> result;
+    private long counter;
+
+    private ReplyElementsFeeder(Iterator<?> iterator, ReplyElementsListener listener, RPromise<Long> result) {
+        this.iterator = iterator;
+        this.listener = listener;
+        this.result = result;
+    }
+
+    public static RFuture<Long> feed(RFuture<?> future, ReplyElementsListener listener) {
+        RPromise<Long> result = new RedissonPromise<>();
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            Iterator<?> iterator;
+            if (res == null) {
+                iterator = Collections.emptyIterator();
+            } else if (res instanceof Map) {
+                iterator = ((Map<?, ?>) res).entrySet().stream()
+                                .flatMap(entry -> Arrays.asList(entry.getKey(), entry.getValue()).stream())
+                                .iterator();
+            } else {
+                iterator = ((Collection<?>) res).stream()
+                                .flatMap(element -> {
+                                    if (element instanceof ScoredEntry) {
+                                        ScoredEntry<?> entry = (ScoredEntry<?>) element;
+                                        return Arrays.asList(entry.getValue(), entry.getScore()).stream();
+                                    }
+                                    return Collections.singletonList(element).stream();
+                                })
+                                .iterator();
+            }
+            new ReplyElementsFeeder(iterator, listener, result).feed();
+        });
+        return result;
+    }
+
+    private void feed() {
+        try {
+            while (iterator.hasNext()) {
+                counter++;
+                if (!listener.onElement(iterator.next())) {
+                    if (iterator.hasNext()) {
+                        AtomicBoolean resumed = new AtomicBoolean();
+                        listener.onPause(() -> {
+                            if (resumed.compareAndSet(false, true)) {
+                                feed();
+                            }
+                        });
+                        return;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            result.tryFailure(e);
+            return;
+        }
+        result.trySuccess(counter);
+    }
+
+}
@@ -26,6 +26,7 @@ import org.redisson.client.protocol.pubsub.PubSubType;
 import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.metrics.MetricsRecorder;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.slf4j.Logger;
@@ -285,6 +286,7 @@ public class PublishSubscribeService {
             } else {
                 future = freeEntry.subscribe(codec, channelName);
             }
+            recordSubscription(freeEntry, type);
 
             future.addListener((ChannelFutureListener) f -> {
                 if (!f.isSuccess()) {
@@ -388,6 +390,7 @@ public class PublishSubscribeService {
                 } else {
                     future = entry.subscribe(codec, channelName);
                 }
+                recordSubscription(entry, type);
 
                 future.addListener((ChannelFutureListener) future1 -> {
                     if (!future1.isSuccess()) {
@@ -439,6 +442,7 @@ public class PublishSubscribeService {
         } else {
             future = entry.punsubscribe(channelName, listener);
         }
+        recordUnsubscription(entry, topicType);
 
         future.addListener((ChannelFutureListener) f -> {
             if (!f.isSuccess()) {
@@ -515,6 +519,7 @@ public class PublishSubscribeService {
                 } else {
                     future = entry.unsubscribe(channelName, listener);
                 }
+                recordUnsubscription(entry, topicType);
 
                 future.addListener((ChannelFutureListener) f -> {
                     if (!f.isSuccess()) {
@@ -722,6 +727,20 @@ public class PublishSubscribeService {
         return promise;
     }
 
+    private void recordSubscription(PubSubConnectionEntry entry, PubSubType type) {
+        MetricsRecorder metrics = connectionManager.getCfg().getMetricsRecorder();
+        if (metrics != null) {
+            metrics.subscribed(entry.getConnection().getRedisClient().getConfig().getAddress(), type);
+        }
+    }
+
+    private void recordUnsubscription(PubSubConnectionEntry entry, PubSubType type) {
+        MetricsRecorder metrics = connectionManager.getCfg().getMetricsRecorder();
+        if (metrics != null) {
+            metrics.unsubscribed(entry.getConnection().getRedisClient().getConfig().getAddress(), type);
+        }
+    }
+
     @Override
     public String toString() {
         return "PublishSubscribeService [name2PubSubConnection=" + name2PubSubConnection + ", entry2PubSubConnection=" + entry2PubSubConnection + "]";
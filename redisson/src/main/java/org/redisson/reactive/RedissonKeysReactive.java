@@ -18,13 +18,20 @@ package org.redisson.reactive;
 import org.reactivestreams.Publisher;
 import org.redisson.RedissonKeys;
 import org.redisson.ScanResult;
+import org.redisson.api.KeysScanOptions;
 import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.iterator.ParallelKeysScanner;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * 
@@ -63,6 +70,46 @@ public class RedissonKeysReactive {
         return Flux.merge(publishers);
     }
 
+    public Flux<String> getKeys(KeysScanOptions options) {
+        return Flux.create(emitter -> {
+            ParallelKeysScanner scanner = new ParallelKeysScanner(instance, options);
+            Queue<RPromise<Void>> waiting = new ConcurrentLinkedQueue<>();
+            emitter.onRequest(n -> release(emitter, waiting));
+            emitter.onDispose(() -> {
+                scanner.stop();
+                release(emitter, waiting);
+            });
+
+            scanner.scanAsync((entry, keys) -> {
+                for (String key : keys) {
+                    emitter.next(key);
+                }
+
+                // next chunk of node is requested only if there is demand for it
+                RPromise<Void> promise = new RedissonPromise<>();
+                waiting.add(promise);
+                release(emitter, waiting);
+                return promise;
+            }).onComplete((r, e) -> {
+                if (e != null) {
+                    emitter.error(e);
+                    return;
+                }
+                emitter.complete();
+            });
+        });
+    }
+
+    private void release(FluxSink<String> emitter, Queue<RPromise<Void>> waiting) {
+        while (emitter.requestedFromDownstream() > 0 || emitter.isCancelled()) {
+            RPromise<Void> promise = waiting.poll();
+            if (promise == null) {
+                return;
+            }
+            promise.trySuccess(null);
+        }
+    }
+
     private Flux<String> createKeysIterator(final MasterSlaveEntry entry, final String pattern, final int count) {
         return Flux.create(emitter -> emitter.onRequest(new IteratorConsumer<String>(emitter) {
 
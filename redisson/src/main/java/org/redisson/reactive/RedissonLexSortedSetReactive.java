@@ -21,6 +21,8 @@ import org.redisson.ScanResult;
 import org.redisson.api.RFuture;
 import org.redisson.api.RLexSortedSet;
 import org.redisson.client.RedisClient;
+import org.redisson.client.protocol.ReplyElementsListener;
+import org.redisson.client.protocol.ScoredEntry;
 import reactor.core.publisher.Flux;
 
 
@@ -71,4 +73,27 @@ public class RedissonLexSortedSetReactive {
         return scanIteratorReactive(pattern, count);
     }
 
+    public Publisher<String> valueRangeStream(int startIndex, int endIndex) {
+        return Flux.create(new ReplyStreamIterator<String>() {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonScoredSortedSet<String>) instance).valueRangeAsync(startIndex, endIndex, listener);
+            }
+        });
+    }
+
+    public Publisher<ScoredEntry<String>> entryRangeStream(int startIndex, int endIndex) {
+        return Flux.create(new ReplyStreamIterator<ScoredEntry<String>>(2) {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonScoredSortedSet<String>) instance).entryRangeAsync(startIndex, endIndex, listener);
+            }
+
+            @Override
+            protected ScoredEntry<String> getValue(Object[] elements) {
+                return new ScoredEntry<>(((Number) elements[1]).doubleValue(), (String) elements[0]);
+            }
+        });
+    }
+
 }
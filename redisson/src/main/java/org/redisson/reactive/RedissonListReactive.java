@@ -23,6 +23,7 @@ import org.redisson.RedissonList;
 import org.redisson.api.RFuture;
 import org.redisson.api.RListAsync;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ReplyElementsListener;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -113,6 +114,15 @@ public class RedissonListReactive<V> {
         });
     }
     
+    public Publisher<V> readAllStream() {
+        return Flux.create(new ReplyStreamIterator<V>() {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonList<V>) instance).readAllAsync(listener);
+            }
+        });
+    }
+
     public Publisher<Boolean> addAll(Publisher<? extends V> c) {
         return new PublisherAdder<V>() {
 
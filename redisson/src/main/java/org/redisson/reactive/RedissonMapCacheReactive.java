@@ -15,8 +15,11 @@
  */
 package org.redisson.reactive;
 
+import org.reactivestreams.Publisher;
 import org.redisson.api.RMapCache;
 
+import java.util.Map.Entry;
+
 /**
  *
  * @author Nikita Koksharov
@@ -30,4 +33,10 @@ public class RedissonMapCacheReactive<K, V> extends RedissonMapReactive<K, V> {
         super(map, commandExecutor);
     }
 
+    @Override
+    public Publisher<Entry<K, V>> readAllMapStream() {
+        // entries are filtered by expiration, so they are scanned in chunks
+        return entryIterator();
+    }
+
 }
@@ -18,8 +18,10 @@ package org.redisson.reactive;
 import org.reactivestreams.Publisher;
 import org.redisson.RedissonMap;
 import org.redisson.api.*;
+import org.redisson.client.protocol.ReplyElementsListener;
 import reactor.core.publisher.Flux;
 
+import java.util.AbstractMap;
 import java.util.Map.Entry;
 
 /**
@@ -55,6 +57,20 @@ public class RedissonMapReactive<K, V> {
         return Flux.create(new MapReactiveIterator<>((RedissonMap<K, V>) map, pattern, count));
     }
 
+    public Publisher<Entry<K, V>> readAllMapStream() {
+        return Flux.create(new ReplyStreamIterator<Entry<K, V>>(2) {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonMap<K, V>) map).readAllMapAsync(listener);
+            }
+
+            @Override
+            protected Entry<K, V> getValue(Object[] elements) {
+                return new AbstractMap.SimpleEntry<>((K) elements[0], (V) elements[1]);
+            }
+        });
+    }
+
     public Publisher<V> valueIterator() {
         return valueIterator(null);
     }
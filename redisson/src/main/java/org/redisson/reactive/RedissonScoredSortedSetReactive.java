@@ -21,6 +21,8 @@ import org.redisson.api.RFuture;
 import org.redisson.api.RScoredSortedSetAsync;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ReplyElementsListener;
+import org.redisson.client.protocol.ScoredEntry;
 import reactor.core.publisher.Flux;
 
 import java.util.concurrent.Callable;
@@ -78,6 +80,29 @@ public class RedissonScoredSortedSetReactive<V>  {
         });
     }
 
+    public Flux<V> valueRangeStream(int startIndex, int endIndex) {
+        return Flux.create(new ReplyStreamIterator<V>() {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonScoredSortedSet<V>) instance).valueRangeAsync(startIndex, endIndex, listener);
+            }
+        });
+    }
+
+    public Flux<ScoredEntry<V>> entryRangeStream(int startIndex, int endIndex) {
+        return Flux.create(new ReplyStreamIterator<ScoredEntry<V>>(2) {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonScoredSortedSet<V>) instance).entryRangeAsync(startIndex, endIndex, listener);
+            }
+
+            @Override
+            protected ScoredEntry<V> getValue(Object[] elements) {
+                return new ScoredEntry<>(((Number) elements[1]).doubleValue(), (V) elements[0]);
+            }
+        });
+    }
+
     public String getName() {
         return ((RedissonScoredSortedSet<V>) instance).getRawName();
     }
@@ -17,10 +17,12 @@ package org.redisson.reactive;
 
 import org.reactivestreams.Publisher;
 import org.redisson.RedissonObject;
+import org.redisson.RedissonSet;
 import org.redisson.ScanIterator;
 import org.redisson.ScanResult;
 import org.redisson.api.*;
 import org.redisson.client.RedisClient;
+import org.redisson.client.protocol.ReplyElementsListener;
 import reactor.core.publisher.Flux;
 
 /**
@@ -49,6 +51,20 @@ public class RedissonSetReactive<V> {
         }.addAll(c);
     }
 
+    public Publisher<V> readAllStream() {
+        if (!(instance instanceof RedissonSet)) {
+            // multimap values are filtered by expiration
+            return iterator();
+        }
+
+        return Flux.create(new ReplyStreamIterator<V>() {
+            @Override
+            protected RFuture<Long> read(ReplyElementsListener listener) {
+                return ((RedissonSet<V>) instance).readAllAsync(listener);
+            }
+        });
+    }
+
     public Publisher<V> iterator(int count) {
         return iterator(null, count);
     }
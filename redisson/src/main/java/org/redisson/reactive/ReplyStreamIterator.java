@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.reactive;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.protocol.ReplyElementsListener;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Emits elements of streamed reply according to subscriber demand.
+ * Reading from connection is paused once amount of elements
+ * awaiting for demand reaches high watermark and resumed once it drops to low watermark.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public abstract class ReplyStreamIterator<V> implements Consumer<FluxSink<V>> {
+
+    private static final int HIGH_WATERMARK = 1024;
+    private static final int LOW_WATERMARK = 256;
+
+    private final int elementsPerValue;
+
+    public ReplyStreamIterator() {
+        this(1);
+    }
+
+    /**
+     * @param elementsPerValue - amount of reply elements which constitute emitted value
+     */
+    public ReplyStreamIterator(int elementsPerValue) {
+        this.elementsPerValue = elementsPerValue;
+    }
+
+    @Override
+    public void accept(FluxSink<V> emitter) {
+        ElementsSink sink = new ElementsSink(emitter);
+        emitter.onRequest(sink::request);
+        emitter.onDispose(sink::cancel);
+
+        RFuture<Long> future;
+        try {
+            future = read(sink);
+        } catch (Exception e) {
+            emitter.error(e);
+            return;
+        }
+        future.onComplete((r, e) -> sink.complete(e));
+    }
+
+    protected abstract RFuture<Long> read(ReplyElementsListener listener);
+
+    protected V getValue(Object[] elements) {
+        return (V) elements[0];
+    }
+
+    final class ElementsSink implements ReplyElementsListener {
+
+        private final FluxSink<V> emitter;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Queue<V> queue = new ArrayDeque<>();
+        private final Object[] elements = new Object[elementsPerValue];
+        private int elementsAmount;
+
+        private long requested;
+        private Runnable resume;
+        private boolean cancelled;
+        private boolean completed;
+        private boolean terminated;
+        private Throwable error;
+
+        ElementsSink(FluxSink<V> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public boolean onElement(Object element) {
+            if (elementsPerValue > 1 && elementsAmount == 0 && element instanceof Collection) {
+                // RESP3 protocol replies with nested arrays which are already decoded as values
+                for (Object value : (Collection<?>) element) {
+                    offer((V) value);
+                }
+            } else {
+                elements[elementsAmount++] = element;
+                if (elementsAmount < elementsPerValue) {
+                    return true;
+                }
+                elementsAmount = 0;
+                offer(getValue(elements));
+            }
+
+            drain();
+            synchronized (this) {
+                return cancelled || queue.size() < HIGH_WATERMARK;
+            }
+        }
+
+        private synchronized void offer(V value) {
+            if (!cancelled) {
+                queue.add(value);
+            }
+        }
+
+        @Override
+        public void onPause(Runnable resume) {
+            synchronized (this) {
+                if (!cancelled && queue.size() > LOW_WATERMARK) {
+                    this.resume = resume;
+                    return;
+                }
+            }
+            resume.run();
+        }
+
+        void request(long n) {
+            synchronized (this) {
+                requested += n;
+                if (requested < 0) {
+                    requested = Long.MAX_VALUE;
+                }
+            }
+            drain();
+        }
+
+        void cancel() {
+            Runnable r;
+            synchronized (this) {
+                cancelled = true;
+                queue.clear();
+                r = resume;
+                resume = null;
+            }
+            // remaining elements are read and discarded since connection is used by other commands
+            if (r != null) {
+                r.run();
+            }
+        }
+
+        void complete(Throwable e) {
+            synchronized (this) {
+                completed = true;
+                error = e;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                while (true) {
+                    V value;
+                    Runnable r = null;
+                    synchronized (this) {
+                        if (cancelled || requested == 0 || queue.isEmpty()) {
+                            break;
+                        }
+                        value = queue.poll();
+                        if (requested != Long.MAX_VALUE) {
+                            requested--;
+                        }
+                        if (resume != null && queue.size() <= LOW_WATERMARK) {
+                            r = resume;
+                            resume = null;
+                        }
+                    }
+                    if (r != null) {
+                        r.run();
+                    }
+                    emitter.next(value);
+                }
+
+                Throwable e;
+                synchronized (this) {
+                    if (cancelled || terminated || !completed || !queue.isEmpty()) {
+                        continue;
+                    }
+                    terminated = true;
+                    e = error;
+                }
+                if (e != null) {
+                    emitter.error(e);
+                } else {
+                    emitter.complete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+    }
+
+}
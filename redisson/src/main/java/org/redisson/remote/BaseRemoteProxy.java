@@ -42,6 +42,8 @@ import java.util.function.BiConsumer;
  */
 public abstract class BaseRemoteProxy {
 
+    private static final int RESPONSES_BATCH_SIZE = 100;
+    
     private final Logger log = LoggerFactory.getLogger(getClass());
     
     final CommandAsyncExecutor commandExecutor;
@@ -204,53 +206,83 @@ public abstract class BaseRemoteProxy {
             return;
         }
         
+        takeResponse();
+    }
+
+    private void takeResponse() {
         RBlockingQueue<RRemoteServiceResponse> queue = getBlockingQueue(responseQueueName, codec);
         RFuture<RRemoteServiceResponse> future = queue.takeAsync();
-        future.onComplete(createResponseListener());
+        future.onComplete((response, e) -> {
+            if (e != null) {
+                log.error("Can't get response from " + responseQueueName, e);
+                return;
+            }
+            
+            handleResponses(Collections.singletonList(response));
+        });
     }
-
-    private BiConsumer<RRemoteServiceResponse, Throwable> createResponseListener() {
-        return (response, e) -> {
+    
+    private void drainResponses() {
+        RBlockingQueue<RRemoteServiceResponse> queue = getBlockingQueue(responseQueueName, codec);
+        RFuture<List<RRemoteServiceResponse>> future = queue.pollAsync(RESPONSES_BATCH_SIZE);
+        future.onComplete((list, e) -> {
             if (e != null) {
                 log.error("Can't get response from " + responseQueueName, e);
                 return;
             }
             
-            RPromise<RRemoteServiceResponse> promise;
-            synchronized (responses) {
-                ResponseEntry entry = responses.get(responseQueueName);
-                if (entry == null) {
-                    return;
-                }
-                
+            if (list.isEmpty()) {
+                takeResponse();
+                return;
+            }
+            
+            handleResponses(list);
+        });
+    }
+
+    private void handleResponses(List<RRemoteServiceResponse> list) {
+        List<RPromise<RRemoteServiceResponse>> promises = new ArrayList<>(list.size());
+        List<RRemoteServiceResponse> results = new ArrayList<>(list.size());
+        boolean poll = false;
+        synchronized (responses) {
+            ResponseEntry entry = responses.get(responseQueueName);
+            if (entry == null) {
+                return;
+            }
+            
+            for (RRemoteServiceResponse response : list) {
                 RequestId key = new RequestId(response.getId());
-                List<Result> list = entry.getResponses().get(key);
-                if (list == null) {
-                    RBlockingQueue<RRemoteServiceResponse> responseQueue = getBlockingQueue(responseQueueName, codec);
-                    responseQueue.takeAsync().onComplete(createResponseListener());
-                    return;
+                List<Result> responseList = entry.getResponses().get(key);
+                if (responseList == null) {
+                    continue;
                 }
                 
-                Result res = list.remove(0);
-                if (list.isEmpty()) {
+                Result res = responseList.remove(0);
+                if (responseList.isEmpty()) {
                     entry.getResponses().remove(key);
                 }
 
-                promise = res.getPromise();
                 res.getResponseTimeoutFuture().cancel(true);
-                
-                if (entry.getResponses().isEmpty()) {
-                    responses.remove(responseQueueName, entry);
-                } else {
-                    RBlockingQueue<RRemoteServiceResponse> responseQueue = getBlockingQueue(responseQueueName, codec);
-                    responseQueue.takeAsync().onComplete(createResponseListener());
-                }
+                promises.add(res.getPromise());
+                results.add(response);
             }
-
-            if (promise != null) {
-                promise.trySuccess(response);
+            
+            if (entry.getResponses().isEmpty()) {
+                responses.remove(responseQueueName, entry);
+            } else {
+                poll = true;
             }
-        };
+        }
+
+        if (poll) {
+            // responses of other requests may be already in queue,
+            // so they are polled in batch before blocking take
+            drainResponses();
+        }
+        
+        for (int i = 0; i < promises.size(); i++) {
+            promises.get(i).trySuccess(results.get(i));
+        }
     }
     
 }
@@ -17,15 +17,24 @@ package org.redisson.rx;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.reactivestreams.Publisher;
 import org.redisson.RedissonKeys;
+import org.redisson.api.KeysScanOptions;
 import org.redisson.client.RedisClient;
 import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.iterator.ParallelKeysScanner;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
 
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.functions.LongConsumer;
 import io.reactivex.rxjava3.processors.ReplayProcessor;
+import io.reactivex.rxjava3.processors.UnicastProcessor;
 
 /**
  * 
@@ -62,6 +71,53 @@ public class RedissonKeysRx {
         return Flowable.merge(publishers);
     }
 
+    public Flowable<String> getKeys(KeysScanOptions options) {
+        return Flowable.defer(() -> {
+            UnicastProcessor<String> p = UnicastProcessor.create();
+            ParallelKeysScanner scanner = new ParallelKeysScanner(instance, options);
+            AtomicLong requested = new AtomicLong();
+            AtomicBoolean started = new AtomicBoolean();
+            Queue<RPromise<Void>> waiting = new ConcurrentLinkedQueue<>();
+            return p.doOnRequest(n -> {
+                requested.accumulateAndGet(n, (c, v) -> c + v < 0 ? Long.MAX_VALUE : c + v);
+                if (started.compareAndSet(false, true)) {
+                    scanner.scanAsync((entry, keys) -> {
+                        for (String key : keys) {
+                            p.onNext(key);
+                        }
+                        requested.accumulateAndGet(keys.size(), (c, v) -> c == Long.MAX_VALUE ? c : Math.max(0, c - v));
+
+                        // next chunk of node is requested only if there is demand for it
+                        RPromise<Void> promise = new RedissonPromise<>();
+                        waiting.add(promise);
+                        release(scanner, requested, waiting);
+                        return promise;
+                    }).onComplete((r, e) -> {
+                        if (e != null) {
+                            p.onError(e);
+                            return;
+                        }
+                        p.onComplete();
+                    });
+                }
+                release(scanner, requested, waiting);
+            }).doOnCancel(() -> {
+                scanner.stop();
+                release(scanner, requested, waiting);
+            });
+        });
+    }
+
+    private void release(ParallelKeysScanner scanner, AtomicLong requested, Queue<RPromise<Void>> waiting) {
+        while (requested.get() > 0 || scanner.isStopped()) {
+            RPromise<Void> promise = waiting.poll();
+            if (promise == null) {
+                return;
+            }
+            promise.trySuccess(null);
+        }
+    }
+
     private Publisher<String> createKeysIterator(MasterSlaveEntry entry, String pattern, int count) {
         ReplayProcessor<String> p = ReplayProcessor.create();
         return p.doOnRequest(new LongConsumer() {
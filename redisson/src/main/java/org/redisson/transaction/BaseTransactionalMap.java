@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,6 +29,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.redisson.RedissonMap;
 import org.redisson.RedissonMultiLock;
@@ -90,15 +92,17 @@ public class BaseTransactionalMap<K, V> {
     final RMap<K, V> map;
     final CommandAsyncExecutor commandExecutor;
     final String transactionId;
+    final OptimisticLocks optimisticLocks;
     Boolean deleted;
     
-    public BaseTransactionalMap(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, String transactionId) {
+    public BaseTransactionalMap(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RMap<K, V> map, String transactionId, OptimisticLocks optimisticLocks) {
         super();
         this.timeout = timeout;
         this.operations = operations;
         this.map = map;
         this.commandExecutor = commandExecutor;
         this.transactionId = transactionId;
+        this.optimisticLocks = optimisticLocks;
     }
 
     HashValue toKeyHash(Object key) {
@@ -238,7 +242,7 @@ public class BaseTransactionalMap<K, V> {
             }
         }
         
-        return map.containsKeyAsync(key);
+        return readAsync(Collections.singletonList(key), () -> map.containsKeyAsync(key));
     }
     
     public RFuture<Boolean> containsValueAsync(Object value) {
@@ -651,12 +655,12 @@ public class BaseTransactionalMap<K, V> {
                 return RedissonPromise.newSucceededFuture((V) entry.getValue());
             }
         }
-        return ((RedissonMap<K, V>) map).getOperationAsync(key);
+        return readAsync(Collections.singletonList(key), () -> ((RedissonMap<K, V>) map).getOperationAsync(key));
     }
 
     public RFuture<Set<K>> readAllKeySetAsync() {
         RPromise<Set<K>> result = new RedissonPromise<Set<K>>();
-        RFuture<Set<K>> future = map.readAllKeySetAsync();
+        RFuture<Set<K>> future = readAllAsync(() -> map.readAllKeySetAsync());
         future.onComplete((res, e) -> {
             if (e != null) {
                 result.tryFailure(e);
@@ -718,7 +722,7 @@ public class BaseTransactionalMap<K, V> {
     
     public RFuture<Map<K, V>> readAllMapAsync() {
         RPromise<Map<K, V>> result = new RedissonPromise<>();
-        RFuture<Map<K, V>> future = map.readAllMapAsync();
+        RFuture<Map<K, V>> future = readAllAsync(() -> map.readAllMapAsync());
         future.onComplete((map, e) -> {
             if (e != null) {
                 result.tryFailure(e);
@@ -770,7 +774,7 @@ public class BaseTransactionalMap<K, V> {
             return RedissonPromise.newSucceededFuture(map);
         }
         
-        RFuture<Map<K, V>> future = ((RedissonMap<K, V>) this.map).getAllOperationAsync(keysToLoad);
+        RFuture<Map<K, V>> future = readAsync(keysToLoad, () -> ((RedissonMap<K, V>) this.map).getAllOperationAsync(keysToLoad));
         future.onComplete((res, e) -> {
             if (e != null) {
                 result.tryFailure(e);
@@ -983,9 +987,37 @@ public class BaseTransactionalMap<K, V> {
 
     protected RLock getLock(K key) {
         String lockName = ((RedissonMap<K, V>) map).getLockByMapKey(key, "lock");
+        if (optimisticLocks != null) {
+            return optimisticLocks.getLock(lockName, ((RedissonObject) map).getRawName(),
+                                            "hget", ((RedissonObject) map).encodeMapKey(key));
+        }
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
     }
 
+    private <R> RFuture<R> readAsync(Collection<?> keys, Supplier<RFuture<R>> reader) {
+        if (optimisticLocks == null) {
+            return reader.get();
+        }
+
+        List<RFuture<Void>> tracked = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            String lockName = ((RedissonMap<K, V>) map).getLockByMapKey(key, "lock");
+            tracked.add(optimisticLocks.trackReadAsync(lockName, ((RedissonObject) map).getRawName(),
+                                            "hget", ((RedissonObject) map).encodeMapKey(key)));
+        }
+        return optimisticLocks.readAsync(tracked, reader);
+    }
+
+    private <R> RFuture<R> readAllAsync(Supplier<RFuture<R>> reader) {
+        if (optimisticLocks == null) {
+            return reader.get();
+        }
+
+        String name = ((RedissonObject) map).getRawName();
+        RFuture<Void> tracked = optimisticLocks.trackReadAsync(RedissonObject.suffixName(name, "read_lock"), name, "hgetall");
+        return optimisticLocks.readAsync(Collections.singletonList(tracked), reader);
+    }
+
     protected <R> void executeLocked(RPromise<R> promise, Runnable runnable, RLock lock) {
         lock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
             if (e == null) {
@@ -1002,8 +1034,19 @@ public class BaseTransactionalMap<K, V> {
             RLock lock = getLock(key);
             locks.add(lock);
         }
-        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         long threadId = Thread.currentThread().getId();
+        if (optimisticLocks != null) {
+            optimisticLocks.lockAsync(locks, threadId).onComplete((res, e) -> {
+                if (e == null) {
+                    runnable.run();
+                } else {
+                    promise.tryFailure(e);
+                }
+            });
+            return;
+        }
+
+        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         multiLock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
             if (e == null) {
                 runnable.run();
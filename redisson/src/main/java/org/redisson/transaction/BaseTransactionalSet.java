@@ -36,6 +36,7 @@ import org.redisson.transaction.operation.set.MoveOperation;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * 
@@ -54,15 +55,18 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     final RObject object;
     final String name;
     final CommandAsyncExecutor commandExecutor;
+    final OptimisticLocks optimisticLocks;
     Boolean deleted;
     
-    public BaseTransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations, RCollectionAsync<V> set) {
+    public BaseTransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations,
+            RCollectionAsync<V> set, OptimisticLocks optimisticLocks) {
         this.commandExecutor = commandExecutor;
         this.timeout = timeout;
         this.operations = operations;
         this.set = set;
         this.object = (RObject) set;
         this.name = object.getName();
+        this.optimisticLocks = optimisticLocks;
     }
 
     private HashValue toHash(Object value) {
@@ -149,7 +153,7 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
             }
         }
         
-        return set.containsAsync(value);
+        return readAsync(Collections.singletonList(value), () -> set.containsAsync(value));
     }
     
     protected abstract ScanResult<Object> scanIteratorSource(String name, RedisClient client,
@@ -183,7 +187,7 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     
     public RFuture<Set<V>> readAllAsync() {
         RPromise<Set<V>> result = new RedissonPromise<>();
-        RFuture<Set<V>> future = readAllAsyncSource();
+        RFuture<Set<V>> future = readAllAsync(() -> readAllAsyncSource());
         future.onComplete((res, e) -> {
             if (e != null) {
                 result.tryFailure(e);
@@ -314,6 +318,30 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
     protected abstract MoveOperation createMoveOperation(String destination, V value, long threadId);
 
     protected abstract RLock getLock(RCollectionAsync<V> set, V value);
+
+    protected abstract RFuture<Void> trackReadAsync(Object value);
+
+    protected abstract RFuture<Void> trackReadAllAsync();
+
+    private <R> RFuture<R> readAsync(Collection<?> values, Supplier<RFuture<R>> reader) {
+        if (optimisticLocks == null) {
+            return reader.get();
+        }
+
+        List<RFuture<Void>> tracked = new ArrayList<>(values.size());
+        for (Object value : values) {
+            tracked.add(trackReadAsync(value));
+        }
+        return optimisticLocks.readAsync(tracked, reader);
+    }
+
+    private <R> RFuture<R> readAllAsync(Supplier<RFuture<R>> reader) {
+        if (optimisticLocks == null) {
+            return reader.get();
+        }
+
+        return optimisticLocks.readAsync(Collections.singletonList(trackReadAllAsync()), reader);
+    }
     
     public RFuture<Boolean> removeAsync(Object value) {
         RPromise<Boolean> result = new RedissonPromise<Boolean>();
@@ -368,7 +396,7 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
             }
         }
         
-        return set.containsAllAsync(coll);
+        return readAsync(coll, () -> set.containsAllAsync(coll));
     }
 
     public RFuture<Boolean> addAllAsync(Collection<? extends V> c) {
@@ -530,8 +558,19 @@ public abstract class BaseTransactionalSet<V> extends BaseTransactionalObject {
             RLock lock = getLock(set, (V) value);
             locks.add(lock);
         }
-        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         long threadId = Thread.currentThread().getId();
+        if (optimisticLocks != null) {
+            optimisticLocks.lockAsync(locks, threadId).onComplete((res, e) -> {
+                if (e == null) {
+                    runnable.run();
+                } else {
+                    promise.tryFailure(e);
+                }
+            });
+            return;
+        }
+
+        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         multiLock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
             if (e == null) {
                 runnable.run();
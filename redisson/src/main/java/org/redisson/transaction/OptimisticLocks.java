@@ -0,0 +1,535 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import org.redisson.RedissonObject;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.command.CommandBatchService;
+import org.redisson.misc.CountableListener;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.TransferListener;
+import org.redisson.pubsub.LockPubSub;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Locks of transaction executed in optimistic mode.
+ * <p>
+ * Each lock requested by transactional object is only registered along with
+ * digest of value protected by this lock. Values read by transaction are registered
+ * the same way before they are read. Digest is calculated on Redis side using
+ * command defined by transactional object, e.g. <code>HGET</code> for map entry.
+ * Digests requested concurrently are calculated in a single batch.
+ * <p>
+ * During commit all registered locks are acquired without waiting
+ * and digests are calculated again in a single batch while locks are held.
+ * Locks are released and {@link TransactionConflictException} is thrown
+ * if any lock is held by another transaction or any digest has been changed.
+ * Acquired locks are released by transactional operations
+ * the same way as in pessimistic mode. Locks of values which were only read
+ * are released by the same batch which applies transactional operations.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class OptimisticLocks {
+
+    // multi-bulk replies are sorted, so digest doesn't depend on order of hash fields or set members.
+    // Field-value and member-score pairs are kept together
+    private static final String DIGEST_SCRIPT =
+            "local v = redis.call(ARGV[1], KEYS[1], unpack(ARGV, 2)); "
+          + "if v == false then "
+              + "return ''; "
+          + "end; "
+          + "if type(v) == 'table' then "
+              + "local items = {}; "
+              + "local step = 1; "
+              + "if ARGV[1] == 'hgetall' or ARGV[#ARGV] == 'withscores' then "
+                  + "step = 2; "
+              + "end; "
+              + "for i = 1, #v, step do "
+                  + "local item = string.len(v[i]) .. ':' .. v[i]; "
+                  + "if step == 2 then "
+                      + "item = item .. string.len(v[i+1]) .. ':' .. v[i+1]; "
+                  + "end; "
+                  + "table.insert(items, item); "
+              + "end; "
+              + "table.sort(items); "
+              + "v = table.concat(items); "
+          + "end; "
+          + "return redis.sha1hex(tostring(v));";
+
+    private static final String ACQUIRE_SCRIPT =
+            "local n = 0; "
+          + "for i = 2, #ARGV, 2 do "
+              + "if redis.call('hexists', KEYS[1], ARGV[i]) == 1 then "
+                  + "n = n + 1; "
+              + "end; "
+          + "end; "
+          + "if redis.call('hlen', KEYS[1]) ~= n then "
+              + "return 0; "
+          + "end; "
+          + "for i = 2, #ARGV, 2 do "
+              + "redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i+1]); "
+          + "end; "
+          + "redis.call('pexpire', KEYS[1], ARGV[1]); "
+          + "return 1;";
+
+    private static final String RELEASE_SCRIPT =
+            "local released = 0; "
+          + "for i = 2, #ARGV, 2 do "
+              + "if redis.call('hexists', KEYS[1], ARGV[i]) == 1 then "
+                  + "released = 1; "
+                  + "if redis.call('hincrby', KEYS[1], ARGV[i], -tonumber(ARGV[i+1])) <= 0 then "
+                      + "redis.call('hdel', KEYS[1], ARGV[i]); "
+                  + "end; "
+              + "end; "
+          + "end; "
+          + "if released == 1 and redis.call('hlen', KEYS[1]) == 0 then "
+              + "redis.call('del', KEYS[1]); "
+              + "redis.call('publish', KEYS[2], ARGV[1]); "
+          + "end; "
+          + "return released;";
+
+    static class LockEntry {
+
+        // lock field -> hold count
+        final Map<String, Integer> counters = new LinkedHashMap<>();
+        final String key;
+        final String command;
+        final Object[] args;
+        final RPromise<String> digestFuture = new RedissonPromise<>();
+        boolean read;
+
+        LockEntry(String key, String command, Object[] args) {
+            this.key = key;
+            this.command = command;
+            this.args = args;
+        }
+
+    }
+
+    private final Map<String, LockEntry> entries = new HashMap<>();
+    private final List<LockEntry> pendingDigests = new ArrayList<>();
+    private boolean digestInProgress;
+    private final CommandAsyncExecutor commandExecutor;
+    private final String transactionId;
+    private final long leaseTime;
+    private volatile boolean acquired;
+
+    public OptimisticLocks(CommandAsyncExecutor commandExecutor, String transactionId, long timeout) {
+        this.commandExecutor = commandExecutor;
+        this.transactionId = transactionId;
+        if (timeout == -1) {
+            this.leaseTime = commandExecutor.getConnectionManager().getCfg().getLockWatchdogTimeout();
+        } else {
+            this.leaseTime = timeout;
+        }
+    }
+
+    /**
+     * Returns lock which protects value defined by <code>command</code>
+     * applied to <code>key</code> with <code>args</code>.
+     * 
+     * @param lockName - name of lock
+     * @param key - name of object
+     * @param command - Redis command used to read protected value
+     * @param args - command arguments
+     * @return lock
+     */
+    public RLock getLock(String lockName, String key, String command, Object... args) {
+        return new OptimisticTransactionalLock(commandExecutor, lockName, transactionId, this, key, command, toParams(args));
+    }
+
+    /**
+     * Registers value defined by <code>command</code> applied to <code>key</code>
+     * with <code>args</code> as read by transaction. Value is validated during commit
+     * and its lock is held until transactional operations are applied.
+     * <p>
+     * Value should be read only after returned future has been completed.
+     *
+     * @param lockName - name of lock
+     * @param key - name of object
+     * @param command - Redis command used to read value
+     * @param args - command arguments
+     * @return void
+     */
+    public RFuture<Void> trackReadAsync(String lockName, String key, String command, Object... args) {
+        return register(lockName, null, key, command, toParams(args));
+    }
+
+    /**
+     * Executes <code>reader</code> once all <code>tracked</code> values
+     * have been registered by {@link #trackReadAsync(String, String, String, Object...)} method.
+     *
+     * @param <R> result type
+     * @param tracked - registration futures
+     * @param reader - read operation
+     * @return result of read operation
+     */
+    public <R> RFuture<R> readAsync(Collection<RFuture<Void>> tracked, Supplier<RFuture<R>> reader) {
+        if (tracked.isEmpty()) {
+            return reader.get();
+        }
+
+        RPromise<R> result = new RedissonPromise<>();
+        allOf(tracked).onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            reader.get().onComplete(new TransferListener<>(result));
+        });
+        return result;
+    }
+
+    /**
+     * Registers all <code>locks</code> at once, so digests of their values
+     * are calculated in a single batch. Used instead of {@link org.redisson.RedissonMultiLock}
+     * which acquires locks one by one.
+     *
+     * @param locks - locks returned by {@link #getLock(String, String, String, Object...)} method
+     * @param threadId - id of thread
+     * @return void
+     */
+    public RFuture<Void> lockAsync(Collection<RLock> locks, long threadId) {
+        List<RFuture<Void>> futures = new ArrayList<>(locks.size());
+        for (RLock lock : locks) {
+            futures.add(lock.lockAsync(-1, null, threadId));
+        }
+
+        RPromise<Void> result = new RedissonPromise<>();
+        allOf(futures).onComplete((res, e) -> {
+            if (e != null) {
+                for (RLock lock : locks) {
+                    lock.unlockAsync(threadId);
+                }
+                result.tryFailure(e);
+                return;
+            }
+            result.trySuccess(null);
+        });
+        return result;
+    }
+
+    private RFuture<Void> allOf(Collection<RFuture<Void>> futures) {
+        RPromise<Void> result = new RedissonPromise<>();
+        if (futures.isEmpty()) {
+            result.trySuccess(null);
+            return result;
+        }
+
+        CountableListener<Void> listener = new CountableListener<>(result, null, futures.size());
+        for (RFuture<Void> future : futures) {
+            future.onComplete(listener);
+        }
+        return result;
+    }
+
+    private Object[] toParams(Object[] args) {
+        Object[] params = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof ByteBuf) {
+                ByteBuf buf = (ByteBuf) args[i];
+                params[i] = ByteBufUtil.getBytes(buf);
+                buf.release();
+            } else {
+                params[i] = args[i];
+            }
+        }
+        return params;
+    }
+
+    RFuture<Void> register(String lockName, String field, String key, String command, Object[] args) {
+        LockEntry entry;
+        boolean send = false;
+        synchronized (this) {
+            entry = entries.get(lockName);
+            if (entry == null) {
+                entry = new LockEntry(key, command, args);
+                entries.put(lockName, entry);
+                pendingDigests.add(entry);
+                if (!digestInProgress) {
+                    digestInProgress = true;
+                    send = true;
+                }
+            }
+            if (field == null) {
+                entry.read = true;
+            } else {
+                entry.counters.merge(field, 1, Integer::sum);
+            }
+        }
+
+        if (send) {
+            sendDigests();
+        }
+
+        RPromise<Void> result = new RedissonPromise<>();
+        entry.digestFuture.onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+            result.trySuccess(null);
+        });
+        return result;
+    }
+
+    synchronized void unregister(String lockName, String field) {
+        LockEntry entry = entries.get(lockName);
+        if (entry == null) {
+            return;
+        }
+
+        entry.counters.computeIfPresent(field, (k, v) -> v > 1 ? v - 1 : null);
+        if (entry.counters.isEmpty() && !entry.read) {
+            entries.remove(lockName);
+        }
+    }
+
+    // digests requested while previous request is in progress are sent by the next batch
+    private void sendDigests() {
+        List<LockEntry> requested;
+        synchronized (this) {
+            if (pendingDigests.isEmpty()) {
+                digestInProgress = false;
+                return;
+            }
+            requested = new ArrayList<>(pendingDigests);
+            pendingDigests.clear();
+        }
+
+        if (requested.size() == 1) {
+            LockEntry entry = requested.get(0);
+            digestAsync(commandExecutor, entry).onComplete((res, e) -> {
+                if (e != null) {
+                    entry.digestFuture.tryFailure(e);
+                } else {
+                    entry.digestFuture.trySuccess(res);
+                }
+                sendDigests();
+            });
+            return;
+        }
+
+        CommandBatchService batch = new CommandBatchService(commandExecutor);
+        List<RFuture<String>> digests = new ArrayList<>(requested.size());
+        for (LockEntry entry : requested) {
+            digests.add(digestAsync(batch, entry));
+        }
+        batch.executeAsync().onComplete((res, e) -> {
+            for (int i = 0; i < requested.size(); i++) {
+                LockEntry entry = requested.get(i);
+                if (e != null) {
+                    entry.digestFuture.tryFailure(e);
+                } else {
+                    entry.digestFuture.trySuccess(digests.get(i).getNow());
+                }
+            }
+            sendDigests();
+        });
+    }
+
+    private RFuture<String> digestAsync(CommandAsyncExecutor executor, LockEntry entry) {
+        List<Object> params = new ArrayList<>(entry.args.length + 1);
+        params.add(entry.command);
+        params.addAll(Arrays.asList(entry.args));
+        return executor.evalWriteAsync(entry.key, StringCodec.INSTANCE, RedisCommands.EVAL_OBJECT,
+                DIGEST_SCRIPT, Collections.singletonList(entry.key), params.toArray());
+    }
+
+    private Map<String, Integer> getCounters(LockEntry entry) {
+        if (entry.counters.isEmpty()) {
+            // value was only read by transaction
+            return Collections.singletonMap(getReadLockName(), 1);
+        }
+        return entry.counters;
+    }
+
+    private String getReadLockName() {
+        return "read:" + transactionId;
+    }
+
+    /**
+     * Returns <code>true</code> if locks have been acquired
+     * by {@link #acquireAsync()} method.
+     * 
+     * @return <code>true</code> if locks are held
+     */
+    public boolean isAcquired() {
+        return acquired;
+    }
+
+    /**
+     * Acquires all registered locks and checks that values protected by them
+     * haven't been changed since registration.
+     * 
+     * @return void
+     */
+    public RFuture<Void> acquireAsync() {
+        Map<String, LockEntry> locks;
+        synchronized (this) {
+            locks = new HashMap<>(entries);
+        }
+        if (locks.isEmpty()) {
+            acquired = true;
+            return RedissonPromise.newSucceededFuture(null);
+        }
+
+        for (LockEntry entry : locks.values()) {
+            if (!entry.digestFuture.isSuccess()) {
+                return RedissonPromise.newFailedFuture(
+                        new TransactionException("Unable to read value of " + entry.key, entry.digestFuture.cause()));
+            }
+        }
+
+        CommandBatchService batch = new CommandBatchService(commandExecutor);
+        Map<String, RFuture<Boolean>> lockFutures = new HashMap<>(locks.size());
+        for (Entry<String, LockEntry> entry : locks.entrySet()) {
+            Map<String, Integer> counters = getCounters(entry.getValue());
+            List<Object> params = new ArrayList<>(counters.size() * 2 + 1);
+            params.add(leaseTime);
+            for (Entry<String, Integer> counter : counters.entrySet()) {
+                params.add(counter.getKey());
+                params.add(counter.getValue());
+            }
+            RFuture<Boolean> future = batch.evalWriteAsync(entry.getKey(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                    ACQUIRE_SCRIPT, Collections.singletonList(entry.getKey()), params.toArray());
+            lockFutures.put(entry.getKey(), future);
+        }
+
+        RPromise<Void> result = new RedissonPromise<>();
+        batch.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                releaseAsync(locks);
+                result.tryFailure(new TransactionException("Unable to acquire transaction locks", e));
+                return;
+            }
+
+            List<String> heldLocks = new ArrayList<>();
+            for (Entry<String, RFuture<Boolean>> entry : lockFutures.entrySet()) {
+                if (!entry.getValue().getNow()) {
+                    heldLocks.add(locks.get(entry.getKey()).key);
+                }
+            }
+            if (!heldLocks.isEmpty()) {
+                releaseAsync(locks);
+                result.tryFailure(new TransactionConflictException("Objects are locked by another transaction: " + heldLocks));
+                return;
+            }
+
+            validateAsync(locks, result);
+        });
+        return result;
+    }
+
+    private void validateAsync(Map<String, LockEntry> locks, RPromise<Void> result) {
+        CommandBatchService batch = new CommandBatchService(commandExecutor);
+        Map<LockEntry, RFuture<String>> digests = new HashMap<>(locks.size());
+        for (LockEntry entry : locks.values()) {
+            digests.put(entry, digestAsync(batch, entry));
+        }
+
+        batch.executeAsync().onComplete((res, e) -> {
+            if (e != null) {
+                releaseAsync(locks);
+                result.tryFailure(new TransactionException("Unable to validate transaction", e));
+                return;
+            }
+
+            List<String> changedKeys = new ArrayList<>();
+            for (Entry<LockEntry, RFuture<String>> entry : digests.entrySet()) {
+                if (!entry.getValue().getNow().equals(entry.getKey().digestFuture.getNow())) {
+                    changedKeys.add(entry.getKey().key);
+                }
+            }
+            if (!changedKeys.isEmpty()) {
+                releaseAsync(locks);
+                result.tryFailure(new TransactionConflictException("Objects have been changed by another transaction: " + changedKeys));
+                return;
+            }
+
+            acquired = true;
+            result.trySuccess(null);
+        });
+    }
+
+    /**
+     * Adds release of locks held for values which were only read
+     * by transaction to <code>batch</code>. Locks of other values
+     * are released by transactional operations.
+     *
+     * @param batch - batch used to apply or rollback transactional operations
+     */
+    public void releaseReadLocks(CommandBatchService batch) {
+        if (!acquired) {
+            return;
+        }
+
+        Map<String, LockEntry> locks = new HashMap<>();
+        synchronized (this) {
+            for (Entry<String, LockEntry> entry : entries.entrySet()) {
+                if (entry.getValue().counters.isEmpty()) {
+                    locks.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        release(batch, locks);
+    }
+
+    private RFuture<BatchResult<?>> releaseAsync(Map<String, LockEntry> locks) {
+        CommandBatchService batch = new CommandBatchService(commandExecutor);
+        release(batch, locks);
+        return batch.executeAsync();
+    }
+
+    private void release(CommandBatchService batch, Map<String, LockEntry> locks) {
+        for (Entry<String, LockEntry> entry : locks.entrySet()) {
+            Map<String, Integer> counters = getCounters(entry.getValue());
+            List<Object> params = new ArrayList<>(counters.size() * 2 + 1);
+            params.add(LockPubSub.UNLOCK_MESSAGE);
+            for (Entry<String, Integer> counter : counters.entrySet()) {
+                params.add(counter.getKey());
+                params.add(counter.getValue());
+            }
+            String channelName = RedissonObject.prefixName("redisson_lock__channel", entry.getKey());
+            batch.evalWriteAsync(entry.getKey(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                    RELEASE_SCRIPT, Arrays.asList(entry.getKey(), channelName), params.toArray());
+        }
+    }
+
+}
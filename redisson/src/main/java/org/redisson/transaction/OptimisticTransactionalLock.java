@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.transaction;
+
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RFuture;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+/**
+ * Transactional lock used in optimistic mode.
+ * Lock isn't acquired immediately, but registered in {@link OptimisticLocks}
+ * and acquired during transaction commit.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class OptimisticTransactionalLock extends RedissonTransactionalLock {
+
+    private final OptimisticLocks locks;
+    private final String key;
+    private final String command;
+    private final Object[] args;
+
+    public OptimisticTransactionalLock(CommandAsyncExecutor commandExecutor, String name, String transactionId,
+            OptimisticLocks locks, String key, String command, Object... args) {
+        super(commandExecutor, name, transactionId);
+        this.locks = locks;
+        this.key = key;
+        this.command = command;
+        this.args = args;
+    }
+
+    @Override
+    public RFuture<Void> lockAsync(long leaseTime, TimeUnit unit, long currentThreadId) {
+        return locks.register(getRawName(), getLockName(currentThreadId), key, command, args);
+    }
+
+    @Override
+    public RFuture<Boolean> tryLockAsync(long threadId) {
+        return tryLockAsync(-1, -1, null, threadId);
+    }
+
+    @Override
+    public RFuture<Boolean> tryLockAsync(long waitTime, long leaseTime, TimeUnit unit, long currentThreadId) {
+        RFuture<Void> future = locks.register(getRawName(), getLockName(currentThreadId), key, command, args);
+        RPromise<Boolean> result = new RedissonPromise<>();
+        future.onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+            result.trySuccess(true);
+        });
+        return result;
+    }
+
+    @Override
+    public RFuture<Boolean> expireAsync(long timeToLive, TimeUnit timeUnit) {
+        return RedissonPromise.newSucceededFuture(true);
+    }
+
+    @Override
+    public RFuture<Void> unlockAsync(long threadId) {
+        locks.unregister(getRawName(), getLockName(threadId));
+        return RedissonPromise.newSucceededFuture(null);
+    }
+
+}
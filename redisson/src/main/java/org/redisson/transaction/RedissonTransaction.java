@@ -61,6 +61,7 @@ import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.misc.CountableListener;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.TransferListener;
 import org.redisson.transaction.operation.TransactionalOperation;
 import org.redisson.transaction.operation.map.MapOperation;
 
@@ -84,11 +85,13 @@ public class RedissonTransaction implements RTransaction {
     private final long startTime = System.currentTimeMillis();
     
     private final String id = generateId();
+    private final OptimisticLocks optimisticLocks;
     
     public RedissonTransaction(CommandAsyncExecutor commandExecutor, TransactionOptions options) {
         super();
         this.options = options;
         this.commandExecutor = commandExecutor;
+        this.optimisticLocks = createOptimisticLocks();
     }
     
     public RedissonTransaction(CommandAsyncExecutor commandExecutor, TransactionOptions options,
@@ -98,6 +101,14 @@ public class RedissonTransaction implements RTransaction {
         this.options = options;
         this.operations = operations;
         this.localCaches = localCaches;
+        this.optimisticLocks = createOptimisticLocks();
+    }
+
+    private OptimisticLocks createOptimisticLocks() {
+        if (options.isOptimistic()) {
+            return new OptimisticLocks(commandExecutor, id, options.getTimeout());
+        }
+        return null;
     }
 
     @Override
@@ -106,91 +117,91 @@ public class RedissonTransaction implements RTransaction {
 
         localCaches.add(fromInstance.getName());
         return new RedissonTransactionalLocalCachedMap<K, V>(commandExecutor,
-                operations, options.getTimeout(), executed, fromInstance, id);
+                operations, options.getTimeout(), executed, fromInstance, id, optimisticLocks);
     }
     
     @Override
     public <V> RBucket<V> getBucket(String name) {
         checkState();
         
-        return new RedissonTransactionalBucket<V>(commandExecutor, options.getTimeout(), name, operations, executed, id);
+        return new RedissonTransactionalBucket<V>(commandExecutor, options.getTimeout(), name, operations, executed, id, optimisticLocks);
     }
     
     @Override
     public <V> RBucket<V> getBucket(String name, Codec codec) {
         checkState();
 
-        return new RedissonTransactionalBucket<V>(codec, commandExecutor, options.getTimeout(), name, operations, executed, id);
+        return new RedissonTransactionalBucket<V>(codec, commandExecutor, options.getTimeout(), name, operations, executed, id, optimisticLocks);
     }
 
     @Override
     public RBuckets getBuckets() {
         checkState();
         
-        return new RedissonTransactionalBuckets(commandExecutor, options.getTimeout(), operations, executed, id);
+        return new RedissonTransactionalBuckets(commandExecutor, options.getTimeout(), operations, executed, id, optimisticLocks);
     }
 
     @Override
     public RBuckets getBuckets(Codec codec) {
         checkState();
         
-        return new RedissonTransactionalBuckets(codec, commandExecutor, options.getTimeout(), operations, executed, id);
+        return new RedissonTransactionalBuckets(codec, commandExecutor, options.getTimeout(), operations, executed, id, optimisticLocks);
     }
     
     @Override
     public <V> RSet<V> getSet(String name) {
         checkState();
         
-        return new RedissonTransactionalSet<V>(commandExecutor, name, operations, options.getTimeout(), executed, id);        
+        return new RedissonTransactionalSet<V>(commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);        
     }
     
     @Override
     public <V> RSet<V> getSet(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalSet<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalSet<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
     
     @Override
     public <V> RSetCache<V> getSetCache(String name) {
         checkState();
         
-        return new RedissonTransactionalSetCache<V>(commandExecutor, name, operations, options.getTimeout(), executed, id);        
+        return new RedissonTransactionalSetCache<V>(commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);        
     }
     
     @Override
     public <V> RSetCache<V> getSetCache(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalSetCache<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalSetCache<V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
 
     @Override
     public <K, V> RMap<K, V> getMap(String name) {
         checkState();
         
-        return new RedissonTransactionalMap<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMap<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
 
     @Override
     public <K, V> RMap<K, V> getMap(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalMap<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMap<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
 
     @Override
     public <K, V> RMapCache<K, V> getMapCache(String name) {
         checkState();
         
-        return new RedissonTransactionalMapCache<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMapCache<K, V>(commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
 
     @Override
     public <K, V> RMapCache<K, V> getMapCache(String name, Codec codec) {
         checkState();
         
-        return new RedissonTransactionalMapCache<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id);
+        return new RedissonTransactionalMapCache<K, V>(codec, commandExecutor, name, operations, options.getTimeout(), executed, id, optimisticLocks);
     }
     
     @Override
@@ -199,12 +210,32 @@ public class RedissonTransaction implements RTransaction {
         
         checkTimeout();
         
+        if (optimisticLocks == null) {
+            return commitOperationsAsync();
+        }
+
+        RPromise<Void> result = new RedissonPromise<Void>();
+        optimisticLocks.acquireAsync().onComplete((res, e) -> {
+            if (e != null) {
+                result.tryFailure(e);
+                return;
+            }
+
+            commitOperationsAsync().onComplete(new TransferListener<>(result));
+        });
+        return result;
+    }
+
+    private RFuture<Void> commitOperationsAsync() {
         BatchOptions batchOptions = createOptions();
         
         CommandBatchService transactionExecutor = new CommandBatchService(commandExecutor, batchOptions);
         for (TransactionalOperation transactionalOperation : operations) {
             transactionalOperation.commit(transactionExecutor);
         }
+        if (optimisticLocks != null) {
+            optimisticLocks.releaseReadLocks(transactionExecutor);
+        }
 
         String id = generateId();
         RPromise<Void> result = new RedissonPromise<Void>();
@@ -263,12 +294,19 @@ public class RedissonTransaction implements RTransaction {
         
         checkTimeout();
         
+        if (optimisticLocks != null) {
+            commandExecutor.get(optimisticLocks.acquireAsync());
+        }
+
         BatchOptions batchOptions = createOptions();
         
         CommandBatchService transactionExecutor = new CommandBatchService(commandExecutor, batchOptions);
         for (TransactionalOperation transactionalOperation : operations) {
             transactionalOperation.commit(transactionExecutor);
         }
+        if (optimisticLocks != null) {
+            optimisticLocks.releaseReadLocks(transactionExecutor);
+        }
 
         String id = generateId();
         Map<HashKey, HashValue> hashes = disableLocalCache(id, localCaches, operations);
@@ -558,10 +596,20 @@ public class RedissonTransaction implements RTransaction {
     public void rollback(List<TransactionalOperation> operations) {
         checkState();
 
+        if (optimisticLocks != null && !optimisticLocks.isAcquired()) {
+            // locks haven't been acquired and operations weren't applied
+            operations.clear();
+            executed.set(true);
+            return;
+        }
+
         CommandBatchService executorService = new CommandBatchService(commandExecutor);
         for (TransactionalOperation transactionalOperation : operations) {
             transactionalOperation.rollback(executorService);
         }
+        if (optimisticLocks != null) {
+            optimisticLocks.releaseReadLocks(executorService);
+        }
 
         try {
             executorService.execute();
@@ -577,10 +625,19 @@ public class RedissonTransaction implements RTransaction {
     public RFuture<Void> rollbackAsync() {
         checkState();
 
+        if (optimisticLocks != null && !optimisticLocks.isAcquired()) {
+            operations.clear();
+            executed.set(true);
+            return RedissonPromise.newSucceededFuture(null);
+        }
+
         CommandBatchService executorService = new CommandBatchService(commandExecutor);
         for (TransactionalOperation transactionalOperation : operations) {
             transactionalOperation.rollback(executorService);
         }
+        if (optimisticLocks != null) {
+            optimisticLocks.releaseReadLocks(executorService);
+        }
 
         RPromise<Void> result = new RedissonPromise<>();
         RFuture<BatchResult<?>> future = executorService.executeAsync();
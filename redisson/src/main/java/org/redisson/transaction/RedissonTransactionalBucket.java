@@ -30,6 +30,7 @@ import org.redisson.transaction.operation.UnlinkOperation;
 import org.redisson.transaction.operation.bucket.*;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -50,20 +51,23 @@ public class RedissonTransactionalBucket<V> extends RedissonBucket<V> {
     private final List<TransactionalOperation> operations;
     private Object state;
     private final String transactionId;
+    private final OptimisticLocks optimisticLocks;
     
-    public RedissonTransactionalBucket(CommandAsyncExecutor commandExecutor, long timeout, String name, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId) {
+    public RedissonTransactionalBucket(CommandAsyncExecutor commandExecutor, long timeout, String name, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(commandExecutor, name);
         this.operations = operations;
         this.executed = executed;
         this.transactionId = transactionId;
+        this.optimisticLocks = optimisticLocks;
         this.timeout = timeout;
     }
 
-    public RedissonTransactionalBucket(Codec codec, CommandAsyncExecutor commandExecutor, long timeout, String name, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId) {
+    public RedissonTransactionalBucket(Codec codec, CommandAsyncExecutor commandExecutor, long timeout, String name, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(codec, commandExecutor, name);
         this.operations = operations;
         this.executed = executed;
         this.transactionId = transactionId;
+        this.optimisticLocks = optimisticLocks;
         this.timeout = timeout;
     }
     
@@ -241,6 +245,10 @@ public class RedissonTransactionalBucket<V> extends RedissonBucket<V> {
             }
         }
         
+        if (optimisticLocks != null) {
+            RFuture<Void> tracked = optimisticLocks.trackReadAsync(getLockName(), getRawName(), "get");
+            return optimisticLocks.readAsync(Collections.singletonList(tracked), () -> super.getAsync());
+        }
         return super.getAsync();
     }
     
@@ -492,6 +500,9 @@ public class RedissonTransactionalBucket<V> extends RedissonBucket<V> {
     }
 
     private RLock getLock() {
+        if (optimisticLocks != null) {
+            return optimisticLocks.getLock(getLockName(), getRawName(), "get");
+        }
         return new RedissonTransactionalLock(commandExecutor, getLockName(), transactionId);
     }
 
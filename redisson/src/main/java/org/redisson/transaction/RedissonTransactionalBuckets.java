@@ -33,6 +33,7 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * 
@@ -48,25 +49,28 @@ public class RedissonTransactionalBuckets extends RedissonBuckets {
     private final List<TransactionalOperation> operations;
     private Map<String, Object> state = new HashMap<>();
     private final String transactionId;
+    private final OptimisticLocks optimisticLocks;
     
     public RedissonTransactionalBuckets(CommandAsyncExecutor commandExecutor, 
-            long timeout, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId) {
+            long timeout, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(commandExecutor);
         
         this.timeout = timeout;
         this.operations = operations;
         this.executed = executed;
         this.transactionId = transactionId;
+        this.optimisticLocks = optimisticLocks;
     }
 
     public RedissonTransactionalBuckets(Codec codec, CommandAsyncExecutor commandExecutor, 
-            long timeout, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId) {
+            long timeout, List<TransactionalOperation> operations, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(codec, commandExecutor);
         
         this.timeout = timeout;
         this.operations = operations;
         this.executed = executed;
         this.transactionId = transactionId;
+        this.optimisticLocks = optimisticLocks;
     }
 
     @Override
@@ -95,7 +99,7 @@ public class RedissonTransactionalBuckets extends RedissonBuckets {
         }
         
         RPromise<Map<String, V>> result = new RedissonPromise<>();
-        super.getAsync(keysToLoad.toArray(new String[keysToLoad.size()])).onComplete((res, e) -> {
+        readAsync(keysToLoad, () -> super.<V>getAsync(keysToLoad.toArray(new String[keysToLoad.size()]))).onComplete((res, e) -> {
             if (e != null) {
                 result.tryFailure(e);
                 return;
@@ -228,8 +232,19 @@ public class RedissonTransactionalBuckets extends RedissonBuckets {
             RLock lock = getLock(key);
             locks.add(lock);
         }
-        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         long threadId = Thread.currentThread().getId();
+        if (optimisticLocks != null) {
+            optimisticLocks.lockAsync(locks, threadId).onComplete((res, e) -> {
+                if (e == null) {
+                    runnable.run();
+                } else {
+                    promise.tryFailure(e);
+                }
+            });
+            return;
+        }
+
+        RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[locks.size()]));
         multiLock.lockAsync(timeout, TimeUnit.MILLISECONDS).onComplete((res, e) -> {
             if (e == null) {
                 runnable.run();
@@ -240,7 +255,22 @@ public class RedissonTransactionalBuckets extends RedissonBuckets {
         });
     }
     
+    private <R> RFuture<R> readAsync(Collection<String> keys, Supplier<RFuture<R>> reader) {
+        if (optimisticLocks == null) {
+            return reader.get();
+        }
+
+        List<RFuture<Void>> tracked = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            tracked.add(optimisticLocks.trackReadAsync(getLockName(key), key, "get"));
+        }
+        return optimisticLocks.readAsync(tracked, reader);
+    }
+
     private RLock getLock(String name) {
+        if (optimisticLocks != null) {
+            return optimisticLocks.getLock(getLockName(name), name, "get");
+        }
         return new RedissonTransactionalLock(commandExecutor, getLockName(name), transactionId);
     }
 
@@ -21,7 +21,9 @@ import org.redisson.api.*;
 import org.redisson.api.mapreduce.RMapReduce;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.ReplyElementsFeeder;
 import org.redisson.transaction.operation.TransactionalOperation;
 
 import java.time.Instant;
@@ -42,26 +44,26 @@ public class RedissonTransactionalMap<K, V> extends RedissonMap<K, V> {
     private final AtomicBoolean executed;
 
     public RedissonTransactionalMap(CommandAsyncExecutor commandExecutor,  
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RMap<K, V> innerMap, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, RMap<K, V> innerMap, String transactionId, OptimisticLocks optimisticLocks) {
         super(innerMap.getCodec(), commandExecutor, innerMap.getName(), null, null, null);
         this.executed = executed;
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, optimisticLocks);
     }
     
     public RedissonTransactionalMap(CommandAsyncExecutor commandExecutor, String name, 
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMap<K, V> innerMap = new RedissonMap<K, V>(commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, optimisticLocks);
     }
 
     public RedissonTransactionalMap(Codec codec, CommandAsyncExecutor commandExecutor, String name,
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(codec, commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMap<K, V> innerMap = new RedissonMap<K, V>(codec, commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMap<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, optimisticLocks);
     }
     
     @Override
@@ -208,6 +210,12 @@ public class RedissonTransactionalMap<K, V> extends RedissonMap<K, V> {
         return transactionalMap.readAllMapAsync();
     }
     
+    @Override
+    public RFuture<Long> readAllMapAsync(ReplyElementsListener listener) {
+        // map state includes changes made in transaction
+        return ReplyElementsFeeder.feed(readAllMapAsync(), listener);
+    }
+
     @Override
     public RFuture<Map<K, V>> getAllOperationAsync(Set<K> keys) {
         checkState();
@@ -42,19 +42,19 @@ public class RedissonTransactionalMapCache<K, V> extends RedissonMapCache<K, V>
     private final AtomicBoolean executed;
     
     public RedissonTransactionalMapCache(CommandAsyncExecutor commandExecutor, String name, 
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(null, commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMapCache<K, V> innerMap = new RedissonMapCache<K, V>(null, commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMapCache<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMapCache<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, optimisticLocks);
     }
 
     public RedissonTransactionalMapCache(Codec codec, CommandAsyncExecutor commandExecutor, String name,
-            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(codec, null, commandExecutor, name, null, null, null);
         this.executed = executed;
         RedissonMapCache<K, V> innerMap = new RedissonMapCache<K, V>(codec, null, commandExecutor, name, null, null, null);
-        this.transactionalMap = new BaseTransactionalMapCache<K, V>(commandExecutor, timeout, operations, innerMap, transactionId);
+        this.transactionalMap = new BaseTransactionalMapCache<K, V>(commandExecutor, timeout, operations, innerMap, transactionId, optimisticLocks);
     }
     
     @Override
@@ -21,7 +21,9 @@ import org.redisson.api.*;
 import org.redisson.api.mapreduce.RCollectionMapReduce;
 import org.redisson.client.RedisClient;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.ReplyElementsFeeder;
 import org.redisson.transaction.operation.TransactionalOperation;
 
 import java.time.Instant;
@@ -44,19 +46,19 @@ public class RedissonTransactionalSet<V> extends RedissonSet<V> {
     private final AtomicBoolean executed;
     
     public RedissonTransactionalSet(CommandAsyncExecutor commandExecutor,
-            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(commandExecutor, name, null);
         this.executed = executed;
         RedissonSet<V> innerSet = new RedissonSet<V>(commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId, optimisticLocks);
     }
     
     public RedissonTransactionalSet(Codec codec, CommandAsyncExecutor commandExecutor,
-            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId) {
+            String name, List<TransactionalOperation> operations, long timeout, AtomicBoolean executed, String transactionId, OptimisticLocks optimisticLocks) {
         super(codec, commandExecutor, name, null);
         this.executed = executed;
         RedissonSet<V> innerSet = new RedissonSet<V>(codec, commandExecutor, name, null);
-        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId);
+        this.transactionalSet = new TransactionalSet<V>(commandExecutor, timeout, operations, innerSet, transactionId, optimisticLocks);
     }
     
     @Override
@@ -146,6 +148,12 @@ public class RedissonTransactionalSet<V> extends RedissonSet<V> {
         checkState();
         return transactionalSet.readAllAsync();
     }
+
+    @Override
+    public RFuture<Long> readAllAsync(ReplyElementsListener listener) {
+        // set state includes changes made in transaction
+        return ReplyElementsFeeder.feed(readAllAsync(), listener);
+    }
     
     @Override
     public RFuture<Boolean> addAsync(V e) {
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2013-2021 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.transaction;
+
+/**
+ * This exception used to report conflict detected during commit
+ * of Transaction executed in optimistic mode.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class TransactionConflictException extends TransactionException {
+
+    private static final long serialVersionUID = -5326424471628318839L;
+
+    public TransactionConflictException(String message) {
+        super(message);
+    }
+
+}
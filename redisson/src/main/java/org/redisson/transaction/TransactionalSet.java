@@ -15,6 +15,7 @@
  */
 package org.redisson.transaction;
 
+import org.redisson.RedissonObject;
 import org.redisson.RedissonSet;
 import org.redisson.ScanIterator;
 import org.redisson.ScanResult;
@@ -44,8 +45,8 @@ public class TransactionalSet<V> extends BaseTransactionalSet<V> {
     private final String transactionId;
     
     public TransactionalSet(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations,
-            RSet<V> set, String transactionId) {
-        super(commandExecutor, timeout, operations, set);
+            RSet<V> set, String transactionId, OptimisticLocks optimisticLocks) {
+        super(commandExecutor, timeout, operations, set, optimisticLocks);
         this.set = set;
         this.transactionId = transactionId;
     }
@@ -79,7 +80,24 @@ public class TransactionalSet<V> extends BaseTransactionalSet<V> {
     @Override
     protected RLock getLock(RCollectionAsync<V> set, V value) {
         String lockName = ((RedissonSet<V>) set).getLockByValue(value, "lock");
+        if (optimisticLocks != null) {
+            return optimisticLocks.getLock(lockName, ((RedissonSet<V>) set).getRawName(),
+                                            "sismember", ((RedissonSet<V>) set).encode(value));
+        }
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
     }
+
+    @Override
+    protected RFuture<Void> trackReadAsync(Object value) {
+        String lockName = ((RedissonSet<V>) set).getLockByValue(value, "lock");
+        return optimisticLocks.trackReadAsync(lockName, ((RedissonSet<V>) set).getRawName(),
+                                                "sismember", ((RedissonSet<V>) set).encode(value));
+    }
+
+    @Override
+    protected RFuture<Void> trackReadAllAsync() {
+        String name = ((RedissonSet<V>) set).getRawName();
+        return optimisticLocks.trackReadAsync(RedissonObject.suffixName(name, "read_lock"), name, "smembers");
+    }
     
 }
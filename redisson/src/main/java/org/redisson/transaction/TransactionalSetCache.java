@@ -15,6 +15,7 @@
  */
 package org.redisson.transaction;
 
+import org.redisson.RedissonObject;
 import org.redisson.RedissonSetCache;
 import org.redisson.ScanIterator;
 import org.redisson.ScanResult;
@@ -45,8 +46,8 @@ public class TransactionalSetCache<V> extends BaseTransactionalSet<V> {
     private final String transactionId;
     
     public TransactionalSetCache(CommandAsyncExecutor commandExecutor, long timeout, List<TransactionalOperation> operations,
-            RSetCache<V> set, String transactionId) {
-        super(commandExecutor, timeout, operations, set);
+            RSetCache<V> set, String transactionId, OptimisticLocks optimisticLocks) {
+        super(commandExecutor, timeout, operations, set, optimisticLocks);
         this.set = set;
         this.transactionId = transactionId;
     }
@@ -85,7 +86,24 @@ public class TransactionalSetCache<V> extends BaseTransactionalSet<V> {
     @Override
     protected RLock getLock(RCollectionAsync<V> set, V value) {
         String lockName = ((RedissonSetCache<V>) set).getLockByValue(value, "lock");
+        if (optimisticLocks != null) {
+            return optimisticLocks.getLock(lockName, ((RedissonSetCache<V>) set).getRawName(),
+                                            "zscore", ((RedissonSetCache<V>) set).encode(value));
+        }
         return new RedissonTransactionalLock(commandExecutor, lockName, transactionId);
     }
+
+    @Override
+    protected RFuture<Void> trackReadAsync(Object value) {
+        String lockName = ((RedissonSetCache<V>) set).getLockByValue(value, "lock");
+        return optimisticLocks.trackReadAsync(lockName, ((RedissonSetCache<V>) set).getRawName(),
+                                                "zscore", ((RedissonSetCache<V>) set).encode(value));
+    }
+
+    @Override
+    protected RFuture<Void> trackReadAllAsync() {
+        String name = ((RedissonSetCache<V>) set).getRawName();
+        return optimisticLocks.trackReadAsync(RedissonObject.suffixName(name, "read_lock"), name, "zrange", 0, -1, "withscores");
+    }
     
 }
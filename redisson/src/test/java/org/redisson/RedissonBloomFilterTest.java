@@ -5,6 +5,10 @@ import org.junit.jupiter.api.Test;
 import org.redisson.api.RBloomFilter;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,6 +38,25 @@ public class RedissonBloomFilterTest extends BaseTest {
         });
     }
     
+    @Test
+    public void testBulkAddContains() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        filter.tryInit(10000, 0.01);
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("value" + i);
+        }
+        assertThat(filter.add(values)).isEqualTo(1000);
+        assertThat(filter.add(Arrays.asList("value1", "value2", "newvalue"))).isEqualTo(1);
+        assertThat(filter.add(Arrays.asList("dup", "dup"))).isEqualTo(1);
+
+        assertThat(filter.contains(values)).isEqualTo(1000);
+        assertThat(filter.contains(Arrays.asList("value1", "newvalue", "absent"))).isEqualTo(2);
+        assertThat(filter.contains(Collections.emptyList())).isZero();
+        assertThat(filter.count()).isBetween(995L, 1005L);
+    }
+
     @Test
     public void testConfig() {
         RBloomFilter<String> filter = redisson.getBloomFilter("filter");
@@ -0,0 +1,114 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.redisson.config.Protocol;
+import org.redisson.config.TrackingMode;
+
+public class RedissonClientSideCachingTest extends BaseTest {
+
+    @BeforeEach
+    public void checkVersion() {
+        Assumptions.assumeTrue(RedisRunner.getDefaultRedisServerInstance().getRedisVersion().compareTo("6.0.0") >= 0);
+    }
+
+    private RedissonClient createTrackingInstance(TrackingMode mode) {
+        Config config = createConfig();
+        config.setProtocol(Protocol.RESP3);
+        config.setTrackingMode(mode);
+        return Redisson.create(config);
+    }
+
+    @Test
+    public void testTrackingRequiresResp3() {
+        Config config = createConfig();
+        config.setTrackingMode(TrackingMode.DEFAULT);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Redisson.create(config));
+    }
+
+    @Test
+    public void testResp3Replies() {
+        RedissonClient r = createTrackingInstance(TrackingMode.NONE);
+        RMap<String, String> map = r.getMap("map", StringCodec.INSTANCE);
+        map.put("1", "2");
+        map.put("3", "4");
+        assertThat(map.readAllMap()).containsEntry("1", "2").containsEntry("3", "4");
+        assertThat(map.containsKey("1")).isTrue();
+
+        RScoredSortedSet<String> set = r.getScoredSortedSet("set", StringCodec.INSTANCE);
+        set.add(1.5, "a");
+        set.add(2.5, "b");
+        assertThat(set.entryRange(0, -1)).hasSize(2);
+        assertThat(set.getScore("a")).isEqualTo(1.5);
+        r.shutdown();
+    }
+
+    @Test
+    public void testBucketInvalidation() throws InterruptedException {
+        RedissonClient r = createTrackingInstance(TrackingMode.DEFAULT);
+        RClientSideCaching csc = r.getClientSideCaching(ClientSideCachingOptions.defaults());
+        RBucket<String> bucket = csc.getBucket("test", StringCodec.INSTANCE);
+        assertThat(bucket.get()).isNull();
+
+        redisson.getBucket("test", StringCodec.INSTANCE).set("1");
+        Thread.sleep(100);
+        assertThat(bucket.get()).isEqualTo("1");
+        assertThat(bucket.get()).isEqualTo("1");
+
+        redisson.getBucket("test", StringCodec.INSTANCE).set("2");
+        Thread.sleep(100);
+        assertThat(bucket.get()).isEqualTo("2");
+
+        bucket.set("3");
+        assertThat(bucket.get()).isEqualTo("3");
+
+        csc.destroy();
+        r.shutdown();
+    }
+
+    @Test
+    public void testMapInvalidation() throws InterruptedException {
+        RedissonClient r = createTrackingInstance(TrackingMode.DEFAULT);
+        RClientSideCaching csc = r.getClientSideCaching(ClientSideCachingOptions.defaults()
+                                    .evictionPolicy(ClientSideCachingOptions.EvictionPolicy.LRU).cacheSize(100));
+        RMap<String, String> map = csc.getMap("map", StringCodec.INSTANCE);
+        assertThat(map.get("1")).isNull();
+
+        redisson.getMap("map", StringCodec.INSTANCE).put("1", "2");
+        Thread.sleep(100);
+        assertThat(map.get("1")).isEqualTo("2");
+        assertThat(map.readAllMap()).containsOnlyKeys("1");
+
+        redisson.getMap("map", StringCodec.INSTANCE).put("3", "4");
+        Thread.sleep(100);
+        assertThat(map.readAllMap()).containsOnlyKeys("1", "3");
+
+        csc.destroy();
+        r.shutdown();
+    }
+
+    @Test
+    public void testLocalCachedMapTracking() throws InterruptedException {
+        RedissonClient r = createTrackingInstance(TrackingMode.DEFAULT);
+        LocalCachedMapOptions<String, String> options = LocalCachedMapOptions.<String, String>defaults()
+                                                            .syncStrategy(LocalCachedMapOptions.SyncStrategy.TRACKING);
+        RLocalCachedMap<String, String> map1 = r.getLocalCachedMap("test", StringCodec.INSTANCE, options);
+        map1.put("1", "1");
+        assertThat(map1.get("1")).isEqualTo("1");
+
+        redisson.getMap("test", StringCodec.INSTANCE).put("1", "2");
+        Thread.sleep(100);
+        assertThat(map1.get("1")).isEqualTo("2");
+
+        map1.destroy();
+        r.shutdown();
+    }
+
+}
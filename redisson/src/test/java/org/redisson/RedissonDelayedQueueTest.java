@@ -12,6 +12,39 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class RedissonDelayedQueueTest extends BaseTest {
 
+    @Test
+    public void testTransferPrecision() throws InterruptedException {
+        RBlockingQueue<Integer> blockingQueue = redisson.getBlockingQueue("delay_queue");
+        RDelayedQueue<Integer> delayedQueue = redisson.getDelayedQueue(blockingQueue);
+
+        // later task doesn't postpone transfer of earlier one
+        delayedQueue.offer(2, 2000, TimeUnit.MILLISECONDS);
+        long startTime = System.currentTimeMillis();
+        delayedQueue.offer(1, 300, TimeUnit.MILLISECONDS);
+
+        assertThat(blockingQueue.poll(1, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(System.currentTimeMillis() - startTime).isBetween(300L, 400L);
+        delayedQueue.destroy();
+    }
+
+    @Test
+    public void testTransferPrecisionOfQueuedValues() throws InterruptedException {
+        RBlockingQueue<Integer> blockingQueue = redisson.getBlockingQueue("delay_queue");
+        RDelayedQueue<Integer> delayedQueue = redisson.getDelayedQueue(blockingQueue);
+
+        // values behind queue head aren't published, their start times come from transfer slice
+        long startTime = System.currentTimeMillis();
+        for (int i = 1; i <= 5; i++) {
+            delayedQueue.offer(i, 300 * i, TimeUnit.MILLISECONDS);
+        }
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(blockingQueue.poll(1, TimeUnit.SECONDS)).isEqualTo(i);
+            assertThat(System.currentTimeMillis() - startTime).isBetween(300L * i, 300L * i + 100);
+        }
+        delayedQueue.destroy();
+    }
+
     @Test
     public void testRemove() throws InterruptedException {
         RBlockingQueue<String> blockingFairQueue = redisson.getBlockingQueue("delay_queue");
@@ -3,9 +3,11 @@ package org.redisson;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.KeysScanOptions;
 import org.redisson.api.RBucketReactive;
 import org.redisson.api.RKeysReactive;
 import org.redisson.api.RMapReactive;
+import org.redisson.api.RType;
 import reactor.core.publisher.Flux;
 
 import java.time.Duration;
@@ -35,6 +37,22 @@ public class RedissonKeysReactiveTest extends BaseReactiveTest {
         });
     }
 
+    @Test
+    public void testGetKeysWithOptions() {
+        for (int i = 0; i < 100; i++) {
+            sync(redisson.getBucket("key" + i).set(1));
+        }
+        sync(redisson.getMap("map").put(1, 1));
+
+        Flux<String> keys = redisson.getKeys().getKeys(KeysScanOptions.defaults().type(RType.OBJECT).chunkSize(5));
+        assertThat(keys.limitRate(3).collectList().block()).hasSize(100);
+
+        assertThat(keys.take(10).collectList().block()).hasSize(10);
+
+        Flux<String> maps = redisson.getKeys().getKeys(KeysScanOptions.defaults().type(RType.MAP));
+        assertThat(maps.collectList().block()).containsExactly("map");
+    }
+
     @Test
     public void testGetKeys() {
         RKeysReactive keys = redisson.getKeys();
@@ -10,6 +10,7 @@ import org.redisson.connection.balancer.RandomLoadBalancer;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -251,6 +252,45 @@ public class RedissonKeysTest extends BaseTest {
         Assertions.assertEquals(0, redisson.getKeys().deleteByPattern("test?"));
     }
 
+    @Test
+    public void testExpireByPattern() {
+        for (int i = 0; i < 10; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        redisson.getBucket("red1").set(1);
+
+        assertThat(redisson.getKeys().expireByPattern("test?", 1, TimeUnit.MINUTES)).isEqualTo(10);
+        assertThat(redisson.getBucket("test1").remainTimeToLive()).isPositive();
+        assertThat(redisson.getBucket("red1").remainTimeToLive()).isEqualTo(-1);
+        assertThat(redisson.getKeys().expireByPattern("none?", 1, TimeUnit.MINUTES)).isZero();
+    }
+
+    @Test
+    public void testGetKeysWithOptions() {
+        for (int i = 0; i < 10; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            redisson.getMap("testmap" + i).put(i, i);
+        }
+
+        Iterable<String> maps = redisson.getKeys().getKeys(KeysScanOptions.defaults().type(RType.MAP));
+        assertThat(maps).hasSize(5).allMatch(k -> k.startsWith("testmap"));
+
+        Iterable<String> buckets = redisson.getKeys().getKeys(KeysScanOptions.defaults().pattern("test?").type(RType.OBJECT));
+        assertThat(buckets).hasSize(10);
+
+        Iterable<String> limited = redisson.getKeys().getKeys(KeysScanOptions.defaults().limit(7).chunkSize(3));
+        assertThat(limited).hasSize(7);
+
+        Iterator<String> iterator = redisson.getKeys().getKeys(KeysScanOptions.defaults().pattern("testmap*")).iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertThat(redisson.getKeys().count()).isEqualTo(10);
+    }
+
     @Test
     public void testDeleteByPatternBatch() {
         RBucket<String> bucket = redisson.getBucket("test0");
@@ -6,9 +6,11 @@ import org.redisson.api.RListReactive;
 import org.redisson.client.RedisException;
 import reactor.core.publisher.BaseSubscriber;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +27,20 @@ public class RedissonListReactiveTest extends BaseReactiveTest {
         Assertions.assertEquals(126145, list.hashCode());
     }
 
+    @Test
+    public void testReadAllStream() {
+        RListReactive<Integer> list = redisson.getList("list");
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add(i);
+        }
+        sync(list.addAll(values));
+
+        // small prefetch makes reading to be paused
+        assertThat(list.readAllStream().limitRate(10).toIterable()).containsExactlyElementsOf(values);
+        assertThat(sync(list.size())).isEqualTo(10000);
+    }
+
     @Test
     public void testAddByIndex() {
         RListReactive<String> test2 = redisson.getList("test2");
@@ -12,11 +12,13 @@ import org.redisson.api.MapOptions.WriteMode;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisClientConfig;
 import org.redisson.client.RedisConnection;
+import org.redisson.client.codec.ByteArrayCodec;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.DoubleCodec;
 import org.redisson.client.codec.IntegerCodec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.RedisStrictCommand;
 import org.redisson.codec.CompositeCodec;
 import org.redisson.config.Config;
 
@@ -24,6 +26,7 @@ import java.util.*;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 public class RedissonLocalCachedMapTest extends BaseMapTest {
 
@@ -480,6 +483,124 @@ public class RedissonLocalCachedMapTest extends BaseMapTest {
         }.execute();
     }
     
+    @Test
+    public void testOffHeapStorage() {
+        RLocalCachedMap<String, Integer> map = redisson.getLocalCachedMap("test", LocalCachedMapOptions.<String, Integer>defaults()
+                .cacheStorage(LocalCachedMapOptions.CacheStorage.OFF_HEAP).decodedCacheSize(2));
+        Map<String, Integer> cache = map.getCachedMap();
+
+        map.put("1", 1);
+        map.put("2", 2);
+        map.put("3", 3);
+        assertThat(map.get("1")).isEqualTo(1);
+        assertThat(map.get("1")).isEqualTo(1);
+        map.put("1", 10);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(map.get("1")).isEqualTo(10);
+        assertThat(map.readAllMap()).containsOnly(entry("1", 10), entry("2", 2), entry("3", 3));
+        assertThat(map.fastRemove("2")).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(map.getCachedMap()).containsOnly(entry("1", 10), entry("3", 3));
+    }
+
+    @Test
+    public void testInvalidationBatch() throws InterruptedException {
+        LocalCachedMapOptions<String, Integer> options = LocalCachedMapOptions.<String, Integer>defaults()
+                .invalidationBatchInterval(300)
+                .invalidationBatchSize(100);
+        RLocalCachedMap<String, Integer> map1 = redisson.getLocalCachedMap("test", options);
+        Map<String, Integer> cache1 = map1.getCachedMap();
+
+        RLocalCachedMap<String, Integer> map2 = redisson.getLocalCachedMap("test", options);
+        Map<String, Integer> cache2 = map2.getCachedMap();
+
+        map1.put("1", 1);
+        map1.put("2", 2);
+        assertThat(map2.get("1")).isEqualTo(1);
+        assertThat(map2.get("2")).isEqualTo(2);
+        assertThat(cache2.size()).isEqualTo(2);
+
+        map1.put("1", 10);
+        map1.fastRemove("2");
+        Thread.sleep(50);
+        assertThat(cache2.size()).isEqualTo(2);
+
+        Thread.sleep(500);
+        assertThat(cache1.size()).isEqualTo(1);
+        assertThat(cache2.size()).isEqualTo(0);
+        assertThat(map2.get("1")).isEqualTo(10);
+        assertThat(map2.get("2")).isNull();
+    }
+
+    @Test
+    public void testVersionedUpdatesLog() {
+        LocalCachedMapOptions<String, Integer> options = LocalCachedMapOptions.<String, Integer>defaults()
+                .reconnectionStrategy(ReconnectionStrategy.LOAD_VERSIONED)
+                .updatesLogSize(3);
+        RLocalCachedMap<String, Integer> map1 = redisson.getLocalCachedMap("test", options);
+        RLocalCachedMap<String, Integer> map2 = redisson.getLocalCachedMap("test", options);
+        Map<String, Integer> cache2 = map2.getCachedMap();
+
+        RScoredSortedSet<byte[]> log = redisson.getScoredSortedSet(RedissonObject.prefixName("redisson__cache_updates_log", "test"), ByteArrayCodec.INSTANCE);
+
+        map1.put("1", 1);
+        map1.put("2", 2);
+        // epoch entry is stored with zero score
+        assertThat(log.entryRange(0, -1)).extracting(e -> e.getScore()).containsExactly(0D, 1D, 2D);
+        assertThat(map2.get("1")).isEqualTo(1);
+
+        map1.putAll(Collections.singletonMap("3", 3));
+        map1.fastRemove("2");
+        map1.put("1", 10);
+        assertThat(log.entryRange(0, -1)).extracting(e -> e.getScore()).containsExactly(0D, 3D, 4D, 5D);
+        assertThat(cache2).isEmpty();
+
+        byte[] epoch = log.first();
+        map1.delete();
+        assertThat(log.entryRange(0, -1)).extracting(e -> e.getScore()).containsExactly(0D, 6D);
+        assertThat(log.first()).isEqualTo(epoch);
+
+        map1.put("1", 1);
+        assertThat(log.lastScore()).isEqualTo(7D);
+    }
+
+    @Test
+    public void testVersionedUpdatesLogRecreated() throws InterruptedException {
+        LocalCachedMapOptions<String, Integer> options = LocalCachedMapOptions.<String, Integer>defaults()
+                .reconnectionStrategy(ReconnectionStrategy.LOAD_VERSIONED);
+        RLocalCachedMap<String, Integer> map1 = redisson.getLocalCachedMap("test", options);
+        RLocalCachedMap<String, Integer> map2 = redisson.getLocalCachedMap("test", options);
+        Map<String, Integer> cache2 = map2.getCachedMap();
+
+        map1.put("1", 1);
+        map1.put("2", 2);
+        assertThat(map2.get("2")).isEqualTo(2);
+
+        // updates log is lost along with change missed by map2
+        redisson.getMap("test").fastPut("2", 20);
+        redisson.getKeys().delete(RedissonObject.prefixName("redisson__cache_updates_log", "test"));
+
+        // recreated log reaches version known by map2
+        map1.put("3", 3);
+        map1.put("4", 4);
+        map1.put("5", 5);
+        Thread.sleep(100);
+        assertThat(cache2).containsKey("2");
+
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        RedisClient client = RedisClient.create(config);
+        RedisConnection connection = client.connect();
+        connection.sync(new RedisStrictCommand<Long>("CLIENT", "KILL"), "TYPE", "pubsub");
+        client.shutdown();
+
+        Awaitility.await().atMost(Durations.FIVE_SECONDS).untilAsserted(() -> {
+            assertThat(cache2).doesNotContainKey("2");
+        });
+        assertThat(map2.get("2")).isEqualTo(20);
+    }
+
     @Test
     public void testLFU() {
         RLocalCachedMap<String, Integer> map = redisson.getLocalCachedMap("test", LocalCachedMapOptions.<String, Integer>defaults().evictionPolicy(EvictionPolicy.LFU).cacheSize(5));
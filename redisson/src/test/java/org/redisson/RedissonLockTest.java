@@ -4,11 +4,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisClient;
+import org.redisson.client.RedisClientConfig;
 import org.redisson.client.WriteRedisConnectionException;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.config.Config;
 import org.redisson.connection.balancer.RandomLoadBalancer;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -261,6 +266,62 @@ public class RedissonLockTest extends BaseConcurrentTest {
         await().atMost(redisson.getConfig().getLockWatchdogTimeout(), TimeUnit.MILLISECONDS).until(() -> !lock.isLocked());
     }
 
+    @Test
+    public void testExpirationRenewalOfManyLocks() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockWatchdogTimeout(1000);
+        RedissonClient r = Redisson.create(config);
+
+        List<RLock> locks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            RLock lock = i % 2 == 0 ? r.getLock("lock" + i) : r.getReadWriteLock("lock" + i).readLock();
+            lock.lock();
+            locks.add(lock);
+        }
+
+        Thread.sleep(3000);
+
+        for (RLock lock : locks) {
+            assertThat(lock.isLocked()).isTrue();
+            assertThat(lock.remainTimeToLive()).isGreaterThan(0);
+            lock.unlock();
+        }
+
+        Thread.sleep(1500);
+        assertThat(r.getKeys().count()).isZero();
+        r.shutdown();
+    }
+
+    @Test
+    public void testExpirationRenewalAfterTimeout() throws IOException, InterruptedException {
+        RedisRunner.RedisProcess runner = new RedisRunner().nosave().randomDir().randomPort().run();
+
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(runner.getRedisServerAddressAndPort())
+                .setRetryAttempts(0)
+                .setTimeout(500);
+        config.setLockWatchdogTimeout(3000);
+        RedissonClient r = Redisson.create(config);
+
+        RLock lock = r.getLock("lock");
+        lock.lock();
+
+        // renewal batch fails with response timeout while node is busy
+        RedisClientConfig clientConfig = new RedisClientConfig();
+        clientConfig.setAddress(runner.getRedisServerAddressAndPort());
+        RedisClient client = RedisClient.create(clientConfig);
+        client.connect().async(RedisCommands.DEBUG, "SLEEP", 2);
+
+        Thread.sleep(5000);
+        assertThat(lock.isLocked()).isTrue();
+        lock.unlock();
+
+        client.shutdown();
+        r.shutdown();
+        runner.stop();
+    }
+
     @Test
     public void testGetHoldCount() {
         RLock lock = redisson.getLock("lock");
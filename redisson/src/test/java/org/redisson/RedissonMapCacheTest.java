@@ -5,10 +5,12 @@ import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
@@ -34,6 +36,7 @@ import org.redisson.client.codec.DoubleCodec;
 import org.redisson.client.codec.IntegerCodec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ReplyElementsListener;
 import org.redisson.codec.CompositeCodec;
 import org.redisson.config.Config;
 import org.redisson.eviction.EvictionScheduler;
@@ -64,6 +67,31 @@ public class RedissonMapCacheTest extends BaseMapTest {
         assertThat(cache.updateEntryExpiration(1, 2, TimeUnit.SECONDS, -1, TimeUnit.SECONDS)).isFalse();
     }
 
+    @Test
+    public void testReadAllMapStreamed() throws InterruptedException {
+        RMapCache<String, String> cache = redisson.getMapCache("test");
+        cache.put("1", "11");
+        cache.put("2", "22", 1, TimeUnit.SECONDS);
+        Thread.sleep(1100);
+
+        List<Object> elements = new ArrayList<>();
+        Long amount = cache.readAllMapAsync(new ReplyElementsListener() {
+            @Override
+            public boolean onElement(Object element) {
+                elements.add(element);
+                return true;
+            }
+
+            @Override
+            public void onPause(Runnable resume) {
+                resume.run();
+            }
+        }).toCompletableFuture().join();
+
+        assertThat(amount).isEqualTo(2);
+        assertThat(elements).containsExactly("1", "11");
+    }
+
     @Test
     public void testRemoveListener() {
         RMapCache<Long, String> rMapCache = redisson.getMapCache("test");
@@ -257,6 +285,43 @@ public class RedissonMapCacheTest extends BaseMapTest {
         redisson.shutdown();
     }
 
+    @Test
+    public void testCoordinatedCleanUp() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer().setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setMinCleanUpDelay(1);
+        config.setMaxCleanUpDelay(2);
+        config.setCoordinatedCleanUp(true);
+        RedissonClient redisson1 = Redisson.create(config);
+        RedissonClient redisson2 = Redisson.create(config);
+
+        RMapCache<String, String> map1 = redisson1.getMapCache("test", StringCodec.INSTANCE);
+        RMapCache<String, String> map2 = redisson2.getMapCache("test", StringCodec.INSTANCE);
+        map1.put("1", "1", 2, TimeUnit.SECONDS);
+        map2.put("2", "2", 0, TimeUnit.SECONDS, 2, TimeUnit.SECONDS);
+        map2.put("3", "3", 10, TimeUnit.MINUTES);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(redisson1.getMap("test", StringCodec.INSTANCE).keySet()).containsOnly("3");
+        });
+        RScoredSortedSet<String> registry = redisson1.getScoredSortedSet("redisson__eviction__registry", StringCodec.INSTANCE);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(registry.getScore("test")).isGreaterThan((double) System.currentTimeMillis());
+        });
+
+        // local destroy keeps object registered for other instances
+        map1.destroy();
+        Thread.sleep(3000);
+        assertThat(registry.getScore("test")).isNotNull();
+
+        map2.delete();
+        await().atMost(Duration.ofSeconds(5)).until(() -> registry.getScore("test") == null);
+        map2.destroy();
+
+        redisson1.shutdown();
+        redisson2.shutdown();
+    }
+
     @Test
     public void testMaxSizeLFU() {
         RMapCache<String, String> map = redisson.getMapCache("test");
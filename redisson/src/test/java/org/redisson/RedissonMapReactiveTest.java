@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -16,9 +17,11 @@ import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RMapReactive;
+import org.redisson.api.RedissonReactiveClient;
 import org.redisson.client.codec.DoubleCodec;
 import org.redisson.client.codec.IntegerCodec;
 import org.redisson.codec.CompositeCodec;
+import org.redisson.config.Config;
 
 public class RedissonMapReactiveTest extends BaseReactiveTest {
 
@@ -275,6 +278,49 @@ public class RedissonMapReactiveTest extends BaseReactiveTest {
         assertThat(toIterable(map.keyIterator())).contains(1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    public void testReadAllMapStream() {
+        RMapReactive<Integer, String> map = redisson.getMap("simple");
+        Map<Integer, String> entries = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            entries.put(i, "value" + i);
+        }
+        sync(map.putAll(entries));
+
+        Map<Integer, String> result = new HashMap<>();
+        for (Entry<Integer, String> entry : map.readAllMapStream().limitRate(10).toIterable()) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        assertThat(result).isEqualTo(entries);
+    }
+
+    @Test
+    public void testReadAllMapStreamSharedConnections() {
+        Config config = BaseTest.createConfig();
+        config.useSingleServer()
+                .setSharedConnectionsPerNode(1);
+        RedissonReactiveClient localRedisson = Redisson.create(config).reactive();
+
+        RMapReactive<Integer, String> map = localRedisson.getMap("simple");
+        Map<Integer, String> entries = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            entries.put(i, "value" + i + String.join("", Collections.nCopies(100, "a")));
+        }
+        sync(map.putAll(entries));
+
+        Map<Integer, String> result = new HashMap<>();
+        for (Entry<Integer, String> entry : map.readAllMapStream().limitRate(10).toIterable()) {
+            if (result.isEmpty()) {
+                // stream is paused by slow consumer, shared connection should remain readable
+                assertThat(sync(map.get(1))).isEqualTo(entries.get(1));
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        assertThat(result).isEqualTo(entries);
+
+        localRedisson.shutdown();
+    }
+
     @Test
     public void testContainsValue() {
         RMapReactive<SimpleKey, SimpleValue> map = redisson.getMap("simple");
@@ -168,6 +168,31 @@ public class RedissonMapReduceTest extends BaseTest {
         resultMap.delete();
     }
 
+    @ParameterizedTest
+    @MethodSource("mapClasses")
+    public void testCombiner(Class<?> mapClass) {
+        RMap<String, String> map = getMap(mapClass);
+        for (int i = 0; i < 5000; i++) {
+            map.put("" + i, "one two two three three three");
+        }
+
+        Map<String, Integer> result = new HashMap<>();
+        result.put("one", 5000);
+        result.put("two", 10000);
+        result.put("three", 15000);
+
+        RMapReduce<String, String, String, Integer> mapReduce = map.<String, Integer>mapReduce()
+                                                                    .mapper(new WordMapper())
+                                                                    .reducer(new WordReducer())
+                                                                    .combiner(new WordReducer());
+        assertThat(mapReduce.execute()).isEqualTo(result);
+
+        RMapReduce<String, String, String, Integer> mapReduceNoCombiner = map.<String, Integer>mapReduce()
+                                                                    .mapper(new WordMapper())
+                                                                    .reducer(new WordReducer());
+        assertThat(mapReduceNoCombiner.execute()).isEqualTo(result);
+    }
+
     private RMap<String, String> getMap(Class<?> mapClass) {
         if (RMapCache.class.isAssignableFrom(mapClass)) {
             return redisson.getMapCache("map");
@@ -5,14 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.redisson.api.MapOptions;
 import org.redisson.api.MapOptions.WriteMode;
 import org.redisson.api.RMap;
+import org.redisson.api.map.MapLoader;
+import org.redisson.api.map.MapLoaderListener;
+import org.redisson.api.map.MapWriter;
 import org.redisson.client.codec.Codec;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 public class RedissonMapTest extends BaseMapTest {
 
@@ -46,6 +56,155 @@ public class RedissonMapTest extends BaseMapTest {
         return redisson.getMap("test", options);        
     }
 
+    private MapWriter<String, String> createBatchRecordingWriter(Map<String, String> store, List<Integer> batchSizes) {
+        MapWriter<String, String> writer = createMapWriter(store);
+        return new MapWriter<String, String>() {
+            @Override
+            public void write(Map<String, String> map) {
+                batchSizes.add(map.size());
+                writer.write(map);
+            }
+
+            @Override
+            public void delete(Collection<String> keys) {
+                batchSizes.add(keys.size());
+                writer.delete(keys);
+            }
+        };
+    }
+
+    @Test
+    public void testLoadAllBatches() {
+        Map<String, String> cache = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            cache.put("" + i, "" + (i*10 + i));
+        }
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Long> progress = new CopyOnWriteArrayList<>();
+        AtomicLong completed = new AtomicLong();
+        MapLoader<String, String> loader = createMapLoader(cache);
+        MapOptions<String, String> options = MapOptions.<String, String>defaults()
+                .loader(new MapLoader<String, String>() {
+                    @Override
+                    public String load(String key) {
+                        throw new IllegalStateException();
+                    }
+
+                    @Override
+                    public Map<String, String> loadAll(Collection<String> keys) {
+                        synchronized (batchSizes) {
+                            batchSizes.add(keys.size());
+                        }
+                        return MapLoader.super.loadAll(keys);
+                    }
+
+                    @Override
+                    public Iterable<String> loadAllKeys() {
+                        return loader.loadAllKeys();
+                    }
+                })
+                .loaderBatchSize(30)
+                .loaderListener(new MapLoaderListener() {
+                    @Override
+                    public void onBatchLoaded(String name, int batchSize, long loadedEntries) {
+                        progress.add(loadedEntries);
+                    }
+
+                    @Override
+                    public void onCompleted(String name, long loadedEntries, long durationMillis) {
+                        completed.set(loadedEntries);
+                    }
+                });
+        RMap<String, String> map = redisson.getMap("test", options);
+
+        map.put("0", "010");
+        map.loadAll(false, 2);
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.get("0")).isEqualTo("010");
+        assertThat(map.get("99")).isEqualTo("1089");
+        assertThat(batchSizes).hasSize(4);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(99);
+        assertThat(progress).hasSize(4).isSorted().endsWith(99L);
+        assertThat(completed.get()).isEqualTo(99);
+
+        batchSizes.clear();
+        map.loadAll(true, 3);
+        assertThat(map.get("0")).isEqualTo("0");
+        assertThat(batchSizes).containsOnly(30, 10);
+    }
+
+    @Test
+    public void testWriterBatches() {
+        Map<String, String> store = new HashMap<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        MapOptions<String, String> options = MapOptions.<String, String>defaults()
+                .writer(createBatchRecordingWriter(store, batchSizes))
+                .writerBatchSize(2);
+        RMap<String, String> map = redisson.getMap("test", options);
+
+        Map<String, String> newMap = new HashMap<>();
+        newMap.put("1", "11");
+        newMap.put("2", "22");
+        newMap.put("3", "33");
+        map.putAll(newMap);
+        assertThat(store).isEqualTo(newMap);
+        assertThat(batchSizes).containsExactly(2, 1);
+
+        batchSizes.clear();
+        map.fastRemove("1", "2", "3");
+        assertThat(store).isEmpty();
+        assertThat(batchSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    public void testWriteBehindCoalescing() {
+        Map<String, String> store = new ConcurrentHashMap<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        MapOptions<String, String> options = MapOptions.<String, String>defaults()
+                .writer(createBatchRecordingWriter(store, batchSizes))
+                .writeBehindBatchSize(200)
+                .writeMode(WriteMode.WRITE_BEHIND);
+        RMap<String, String> map = redisson.getMap("test", options);
+
+        for (int i = 0; i < 100; i++) {
+            map.fastPut("1", "" + i);
+        }
+        map.put("2", "22");
+        map.remove("2");
+        map.put("3", "33");
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("1", "99");
+        expected.put("3", "33");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(store).isEqualTo(expected);
+            assertThat(batchSizes).containsExactly(1, 2);
+        });
+        destroy(map);
+    }
+
+    @Test
+    public void testWriteBehindHotKey() {
+        Map<String, String> store = new ConcurrentHashMap<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        MapOptions<String, String> options = MapOptions.<String, String>defaults()
+                .writer(createBatchRecordingWriter(store, batchSizes))
+                .writeBehindBatchSize(10)
+                .writeMode(WriteMode.WRITE_BEHIND);
+        RMap<String, String> map = redisson.getMap("test", options);
+
+        for (int i = 0; i < 100; i++) {
+            map.fastPut("1", "" + i);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(store).containsEntry("1", "99");
+            assertThat(batchSizes).hasSize(10).containsOnly(1);
+        });
+        destroy(map);
+    }
+
     @Test
     public void testEntrySet() {
         Map<Integer, String> map = redisson.getMap("simple12");
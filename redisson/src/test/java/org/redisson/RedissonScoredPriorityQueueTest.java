@@ -0,0 +1,132 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RPriorityQueue;
+import org.redisson.api.RScoredPriorityQueue;
+
+public class RedissonScoredPriorityQueueTest extends BaseTest {
+
+    public static class Task implements Serializable {
+
+        private String name;
+        private int priority;
+
+        public Task(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+    }
+
+    @Test
+    public void testNaturalOrder() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue");
+        queue.add(3);
+        queue.add(1);
+        queue.add(2);
+        queue.add(1);
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.readAll()).containsExactly(1, 1, 2, 3);
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.peekLast()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.pollLast()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isNull();
+        Assertions.assertThrows(java.util.NoSuchElementException.class, queue::remove);
+    }
+
+    @Test
+    public void testEncoder() {
+        RScoredPriorityQueue<Task> queue = redisson.getScoredPriorityQueue("queue", t -> t.priority);
+        queue.addAll(Arrays.asList(new Task("b", 2), new Task("c", 3), new Task("a", 1)));
+
+        assertThat(queue.poll().name).isEqualTo("a");
+        assertThat(queue.poll().name).isEqualTo("b");
+        assertThat(queue.poll().name).isEqualTo("c");
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testContainsAndRemove() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue");
+        queue.addAll(Arrays.asList(1, 2, 2, 3));
+
+        assertThat(queue.contains(2)).isTrue();
+        assertThat(queue.contains(4)).isFalse();
+        assertThat(queue.remove(2)).isTrue();
+        assertThat(queue.readAll()).containsExactly(1, 2, 3);
+        assertThat(queue.removeAll(Arrays.asList(1, 2))).isTrue();
+        assertThat(queue.readAll()).containsExactly(3);
+    }
+
+    @Test
+    public void testUnsupportedNaturalOrder() {
+        RScoredPriorityQueue<Object> queue = redisson.getScoredPriorityQueue("queue");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> queue.add("a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> queue.add((1L << 53) + 1));
+        assertThat(queue.add(1L << 53)).isTrue();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue");
+        queue.addAll(Arrays.asList(1, 2, 2, 3));
+
+        int removed = 0;
+        for (Iterator<Integer> iterator = queue.iterator(); iterator.hasNext();) {
+            if (iterator.next() == 2) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        assertThat(removed).isEqualTo(2);
+        assertThat(queue.readAll()).containsExactly(1, 3);
+
+        queue.addAll(Arrays.asList(2, 2));
+        assertThat(queue.retainAll(Arrays.asList(2, 3))).isTrue();
+        assertThat(queue.readAll()).containsExactly(2, 2, 3);
+    }
+
+    @Test
+    public void testIterator() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue");
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+        }
+
+        int count = 0;
+        for (Integer value : queue) {
+            assertThat(value).isBetween(0, 99);
+            count++;
+        }
+        assertThat(count).isEqualTo(100);
+    }
+
+    @Test
+    public void testMigrateFrom() {
+        RPriorityQueue<Integer> oldQueue = redisson.getPriorityQueue("{queue}:old");
+        for (int i = 250; i > 0; i--) {
+            oldQueue.add(i);
+        }
+
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("{queue}:new");
+        assertThat(queue.migrateFrom("{queue}:old")).isEqualTo(250);
+        assertThat(oldQueue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(250);
+        for (int i = 1; i <= 250; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+    }
+
+}
@@ -281,6 +281,19 @@ public class RedissonScoredSortedSetReactiveTest extends BaseReactiveTest {
                 new ScoredEntry<Integer>(50D, 5));
     }
 
+    @Test
+    public void testRangeStream() {
+        RScoredSortedSetReactive<Integer> set = redisson.getScoredSortedSet("simple");
+        sync(set.add(10, 1));
+        sync(set.add(20, 2));
+        sync(set.add(30, 3));
+
+        assertThat(set.valueRangeStream(0, -1).toIterable()).containsExactly(1, 2, 3);
+        assertThat(set.entryRangeStream(1, -1).toIterable()).containsExactly(
+                new ScoredEntry<Integer>(20D, 2),
+                new ScoredEntry<Integer>(30D, 3));
+    }
+
     @Test
     public void testScoredSortedSetValueRange() {
         RScoredSortedSetReactive<String> set = redisson.<String>getScoredSortedSet("simple");
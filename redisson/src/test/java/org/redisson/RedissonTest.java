@@ -19,6 +19,8 @@ import org.redisson.client.handler.State;
 import org.redisson.client.protocol.Decoder;
 import org.redisson.client.protocol.Encoder;
 import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.RedisStrictCommand;
+import org.redisson.client.protocol.decoder.StringMapDataDecoder;
 import org.redisson.cluster.ClusterNodeInfo;
 import org.redisson.cluster.ClusterNodeInfo.Flag;
 import org.redisson.codec.JsonJacksonCodec;
@@ -27,6 +29,7 @@ import org.redisson.config.Config;
 import org.redisson.config.ReadMode;
 import org.redisson.config.SubscriptionMode;
 import org.redisson.connection.CRC16;
+import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ConnectionListener;
 import org.redisson.connection.MasterSlaveConnectionManager;
 import org.redisson.connection.balancer.RandomLoadBalancer;
@@ -160,6 +163,154 @@ public class RedissonTest extends BaseTest {
         localRedisson.shutdown();
     }
     
+    @Test
+    public void testSharedConnections() throws InterruptedException {
+        Config config = new Config();
+        config.useSingleServer()
+              .setConnectionMinimumIdleSize(1)
+              .setConnectionPoolSize(2)
+              .setSharedConnectionsPerNode(2)
+              .setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+
+        RedissonClient localRedisson = Redisson.create(config);
+
+        RBlockingQueue<String> queue = localRedisson.getBlockingQueue("queue");
+        RFuture<String> pollFuture = queue.pollAsync(10, TimeUnit.SECONDS);
+
+        RMap<String, String> map = localRedisson.getMap("test");
+        int iterations = 100_000;
+        List<RFuture<String>> futures = new ArrayList<>(iterations);
+        for (int i = 0; i < iterations; i++) {
+            futures.add(map.putAsync("" + i, "" + i));
+        }
+        for (RFuture<String> future : futures) {
+            future.syncUninterruptibly();
+        }
+        assertThat(map.size()).isEqualTo(iterations);
+
+        queue.add("value");
+        assertThat(pollFuture.syncUninterruptibly().getNow()).isEqualTo("value");
+
+        ClientConnectionsEntry entry = ((Redisson) localRedisson).getConnectionManager()
+                                            .getEntrySet().iterator().next().getMasterEntry();
+        // idle pooled connection borrowed by blocking poll and two shared connections
+        assertThat(entry.getAllConnections()).hasSize(3);
+        assertThat(entry.getAllConnections().stream().filter(RedisConnection::isShared)).hasSize(2);
+
+        localRedisson.shutdown();
+    }
+
+    private RedisConnection connect(RedisProcess node) {
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(node.getRedisServerAddressAndPort());
+        return RedisClient.create(config).connect();
+    }
+
+    private long getCalls(RedisConnection connection, String command) {
+        Map<String, String> stats = connection.sync(StringCodec.INSTANCE,
+                new RedisStrictCommand<Map<String, String>>("INFO", "COMMANDSTATS", new StringMapDataDecoder()));
+        String value = stats.get("cmdstat_" + command);
+        if (value == null) {
+            return 0;
+        }
+        return Long.parseLong(value.split(",")[0].split("=")[1]);
+    }
+
+    @Test
+    public void testHedgedReads() throws IOException, InterruptedException {
+        RedisProcess master = new RedisRunner().port(6390).nosave().randomDir().run();
+        RedisProcess slave1 = new RedisRunner().port(6391).nosave().randomDir().slaveof("127.0.0.1", 6390).run();
+        RedisProcess slave2 = new RedisRunner().port(6392).nosave().randomDir().slaveof("127.0.0.1", 6390).run();
+
+        Config config = new Config();
+        config.useMasterSlaveServers()
+                .setMasterAddress(master.getRedisServerAddressAndPort())
+                .addSlaveAddress(slave1.getRedisServerAddressAndPort(), slave2.getRedisServerAddressAndPort())
+                .setReadMode(ReadMode.SLAVE)
+                .setHedgedReads(true)
+                .setRetryAttempts(0)
+                .setTimeout(5000);
+        RedissonClient r = Redisson.create(config);
+
+        RBucket<String> bucket = r.getBucket("test");
+        bucket.set("value");
+        Thread.sleep(1000);
+        // response time percentile is available after 100 samples per node
+        for (int i = 0; i < 300; i++) {
+            assertThat(bucket.get()).isEqualTo("value");
+        }
+
+        RedisConnection connection1 = connect(slave1);
+        RedisConnection connection2 = connect(slave2);
+        connection1.sync(new RedisStrictCommand<Void>("CONFIG", "RESETSTAT"));
+        connection2.sync(new RedisStrictCommand<Void>("CONFIG", "RESETSTAT"));
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(bucket.get()).isEqualTo("value");
+        }
+        // hedged read is canceled once node replies within its 95th percentile
+        assertThat(getCalls(connection1, "get") + getCalls(connection2, "get")).isBetween(200L, 260L);
+
+        connection1.async(RedisCommands.DEBUG, "SLEEP", 3);
+        for (int i = 0; i < 10; i++) {
+            long startTime = System.currentTimeMillis();
+            assertThat(bucket.get()).isEqualTo("value");
+            // hedged read is sent to the second slave
+            assertThat(System.currentTimeMillis() - startTime).isLessThan(1000);
+        }
+
+        r.shutdown();
+        connection1.getRedisClient().shutdown();
+        connection2.getRedisClient().shutdown();
+        slave1.stop();
+        slave2.stop();
+        master.stop();
+    }
+
+    @Test
+    public void testSlaveTimeouts() throws IOException, InterruptedException {
+        RedisProcess master = new RedisRunner().port(6390).nosave().randomDir().run();
+        RedisProcess slave = new RedisRunner().port(6391).nosave().randomDir().slaveof("127.0.0.1", 6390).run();
+
+        Config config = new Config();
+        config.useMasterSlaveServers()
+                .setMasterAddress(master.getRedisServerAddressAndPort())
+                .addSlaveAddress(slave.getRedisServerAddressAndPort())
+                .setReadMode(ReadMode.SLAVE)
+                .setFailedSlaveTimeoutsThreshold(2)
+                .setRetryAttempts(0)
+                .setTimeout(500);
+        RedissonClient r = Redisson.create(config);
+
+        RBucket<String> bucket = r.getBucket("test");
+        bucket.set("value");
+        Thread.sleep(1000);
+        assertThat(bucket.get()).isEqualTo("value");
+
+        RedisConnection connection = connect(slave);
+        connection.async(RedisCommands.DEBUG, "SLEEP", 4);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(RedisResponseTimeoutException.class, () -> bucket.get());
+        }
+
+        // slave is disconnected and master is used for read operations
+        long startTime = System.currentTimeMillis();
+        assertThat(bucket.get()).isEqualTo("value");
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(500);
+
+        // slave is connected back once it responds to PING command
+        connection.sync(new RedisStrictCommand<Void>("CONFIG", "RESETSTAT"));
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(bucket.get()).isEqualTo("value");
+            assertThat(getCalls(connection, "get")).isPositive();
+        });
+
+        r.shutdown();
+        connection.getRedisClient().shutdown();
+        slave.stop();
+        master.stop();
+    }
+
     public static class Dummy {
         private String field;
     }
@@ -0,0 +1,85 @@
+package org.redisson.cache;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapCacheMapTest {
+
+    private CacheKey key(int i) {
+        byte[] hash = new byte[16];
+        hash[0] = (byte) i;
+        return new CacheKey(hash);
+    }
+
+    @Test
+    public void testPutGet() {
+        OffHeapCacheMap map = new OffHeapCacheMap(new NoneCacheMap<>(0, 0), new JsonJacksonCodec(), 0);
+        assertThat(map.put(key(1), new CacheValue("1", Arrays.asList(1, 2)))).isNull();
+        assertThat(map.put(key(2), new CacheValue("2", null))).isNull();
+
+        assertThat(map.get(key(1)).getKey()).isEqualTo("1");
+        assertThat(map.get(key(1)).getValue()).isEqualTo(Arrays.asList(1, 2));
+        assertThat(map.get(key(2)).getValue()).isNull();
+        assertThat(map.containsValue(new CacheValue(null, Arrays.asList(1, 2)))).isTrue();
+
+        CacheValue prevValue = map.put(key(1), new CacheValue("1", Arrays.asList(3)));
+        assertThat(prevValue.getValue()).isEqualTo(Arrays.asList(1, 2));
+        assertThat(map.replace(key(1), new CacheValue("1", Arrays.asList(1)), new CacheValue("1", Arrays.asList(4)))).isFalse();
+        assertThat(map.replace(key(1), new CacheValue("1", Arrays.asList(3)), new CacheValue("1", Arrays.asList(4)))).isTrue();
+        assertThat(map.get(key(1)).getValue()).isEqualTo(Arrays.asList(4));
+
+        assertThat(map.remove(key(2)).getKey()).isEqualTo("2");
+        assertThat(map.values()).containsOnly(new CacheValue("1", Arrays.asList(4)));
+        map.clear();
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    public void testDecodedCache() {
+        OffHeapCacheMap map = new OffHeapCacheMap(new NoneCacheMap<>(0, 0), new JsonJacksonCodec(), 10);
+        map.put(key(1), new CacheValue("1", "value1"));
+
+        CacheValue value = map.get(key(1));
+        assertThat(map.get(key(1))).isSameAs(value);
+
+        map.put(key(1), new CacheValue("1", "value2"));
+        assertThat(map.get(key(1)).getValue()).isEqualTo("value2");
+    }
+
+    @Test
+    public void testRelease() {
+        List<OffHeapCacheMap.EncodedValue> removed = new ArrayList<>();
+        OffHeapCacheMap map = new OffHeapCacheMap(listener -> {
+            LRUCacheMap<CacheKey, CacheValue> index = new LRUCacheMap<>(2, 0, 0);
+            index.setRemovalListener(value -> {
+                removed.add((OffHeapCacheMap.EncodedValue) value.getValue());
+                listener.accept(value);
+            });
+            return index;
+        }, new JsonJacksonCodec(), 0);
+
+        map.put(key(1), new CacheValue("1", "value1"));
+        map.put(key(1), new CacheValue("1", "value2"));
+        assertThat(removed).hasSize(1);
+        assertThat(removed.get(0).references.get()).isZero();
+        assertThat(map.get(key(1)).getValue()).isEqualTo("value2");
+
+        map.put(key(2), new CacheValue("2", "value2"));
+        map.put(key(3), new CacheValue("3", "value3"));
+        // evicted by index map
+        assertThat(removed).hasSize(2);
+        assertThat(removed.get(1).references.get()).isZero();
+
+        map.remove(key(3));
+        map.clear();
+        assertThat(removed).hasSize(4);
+        assertThat(removed).allMatch(value -> value.references.get() == 0);
+    }
+
+}
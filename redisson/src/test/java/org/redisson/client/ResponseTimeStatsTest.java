@@ -0,0 +1,51 @@
+package org.redisson.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseTimeStatsTest {
+
+    @Test
+    public void testNotEnoughSamples() {
+        ResponseTimeStats stats = new ResponseTimeStats();
+        for (int i = 0; i < 64; i++) {
+            stats.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertThat(stats.getPercentile95()).isEqualTo(-1);
+    }
+
+    @Test
+    public void testPercentile95() {
+        ResponseTimeStats stats = new ResponseTimeStats();
+        for (int i = 0; i < 1280; i++) {
+            if (i % 20 == 0) {
+                stats.record(TimeUnit.MILLISECONDS.toNanos(100));
+            } else {
+                stats.record(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        assertThat(stats.getPercentile95())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1))
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(2));
+
+        for (int i = 0; i < 8192; i++) {
+            stats.record(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertThat(stats.getPercentile95())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100))
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(125));
+    }
+
+    @Test
+    public void testTimeouts() {
+        ResponseTimeStats stats = new ResponseTimeStats();
+        assertThat(stats.incTimeouts()).isEqualTo(1);
+        assertThat(stats.incTimeouts()).isEqualTo(2);
+        stats.resetTimeouts();
+        assertThat(stats.incTimeouts()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,293 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.CommandsData;
+import org.redisson.client.protocol.QueueCommand;
+import org.redisson.client.protocol.QueueCommandHolder;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.ReplyElementsListener;
+import org.redisson.client.protocol.ScoredEntry;
+import org.redisson.client.protocol.StreamingCommandData;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class CommandDecoderTest {
+
+    private EmbeddedChannel createChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandDecoder("redis"));
+        channel.attr(CommandsQueue.COMMANDS_QUEUE).set(new ConcurrentLinkedQueue<>());
+        return channel;
+    }
+
+    private <R> RPromise<R> enqueue(EmbeddedChannel channel, CommandData<?, R> data) {
+        enqueue(channel, (QueueCommand) data);
+        return data.getPromise();
+    }
+
+    private void enqueue(EmbeddedChannel channel, QueueCommand data) {
+        Queue<QueueCommandHolder> queue = channel.attr(CommandsQueue.COMMANDS_QUEUE).get();
+        queue.add(new QueueCommandHolder(data, channel.newPromise()));
+    }
+
+    private void writeFragmented(EmbeddedChannel channel, String reply, int fragmentSize) {
+        byte[] bytes = reply.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += fragmentSize) {
+            ByteBuf buf = Unpooled.wrappedBuffer(bytes, i, Math.min(fragmentSize, bytes.length - i));
+            channel.writeInbound(buf);
+        }
+    }
+
+    private String hgetallReply(int size) {
+        StringBuilder reply = new StringBuilder("*" + size*2 + "\r\n");
+        for (int i = 0; i < size; i++) {
+            String key = "key" + i;
+            String value = "value" + i;
+            reply.append("$").append(key.length()).append("\r\n").append(key).append("\r\n");
+            reply.append("$").append(value.length()).append("\r\n").append(value).append("\r\n");
+        }
+        return reply.toString();
+    }
+
+    @Test
+    public void testFragmentedReply() {
+        for (int fragmentSize : Arrays.asList(1, 2, 3, 7, 64, 100000)) {
+            EmbeddedChannel channel = createChannel();
+            RPromise<Map<Object, Object>> promise = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[0]));
+
+            writeFragmented(channel, hgetallReply(100), fragmentSize);
+
+            assertThat(promise.isSuccess()).isTrue();
+            assertThat(promise.getNow()).hasSize(100).containsEntry("key99", "value99");
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testPipelinedReplies() {
+        for (int fragmentSize : Arrays.asList(1, 5, 100000)) {
+            EmbeddedChannel channel = createChannel();
+            RPromise<Object> get = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]));
+            RPromise<Object> nullGet = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]));
+            RPromise<Long> incr = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.INCR, new Object[0]));
+            RPromise<Object> error = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]));
+
+            writeFragmented(channel, "$5\r\nhello\r\n$-1\r\n:42\r\n-ERR wrong type\r\n", fragmentSize);
+
+            assertThat(get.getNow()).isEqualTo("hello");
+            assertThat(nullGet.isSuccess()).isTrue();
+            assertThat(nullGet.getNow()).isNull();
+            assertThat(incr.getNow()).isEqualTo(42L);
+            assertThat(error.cause()).hasMessageStartingWith("ERR wrong type");
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testResp3NestedPairs() {
+        for (int fragmentSize : Arrays.asList(1, 3, 100000)) {
+            EmbeddedChannel channel = createChannel();
+            RPromise<List<ScoredEntry<Object>>> promise = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.ZRANGE_ENTRY, new Object[0]));
+
+            writeFragmented(channel, "*2\r\n*2\r\n$1\r\na\r\n,1.5\r\n*2\r\n$1\r\nb\r\n,inf\r\n", fragmentSize);
+
+            assertThat(promise.getNow()).containsExactly(
+                    new ScoredEntry<>(1.5, "a"), new ScoredEntry<>(Double.POSITIVE_INFINITY, "b"));
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testResp3MapOfPairs() {
+        EmbeddedChannel channel = createChannel();
+        RPromise<Map<String, Map<StreamMessageId, Map<Object, Object>>>> promise = enqueue(channel,
+                new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.XREAD, new Object[0]));
+
+        channel.writeInbound(Unpooled.copiedBuffer("%1\r\n$2\r\ns1\r\n*1\r\n*2\r\n$3\r\n1-0\r\n"
+                + "*2\r\n$1\r\nf\r\n$1\r\nv\r\n", StandardCharsets.UTF_8));
+
+        assertThat(promise.getNow()).containsOnlyKeys("s1");
+        assertThat(promise.getNow().get("s1")).containsEntry(new StreamMessageId(1, 0), Collections.singletonMap("f", "v"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testResp3ScriptReplyWithNestedPairs() {
+        RedisCommand<Map<Object, Object>> evalSha = new RedisCommand<>(RedisCommands.EVAL_MAP, "EVALSHA");
+        for (RedisCommand<Map<Object, Object>> command : Arrays.asList(RedisCommands.EVAL_MAP, evalSha)) {
+            EmbeddedChannel channel = createChannel();
+            RPromise<Map<Object, Object>> promise = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, command, new Object[0]));
+
+            channel.writeInbound(Unpooled.copiedBuffer("*2\r\n*2\r\n$1\r\na\r\n$1\r\n1\r\n*2\r\n$1\r\nb\r\n$1\r\n2\r\n",
+                    StandardCharsets.UTF_8));
+
+            assertThat(promise.getNow()).containsOnly(entry("a", "1"), entry("b", "2"));
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testResp3ScriptReplyWithMap() {
+        EmbeddedChannel channel = createChannel();
+        RPromise<Map<Object, Object>> promise = enqueue(channel,
+                new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                        new RedisCommand<>(RedisCommands.EVAL_MAP, "EVALSHA"), new Object[0]));
+
+        channel.writeInbound(Unpooled.copiedBuffer("%2\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$1\r\n2\r\n",
+                StandardCharsets.UTF_8));
+
+        assertThat(promise.getNow()).containsOnly(entry("a", "1"), entry("b", "2"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testResp3ScriptReplyWithNestedArrays() {
+        EmbeddedChannel channel = createChannel();
+        RPromise<List<Object>> promise = enqueue(channel,
+                new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.EVAL_LIST, new Object[0]));
+
+        channel.writeInbound(Unpooled.copiedBuffer("*2\r\n*2\r\n$1\r\na\r\n$1\r\nb\r\n%1\r\n$1\r\nc\r\n$1\r\nd\r\n",
+                StandardCharsets.UTF_8));
+
+        assertThat(promise.getNow()).containsExactly(Arrays.asList("a", "b"), Arrays.asList("c", "d"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFragmentedBatch() {
+        for (int fragmentSize : Arrays.asList(1, 4, 100000)) {
+            EmbeddedChannel channel = createChannel();
+            CommandData<Object, Object> get = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]);
+            CommandData<Map<Object, Object>, Map<Object, Object>> hgetall =
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[0]);
+            RPromise<Void> batchPromise = new RedissonPromise<>();
+            enqueue(channel, new CommandsData(batchPromise, Arrays.asList(get, hgetall), false, false));
+
+            writeFragmented(channel, "$1\r\na\r\n" + hgetallReply(10), fragmentSize);
+
+            assertThat(batchPromise.isSuccess()).isTrue();
+            assertThat(get.getPromise().getNow()).isEqualTo("a");
+            assertThat(hgetall.getPromise().getNow()).hasSize(10);
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testStreamedReply() {
+        for (int fragmentSize : Arrays.asList(1, 3, 7, 100000)) {
+            EmbeddedChannel channel = createChannel();
+            List<Object> elements = new ArrayList<>();
+            RPromise<Long> hgetall = enqueue(channel, new StreamingCommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                    RedisCommands.HGETALL, new Object[0], new ReplyElementsListener() {
+                        @Override
+                        public boolean onElement(Object element) {
+                            elements.add(element);
+                            return true;
+                        }
+
+                        @Override
+                        public void onPause(Runnable resume) {
+                            resume.run();
+                        }
+                    }));
+            RPromise<Object> get = enqueue(channel,
+                    new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]));
+
+            writeFragmented(channel, hgetallReply(100) + "$5\r\nhello\r\n", fragmentSize);
+
+            assertThat(hgetall.getNow()).isEqualTo(200);
+            assertThat(elements).hasSize(200);
+            assertThat(elements.get(198)).isEqualTo("key99");
+            assertThat(elements.get(199)).isEqualTo("value99");
+            assertThat(get.getNow()).isEqualTo("hello");
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testStreamedReplyPausesReading() {
+        EmbeddedChannel channel = createChannel();
+        List<Object> elements = new ArrayList<>();
+        AtomicReference<Runnable> resumeRef = new AtomicReference<>();
+        RPromise<Long> lrange = enqueue(channel, new StreamingCommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                RedisCommands.LRANGE, new Object[0], new ReplyElementsListener() {
+                    @Override
+                    public boolean onElement(Object element) {
+                        elements.add(element);
+                        return elements.size() < 2;
+                    }
+
+                    @Override
+                    public void onPause(Runnable resume) {
+                        resumeRef.set(resume);
+                    }
+                }));
+
+        writeFragmented(channel, "*3\r\n$1\r\na\r\n$1\r\nb\r\n", 100000);
+        assertThat(elements).containsExactly("a", "b");
+        assertThat(channel.config().isAutoRead()).isFalse();
+
+        resumeRef.get().run();
+        channel.runPendingTasks();
+        assertThat(channel.config().isAutoRead()).isTrue();
+
+        writeFragmented(channel, "$1\r\nc\r\n", 100000);
+        assertThat(elements).containsExactly("a", "b", "c");
+        assertThat(lrange.getNow()).isEqualTo(3);
+        assertThat(channel.config().isAutoRead()).isTrue();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testStreamedErrorReply() {
+        EmbeddedChannel channel = createChannel();
+        RPromise<Long> smembers = enqueue(channel, new StreamingCommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE,
+                RedisCommands.SMEMBERS, new Object[0], new ReplyElementsListener() {
+                    @Override
+                    public boolean onElement(Object element) {
+                        return true;
+                    }
+
+                    @Override
+                    public void onPause(Runnable resume) {
+                        resume.run();
+                    }
+                }));
+        RPromise<Object> get = enqueue(channel,
+                new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[0]));
+
+        writeFragmented(channel, "-WRONGTYPE Operation against a key\r\n$1\r\na\r\n", 3);
+
+        assertThat(smembers.cause()).hasMessageStartingWith("WRONGTYPE");
+        assertThat(get.getNow()).isEqualTo("a");
+        channel.finishAndReleaseAll();
+    }
+
+}
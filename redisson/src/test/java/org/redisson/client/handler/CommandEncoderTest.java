@@ -0,0 +1,83 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.CommandsData;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class CommandEncoderTest {
+
+    private String value(int size) {
+        char[] chars = new char[size];
+        Arrays.fill(chars, 'v');
+        return new String(chars);
+    }
+
+    private String expected(String... args) {
+        StringBuilder result = new StringBuilder("*" + args.length + "\r\n");
+        for (String arg : args) {
+            result.append("$").append(arg.length()).append("\r\n").append(arg).append("\r\n");
+        }
+        return result.toString();
+    }
+
+    @Test
+    public void testSmallArguments() {
+        EmbeddedChannel channel = new EmbeddedChannel(CommandEncoder.INSTANCE);
+        channel.writeOutbound(new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.CLIENT_SETNAME, new Object[] {"name"}));
+
+        ByteBuf out = channel.readOutbound();
+        assertThat(out).isNotInstanceOf(CompositeByteBuf.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected("CLIENT", "SETNAME", "name"));
+        out.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testZeroCopyArgument() {
+        String value = value(CommandEncoder.ZERO_COPY_THRESHOLD * 2);
+        ByteBuf param = Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+
+        EmbeddedChannel channel = new EmbeddedChannel(CommandEncoder.INSTANCE);
+        channel.writeOutbound(new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.SET, new Object[] {"key", param, "PX", 100}));
+
+        ByteBuf out = channel.readOutbound();
+        assertThat(out).isInstanceOf(CompositeByteBuf.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected("SET", "key", value, "PX", "100"));
+        out.release();
+
+        // parameter is still owned by command and could be used for retry
+        assertThat(param.refCnt()).isEqualTo(1);
+        assertThat(param.readableBytes()).isEqualTo(value.length());
+        param.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testZeroCopyBatch() {
+        String value = value(CommandEncoder.ZERO_COPY_THRESHOLD);
+        EmbeddedChannel channel = new EmbeddedChannel(CommandEncoder.INSTANCE, CommandBatchEncoder.INSTANCE);
+        CommandData<?, ?> set = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.SET, new Object[] {"key", value.getBytes(StandardCharsets.UTF_8)});
+        CommandData<?, ?> get = new CommandData<>(new RedissonPromise<>(), StringCodec.INSTANCE, RedisCommands.GET, new Object[] {"key"});
+        channel.writeOutbound(new CommandsData(new RedissonPromise<>(), Arrays.asList(set, get), false, false));
+
+        ByteBuf out = channel.readOutbound();
+        assertThat(out).isInstanceOf(CompositeByteBuf.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected("SET", "key", value) + expected("GET", "key"));
+        out.release();
+        channel.finishAndReleaseAll();
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.redisson.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.client.RedisConnection;
+
+public class ClientTrackingServiceTest {
+
+    private RedisConnection createConnection() {
+        return new RedisConnection(null) {
+        };
+    }
+
+    @Test
+    public void testListenerIds() {
+        ClientTrackingService service = new ClientTrackingService();
+        List<String> keys = new ArrayList<>();
+        InvalidationListener listener = keys::add;
+        int id1 = service.addListener(listener);
+        int id2 = service.addListener(listener);
+        assertThat(id1).isNotEqualTo(id2);
+
+        service.removeListener(id1);
+        service.onMessage(createConnection(), "invalidate", Collections.singletonList(Arrays.asList("key1")));
+        assertThat(keys).containsExactly("key1");
+    }
+
+    @Test
+    public void testDisconnect() {
+        ClientTrackingService service = new ClientTrackingService();
+        List<String> keys = new ArrayList<>();
+        service.addListener(keys::add);
+
+        RedisConnection connection1 = createConnection();
+        RedisConnection connection2 = createConnection();
+        service.keyRead(connection1, "key1");
+        service.keyRead(connection1, "key2");
+        service.keyRead(connection2, "key3");
+
+        service.onMessage(connection1, "invalidate", Collections.singletonList(Arrays.asList("key2")));
+        assertThat(keys).containsExactly("key2");
+        keys.clear();
+
+        service.onDisconnect(connection1);
+        assertThat(keys).containsExactly("key1");
+        keys.clear();
+
+        service.onDisconnect(connection1);
+        assertThat(keys).isEmpty();
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.redisson.connection.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.RedisRunner;
+import org.redisson.RedisRunner.RedisProcess;
+import org.redisson.Redisson;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.config.ReadMode;
+
+public class LatencyAwareLoadBalancerTest {
+
+    @Test
+    public void testReadFromSlave() throws IOException, InterruptedException {
+        RedisProcess master = redisTestInstance().run();
+        RedisProcess slave = redisTestInstance()
+                                .slaveof(master.getRedisServerBindAddress(), master.getRedisServerPort())
+                                .run();
+
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer();
+        balancer.setMaxStaleness(20000);
+
+        Config config = new Config();
+        config.useMasterSlaveServers()
+                .setReadMode(ReadMode.SLAVE)
+                .setMasterAddress(master.getRedisServerAddressAndPort())
+                .addSlaveAddress(slave.getRedisServerAddressAndPort())
+                .setLoadBalancer(balancer);
+        RedissonClient client = Redisson.create(config);
+        try {
+            RBucket<String> bucket = client.getBucket("key");
+            bucket.set("value");
+            for (int i = 0; i < 100; i++) {
+                assertThat(bucket.get()).isNotNull();
+                Thread.sleep(10);
+            }
+        } finally {
+            client.shutdown();
+            master.stop();
+            slave.stop();
+        }
+    }
+
+    @Test
+    public void testUseMasterIfSlaveIsStale() throws IOException, InterruptedException {
+        RedisProcess master = redisTestInstance().run();
+        // isn't connected to master, so its replication state never satisfies staleness limit
+        RedisProcess slave = redisTestInstance().run();
+
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer();
+        balancer.setMaxStaleness(1000);
+
+        Config config = new Config();
+        config.useMasterSlaveServers()
+                .setReadMode(ReadMode.SLAVE)
+                .setMasterAddress(master.getRedisServerAddressAndPort())
+                .addSlaveAddress(slave.getRedisServerAddressAndPort())
+                .setLoadBalancer(balancer);
+        RedissonClient client = Redisson.create(config);
+        try {
+            RBucket<String> bucket = client.getBucket("key");
+            bucket.set("value");
+            for (int i = 0; i < 10; i++) {
+                assertThat(bucket.get()).isEqualTo("value");
+                Thread.sleep(200);
+            }
+        } finally {
+            client.shutdown();
+            master.stop();
+            slave.stop();
+        }
+    }
+
+    private RedisRunner redisTestInstance() {
+        return new RedisRunner()
+                .nosave()
+                .randomDir()
+                .randomPort();
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.redisson.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RExecutorFuture;
+import org.redisson.client.RedisException;
+import org.redisson.remote.RequestId;
+
+public class RedissonCompletionStreamTest {
+
+    private RemotePromise<String> createPromise() {
+        return new RemotePromise<>(new RequestId(new byte[16]));
+    }
+
+    @Test
+    public void testCompletionOrder() {
+        RedissonCompletionStream<String> stream = new RedissonCompletionStream<>(10);
+        List<RemotePromise<String>> promises = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RemotePromise<String> promise = createPromise();
+            promises.add(promise);
+            stream.add(new RedissonExecutorFuture<>(promise));
+        }
+        stream.finish(null);
+
+        promises.get(2).trySuccess("2");
+        promises.get(0).trySuccess("0");
+        promises.get(1).trySuccess("1");
+
+        List<String> results = new ArrayList<>();
+        stream.stream().forEach(f -> results.add(f.getNow()));
+        assertThat(results).containsExactly("2", "0", "1");
+    }
+
+    @Test
+    public void testBackPressure() {
+        RedissonCompletionStream<String> stream = new RedissonCompletionStream<>(2);
+        for (int i = 0; i < 2; i++) {
+            RemotePromise<String> promise = createPromise();
+            stream.add(new RedissonExecutorFuture<>(promise));
+            promise.trySuccess(String.valueOf(i));
+        }
+
+        AtomicInteger resumed = new AtomicInteger();
+        stream.whenReady(resumed::incrementAndGet);
+        assertThat(resumed.get()).isZero();
+
+        Iterator<RExecutorFuture<String>> iterator = stream.stream().iterator();
+        assertThat(iterator.next().getNow()).isEqualTo("0");
+        assertThat(resumed.get()).isEqualTo(1);
+
+        stream.finish(null);
+        assertThat(iterator.next().getNow()).isEqualTo("1");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testInterrupt() {
+        RedissonCompletionStream<String> stream = new RedissonCompletionStream<>(1);
+        stream.add(new RedissonExecutorFuture<>(createPromise()));
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(RedisException.class, () -> stream.stream().findFirst());
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+}
@@ -8,9 +8,12 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -103,7 +106,85 @@ public class RedissonExecutorServiceTest extends BaseTest {
         assertThat(redisson.getKeys().count()).isZero();
     }
 
+    @Test
+    public void testSubmitAll() throws InterruptedException {
+        RExecutorService e = redisson.getExecutorService("test");
+        AtomicInteger taken = new AtomicInteger();
+        Iterable<CallableTask> tasks = () -> new Iterator<CallableTask>() {
+            @Override
+            public boolean hasNext() {
+                return taken.get() < 1000;
+            }
+
+            @Override
+            public CallableTask next() {
+                taken.incrementAndGet();
+                return new CallableTask();
+            }
+        };
+
+        Stream<RExecutorFuture<String>> stream = e.submitAll(tasks, 100, 3);
+        // submission is suspended until stream is consumed
+        Thread.sleep(1000);
+        assertThat(taken.get()).isEqualTo(300);
+
+        AtomicInteger consumed = new AtomicInteger();
+        List<RExecutorFuture<String>> futures = stream.peek(f -> {
+            // submission runs ahead of consumer by at most 3 batches plus one resumed batch
+            assertThat(taken.get() - consumed.incrementAndGet()).isLessThanOrEqualTo(400);
+        }).collect(Collectors.toList());
+        assertThat(futures).hasSize(1000);
+        for (RExecutorFuture<String> future : futures) {
+            assertThat(future.isDone()).isTrue();
+            assertThat(future.getNow()).isEqualTo(CallableTask.RESULT);
+        }
+    }
+
     
+    public static class SleepingCallable implements Callable<String>, Serializable {
+
+        private long delay;
+
+        public SleepingCallable() {
+        }
+
+        public SleepingCallable(long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public String call() throws Exception {
+            Thread.sleep(delay);
+            return String.valueOf(delay);
+        }
+
+    }
+
+    @Test
+    public void testSubmitAllCompletionOrder() {
+        RExecutorService e = redisson.getExecutorService("test1");
+        e.registerWorkers(WorkerOptions.defaults().workers(3));
+
+        List<SleepingCallable> tasks = Arrays.asList(new SleepingCallable(2000), new SleepingCallable(1000), new SleepingCallable(0));
+        List<String> results = e.submitAll(tasks, 3, 1)
+                                    .map(RExecutorFuture::getNow)
+                                    .collect(Collectors.toList());
+        assertThat(results).containsExactly("0", "1000", "2000");
+
+        e.shutdown();
+    }
+
+    @Test
+    public void testSubmitAllRejected() {
+        RExecutorService e = redisson.getExecutorService("test");
+        e.shutdown();
+
+        List<SleepingCallable> tasks = Arrays.asList(new SleepingCallable(0), new SleepingCallable(0));
+        Assertions.assertThrows(RejectedExecutionException.class, () -> {
+            e.submitAll(tasks, 2, 1).forEach(f -> assertThat(f.isSuccess()).isFalse());
+        });
+    }
+
     @Test
     public void testBatchExecuteNPE() {
         Assertions.assertThrows(NullPointerException.class, () -> {
@@ -0,0 +1,48 @@
+package org.redisson.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.NodeType;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.misc.RedisURI;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MicrometerMetricsRecorderTest {
+
+    private final RedisURI node = new RedisURI("redis://127.0.0.1:6379");
+
+    @Test
+    public void testCommandTimers() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+
+        recorder.commandCompleted(node, "GET", TimeUnit.MILLISECONDS.toNanos(2), null);
+        recorder.commandCompleted(node, "GET", TimeUnit.MILLISECONDS.toNanos(4), null);
+        recorder.commandCompleted(node, "GET", TimeUnit.MILLISECONDS.toNanos(3000), new RedisTimeoutException());
+
+        assertThat(registry.get("redisson.command").tag("command", "GET").tag("result", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get("redisson.command").tag("command", "GET").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPoolGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry, "test");
+
+        AtomicInteger free = new AtomicInteger(10);
+        recorder.registerConnectionPool(node, NodeType.MASTER, false, 24, free::get, () -> 3);
+        free.set(7);
+
+        assertThat(registry.get("test.pool.free").tag("pool", "command").gauge().value()).isEqualTo(7);
+        assertThat(registry.get("test.pool.pending").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("test.pool.max").gauge().value()).isEqualTo(24);
+
+        recorder.unregisterConnectionPool(node, false);
+        assertThat(registry.find("test.pool.free").gauge()).isNull();
+    }
+
+}
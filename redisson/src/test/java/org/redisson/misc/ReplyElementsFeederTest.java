@@ -0,0 +1,89 @@
+package org.redisson.misc;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RFuture;
+import org.redisson.client.protocol.ReplyElementsListener;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplyElementsFeederTest {
+
+    static class RecordingListener implements ReplyElementsListener {
+
+        final List<Object> elements = new ArrayList<>();
+        final int limit;
+        Runnable resume;
+
+        RecordingListener(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean onElement(Object element) {
+            elements.add(element);
+            return elements.size() % limit != 0;
+        }
+
+        @Override
+        public void onPause(Runnable resume) {
+            this.resume = resume;
+        }
+
+    }
+
+    @Test
+    public void testMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("1", "11");
+        map.put("2", "22");
+        RecordingListener listener = new RecordingListener(Integer.MAX_VALUE);
+        RFuture<Long> f = ReplyElementsFeeder.feed(RedissonPromise.newSucceededFuture(map), listener);
+
+        assertThat(f.getNow()).isEqualTo(4);
+        assertThat(listener.elements).containsExactly("1", "11", "2", "22");
+        assertThat(listener.resume).isNull();
+    }
+
+    @Test
+    public void testPause() {
+        List<Object> list = Arrays.asList(1, 2, 3, 4, 5);
+        RecordingListener listener = new RecordingListener(2);
+        RFuture<Long> f = ReplyElementsFeeder.feed(RedissonPromise.newSucceededFuture(list), listener);
+
+        assertThat(f.isDone()).isFalse();
+        assertThat(listener.elements).containsExactly(1, 2);
+
+        Runnable resume = listener.resume;
+        resume.run();
+        // repeated resume is ignored
+        resume.run();
+        assertThat(listener.elements).containsExactly(1, 2, 3, 4);
+
+        listener.resume.run();
+        assertThat(listener.elements).containsExactly(1, 2, 3, 4, 5);
+        assertThat(f.getNow()).isEqualTo(5);
+    }
+
+    @Test
+    public void testScoredEntries() {
+        List<ScoredEntry<String>> entries = Arrays.asList(new ScoredEntry<>(1.0, "a"), new ScoredEntry<>(2.0, "b"));
+        RecordingListener listener = new RecordingListener(Integer.MAX_VALUE);
+        RFuture<Long> f = ReplyElementsFeeder.feed(RedissonPromise.newSucceededFuture(entries), listener);
+
+        assertThat(f.getNow()).isEqualTo(4);
+        assertThat(listener.elements).containsExactly("a", 1.0, "b", 2.0);
+    }
+
+    @Test
+    public void testFailure() {
+        RecordingListener listener = new RecordingListener(Integer.MAX_VALUE);
+        RFuture<Long> f = ReplyElementsFeeder.feed(RedissonPromise.newFailedFuture(new IllegalStateException()), listener);
+
+        assertThat(f.cause()).isInstanceOf(IllegalStateException.class);
+        assertThat(listener.elements).isEmpty();
+    }
+
+}
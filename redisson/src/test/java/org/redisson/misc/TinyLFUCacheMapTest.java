@@ -0,0 +1,188 @@
+package org.redisson.misc;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.cache.Cache;
+import org.redisson.cache.TinyLFUCacheMap;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLFUCacheMapTest {
+
+    @Test
+    public void testMaxIdleTimeEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(2, 0, 1000);
+        map.put(1, 0);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(400);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(400);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(400);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(1010);
+        assertThat(map.keySet()).isEmpty();
+        assertThat(map.get(1)).isNull();
+    }
+
+    @Test
+    public void testTTLEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(2, 500, 0);
+        map.put(1, 0);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(100);
+        assertThat(map.get(1)).isEqualTo(0);
+        assertThat(map.keySet()).containsOnly(1);
+        Thread.sleep(500);
+        assertThat(map.keySet()).isEmpty();
+        assertThat(map.putIfAbsent(1, 1)).isNull();
+        assertThat(map.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    public void testExpiredEntriesRemoval() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(0, 100, 0);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Thread.sleep(1200);
+        // timer wheel advances on write
+        map.put(1000, 0);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSizeEviction() {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(2, 0, 0);
+        map.put(1, 0);
+        map.put(2, 0);
+
+        assertThat(map.keySet()).containsOnly(1, 2);
+
+        map.put(3, 0);
+
+        assertThat(map.keySet()).contains(3).hasSize(2);
+
+        map.put(4, 0);
+
+        assertThat(map.keySet()).contains(4).hasSize(2);
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(100, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        for (int j = 0; j < 10; j++) {
+            for (int i = 0; i < 10; i++) {
+                map.get(i);
+            }
+            // flush read buffers
+            map.put(-1, -1);
+        }
+
+        for (int i = 100; i < 10000; i++) {
+            map.put(i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(100);
+        for (int i = 0; i < 10; i++) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void testMapOperations() {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(10, 0, 0);
+        assertThat(map.put(1, 1)).isNull();
+        assertThat(map.put(1, 2)).isEqualTo(1);
+        assertThat(map.putIfAbsent(1, 3)).isEqualTo(2);
+        assertThat(map.replace(1, 4)).isEqualTo(2);
+        assertThat(map.replace(1, 5, 6)).isFalse();
+        assertThat(map.replace(1, 4, 6)).isTrue();
+        assertThat(map.containsKey(1)).isTrue();
+        assertThat(map.containsValue(6)).isTrue();
+        assertThat(map.remove(1, 4)).isFalse();
+        assertThat(map.remove(1, 6)).isTrue();
+        assertThat(map.replace(1, 7)).isNull();
+        assertThat(map).isEmpty();
+
+        map.put(2, 2);
+        map.put(3, 3);
+        assertThat(map.remove(2)).isEqualTo(2);
+        assertThat(map.entrySet()).hasSize(1);
+        map.clear();
+        assertThat(map).isEmpty();
+
+        map.put(4, 4);
+        assertThat(map.get(4)).isEqualTo(4);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        Cache<Integer, Integer> map = new TinyLFUCacheMap<Integer, Integer>(1000, 0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < 100000; j++) {
+                    int key = random.nextInt(5000);
+                    if (random.nextInt(10) == 0) {
+                        map.put(key, key);
+                    } else {
+                        Integer value = map.get(key);
+                        if (value != null) {
+                            assertThat(value).isEqualTo(key);
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        map.put(-1, -1);
+        assertThat(map.size()).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    public void testRemovalListenerNotifiedOnce() throws InterruptedException {
+        TinyLFUCacheMap<Integer, Integer> map = new TinyLFUCacheMap<>(100, 0, 0);
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        map.setRemovalListener(value -> {
+            if (!removed.add(value)) {
+                duplicates.incrementAndGet();
+            }
+        });
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int j = 0; j < 100000; j++) {
+                    int key = random.nextInt(500);
+                    if (random.nextInt(4) == 0) {
+                        map.remove(key);
+                    } else {
+                        map.put(key, counter.incrementAndGet());
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(duplicates.get()).isZero();
+    }
+
+}
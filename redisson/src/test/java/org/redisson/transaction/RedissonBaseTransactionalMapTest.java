@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -299,5 +300,99 @@ public abstract class RedissonBaseTransactionalMapTest extends BaseTest {
         assertThat(m.get("3")).isEqualTo("4");
     }
 
-    
+    @Test
+    public void testOptimisticConflict() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+
+        RTransaction transaction1 = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map1 = getTransactionalMap(transaction1);
+        assertThat(map1.put("1", "3")).isEqualTo("2");
+
+        RTransaction transaction2 = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map2 = getTransactionalMap(transaction2);
+        assertThat(map2.put("1", "4")).isEqualTo("2");
+        transaction2.commit();
+
+        Assertions.assertThrows(TransactionConflictException.class, transaction1::commit);
+        transaction1.rollback();
+
+        assertThat(m.get("1")).isEqualTo("4");
+        assertThat(redisson.getKeys().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOptimisticReadConflict() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(transaction);
+        String value = map.get("1");
+        map.put("2", value);
+
+        m.put("1", "3");
+
+        Assertions.assertThrows(TransactionConflictException.class, transaction::commit);
+        transaction.rollback();
+
+        assertThat(m.get("2")).isNull();
+        assertThat(redisson.getKeys().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOptimisticReadAllConflict() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(transaction);
+        assertThat(map.readAllMap()).containsOnlyKeys("1");
+        map.put("3", "4");
+
+        m.put("2", "3");
+
+        Assertions.assertThrows(TransactionConflictException.class, transaction::commit);
+        transaction.rollback();
+        assertThat(m.get("3")).isNull();
+    }
+
+    @Test
+    public void testOptimisticRead() {
+        RMap<String, String> m = getMap();
+        m.put("1", "2");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RMap<String, String> map = getTransactionalMap(transaction);
+        assertThat(map.getAll(new HashSet<>(Arrays.asList("1", "2")))).containsOnlyKeys("1");
+        map.put("3", map.get("1"));
+        transaction.commit();
+
+        assertThat(m.get("3")).isEqualTo("2");
+        // locks of read values are released
+        assertThat(redisson.getKeys().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOptimisticRetry() {
+        RMap<String, String> m = getMap();
+        m.put("1", "0");
+
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionOptions options = TransactionOptions.defaults().optimistic(true);
+        String result = redisson.executeTransaction(options, transaction -> {
+            RMap<String, String> map = getTransactionalMap(transaction);
+            String value = map.put("1", "1");
+            if (attempts.incrementAndGet() == 1) {
+                // concurrent modification
+                m.put("1", "2");
+            }
+            return value;
+        });
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(result).isEqualTo("2");
+        assertThat(m.get("1")).isEqualTo("1");
+    }
+
 }
@@ -125,6 +125,25 @@ public class RedissonTransactionalBucketTest extends BaseTest {
         assertThat(m.get()).isNull();
     }
     
+    @Test
+    public void testOptimisticReadConflict() {
+        RBucket<String> b1 = redisson.getBucket("test1");
+        b1.set("1");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RBucket<String> bucket1 = transaction.getBucket("test1");
+        RBucket<String> bucket2 = transaction.getBucket("test2");
+        bucket2.set(bucket1.get());
+
+        b1.set("2");
+
+        Assertions.assertThrows(TransactionConflictException.class, transaction::commit);
+        transaction.rollback();
+
+        assertThat(redisson.getBucket("test2").get()).isNull();
+        assertThat(redisson.getKeys().count()).isEqualTo(1);
+    }
+
     @Test
     public void testRollback() {
         RBucket<Object> b = redisson.getBucket("test");
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.redisson.BaseTest;
 import org.redisson.api.RSet;
@@ -89,6 +90,26 @@ public class RedissonTransactionalSetTest extends BaseTest {
         assertThat(s.contains("4")).isTrue();
     }
     
+    @Test
+    public void testOptimisticContainsConflict() {
+        RSet<String> s = redisson.getSet("test");
+        s.add("1");
+
+        RTransaction transaction = redisson.createTransaction(TransactionOptions.defaults().optimistic(true));
+        RSet<String> set = transaction.getSet("test");
+        if (set.contains("1")) {
+            set.add("2");
+        }
+
+        s.remove("1");
+
+        Assertions.assertThrows(TransactionConflictException.class, transaction::commit);
+        transaction.rollback();
+
+        assertThat(s.readAll()).isEmpty();
+        assertThat(redisson.getKeys().count()).isEqualTo(0);
+    }
+
     @Test
     public void testRemove() {
         RSet<String> s = redisson.getSet("test");